@@ -0,0 +1,80 @@
+package org.example.spaceinvaders;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Vector- gegen Skalar-Kernel für die Formationswelle, einmal mit Welle 1 (40 Gegner) und einmal mit einer
+ * Stresstest-Formation (400). Ergebnis in ns pro Aufruf; ein Mindest-Speedup wird nicht geprüft, der hängt von CPU und
+ * Lane-Breite ab. Start: {@code mvn -Pjmh verify} (Kurzlauf z.B. mit {@code -Djmh.args="-f 1 -wi 2 -i 3"}).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+public class EnemyMovementKernelsBenchmark {
+    private static final double FREQUENCY = 2.5;
+    private static final double AMPLITUDE = 200;
+    private static final double DY = 0.05;
+    private static final double LEFT = 10;
+    private static final double RIGHT = 790;
+
+    @Param({"40", "400"})
+    int count;
+
+    double[] xs, ys, widths, heights, baseXs, phases;
+    int frame;
+
+    @Setup
+    public void createFormation() {
+        if (VectorEnemyMovementKernels.laneCount() <= 1) {
+            throw new IllegalStateException("keine Vektor-Lanes auf dieser CPU bzw. jdk.incubator.vector fehlt");
+        }
+        Random random = new Random(1);
+        xs = new double[count];
+        ys = new double[count];
+        widths = new double[count];
+        heights = new double[count];
+        baseXs = new double[count];
+        phases = new double[count];
+        for (int i = 0; i < count; i++) {
+            widths[i] = 20 + random.nextDouble() * 30;
+            heights[i] = 20 + random.nextDouble() * 30;
+            baseXs[i] = random.nextDouble() * 800;
+            phases[i] = (i / 10) * 0.8 + (i % 10) * 0.3 + random.nextDouble();
+            xs[i] = baseXs[i];
+            ys[i] = random.nextDouble() * 300;
+        }
+    }
+
+    @Benchmark
+    public double scalar() {
+        return EnemyMovementKernels.scalarFormationWave(xs, ys, widths, heights, baseXs, phases, count,
+                nextWaveTime(), FREQUENCY, AMPLITUDE, DY, LEFT, RIGHT);
+    }
+
+    @Benchmark
+    public double vector() {
+        return VectorEnemyMovementKernels.formationWave(xs, ys, widths, heights, baseXs, phases, count,
+                nextWaveTime(), FREQUENCY, AMPLITUDE, DY, LEFT, RIGHT);
+    }
+
+    // Fortlaufende Wellenzeit wie im Spiel, damit der JIT keine konstanten Sinuswerte falten kann
+    private double nextWaveTime() {
+        return (frame++ & 0xFFFF) / 60.0;
+    }
+}
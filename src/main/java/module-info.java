@@ -13,6 +13,11 @@ module org.example.spaceinvaders {
     requires annotations;
     requires javafx.media;
     requires java.desktop;
+    requires static jdk.incubator.vector;
+    requires java.management;
+    requires jdk.management;
+    requires jdk.jfr;
+    requires jdk.httpserver;
 
     opens org.example.spaceinvaders to javafx.fxml;
     exports org.example.spaceinvaders;
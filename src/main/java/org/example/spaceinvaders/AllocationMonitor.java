@@ -0,0 +1,64 @@
+package org.example.spaceinvaders;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Misst die pro Frame im Game-Loop allokierten Bytes (nur der aktuelle Thread, also der FX-Thread).
+ * Aktivierung mit {@code -Dspaceinvaders.allocationCheck=true}; nach jeweils {@link #WINDOW_FRAMES} Frames wird
+ * der Durchschnitt ausgegeben. Im eingeschwungenen Zustand (laufende Welle, keine neuen Schüsse über den Pool hinaus)
+ * sollte der Wert 0 sein, sonst wird eine Warnung ausgegeben.
+ */
+public final class AllocationMonitor {
+    private static final GameLog LOG = GameLog.get(AllocationMonitor.class);
+    public static final int WINDOW_FRAMES = 600;
+
+    private final com.sun.management.ThreadMXBean threadBean;
+    private long frameStartBytes = 0;
+    private long windowBytes = 0;
+    private long windowMaxFrameBytes = 0;
+    private int windowFrames = 0;
+    private int windowAllocatingFrames = 0;
+
+    private AllocationMonitor(com.sun.management.ThreadMXBean threadBean) {
+        this.threadBean = threadBean;
+    }
+
+    /** Liefert einen Monitor oder null, wenn er nicht aktiviert ist bzw. die JVM keine Allokationszähler hat. */
+    public static AllocationMonitor createIfEnabled() {
+        if (!Boolean.getBoolean("spaceinvaders.allocationCheck")) return null;
+        if (!(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean)
+                || !bean.isThreadAllocatedMemorySupported()) {
+            LOG.warn("Allokationszähler pro Thread werden von dieser JVM nicht unterstützt.");
+            return null;
+        }
+        if (!bean.isThreadAllocatedMemoryEnabled()) bean.setThreadAllocatedMemoryEnabled(true);
+        LOG.info("AllocationMonitor aktiv (Fenster: {} Frames).", WINDOW_FRAMES);
+        return new AllocationMonitor(bean);
+    }
+
+    public void beginFrame() {
+        frameStartBytes = threadBean.getCurrentThreadAllocatedBytes();
+    }
+
+    public void endFrame() {
+        long frameBytes = threadBean.getCurrentThreadAllocatedBytes() - frameStartBytes;
+        windowBytes += frameBytes;
+        if (frameBytes > 0) windowAllocatingFrames++;
+        if (frameBytes > windowMaxFrameBytes) windowMaxFrameBytes = frameBytes;
+        if (++windowFrames < WINDOW_FRAMES) return;
+
+        long average = windowBytes / windowFrames;
+        // Ausgabe erst nach dem Messfenster; formatiert wird im Log-Thread
+        String template = "{} B/Frame im Schnitt, max {} B, {} Frames mit Allokation";
+        String allocating = windowAllocatingFrames + "/" + windowFrames;
+        if (windowAllocatingFrames > 0) {
+            LOG.warn(template, average, windowMaxFrameBytes, allocating);
+        } else {
+            LOG.info(template, average, windowMaxFrameBytes, allocating);
+        }
+        windowBytes = 0;
+        windowMaxFrameBytes = 0;
+        windowFrames = 0;
+        windowAllocatingFrames = 0;
+    }
+}
@@ -0,0 +1,41 @@
+package org.example.spaceinvaders;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR-Event für das Laden eines Bildes oder Sounds. Dauer = Ladezeit; mit Stacktrace, damit man sieht,
+ * wer mitten im Spiel nachlädt.
+ */
+@Name("spaceinvaders.AssetLoad")
+@Label("Asset Load")
+@Category({"Musical Invaders", "Assets"})
+@Description("Laden eines Bildes oder Audio-Clips")
+public class AssetLoadEvent extends jdk.jfr.Event {
+    @Label("Kind")
+    public String kind;
+
+    @Label("Path")
+    public String path;
+
+    @Label("Success")
+    public boolean success;
+
+    public static AssetLoadEvent start(String kind, String path) {
+        AssetLoadEvent event = new AssetLoadEvent();
+        event.kind = kind;
+        event.path = path;
+        event.begin();
+        return event;
+    }
+
+    public void finish(boolean success) {
+        end();
+        if (shouldCommit()) {
+            this.success = success;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package org.example.spaceinvaders;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Vorberechnete Audio-Analyse eines Sprachprofils ({@code /sfx/<Profil>/analysis.idx}), erzeugt offline vom
+ * {@link AudioAnalyzer}. Zur Laufzeit wird nur gelesen, nichts analysiert.
+ * <p>
+ * Format (Big Endian): Magic {@code "SIAX"}, Version, Anzahl Clips, dann pro Clip Pfad relativ zum Profilordner
+ * (UTF), Dauer in ms, RMS und Spitzenpegel (linear, 0..1), Tempo in BPM (0 = keins erkannt) mit Konfidenz,
+ * Onsets und Schläge als aufsteigende ms-Zeitpunkte (Delta-kodiert, je ein {@code short}-Schritt oder Escape).
+ */
+public final class AudioAnalysisIndex {
+    private static final GameLog LOG = GameLog.get(AudioAnalysisIndex.class);
+    public static final String FILE_NAME = "analysis.idx";
+    private static final int MAGIC = 0x53494158; // "SIAX"
+    private static final short VERSION = 1;
+    private static final int DELTA_ESCAPE = Short.MAX_VALUE; // danach folgt der volle int-Abstand
+
+    public record ClipAnalysis(String path, int durationMillis, float rms, float peak, float tempoBpm,
+                               float tempoConfidence, int[] onsetMillis, int[] beatMillis) {
+        public boolean hasTempo() { return tempoBpm > 0; }
+    }
+
+    private static final AudioAnalysisIndex EMPTY = new AudioAnalysisIndex(Collections.emptyMap());
+
+    private final Map<String, ClipAnalysis> clips;
+
+    private AudioAnalysisIndex(Map<String, ClipAnalysis> clips) {
+        this.clips = clips;
+    }
+
+    public static AudioAnalysisIndex empty() { return EMPTY; }
+
+    /** Index eines Profils aus den Ressourcen (z.B. {@code "/sfx/Nemo/"}); fehlt er, ist das Ergebnis leer. */
+    public static AudioAnalysisIndex loadResource(String profileResourcePath) {
+        if (profileResourcePath == null) return EMPTY;
+        String base = profileResourcePath.endsWith("/") ? profileResourcePath : profileResourcePath + "/";
+        try (InputStream in = AudioAnalysisIndex.class.getResourceAsStream(base + FILE_NAME)) {
+            if (in == null) {
+                LOG.debug("Kein Analyse-Index unter {}", base);
+                return EMPTY;
+            }
+            return read(in);
+        } catch (IOException e) {
+            LOG.warn("Analyse-Index {} kann nicht gelesen werden: {}", base + FILE_NAME, e.getMessage());
+            return EMPTY;
+        }
+    }
+
+    public static AudioAnalysisIndex read(InputStream input) throws IOException {
+        DataInputStream in = new DataInputStream(new BufferedInputStream(input));
+        if (in.readInt() != MAGIC) throw new IOException("Kein Analyse-Index (Magic)");
+        short version = in.readShort();
+        if (version != VERSION) throw new IOException("Nicht unterstützte Index-Version " + version);
+        int count = in.readInt();
+        Map<String, ClipAnalysis> clips = new LinkedHashMap<>();
+        for (int i = 0; i < count; i++) {
+            String path = in.readUTF();
+            int duration = in.readInt();
+            float rms = in.readFloat();
+            float peak = in.readFloat();
+            float tempo = in.readFloat();
+            float confidence = in.readFloat();
+            int[] onsets = readTimes(in);
+            int[] beats = readTimes(in);
+            clips.put(path, new ClipAnalysis(path, duration, rms, peak, tempo, confidence, onsets, beats));
+        }
+        return new AudioAnalysisIndex(clips);
+    }
+
+    public static void write(OutputStream output, Collection<ClipAnalysis> clips) throws IOException {
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(output));
+        out.writeInt(MAGIC);
+        out.writeShort(VERSION);
+        out.writeInt(clips.size());
+        for (ClipAnalysis clip : clips) {
+            out.writeUTF(clip.path());
+            out.writeInt(clip.durationMillis());
+            out.writeFloat(clip.rms());
+            out.writeFloat(clip.peak());
+            out.writeFloat(clip.tempoBpm());
+            out.writeFloat(clip.tempoConfidence());
+            writeTimes(out, clip.onsetMillis());
+            writeTimes(out, clip.beatMillis());
+        }
+        out.flush();
+    }
+
+    // Aufsteigende Zeitpunkte als Abstände: meist < 32 s, also 2 Byte pro Eintrag
+    private static void writeTimes(DataOutputStream out, int[] times) throws IOException {
+        out.writeInt(times.length);
+        int previous = 0;
+        for (int time : times) {
+            int delta = time - previous;
+            if (delta >= 0 && delta < DELTA_ESCAPE) {
+                out.writeShort(delta);
+            } else {
+                out.writeShort(DELTA_ESCAPE);
+                out.writeInt(delta);
+            }
+            previous = time;
+        }
+    }
+
+    private static int[] readTimes(DataInputStream in) throws IOException {
+        int count = in.readInt();
+        if (count < 0) throw new IOException("Ungültige Anzahl Zeitpunkte: " + count);
+        int[] times = new int[count];
+        int previous = 0;
+        for (int i = 0; i < count; i++) {
+            int delta = in.readUnsignedShort();
+            if (delta == DELTA_ESCAPE) delta = in.readInt();
+            previous += delta;
+            times[i] = previous;
+        }
+        return times;
+    }
+
+    /** Analyse zu einem Pfad relativ zum Profilordner (z.B. {@code "SchussBoss/schuss1.wav"}) oder null. */
+    public ClipAnalysis get(String relativePath) {
+        return clips.get(relativePath);
+    }
+
+    public Collection<ClipAnalysis> getClips() { return Collections.unmodifiableCollection(clips.values()); }
+    public int size() { return clips.size(); }
+    public boolean isEmpty() { return clips.isEmpty(); }
+}
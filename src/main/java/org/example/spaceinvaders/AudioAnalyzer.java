@@ -0,0 +1,399 @@
+package org.example.spaceinvaders;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.UnsupportedAudioFileException;
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.stream.Stream;
+
+/**
+ * Offline-Analyse aller WAVs eines SFX-Ordners, einmal vor dem Build statt zur Laufzeit. Pro Clip: Dauer, RMS und
+ * Spitzenpegel, Onsets aus dem spektralen Fluss (FFT), Tempo per Autokorrelation der Onset-Kurve und ein Schlag-
+ * Raster. Die Clips werden per Fork-Join parallel verarbeitet, das Ergebnis landet als {@link AudioAnalysisIndex}
+ * in jedem Profilordner.
+ * <p>
+ * Aufruf: {@code AudioAnalyzer [root=src/main/resources/sfx] [threads=<Kerne>]}
+ */
+public final class AudioAnalyzer {
+    static final int FFT_SIZE = 1024;
+    static final int HOP_SIZE = 256;
+    private static final double MIN_BPM = 60;
+    private static final double MAX_BPM = 200;
+    private static final double PREFERRED_BPM = 120; // Gewichtung gegen Halb-/Doppeltempo
+    private static final double MIN_TEMPO_SECONDS = 3.0; // kürzere Clips (fast alle SFX) bekommen kein Tempo
+    private static final double MIN_TEMPO_CONFIDENCE = 0.15;
+    private static final int PEAK_RADIUS = 3;         // Onset: lokales Maximum in ±3 Hops (~17 ms bei 44.1 kHz)
+    private static final int MEAN_RADIUS = 16;        // adaptive Schwelle über ±16 Hops
+    private static final double THRESHOLD_FACTOR = 1.4;
+
+    private AudioAnalyzer() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path root = Paths.get("src/main/resources/sfx");
+        int threads = Runtime.getRuntime().availableProcessors();
+        for (String arg : args) {
+            String[] pair = arg.split("=", 2);
+            if (pair.length != 2) continue;
+            switch (pair[0]) {
+                case "root" -> root = Paths.get(pair[1]);
+                case "threads" -> threads = Math.max(1, Integer.parseInt(pair[1]));
+                default -> System.err.println("Unbekanntes Argument: " + arg);
+            }
+        }
+        if (!Files.isDirectory(root)) {
+            System.err.println("Ordner nicht gefunden: " + root.toAbsolutePath());
+            return;
+        }
+
+        List<Path> files;
+        try (Stream<Path> walk = Files.walk(root)) {
+            files = walk.filter(Files::isRegularFile)
+                    .filter(path -> path.getFileName().toString().toLowerCase().endsWith(".wav"))
+                    .sorted()
+                    .toList();
+        }
+        long start = System.nanoTime();
+        AudioAnalysisIndex.ClipAnalysis[] results = new AudioAnalysisIndex.ClipAnalysis[files.size()];
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            pool.invoke(new AnalyzeRange(root, files, results, 0, files.size()));
+        } finally {
+            pool.shutdown();
+        }
+        long analyzedNanos = System.nanoTime() - start;
+
+        // Nach Profil (erste Ebene unter root) gruppieren, Pfade relativ zum Profilordner
+        Map<String, List<AudioAnalysisIndex.ClipAnalysis>> byProfile = new TreeMap<>();
+        int failed = 0;
+        for (int i = 0; i < files.size(); i++) {
+            if (results[i] == null) {
+                failed++;
+                continue;
+            }
+            Path relative = root.relativize(files.get(i));
+            if (relative.getNameCount() < 2) continue; // WAV direkt im Wurzelordner gehört zu keinem Profil
+            byProfile.computeIfAbsent(relative.getName(0).toString(), k -> new ArrayList<>()).add(results[i]);
+        }
+        for (Map.Entry<String, List<AudioAnalysisIndex.ClipAnalysis>> entry : byProfile.entrySet()) {
+            Path indexFile = root.resolve(entry.getKey()).resolve(AudioAnalysisIndex.FILE_NAME);
+            try (OutputStream out = Files.newOutputStream(indexFile)) {
+                AudioAnalysisIndex.write(out, entry.getValue());
+            }
+            System.out.println(entry.getKey() + ": " + entry.getValue().size() + " Clips -> " + indexFile
+                    + " (" + Files.size(indexFile) + " B)");
+        }
+        System.out.printf("%d Dateien in %.2f s analysiert (%d Threads), %d fehlgeschlagen.%n",
+                files.size(), analyzedNanos / 1e9, threads, failed);
+    }
+
+    // Teilt die Dateiliste rekursiv; ein Blatt ist eine Datei (Dateigrößen schwanken stark, Work-Stealing gleicht aus)
+    private static final class AnalyzeRange extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        // Tasks werden nie serialisiert
+        private final transient Path root;
+        private final transient List<Path> files;
+        private final transient AudioAnalysisIndex.ClipAnalysis[] results;
+        private final int from;
+        private final int to;
+
+        AnalyzeRange(Path root, List<Path> files, AudioAnalysisIndex.ClipAnalysis[] results, int from, int to) {
+            this.root = root;
+            this.files = files;
+            this.results = results;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to <= from) return; // keine WAV-Dateien gefunden
+            if (to - from == 1) {
+                Path file = files.get(from);
+                Path relative = root.relativize(file);
+                String profilePath = relative.subpath(Math.min(1, relative.getNameCount() - 1), relative.getNameCount())
+                        .toString().replace('\\', '/');
+                try {
+                    results[from] = analyze(file, profilePath);
+                } catch (IOException | UnsupportedAudioFileException | RuntimeException e) {
+                    System.err.println("Fehler bei " + relative + ": " + e.getMessage());
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new AnalyzeRange(root, files, results, from, middle),
+                    new AnalyzeRange(root, files, results, middle, to));
+        }
+    }
+
+    static AudioAnalysisIndex.ClipAnalysis analyze(Path file, String indexPath) throws IOException, UnsupportedAudioFileException {
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(file));
+             AudioInputStream audio = AudioSystem.getAudioInputStream(in)) {
+            AudioFormat format = audio.getFormat();
+            float[] samples = decodeMono(audio.readAllBytes(), format);
+            return analyze(samples, format.getSampleRate(), indexPath);
+        }
+    }
+
+    static AudioAnalysisIndex.ClipAnalysis analyze(float[] samples, float sampleRate, String indexPath) {
+        int durationMillis = (int) Math.round(samples.length * 1000.0 / sampleRate);
+        double sumSquares = 0;
+        float peak = 0;
+        for (float sample : samples) {
+            sumSquares += sample * sample;
+            peak = Math.max(peak, Math.abs(sample));
+        }
+        float rms = samples.length > 0 ? (float) Math.sqrt(sumSquares / samples.length) : 0f;
+
+        double[] flux = spectralFlux(samples);
+        double hopSeconds = HOP_SIZE / (double) sampleRate;
+        int[] onsets = pickOnsets(flux, hopSeconds);
+
+        float tempo = 0f;
+        float confidence = 0f;
+        int[] beats = new int[0];
+        if (samples.length / (double) sampleRate >= MIN_TEMPO_SECONDS) {
+            double[] estimate = estimateTempo(flux, hopSeconds);
+            if (estimate[1] >= MIN_TEMPO_CONFIDENCE) {
+                tempo = (float) estimate[0];
+                confidence = (float) estimate[1];
+                beats = placeBeats(flux, hopSeconds, 60.0 / tempo);
+            }
+        }
+        return new AudioAnalysisIndex.ClipAnalysis(indexPath, durationMillis, rms, peak, tempo, confidence, onsets, beats);
+    }
+
+    // PCM (8/16/24/32 Bit, signed/unsigned, Big/Little Endian) oder 32-Bit-Float auf Mono [-1, 1] mischen
+    static float[] decodeMono(byte[] data, AudioFormat format) throws UnsupportedAudioFileException {
+        AudioFormat.Encoding encoding = format.getEncoding();
+        int bits = format.getSampleSizeInBits();
+        int channels = Math.max(1, format.getChannels());
+        int bytesPerSample = (bits + 7) / 8;
+        boolean isFloat = AudioFormat.Encoding.PCM_FLOAT.equals(encoding);
+        boolean signed = AudioFormat.Encoding.PCM_SIGNED.equals(encoding);
+        if (!isFloat && !signed && !AudioFormat.Encoding.PCM_UNSIGNED.equals(encoding)) {
+            throw new UnsupportedAudioFileException("Nicht unterstützte Kodierung: " + encoding);
+        }
+        if (isFloat && bits != 32) throw new UnsupportedAudioFileException("Float mit " + bits + " Bit");
+        int frameSize = bytesPerSample * channels;
+        int frames = data.length / frameSize;
+        float[] mono = new float[frames];
+        double scale = 1.0 / (1L << (bits - 1));
+        boolean bigEndian = format.isBigEndian();
+        for (int frame = 0; frame < frames; frame++) {
+            double sum = 0;
+            for (int channel = 0; channel < channels; channel++) {
+                int offset = frame * frameSize + channel * bytesPerSample;
+                int raw = 0;
+                for (int b = 0; b < bytesPerSample; b++) {
+                    int value = data[offset + (bigEndian ? b : bytesPerSample - 1 - b)] & 0xFF;
+                    raw = (raw << 8) | value;
+                }
+                if (isFloat) {
+                    sum += Float.intBitsToFloat(raw);
+                } else if (signed) {
+                    sum += ((raw << (32 - bits)) >> (32 - bits)) * scale; // Vorzeichen erweitern
+                } else {
+                    sum += (raw - (1L << (bits - 1))) * scale;
+                }
+            }
+            mono[frame] = (float) (sum / channels);
+        }
+        return mono;
+    }
+
+    // Spektraler Fluss: Summe der positiven Zuwächse des (log-komprimierten) Betragsspektrums pro Hop
+    static double[] spectralFlux(float[] samples) {
+        int hops = samples.length < FFT_SIZE ? 1 : 1 + (samples.length - FFT_SIZE) / HOP_SIZE;
+        double[] flux = new double[hops];
+        double[] window = new double[FFT_SIZE];
+        for (int i = 0; i < FFT_SIZE; i++) window[i] = 0.5 - 0.5 * Math.cos(2 * Math.PI * i / FFT_SIZE);
+        double[] re = new double[FFT_SIZE];
+        double[] im = new double[FFT_SIZE];
+        double[] previous = new double[FFT_SIZE / 2 + 1];
+        double[] current = new double[FFT_SIZE / 2 + 1];
+        Fft fft = new Fft(FFT_SIZE);
+        for (int hop = 0; hop < hops; hop++) {
+            int start = hop * HOP_SIZE;
+            for (int i = 0; i < FFT_SIZE; i++) {
+                int index = start + i;
+                re[i] = index < samples.length ? samples[index] * window[i] : 0;
+                im[i] = 0;
+            }
+            fft.transform(re, im);
+            double sum = 0;
+            for (int bin = 0; bin <= FFT_SIZE / 2; bin++) {
+                current[bin] = Math.log1p(100 * Math.hypot(re[bin], im[bin]));
+                double rise = current[bin] - previous[bin];
+                if (hop > 0 && rise > 0) sum += rise;
+            }
+            flux[hop] = sum;
+            double[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return flux;
+    }
+
+    // Lokale Maxima über einer gleitenden Schwelle (Mittelwert der Umgebung * Faktor)
+    static int[] pickOnsets(double[] flux, double hopSeconds) {
+        double max = 0;
+        for (double value : flux) max = Math.max(max, value);
+        if (max <= 0) return new int[0];
+        double floor = max * 0.05;
+        int[] result = new int[flux.length];
+        int count = 0;
+        int lastOnset = -PEAK_RADIUS - 1;
+        for (int i = 0; i < flux.length; i++) {
+            double value = flux[i];
+            if (value < floor) continue;
+            boolean isPeak = true;
+            for (int j = Math.max(0, i - PEAK_RADIUS); j <= Math.min(flux.length - 1, i + PEAK_RADIUS) && isPeak; j++) {
+                if (flux[j] > value) isPeak = false;
+            }
+            if (!isPeak || i - lastOnset <= PEAK_RADIUS) continue;
+            double sum = 0;
+            int from = Math.max(0, i - MEAN_RADIUS);
+            int to = Math.min(flux.length - 1, i + MEAN_RADIUS);
+            for (int j = from; j <= to; j++) sum += flux[j];
+            if (value < sum / (to - from + 1) * THRESHOLD_FACTOR) continue;
+            result[count++] = (int) Math.round(i * hopSeconds * 1000);
+            lastOnset = i;
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    // Autokorrelation der mittelwertfreien Onset-Kurve im Bereich MIN_BPM..MAX_BPM; {bpm, Konfidenz 0..1}
+    static double[] estimateTempo(double[] flux, double hopSeconds) {
+        int n = flux.length;
+        double mean = 0;
+        for (double value : flux) mean += value;
+        mean /= Math.max(1, n);
+        double[] centered = new double[n];
+        double energy = 0;
+        for (int i = 0; i < n; i++) {
+            centered[i] = flux[i] - mean;
+            energy += centered[i] * centered[i];
+        }
+        if (energy <= 0) return new double[]{0, 0};
+        int minLag = Math.max(1, (int) Math.floor(60.0 / MAX_BPM / hopSeconds));
+        int maxLag = Math.min(n - 1, (int) Math.ceil(60.0 / MIN_BPM / hopSeconds));
+        double bestScore = 0;
+        double bestCorrelation = 0;
+        int bestLag = -1;
+        double[] correlation = new double[maxLag + 2];
+        for (int lag = minLag; lag <= maxLag; lag++) {
+            double sum = 0;
+            for (int i = 0; i + lag < n; i++) sum += centered[i] * centered[i + lag];
+            correlation[lag] = sum / energy;
+            double bpm = 60.0 / (lag * hopSeconds);
+            double octaves = Math.log(bpm / PREFERRED_BPM) / Math.log(2);
+            double score = correlation[lag] * Math.exp(-0.5 * octaves * octaves); // log-Gauß um 120 BPM
+            if (score > bestScore) {
+                bestScore = score;
+                bestCorrelation = correlation[lag];
+                bestLag = lag;
+            }
+        }
+        if (bestLag < 0) return new double[]{0, 0};
+        // Parabel durch die Nachbarn für ein Tempo zwischen den Hop-Rastern
+        double lag = bestLag;
+        if (bestLag > minLag && bestLag < maxLag) {
+            double left = correlation[bestLag - 1];
+            double right = correlation[bestLag + 1];
+            double denominator = left - 2 * correlation[bestLag] + right;
+            if (denominator != 0) lag += 0.5 * (left - right) / denominator;
+        }
+        return new double[]{60.0 / (lag * hopSeconds), Math.max(0, Math.min(1, bestCorrelation))};
+    }
+
+    // Raster mit fester Periode; die Phase wird so gewählt, dass die Schläge möglichst viel Onset-Energie treffen
+    static int[] placeBeats(double[] flux, double hopSeconds, double periodSeconds) {
+        double periodHops = periodSeconds / hopSeconds;
+        int phaseSteps = Math.max(1, (int) Math.ceil(periodHops));
+        double bestPhase = 0;
+        double bestSum = -1;
+        for (int step = 0; step < phaseSteps; step++) {
+            double phase = step * periodHops / phaseSteps;
+            double sum = 0;
+            for (double position = phase; position < flux.length; position += periodHops) {
+                sum += flux[Math.min(flux.length - 1, (int) Math.round(position))];
+            }
+            if (sum > bestSum) {
+                bestSum = sum;
+                bestPhase = phase;
+            }
+        }
+        int count = (int) Math.max(0, Math.ceil((flux.length - bestPhase) / periodHops));
+        int[] beats = new int[count];
+        for (int i = 0; i < count; i++) {
+            beats[i] = (int) Math.round((bestPhase + i * periodHops) * hopSeconds * 1000);
+        }
+        return beats;
+    }
+
+    // Iterative Radix-2-FFT mit vorberechneten Drehfaktoren (eine Instanz pro Aufgabe, nicht threadsicher)
+    static final class Fft {
+        private final int size;
+        private final double[] cos;
+        private final double[] sin;
+        private final int[] reversed;
+
+        Fft(int size) {
+            if (Integer.bitCount(size) != 1) throw new IllegalArgumentException("FFT-Größe muss eine Zweierpotenz sein");
+            this.size = size;
+            this.cos = new double[size / 2];
+            this.sin = new double[size / 2];
+            for (int i = 0; i < size / 2; i++) {
+                cos[i] = Math.cos(-2 * Math.PI * i / size);
+                sin[i] = Math.sin(-2 * Math.PI * i / size);
+            }
+            this.reversed = new int[size];
+            int bits = Integer.numberOfTrailingZeros(size);
+            for (int i = 0; i < size; i++) reversed[i] = Integer.reverse(i) >>> (32 - bits);
+        }
+
+        void transform(double[] re, double[] im) {
+            for (int i = 0; i < size; i++) {
+                int j = reversed[i];
+                if (j > i) {
+                    double t = re[i]; re[i] = re[j]; re[j] = t;
+                    t = im[i]; im[i] = im[j]; im[j] = t;
+                }
+            }
+            for (int length = 2; length <= size; length <<= 1) {
+                int half = length >>> 1;
+                int stride = size / length;
+                for (int start = 0; start < size; start += length) {
+                    for (int k = 0; k < half; k++) {
+                        double wr = cos[k * stride];
+                        double wi = sin[k * stride];
+                        int a = start + k;
+                        int b = a + half;
+                        double xr = re[b] * wr - im[b] * wi;
+                        double xi = re[b] * wi + im[b] * wr;
+                        re[b] = re[a] - xr;
+                        im[b] = im[a] - xi;
+                        re[a] += xr;
+                        im[a] += xi;
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,353 @@
+package org.example.spaceinvaders;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.LineUnavailableException;
+import javax.sound.sampled.SourceDataLine;
+import javax.sound.sampled.UnsupportedAudioFileException;
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+
+/**
+ * Taktgeber für rhythmische Angriffe: spielt die Hintergrundmusik über eine eigene {@link SourceDataLine} und leitet
+ * die Musikzeit aus der Wiedergabeposition der Line ab (nicht aus der Frame-Zeit). Zwischen den groben Positions-
+ * Sprüngen der Line wird mit System.nanoTime fortgeschrieben und sanft nachgeführt; die Ausgabelatenz des Geräts
+ * wird abgezogen ({@code -Dspaceinvaders.audioLatencyMs}).
+ * <p>
+ * Der Game-Loop ruft einmal pro Frame {@link #onFrame(long)} auf, danach beantworten {@link #isOnBeat(int)} und
+ * {@link #isDue(long, long, int)}, ob in diesem Frame ein Schlag liegt. Gerechnet wird auf die Frame-Mitte, ein
+ * Schlag landet also im nächstgelegenen Frame (bei 60 fps höchstens ~8 ms daneben).
+ * <p>
+ * Nur auf Wunsch: Musik mit {@code -Dspaceinvaders.music=<Ressource oder Datei>} (WAV/AIFF), Tempo
+ * {@code spaceinvaders.musicBpm} (Standard 120) und erster Schlag {@code spaceinvaders.musicOffsetMs}. Ohne
+ * auffindbare Musik gibt es keine Quantisierung ({@link #unsynced()}, feste Abklingzeiten), außer mit
+ * {@code -Dspaceinvaders.metronome=true}: dann hörbare Klicks zum Einmessen der Latenz. Ohne Audiogerät zählt die
+ * Spielzeit. {@code -Dspaceinvaders.beatSync=false} schaltet die Quantisierung in jedem Fall ab.
+ */
+public final class BeatClock {
+    private static final GameLog LOG = GameLog.get(BeatClock.class);
+
+    static final boolean ENABLED = !"false".equalsIgnoreCase(System.getProperty("spaceinvaders.beatSync"));
+    private static final float CLICK_SAMPLE_RATE = 44_100f;
+    private static final int CHUNK_FRAMES = 256;               // ~6 ms pro write()
+    private static final int LINE_BUFFER_CHUNKS = 4;           // kleiner Puffer: Position folgt dem Gehörten eng
+    private static final long RESYNC_NANOS = 4_000_000L;       // größere Abweichung: Schätzung neu ansetzen
+    private static final int SLEW_DIVISOR = 16;                // kleinere Abweichungen über mehrere Frames ausgleichen
+    private static final int REPORT_BEATS = 64;
+
+    private final boolean synced;
+    private final long beatNanos;
+    private final long firstBeatNanos;
+    private final long latencyNanos;
+    private final boolean metronome;
+    private final String track;
+
+    // Audio-Thread
+    private volatile SourceDataLine line;
+    private volatile float sampleRate = CLICK_SAMPLE_RATE;
+    private volatile long restartFrame;            // Line-Position beim letzten Neustart der Musik
+    private volatile boolean restartRequested;
+    private volatile boolean closed;
+    private Thread audioThread;
+
+    // FX-Thread schreibt, Spiel-Thread liest
+    private volatile boolean running;
+    private volatile boolean anchorStale;          // nach Pause/Fortsetzen neu ansetzen
+    // Spiel-Thread (FX-Thread oder SimulationThread)
+    private boolean hasAnchor;
+    private long anchorAudioNanos;
+    private long anchorSystemNanos;
+    private long fallbackNanos;                    // ohne Audiogerät: aufsummierte Spielzeit
+    private long lastPosition;
+    private long framePosition;
+    private long previousFramePosition;
+    private long maxBeatErrorNanos;
+    private int beatsSinceReport;
+
+    private BeatClock(boolean synced) {
+        this.synced = synced;
+        double bpm = parseDouble("spaceinvaders.musicBpm", 120.0);
+        this.beatNanos = (long) (60_000_000_000.0 / Math.max(20.0, Math.min(400.0, bpm)));
+        this.firstBeatNanos = (long) (parseDouble("spaceinvaders.musicOffsetMs", 0) * 1_000_000L);
+        this.latencyNanos = (long) (parseDouble("spaceinvaders.audioLatencyMs", 0) * 1_000_000L);
+        this.metronome = Boolean.getBoolean("spaceinvaders.metronome");
+        this.track = System.getProperty("spaceinvaders.music");
+    }
+
+    /** Taktgeber mit Musik-Thread, wenn Musik (oder das Metronom) angegeben ist; sonst ohne Quantisierung. */
+    public static BeatClock create() {
+        if (!ENABLED) return unsynced();
+        String track = System.getProperty("spaceinvaders.music");
+        if (!trackExists(track) && !Boolean.getBoolean("spaceinvaders.metronome")) {
+            if (track != null) LOG.warn("Musik nicht gefunden: {}, Angriffe ohne Takt.", track);
+            return unsynced();
+        }
+        BeatClock clock = new BeatClock(true);
+        clock.audioThread = new Thread(clock::runAudio, "beat-clock-audio");
+        clock.audioThread.setDaemon(true);
+        clock.audioThread.setPriority(Thread.MAX_PRIORITY);
+        clock.audioThread.start();
+        return clock;
+    }
+
+    /** Ohne Musik und ohne Quantisierung: jede Abfrage gilt als "auf dem Schlag". */
+    public static BeatClock unsynced() {
+        return new BeatClock(false);
+    }
+
+    // --- FX-Thread ---
+
+    /** Musik von vorn (neues Spiel, bevor dessen Spiel-Thread läuft). */
+    public void restart() {
+        hasAnchor = false;
+        fallbackNanos = 0;
+        lastPosition = 0;
+        framePosition = 0;
+        previousFramePosition = 0;
+        restartRequested = true;
+    }
+
+    /** Läuft nur im Spiel (PLAYING/LEVEL_TRANSITION); Pause hält Musik und Uhr an. */
+    public void setRunning(boolean running) {
+        if (this.running == running) return;
+        this.running = running;
+        anchorStale = true;
+        SourceDataLine current = line;
+        if (current == null) return;
+        if (running) current.start();
+        else current.stop();
+    }
+
+    // --- Spiel-Thread: der Thread, auf dem der GameUpdater läuft ---
+
+    /** Einmal pro Simulationsschritt, vor allen Abfragen. */
+    public void onFrame(long frameNanos) {
+        if (!synced) return;
+        previousFramePosition = framePosition;
+        long position = line != null ? audioPosition() : (fallbackNanos += Math.max(0, frameNanos));
+        framePosition = position + frameNanos / 2; // auf die Frame-Mitte runden
+        if (framePosition < previousFramePosition) framePosition = previousFramePosition;
+        if (isOnBeat(1)) recordBeatError(position);
+    }
+
+    /** Liegt in diesem Frame der Beginn eines Schlags, geteilt in {@code subdivision} (1 = Viertel, 2 = Achtel, ...)? */
+    public boolean isOnBeat(int subdivision) {
+        if (!synced) return true;
+        long length = beatNanos / Math.max(1, subdivision);
+        return Math.floorDiv(framePosition - firstBeatNanos, length)
+                != Math.floorDiv(previousFramePosition - firstBeatNanos, length);
+    }
+
+    /**
+     * Abklingzeit auf das Raster gelegt: fällig beim ersten Schlag der Unterteilung, an dem {@code elapsedNanos}
+     * (bis auf eine halbe Unterteilung) das Intervall erreicht hat. Ohne Quantisierung: {@code elapsed > interval}.
+     */
+    public boolean isDue(long elapsedNanos, long intervalNanos, int subdivision) {
+        if (!synced) return elapsedNanos > intervalNanos;
+        long tolerance = beatNanos / Math.max(1, subdivision) / 2;
+        return elapsedNanos >= intervalNanos - tolerance && isOnBeat(subdivision);
+    }
+
+    public boolean isSynced() { return synced; }
+    public long getBeatNanos() { return beatNanos; }
+    public long getPositionNanos() { return framePosition; }
+
+    // Musikzeit aus der Line-Position; dazwischen mit nanoTime fortschreiben und Abweichungen langsam ausgleichen
+    private long audioPosition() {
+        long now = System.nanoTime();
+        if (restartRequested) return lastPosition; // Audio-Thread setzt gerade neu auf
+        long frames = line.getLongFramePosition() - restartFrame;
+        long measured = (long) (frames * 1_000_000_000.0 / sampleRate) - latencyNanos;
+        if (anchorStale) {
+            anchorStale = false;
+            hasAnchor = false;
+        }
+        if (!running || !hasAnchor) {
+            anchorAudioNanos = measured;
+            anchorSystemNanos = now;
+            hasAnchor = running;
+        }
+        long predicted = anchorAudioNanos + (now - anchorSystemNanos);
+        long error = measured - predicted;
+        if (Math.abs(error) > RESYNC_NANOS) {
+            anchorAudioNanos = measured;
+            anchorSystemNanos = now;
+            predicted = measured;
+        } else {
+            anchorAudioNanos += error / SLEW_DIVISOR;
+            predicted += error / SLEW_DIVISOR;
+        }
+        lastPosition = Math.max(lastPosition, predicted); // nie rückwärts
+        return lastPosition;
+    }
+
+    private void recordBeatError(long position) {
+        // Abstand zwischen Schlag und Frame-Start, über REPORT_BEATS Schläge das Maximum (nur Debug-Ausgabe)
+        long beatTime = firstBeatNanos + Math.floorDiv(framePosition - firstBeatNanos, beatNanos) * beatNanos;
+        maxBeatErrorNanos = Math.max(maxBeatErrorNanos, Math.abs(beatTime - position));
+        if (++beatsSinceReport < REPORT_BEATS) return;
+        LOG.debug("Schlag-Abweichung max {} ms über {} Schläge ({})", maxBeatErrorNanos / 1_000_000.0, REPORT_BEATS,
+                line != null ? "Audio-Position" : "Spielzeit");
+        maxBeatErrorNanos = 0;
+        beatsSinceReport = 0;
+    }
+
+    /** Musik beenden und Line schließen (Programmende). */
+    public void close() {
+        closed = true;
+        SourceDataLine current = line;
+        if (current != null) {
+            current.stop();
+            current.flush();
+            current.close();
+        }
+    }
+
+    // --- Audio-Thread ---
+
+    private void runAudio() {
+        AudioInputStream music = openTrack();
+        AudioFormat format = music != null ? music.getFormat()
+                : new AudioFormat(CLICK_SAMPLE_RATE, 16, 1, true, false);
+        int frameSize = format.getFrameSize();
+        byte[] chunk = new byte[CHUNK_FRAMES * frameSize];
+        SourceDataLine opened;
+        try {
+            opened = AudioSystem.getSourceDataLine(format);
+            opened.open(format, chunk.length * LINE_BUFFER_CHUNKS);
+        } catch (LineUnavailableException | IllegalArgumentException e) {
+            LOG.warn("Keine Audio-Ausgabe für den Taktgeber ({}), Schläge folgen der Spielzeit.", e.getMessage());
+            closeQuietly(music);
+            return;
+        }
+        sampleRate = format.getFrameRate();
+        if (running) opened.start();
+        line = opened;
+        LOG.info("Taktgeber: {} BPM, {}", 60_000_000_000.0 / beatNanos,
+                music != null ? track : metronome ? "Metronom" : "Stille");
+
+        long trackFrame = 0;
+        while (!closed) {
+            if (restartRequested) {
+                opened.flush();
+                if (music != null) music = reopen(music);
+                trackFrame = 0;
+                restartFrame = opened.getLongFramePosition();
+                restartRequested = false;
+            }
+            int length;
+            if (music != null) {
+                length = readFully(music, chunk);
+                if (length <= 0) { // Ende: Schleife
+                    music = reopen(music);
+                    if (music == null) break;
+                    continue;
+                }
+            } else {
+                length = synthesize(chunk, trackFrame);
+            }
+            opened.write(chunk, 0, length - length % frameSize); // blockiert bei voller Line bzw. gestoppter Line
+            trackFrame += length / frameSize;
+        }
+        closeQuietly(music);
+    }
+
+    // Stille oder Klick (1 kHz, auf der Eins 1.5 kHz) am Anfang jedes Schlags, 16 Bit mono
+    private int synthesize(byte[] chunk, long startFrame) {
+        long beatFrames = Math.max(1, beatNanos * (long) CLICK_SAMPLE_RATE / 1_000_000_000L);
+        long offsetFrames = firstBeatNanos * (long) CLICK_SAMPLE_RATE / 1_000_000_000L;
+        for (int i = 0; i < CHUNK_FRAMES; i++) {
+            short sample = 0;
+            if (metronome) {
+                long frame = startFrame + i - offsetFrames;
+                long inBeat = Math.floorMod(frame, beatFrames);
+                double t = inBeat / (double) CLICK_SAMPLE_RATE;
+                if (frame >= 0 && t < 0.03) {
+                    double frequency = Math.floorMod(Math.floorDiv(frame, beatFrames), 4) == 0 ? 1500 : 1000;
+                    sample = (short) (Math.sin(2 * Math.PI * frequency * t) * Math.exp(-t / 0.004) * 6000);
+                }
+            }
+            chunk[i * 2] = (byte) sample;
+            chunk[i * 2 + 1] = (byte) (sample >> 8);
+        }
+        return CHUNK_FRAMES * 2;
+    }
+
+    private static boolean trackExists(String track) {
+        if (track == null || track.isBlank()) return false;
+        try {
+            if (Files.isRegularFile(Path.of(track))) return true;
+        } catch (InvalidPathException e) {
+            // kein Dateipfad, vielleicht eine Ressource
+        }
+        return BeatClock.class.getResource(track) != null;
+    }
+
+    private AudioInputStream openTrack() {
+        if (track == null) return null; // Metronom
+        try {
+            InputStream in;
+            Path file = Path.of(track);
+            if (Files.isRegularFile(file)) {
+                in = Files.newInputStream(file);
+            } else {
+                in = BeatClock.class.getResourceAsStream(track);
+                if (in == null) {
+                    LOG.warn("Musik nicht gefunden: {}", track);
+                    return null;
+                }
+            }
+            AudioInputStream source = AudioSystem.getAudioInputStream(new BufferedInputStream(in));
+            AudioFormat sourceFormat = source.getFormat();
+            if (sourceFormat.getEncoding() == AudioFormat.Encoding.PCM_SIGNED) return source;
+            AudioFormat pcm = new AudioFormat(sourceFormat.getSampleRate(), 16, sourceFormat.getChannels(), true, false);
+            return AudioSystem.getAudioInputStream(pcm, source);
+        } catch (UnsupportedAudioFileException | IOException | IllegalArgumentException e) {
+            LOG.warn("Musik '{}' kann nicht gelesen werden: {}", track, e.getMessage());
+            return null;
+        }
+    }
+
+    private AudioInputStream reopen(AudioInputStream current) {
+        closeQuietly(current);
+        return openTrack();
+    }
+
+    private static int readFully(AudioInputStream in, byte[] buffer) {
+        int total = 0;
+        try {
+            while (total < buffer.length) {
+                int read = in.read(buffer, total, buffer.length - total);
+                if (read < 0) break;
+                total += read;
+            }
+        } catch (IOException e) {
+            LOG.warn("Fehler beim Lesen der Musik: {}", e.getMessage());
+        }
+        return total;
+    }
+
+    private static void closeQuietly(AudioInputStream in) {
+        if (in == null) return;
+        try {
+            in.close();
+        } catch (IOException ignored) {
+        }
+    }
+
+    private static double parseDouble(String property, double fallback) {
+        String value = System.getProperty(property);
+        if (value == null) return fallback;
+        try {
+            return Double.parseDouble(value.trim());
+        } catch (NumberFormatException e) {
+            LOG.warn("Ungültiger Wert für {}: {}", property, value);
+            return fallback;
+        }
+    }
+}
@@ -1,13 +1,11 @@
 package org.example.spaceinvaders;
 
-import javafx.animation.PauseTransition;
 import javafx.scene.Node;
 import javafx.scene.effect.ColorAdjust;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 // import javafx.scene.paint.Color; // Nicht mehr direkt für Farbsetzung der Projektile benötigt
 // import javafx.scene.shape.Rectangle; // Minions nutzen jetzt Enemy-Klasse mit ImageView
-import javafx.util.Duration;
 
 import java.util.ArrayList;
 import java.util.Iterator;
@@ -15,6 +13,7 @@ import java.util.List;
 import java.util.Random;
 
 public class BossController {
+    private static final GameLog LOG = GameLog.get(BossController.class);
     private GameEntityManager entityManager;
     private GameDimensions gameDimensions;
     private UIManager uiManager;
@@ -35,10 +34,20 @@ public class BossController {
     private Random random = new Random();
 
     private List<ImageView> bossProjectiles = new ArrayList<>();
+    private final ProjectilePool bossProjectilePool;
+    private boolean effectsEnabled = true; // wird vom QualityGovernor bei hoher Frame-Zeit abgeschaltet
+    private static final long FLASH_NANOS = 70_000_000L;
+    private final Runnable endFlash = this::updateBossAppearance;
+    // Ein Effekt für Phasenfarbe und Aufblitzen, nur die Werte werden umgestellt: jedes setEffect mit einem
+    // anderen Effekt meldet in JavaFX einen Listener neu an und allokiert damit bei jedem Treffer
+    private final ColorAdjust bossEffect = new ColorAdjust();
+    private final boolean detached; // Spiel ohne Fenster: keine JFR-Ereignisse, keine Phasen im Log
+    private long flashTimer = GameScheduler.NO_TIMER;
     private List<Enemy> minionEnemies = new ArrayList<>();
     private MinionWaveType currentMinionWaveType = MinionWaveType.DIAGONAL_SWEEP;
     private int minionWaveCount = 0;
     private long minionWaveStartTime = 0;
+    private boolean minionWavePending = false;
 
     private enum BossMovementState {
         ENTERING, HOVERING, SIDE_STRAFE, DIVE_ATTACK, RETREATING, OFF_SCREEN
@@ -53,11 +62,13 @@ public class BossController {
         this.gameDimensions = gameDimensions;
         this.uiManager = uiManager;
         this.soundManager = soundManager;
+        this.detached = entityManager.isDetached();
+        this.bossProjectilePool = new ProjectilePool(entityManager.getGamePane(), true);
 
         // Hole das pistol_bullet1.png Bild vom EntityManager
         this.bossProjectileImage = entityManager.getBossProjectileImage();
         if (this.bossProjectileImage == null || this.bossProjectileImage.isError()) {
-            System.err.println("BossController konnte Boss-Projektilbild (pistol_bullet1.png) nicht vom EntityManager erhalten oder Bild ist fehlerhaft.");
+            LOG.warn("BossController konnte Boss-Projektilbild (pistol_bullet1.png) nicht vom EntityManager erhalten oder Bild ist fehlerhaft.");
         }
     }
 
@@ -66,6 +77,7 @@ public class BossController {
         bossMaxHealth = GameDimensions.BOSS_HEALTH;
         bossIsRetreating = false;
         bossIsOffScreen = false;
+        minionWavePending = false;
         isBossDivingDown = false;
         currentMovementState = BossMovementState.ENTERING;
         movementStateStartTime = System.nanoTime();
@@ -79,7 +91,7 @@ public class BossController {
             boss.setHealth(bossMaxHealth);
             updateBossAppearance();
         } else {
-            System.err.println("BossController.initializeBoss(): Boss entity oder dessen Node ist kein ImageView oder ist null!");
+            LOG.warn("BossController.initializeBoss(): Boss entity oder dessen Node ist kein ImageView oder ist null!");
         }
         clearAllBossProjectiles();
         clearAllMinions();
@@ -112,27 +124,24 @@ public class BossController {
             default -> "Boss retreating...";
         };
         uiManager.showPopupMessage(message, 2.0);
-
-        if (soundManager != null) {
-            soundManager.playBossScared();
-        }
+        entityManager.getEventBus().post(GameEventType.BOSS_RETREAT);
+        if (!detached) BossPhaseEvent.emit(bossPhase, "RETREAT", minionEnemies.size());
     }
 
     private void createBossProjectile(double startX, double startY, double targetX, double targetY) {
         if (bossProjectileImage == null || bossProjectileImage.isError()) {
-            System.err.println("Boss-Projektilbild (pistol_bullet1.png) nicht geladen, Schuss wird nicht erstellt.");
+            LOG.warn("Boss-Projektilbild (pistol_bullet1.png) nicht geladen, Schuss wird nicht erstellt.");
             return;
         }
 
-        ImageView projectileNode = new ImageView(bossProjectileImage);
         // Größe der Boss-Projektile anpassen (pistol_bullet1 könnte andere Proportionen haben als Komet)
         // Hier musst du experimentieren, um eine gute Größe zu finden.
-        projectileNode.setFitWidth(gameDimensions.getProjectileWidth() * 2.0); // Beispielgröße
-        projectileNode.setFitHeight(gameDimensions.getProjectileHeight() * 1.5); // Beispielgröße
-        projectileNode.setPreserveRatio(true);
+        ImageView projectileNode = bossProjectilePool.acquire(bossProjectileImage,
+                gameDimensions.getProjectileWidth() * 2.0, // Beispielgröße
+                gameDimensions.getProjectileHeight() * 1.5); // Beispielgröße
 
-        // Farbänderung für Boss-Projektile, passend zur Boss-Phase
-        ColorAdjust projectileColorAdjust = new ColorAdjust();
+        // Farbänderung für Boss-Projektile, passend zur Boss-Phase (ColorAdjust gehört zum Pool-Node)
+        ColorAdjust projectileColorAdjust = ProjectilePool.colorAdjust(projectileNode);
         projectileColorAdjust.setBrightness(0.0);
         projectileColorAdjust.setContrast(0.0);
         projectileColorAdjust.setHue(0.0);
@@ -155,52 +164,54 @@ public class BossController {
                 projectileColorAdjust.setBrightness(-0.1);
                 break;
         }
-        projectileNode.setEffect(projectileColorAdjust);
-
-
+        projectileNode.setEffect(effectsEnabled ? projectileColorAdjust : null);
         projectileNode.setLayoutX(startX - projectileNode.getFitWidth() / 2);
         projectileNode.setLayoutY(startY);
+        ProjectilePool.markPosition(projectileNode);
 
         setProjectileUserData(projectileNode, startX, startY, targetX, targetY);
 
         bossProjectiles.add(projectileNode);
-        entityManager.getGamePane().getChildren().add(projectileNode);
     }
 
-    private void setProjectileUserData(Node projectile, double startX, double startY, double targetX, double targetY) {
+    private void setProjectileUserData(ImageView projectile, double startX, double startY, double targetX, double targetY) {
         double dx = targetX - startX;
         double dy = targetY - startY;
         double distance = Math.sqrt(dx * dx + dy * dy);
         double projectileSpeedPerTick = gameDimensions.getProjectileSpeed() * 0.75;
         if (bossPhase == 3) projectileSpeedPerTick *= 1.3;
 
+        double[] data = ProjectilePool.data(projectile);
         if (distance > 0) {
-            projectile.setUserData(new double[]{dx / distance * projectileSpeedPerTick, dy / distance * projectileSpeedPerTick});
+            data[ProjectilePool.VELOCITY_X] = dx / distance * projectileSpeedPerTick;
+            data[ProjectilePool.VELOCITY_Y] = dy / distance * projectileSpeedPerTick;
         } else {
-            projectile.setUserData(new double[]{0, projectileSpeedPerTick});
+            data[ProjectilePool.VELOCITY_X] = 0;
+            data[ProjectilePool.VELOCITY_Y] = projectileSpeedPerTick;
         }
     }
 
     private void updateBossProjectiles(double deltaTime) {
-        Iterator<ImageView> iterator = bossProjectiles.iterator();
-        while (iterator.hasNext()) {
-            ImageView projectile = iterator.next();
-            if (projectile.getUserData() == null || !(projectile.getUserData() instanceof double[])) {
-                iterator.remove();
-                entityManager.getGamePane().getChildren().remove(projectile);
-                continue;
-            }
-            double[] velocityPerTick = (double[]) projectile.getUserData();
-
-            projectile.setLayoutX(projectile.getLayoutX() + velocityPerTick[0]);
-            projectile.setLayoutY(projectile.getLayoutY() + velocityPerTick[1]);
+        double dtGameTickScaling = deltaTime * 60.0;
+        if (dtGameTickScaling <= 0) dtGameTickScaling = 1.0;
 
-            if (projectile.getLayoutY() > gameDimensions.getHeight() + 50 ||
-                    projectile.getLayoutY() < -projectile.getFitHeight() - 50 ||
-                    projectile.getLayoutX() > gameDimensions.getWidth() + 50 ||
-                    projectile.getLayoutX() < -projectile.getFitWidth() - 50) {
-                iterator.remove();
-                entityManager.getGamePane().getChildren().remove(projectile);
+        for (int i = bossProjectiles.size() - 1; i >= 0; i--) {
+            ImageView projectile = bossProjectiles.get(i);
+            double[] velocityPerTick = ProjectilePool.data(projectile);
+            double previousX = projectile.getLayoutX();
+            double previousY = projectile.getLayoutY();
+            ProjectilePool.markPosition(projectile); // Startpunkt für den Swept-Test gegen den Spieler
+
+            projectile.setLayoutX(previousX + velocityPerTick[ProjectilePool.VELOCITY_X] * dtGameTickScaling);
+            projectile.setLayoutY(previousY + velocityPerTick[ProjectilePool.VELOCITY_Y] * dtGameTickScaling);
+
+            // Geprüft wird der Startpunkt: der Weg in diesem Tick wird noch gegen den Spieler getestet
+            if (previousY > gameDimensions.getHeight() + 50 ||
+                    previousY < -projectile.getFitHeight() - 50 ||
+                    previousX > gameDimensions.getWidth() + 50 ||
+                    previousX < -projectile.getFitWidth() - 50) {
+                bossProjectiles.remove(i);
+                bossProjectilePool.release(projectile);
             }
         }
     }
@@ -209,8 +220,12 @@ public class BossController {
         Enemy boss = entityManager.getBossEnemy();
         if (boss == null || !(boss.getNode() instanceof ImageView)) return;
         ImageView bossView = (ImageView) boss.getNode();
+        if (!effectsEnabled) {
+            bossView.setEffect(null);
+            return;
+        }
 
-        ColorAdjust colorAdjust = new ColorAdjust();
+        ColorAdjust colorAdjust = bossEffect;
         colorAdjust.setBrightness(0.0);
         colorAdjust.setContrast(0.0);
         colorAdjust.setHue(0.0);
@@ -237,25 +252,42 @@ public class BossController {
         Enemy boss = entityManager.getBossEnemy();
         if (boss == null || !(boss.getNode() instanceof ImageView)) return;
         ImageView bossView = (ImageView) boss.getNode();
+        if (!effectsEnabled) return; // ohne Effekte kein Aufblitzen
 
-        ColorAdjust flashEffect = new ColorAdjust();
-        flashEffect.setBrightness(0.8);
-        bossView.setEffect(flashEffect);
+        bossEffect.setHue(0.0);
+        bossEffect.setSaturation(0.0);
+        bossEffect.setContrast(0.0);
+        bossEffect.setBrightness(0.8);
+        bossView.setEffect(bossEffect);
 
-        PauseTransition flash = new PauseTransition(Duration.millis(70));
-        flash.setOnFinished(e -> {
-            updateBossAppearance();
-        });
-        flash.play();
+        // Vorheriges Aufblitzen ersetzen statt mehrere Rückstellungen zu stapeln
+        GameScheduler scheduler = entityManager.getScheduler();
+        scheduler.cancel(flashTimer);
+        flashTimer = scheduler.schedule(FLASH_NANOS, endFlash);
+    }
+
+    public void setEffectsEnabled(boolean enabled) {
+        if (effectsEnabled == enabled) return;
+        effectsEnabled = enabled;
+        updateBossAppearance();
+        for (int i = 0; i < bossProjectiles.size(); i++) {
+            ImageView projectile = bossProjectiles.get(i);
+            projectile.setEffect(enabled ? ProjectilePool.colorAdjust(projectile) : null);
+        }
+    }
+
+    public boolean isEffectsEnabled() { return effectsEnabled; }
+
+    /** Macht Minion-Wellen und Angriffsmuster wiederholbar (Server-Sessions mit dem Seed des Clients). */
+    public void setRandomSeed(long seed) {
+        random.setSeed(seed);
     }
 
     public void clearAllBossProjectiles() {
-        Iterator<ImageView> it = bossProjectiles.iterator();
-        while(it.hasNext()){
-            ImageView p = it.next();
-            entityManager.getGamePane().getChildren().remove(p);
-            it.remove();
+        for (int i = 0; i < bossProjectiles.size(); i++) {
+            bossProjectilePool.release(bossProjectiles.get(i));
         }
+        bossProjectiles.clear();
     }
 
     public void clearAllMinions() {
@@ -271,12 +303,11 @@ public class BossController {
 
     public boolean checkBossProjectileCollisions(Player player) {
         if (player == null || player.getNode() == null) return false;
-        Iterator<ImageView> iterator = bossProjectiles.iterator();
-        while (iterator.hasNext()) {
-            ImageView projectile = iterator.next();
-            if (projectile.getBoundsInParent().intersects(player.getNode().getBoundsInParent())) {
-                iterator.remove();
-                entityManager.getGamePane().getChildren().remove(projectile);
+        for (int i = 0; i < bossProjectiles.size(); i++) {
+            ImageView projectile = bossProjectiles.get(i);
+            if (Collisions.timeOfImpact(projectile, player.getNode()) >= 0) {
+                bossProjectiles.remove(i);
+                bossProjectilePool.release(projectile);
                 return true;
             }
         }
@@ -285,7 +316,7 @@ public class BossController {
 
     private void spawnMinion(Image minionImage, double x, double y, double width, double height, int health, int points, Object userData) {
         if (minionImage == null || minionImage.isError()) {
-            System.err.println("Minion-Bild nicht geladen oder fehlerhaft, Minion ("+x+","+y+") wird nicht erstellt.");
+            LOG.warn("Minion-Bild nicht geladen oder fehlerhaft, Minion ({}, {}) wird nicht erstellt.", x, y);
             return;
         }
         Enemy minion = new Enemy(minionImage, width, height, health, points);
@@ -314,7 +345,7 @@ public class BossController {
     private void spawnDiagonalSweepMinions() {
         int minionCount;
         Image minionImg = entityManager.getEnemyGreenEyeImage();
-        if (minionImg == null) { System.err.println("Grünes Augenbild für Minions nicht verfügbar."); return; }
+        if (minionImg == null) { LOG.warn("Grünes Augenbild für Minions nicht verfügbar."); return; }
 
         double minionWidth = gameDimensions.getEnemyWidth() * 0.65;
         double minionHeight = gameDimensions.getEnemyHeight() * 0.65;
@@ -324,6 +355,7 @@ public class BossController {
             case 2: minionCount = 7; break;
             default: minionCount = 5; break;
         }
+        minionCount = StressConfig.get().scaleMinionCount(minionCount);
         for (int i = 0; i < minionCount; i++) {
             boolean fromLeft = i % 2 == 0;
             double startX = fromLeft ? -minionWidth -10 : gameDimensions.getWidth() + 10;
@@ -335,7 +367,7 @@ public class BossController {
     private void spawnFormationMinions() {
         int minionCount;
         Image minionImg = entityManager.getEnemyPurpleEyeImage();
-        if (minionImg == null) { System.err.println("Lila Augenbild für Minions nicht verfügbar."); return; }
+        if (minionImg == null) { LOG.warn("Lila Augenbild für Minions nicht verfügbar."); return; }
 
         double minionWidth = gameDimensions.getEnemyWidth() * 0.7;
         double minionHeight = gameDimensions.getEnemyHeight() * 0.7;
@@ -347,6 +379,7 @@ public class BossController {
         }
         double formationWidth = gameDimensions.getWidth() * 0.6;
         double startXOffset = (gameDimensions.getWidth() - formationWidth) / 2;
+        minionCount = StressConfig.get().scaleMinionCount(minionCount);
         for (int i = 0; i < minionCount; i++) {
             double x = startXOffset + (i * (formationWidth / (minionCount > 1 ? minionCount -1 : 1)));
             double y = -minionHeight - (Math.abs(i - (minionCount-1)/2.0) * (minionHeight + 10));
@@ -357,7 +390,7 @@ public class BossController {
     private void spawnSwarmMinions() {
         int minionCount;
         Image minionImg = entityManager.getEnemyGreenEyeImage();
-        if (minionImg == null) { System.err.println("Grünes Augenbild für Schwarm-Minions nicht verfügbar."); return; }
+        if (minionImg == null) { LOG.warn("Grünes Augenbild für Schwarm-Minions nicht verfügbar."); return; }
 
         double minionWidth = gameDimensions.getEnemyWidth() * 0.55;
         double minionHeight = gameDimensions.getEnemyHeight() * 0.55;
@@ -367,6 +400,7 @@ public class BossController {
             case 2: minionCount = 10; break;
             default: minionCount = 8; break;
         }
+        minionCount = StressConfig.get().scaleMinionCount(minionCount);
         for (int i = 0; i < minionCount; i++) {
             double x = random.nextDouble() * (gameDimensions.getWidth() - minionWidth);
             double y = -minionHeight - (random.nextDouble() * 180);
@@ -379,7 +413,7 @@ public class BossController {
     private void spawnBouncingMinions() {
         int minionCount;
         Image minionImg = entityManager.getEnemyPurpleEyeImage();
-        if (minionImg == null) { System.err.println("Lila Augenbild für Bouncing-Minions nicht verfügbar."); return; }
+        if (minionImg == null) { LOG.warn("Lila Augenbild für Bouncing-Minions nicht verfügbar."); return; }
 
         double minionWidth = gameDimensions.getEnemyWidth() * 0.8;
         double minionHeight = gameDimensions.getEnemyHeight() * 0.8;
@@ -389,6 +423,7 @@ public class BossController {
             case 2: minionCount = 3; break;
             default: minionCount = 3; break;
         }
+        minionCount = StressConfig.get().scaleMinionCount(minionCount);
         for (int i = 0; i < minionCount; i++) {
             double x = (i + 1) * (gameDimensions.getWidth() / (minionCount + 1.0)) - minionWidth/2;
             double y = -minionHeight - random.nextInt(60);
@@ -483,6 +518,12 @@ public class BossController {
             bossNode.setLayoutY(bossNode.getLayoutY() - retreatSpeed * dtScaled);
             if (bossNode.getLayoutY() + bossNodeHeight < 0) {
                 bossIsOffScreen = true;
+                minionWavePending = true;
+            }
+        } else if (minionWavePending) {
+            // Minion-Welle setzt auf dem nächsten Schlag ein
+            if (entityManager.getBeatClock().isOnBeat(1)) {
+                minionWavePending = false;
                 startMinionWave();
             }
         } else {
@@ -499,12 +540,12 @@ public class BossController {
             case 3 -> 700_000_000L;
             default -> 1_500_000_000L;
         };
-        if (now - lastBossShootTime > shootCooldown) {
+        shootCooldown = StressConfig.get().scaleBossShootCooldown(shootCooldown);
+        // Schuss auf der nächsten Achtel nach Ablauf der Abklingzeit
+        if (entityManager.getBeatClock().isDue(now - lastBossShootTime, shootCooldown, 2)) {
             shootBossProjectile(boss);
             lastBossShootTime = now;
-            if (soundManager != null) {
-                soundManager.playBossShoot();
-            }
+            entityManager.getEventBus().post(GameEventType.BOSS_SHOT);
         }
     }
 
@@ -589,30 +630,27 @@ public class BossController {
             currentMinionWaveType = possibleTypesForThisPhase.get(random.nextInt(possibleTypesForThisPhase.size()));
         } else {
             currentMinionWaveType = MinionWaveType.DIAGONAL_SWEEP;
-            System.err.println("BossController.startMinionWave(): No possible minion types found for bossPhase " +
-                    bossPhase + ", defaulting to DIAGONAL_SWEEP.");
+            LOG.warn("startMinionWave(): No possible minion types found for bossPhase {}, defaulting to DIAGONAL_SWEEP.", bossPhase);
         }
 
-        System.out.println("BossController: Starting RANDOMIZED minion wave " + minionWaveCount +
-                " of type " + currentMinionWaveType + " after boss phase " + bossPhase);
+        if (!detached) LOG.info("Starting RANDOMIZED minion wave {} of type {} after boss phase {}", minionWaveCount, currentMinionWaveType, bossPhase);
         spawnMinionWave(currentMinionWaveType);
     }
 
     private void updateMinionWaves(long now, double deltaTime) {
-        Iterator<Enemy> iterator = minionEnemies.iterator();
         double dtGameTickScaling = deltaTime * 60.0;
         if (dtGameTickScaling <= 0) dtGameTickScaling = 1.0;
 
-        while (iterator.hasNext()) {
-            Enemy minion = iterator.next();
+        for (int i = minionEnemies.size() - 1; i >= 0; i--) { // rückwärts, damit remove(i) die Schleife nicht stört
+            Enemy minion = minionEnemies.get(i);
             Node minionNode = minion.getNode();
             if (minionNode == null || !minion.isAlive()) {
                 if(minionNode != null) entityManager.getGamePane().getChildren().remove(minionNode);
-                iterator.remove(); continue;
+                minionEnemies.remove(i); continue;
             }
             if (!(minionNode.getUserData() instanceof double[])) {
-                System.err.println("Minion hat ungültige UserData: " + minionNode.getUserData());
-                iterator.remove();
+                LOG.warn("Minion hat ungültige UserData: {}", minionNode.getUserData());
+                minionEnemies.remove(i);
                 entityManager.getGamePane().getChildren().remove(minionNode);
                 continue;
             }
@@ -675,14 +713,15 @@ public class BossController {
                     break;
             }
             if (shouldRemove) {
-                iterator.remove(); entityManager.getGamePane().getChildren().remove(minionNode);
+                minionEnemies.remove(i); entityManager.getGamePane().getChildren().remove(minionNode);
             }
         }
     }
 
     private void returnBossForNextPhase(long now) {
-        System.out.println("BossController: Returning for Phase " + (bossPhase + 1));
+        if (!detached) LOG.info("Returning for Phase {}", bossPhase + 1);
         bossPhase++;
+        if (!detached) BossPhaseEvent.emit(bossPhase, "RETURN", minionEnemies.size());
         bossIsRetreating = false;
         bossIsOffScreen = false;
         isBossDivingDown = false;
@@ -692,13 +731,13 @@ public class BossController {
             ImageView bossView = (ImageView) boss.getNode();
             int newHealth = bossMaxHealth + (bossPhase - 1) * (GameDimensions.BOSS_HEALTH / 2);
             entityManager.resetBossHealth(newHealth);
-            System.out.println("BossController: Boss health reset to " + newHealth + " for phase " + bossPhase);
+            if (!detached) LOG.info("Boss health reset to {} for phase {}", newHealth, bossPhase);
 
             bossView.setLayoutX(gameDimensions.getWidth() / 2 - bossView.getFitWidth() / 2);
             bossView.setLayoutY(-bossView.getFitHeight() - 20);
             bossView.setVisible(true);
         } else {
-            System.err.println("BossController.returnBossForNextPhase(): Boss entity or node is not ImageView or is NULL!");
+            LOG.warn("BossController.returnBossForNextPhase(): Boss entity or node is not ImageView or is NULL!");
         }
 
         currentMovementState = BossMovementState.ENTERING;
@@ -714,10 +753,11 @@ public class BossController {
     }
 
     public void resetBoss() {
-        System.out.println("BossController: resetBoss() CALLED.");
+        LOG.debug("resetBoss() CALLED.");
         bossPhase = 1;
         bossIsRetreating = false;
         bossIsOffScreen = false;
+        minionWavePending = false;
         isBossDivingDown = false;
         currentMovementState = BossMovementState.ENTERING;
         movementStateStartTime = System.nanoTime();
@@ -732,37 +772,36 @@ public class BossController {
         }
     }
 
-    public boolean checkPlayerProjectileVsMinionCollisions(List<ImageView> playerProjectiles, UIManager uiManager) {
-        boolean hitDetectedOverall = false;
-        Iterator<ImageView> projIterator = playerProjectiles.iterator();
-        while (projIterator.hasNext()) {
-            ImageView projectile = projIterator.next();
-            Iterator<Enemy> minionIterator = minionEnemies.iterator();
-            // boolean projectileHitThisPass = false; // Nicht mehr benötigt, da Projektil direkt entfernt wird
-            while (minionIterator.hasNext()) {
-                Enemy minion = minionIterator.next();
-                if (minion.getNode() != null && minion.isAlive() && projectile.getBoundsInParent().intersects(minion.getNode().getBoundsInParent())) {
-                    minion.takeHit();
-                    if (!minion.isAlive()) {
-                        minionIterator.remove();
-                        entityManager.getGamePane().getChildren().remove(minion.getNode());
-                        uiManager.addScore(minion.getPoints());
-                    }
-                    hitDetectedOverall = true;
-                    // projectileHitThisPass = true;
-                    projIterator.remove(); // Projektil entfernen, nachdem es getroffen hat
-                    entityManager.removeProjectileNode(projectile); // Auch aus der gamePane entfernen
-                    break;
-                }
+    // Prüft ein einzelnes Spielerprojektil gegen die Minions. Das Projektil selbst verwaltet der Aufrufer.
+    // Getroffen wird der Minion, den der Schuss in diesem Tick zuerst berührt (Swept-Test).
+    public boolean checkPlayerProjectileVsMinionCollision(ImageView projectile) {
+        int hitIndex = -1;
+        double earliestImpact = Double.MAX_VALUE;
+        for (int i = 0; i < minionEnemies.size(); i++) {
+            Enemy minion = minionEnemies.get(i);
+            if (minion.getNode() == null || !minion.isAlive()) continue;
+            double impact = Collisions.timeOfImpact(projectile, minion.getNode());
+            if (impact >= 0 && impact < earliestImpact) {
+                earliestImpact = impact;
+                hitIndex = i;
             }
         }
-        return hitDetectedOverall;
+        if (hitIndex < 0) return false;
+
+        Enemy minion = minionEnemies.get(hitIndex);
+        minion.takeHit();
+        if (!minion.isAlive()) {
+            minionEnemies.remove(hitIndex);
+            entityManager.getEventBus().post(GameEventType.MINION_KILLED, minion.getNode(), minion.getPoints());
+        }
+        return true;
     }
     public boolean checkPlayerVsMinionCollisions(Player player) {
         if (player == null || player.getNode() == null) return false;
-        for (Enemy minion : minionEnemies) {
+        for (int i = 0; i < minionEnemies.size(); i++) {
+            Enemy minion = minionEnemies.get(i);
             if (minion.getNode() != null && minion.isAlive() &&
-                    player.getNode().getBoundsInParent().intersects(minion.getNode().getBoundsInParent())) {
+                    Collisions.intersects(player.getNode(), minion.getNode())) {
                 return true;
             }
         }
@@ -0,0 +1,34 @@
+package org.example.spaceinvaders;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/** JFR-Event für Phasenwechsel des Bosses (Rückzug, Rückkehr, besiegt). */
+@Name("spaceinvaders.BossPhase")
+@Label("Boss Phase")
+@Category({"Musical Invaders", "Gameplay"})
+@Description("Phasenwechsel des Bosses")
+@StackTrace(false)
+public class BossPhaseEvent extends jdk.jfr.Event {
+    @Label("Phase")
+    public int phase;
+
+    @Label("Action")
+    @Description("RETREAT, RETURN oder DEFEATED")
+    public String action;
+
+    @Label("Minions")
+    public int minions;
+
+    public static void emit(int phase, String action, int minions) {
+        BossPhaseEvent event = new BossPhaseEvent();
+        if (!event.shouldCommit()) return;
+        event.phase = phase;
+        event.action = action;
+        event.minions = minions;
+        event.commit();
+    }
+}
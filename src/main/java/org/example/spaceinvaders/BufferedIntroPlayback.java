@@ -0,0 +1,60 @@
+package org.example.spaceinvaders;
+
+import javafx.scene.media.AudioClip;
+
+import java.net.URL;
+
+/** Kurzer Intro-Clip, vollständig dekodiert als {@link AudioClip} (wie die SFX). */
+public final class BufferedIntroPlayback implements IntroPlayback {
+    private final URL url;
+    private final String resourcePath;
+    private final long fileBytes;
+    private AudioClip clip;
+
+    BufferedIntroPlayback(URL url, String resourcePath, long fileBytes) {
+        this.url = url;
+        this.resourcePath = resourcePath;
+        this.fileBytes = fileBytes;
+        load();
+    }
+
+    private void load() {
+        AssetLoadEvent loadEvent = AssetLoadEvent.start("audio", resourcePath);
+        try {
+            clip = new AudioClip(url.toExternalForm());
+            loadEvent.finish(true);
+        } catch (RuntimeException e) {
+            loadEvent.finish(false);
+            throw e;
+        }
+    }
+
+    @Override
+    public void play() {
+        if (clip == null) load();
+        clip.play();
+    }
+
+    @Override
+    public void stop() {
+        if (clip != null) clip.stop();
+    }
+
+    @Override
+    public boolean isPlaying() {
+        return clip != null && clip.isPlaying();
+    }
+
+    // Größe der WAV-Datei als Schätzung für den dekodierten Clip
+    @Override
+    public long getResidentBytes() {
+        return clip != null ? fileBytes : 0;
+    }
+
+    @Override
+    public boolean release() {
+        if (clip == null || clip.isPlaying()) return false;
+        clip = null;
+        return true;
+    }
+}
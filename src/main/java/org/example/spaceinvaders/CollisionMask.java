@@ -0,0 +1,139 @@
+package org.example.spaceinvaders;
+
+import javafx.geometry.Bounds;
+import javafx.scene.Node;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.scene.image.PixelReader;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Pixelgenaue Kollisionsmaske eines Sprites: ein Bit pro angezeigtem Pixel (Alpha über {@link #ALPHA_THRESHOLD}),
+ * zeilenweise in {@code long}s gepackt. Wird einmal pro Bild und Anzeigegröße aus dem PNG berechnet und gecacht;
+ * der Vergleich zweier Masken sind danach nur ein paar UND-Verknüpfungen pro Zeile. Der Cache hält die Bilder fest;
+ * alle Spiele benutzen dieselben Bilder aus {@link GameImages}, deshalb bleibt er bei ein paar Bildern und Größen.
+ * Der Cache ist synchronisiert, Spiele laufen auch außerhalb des FX-Threads ({@link JitWarmup},
+ * {@link SimulationThread}, Sessions des {@link GameServer}).
+ * <p>
+ * Abschalten mit {@code -Dspaceinvaders.pixelCollision=false} (dann gelten nur die Bounding-Boxen).
+ */
+public final class CollisionMask {
+    static final boolean ENABLED = !"false".equalsIgnoreCase(System.getProperty("spaceinvaders.pixelCollision"));
+    private static final int ALPHA_THRESHOLD = 128;
+    private static final String NODE_KEY = "collisionMask";
+    private static final Map<Key, CollisionMask> cache = new HashMap<>();
+
+    private record Key(Image image, int width, int height) {
+    }
+
+    private final Image image;
+    private final int width;
+    private final int height;
+    private final int wordsPerRow;
+    private final long[] bits;
+
+    private CollisionMask(Image image, int width, int height) {
+        this.image = image;
+        this.width = width;
+        this.height = height;
+        this.wordsPerRow = (width + 63) >>> 6;
+        this.bits = new long[wordsPerRow * height];
+
+        // Auf Anzeigegröße abtasten (Pixelmitte), wie das ImageView ohne Glättung skalieren würde
+        PixelReader reader = image.getPixelReader();
+        int imageWidth = (int) image.getWidth();
+        int imageHeight = (int) image.getHeight();
+        for (int y = 0; y < height; y++) {
+            int sourceY = Math.min(imageHeight - 1, (int) ((y + 0.5) * imageHeight / height));
+            int rowOffset = y * wordsPerRow;
+            for (int x = 0; x < width; x++) {
+                int sourceX = Math.min(imageWidth - 1, (int) ((x + 0.5) * imageWidth / width));
+                if ((reader.getArgb(sourceX, sourceY) >>> 24) >= ALPHA_THRESHOLD) {
+                    bits[rowOffset + (x >>> 6)] |= 1L << (x & 63);
+                }
+            }
+        }
+    }
+
+    /**
+     * Maske für ein ImageView in seiner aktuellen Anzeigegröße; null, wenn es keine gibt (kein Bild, Bild noch
+     * nicht geladen, anderer Node-Typ) – dann gilt der Node als voll ausgefüllt.
+     */
+    public static CollisionMask forNode(Node node) {
+        if (!ENABLED || !(node instanceof ImageView view)) return null;
+        Bounds bounds = view.getLayoutBounds();
+        return forView(view, bounds.getWidth(), bounds.getHeight());
+    }
+
+    /** Wie {@link #forNode(Node)} mit schon bekannter Anzeigegröße (Pool-Projektile, ohne Lesen der Layout-Bounds). */
+    public static CollisionMask forView(ImageView view, double boxWidth, double boxHeight) {
+        if (!ENABLED) return null;
+        Image image = view.getImage();
+        if (image == null || image.isError()) return null;
+        int width = (int) Math.round(boxWidth);
+        int height = (int) Math.round(boxHeight);
+        if (width <= 0 || height <= 0) return null;
+
+        // Letzte Maske hängt am Node; nur bei neuem Bild oder neuer Größe in den globalen Cache schauen
+        Object cached = view.getProperties().get(NODE_KEY);
+        if (cached instanceof CollisionMask mask && mask.image == image && mask.width == width && mask.height == height) {
+            return mask;
+        }
+        CollisionMask mask;
+        synchronized (cache) {
+            mask = cache.get(new Key(image, width, height));
+            if (mask == null) {
+                if (image.getPixelReader() == null || image.getWidth() <= 0 || image.getHeight() <= 0) return null;
+                mask = new CollisionMask(image, width, height);
+                cache.put(new Key(image, width, height), mask);
+            }
+        }
+        view.getProperties().put(NODE_KEY, mask);
+        return mask;
+    }
+
+    /** Maske vorab berechnen (z.B. beim Aufbau einer Welle), damit der erste Treffer keine Pixel lesen muss. */
+    public static void prepare(Node node) {
+        forNode(node);
+    }
+
+    /**
+     * Überlappen zwei Masken, deren linke obere Ecken bei (ax, ay) bzw. (bx, by) liegen? Fehlende Masken gelten als
+     * voll ausgefüllte Rechtecke der angegebenen Größe.
+     */
+    static boolean overlaps(CollisionMask a, int ax, int ay, int aWidth, int aHeight,
+                            CollisionMask b, int bx, int by, int bWidth, int bHeight) {
+        int left = Math.max(ax, bx);
+        int right = Math.min(ax + aWidth, bx + bWidth);
+        int top = Math.max(ay, by);
+        int bottom = Math.min(ay + aHeight, by + bHeight);
+        if (left >= right || top >= bottom) return false;
+        if (a == null && b == null) return true;
+
+        for (int y = top; y < bottom; y++) {
+            for (int x = left; x < right; x += 64) {
+                int count = Math.min(64, right - x);
+                long valid = count == 64 ? -1L : (1L << count) - 1;
+                long rowA = a != null ? a.bitsAt(y - ay, x - ax) : -1L;
+                long rowB = b != null ? b.bitsAt(y - by, x - bx) : -1L;
+                if ((rowA & rowB & valid) != 0) return true;
+            }
+        }
+        return false;
+    }
+
+    // 64 Bits der Zeile ab Spalte column (Bit 0 = column)
+    private long bitsAt(int row, int column) {
+        int word = column >>> 6;
+        int shift = column & 63;
+        int offset = row * wordsPerRow;
+        long value = bits[offset + word] >>> shift;
+        if (shift != 0 && word + 1 < wordsPerRow) value |= bits[offset + word + 1] << (64 - shift);
+        return value;
+    }
+
+    public int getWidth() { return width; }
+    public int getHeight() { return height; }
+}
@@ -0,0 +1,142 @@
+package org.example.spaceinvaders;
+
+import javafx.geometry.Bounds;
+import javafx.scene.Node;
+import javafx.scene.image.ImageView;
+
+/**
+ * Kollisionstests ohne {@code getBoundsInParent()}: das erzeugt bei jedem bewegten Node pro Frame ein neues
+ * Bounds-Objekt. Die Layout-Bounds ändern sich beim Verschieben nicht und bleiben gecacht, die Position kommt
+ * aus layoutX/Y + translateX/Y. Die Spiel-Nodes werden weder skaliert noch rotiert.
+ * <p>
+ * Nach einem Treffer der Bounding-Boxen entscheidet die {@link CollisionMask} der Sprites (Alphakanal).
+ * <p>
+ * Liegt das Ziel in einer verschobenen Ebene (Gegnerformation), wird mit deren Verschiebung in Ebenen-Koordinaten
+ * gerechnet: der andere Node wird um den Versatz zurückgerechnet, die Ziel-Nodes selbst bleiben unangetastet.
+ */
+public final class Collisions {
+    // Anzahl Tests seit dem letzten takeTestCount() (Spiel-Thread, für FrameTickEvent); Server-Sessions auf mehreren
+    // Threads zählen ungenau mit, das betrifft nur die Statistik
+    private static int testCount = 0;
+    private static final int MAX_SWEEP_SAMPLES = 16;
+
+    private Collisions() {
+    }
+
+    public static boolean intersects(Node a, Node b) {
+        return intersects(a, b, 0, 0);
+    }
+
+    /** Wie {@link #intersects(Node, Node)}, b liegt in einer Ebene mit Versatz (bParentX, bParentY) zu a. */
+    public static boolean intersects(Node a, Node b, double bParentX, double bParentY) {
+        testCount++;
+        Bounds boundsA = a.getLayoutBounds();
+        Bounds boundsB = b.getLayoutBounds();
+        double ax = a.getLayoutX() + a.getTranslateX() + boundsA.getMinX() - bParentX;
+        double ay = a.getLayoutY() + a.getTranslateY() + boundsA.getMinY() - bParentY;
+        double bx = b.getLayoutX() + b.getTranslateX() + boundsB.getMinX();
+        double by = b.getLayoutY() + b.getTranslateY() + boundsB.getMinY();
+        // gleiche (inklusive) Semantik wie Bounds.intersects
+        if (!(ax + boundsA.getWidth() >= bx && ax <= bx + boundsB.getWidth()
+                && ay + boundsA.getHeight() >= by && ay <= by + boundsB.getHeight())) {
+            return false;
+        }
+        if (!CollisionMask.ENABLED) return true;
+        return pixelsOverlap(CollisionMask.forNode(a), ax, ay, boundsA.getWidth(), boundsA.getHeight(),
+                CollisionMask.forNode(b), bx, by, boundsB.getWidth(), boundsB.getHeight());
+    }
+
+    // Feinphase: Masken an den (abgerundeten) Pixelpositionen vergleichen; ohne Masken zählt die Box
+    private static boolean pixelsOverlap(CollisionMask maskA, double ax, double ay, double aBoxWidth, double aBoxHeight,
+                                         CollisionMask maskB, double bx, double by, double bBoxWidth, double bBoxHeight) {
+        if (maskA == null && maskB == null) return true;
+        int aWidth = maskA != null ? maskA.getWidth() : (int) Math.ceil(aBoxWidth);
+        int aHeight = maskA != null ? maskA.getHeight() : (int) Math.ceil(aBoxHeight);
+        int bWidth = maskB != null ? maskB.getWidth() : (int) Math.ceil(bBoxWidth);
+        int bHeight = maskB != null ? maskB.getHeight() : (int) Math.ceil(bBoxHeight);
+        return CollisionMask.overlaps(maskA, (int) Math.floor(ax), (int) Math.floor(ay), aWidth, aHeight,
+                maskB, (int) Math.floor(bx), (int) Math.floor(by), bWidth, bHeight);
+    }
+
+    /**
+     * Swept-AABB-Test für ein Pool-Projektil: Das Projektil bewegt sich in diesem Tick linear von seiner gemerkten
+     * Position ({@link ProjectilePool#PREVIOUS_X}/{@link ProjectilePool#PREVIOUS_Y}) zur aktuellen, das Ziel gilt
+     * für den Tick als ruhend. Liefert den frühesten Berührzeitpunkt t in [0, 1] oder -1, wenn es keinen Treffer gibt.
+     * So kann ein schneller Schuss bei langen Frames oder niedriger Tickrate nicht durch kleine Ziele "tunneln".
+     * Innerhalb des Box-Zeitfensters wird die Strecke in Schritten von etwa halber Projektilgröße mit den
+     * Masken abgetastet.
+     * <p>
+     * Die Projektilgröße kommt aus dem Pool ({@link ProjectilePool#WIDTH}/{@link ProjectilePool#HEIGHT}): das
+     * Sichtbarschalten beim Wiederverwenden verwirft die Layout-Bounds, jedes erste Lesen danach legt eine neue
+     * BoundingBox an.
+     */
+    public static double timeOfImpact(ImageView projectile, Node target) {
+        return timeOfImpact(projectile, target, 0, 0);
+    }
+
+    /** Wie {@link #timeOfImpact(ImageView, Node)} für ein Ziel in einer Ebene mit Versatz (targetParentX/Y). */
+    public static double timeOfImpact(ImageView projectile, Node target, double targetParentX, double targetParentY) {
+        testCount++;
+        double[] data = ProjectilePool.data(projectile);
+        double width = data[ProjectilePool.WIDTH];
+        double height = data[ProjectilePool.HEIGHT];
+        Bounds boundsB = target.getLayoutBounds();
+        double offsetX = projectile.getTranslateX() + projectile.getX() - targetParentX;
+        double offsetY = projectile.getTranslateY() + projectile.getY() - targetParentY;
+        double startX = data[ProjectilePool.PREVIOUS_X] + offsetX;
+        double startY = data[ProjectilePool.PREVIOUS_Y] + offsetY;
+        double moveX = projectile.getLayoutX() + offsetX - startX;
+        double moveY = projectile.getLayoutY() + offsetY - startY;
+
+        // Ziel um die Projektilgröße aufblasen (Minkowski-Summe), dann Strahl gegen Box (Slab-Verfahren)
+        double bx = target.getLayoutX() + target.getTranslateX() + boundsB.getMinX();
+        double by = target.getLayoutY() + target.getTranslateY() + boundsB.getMinY();
+        double minX = bx - width;
+        double maxX = bx + boundsB.getWidth();
+        double minY = by - height;
+        double maxY = by + boundsB.getHeight();
+
+        double tEnter = 0.0;
+        double tExit = 1.0;
+        if (moveX == 0.0) {
+            if (startX < minX || startX > maxX) return -1;
+        } else {
+            double t0 = (minX - startX) / moveX;
+            double t1 = (maxX - startX) / moveX;
+            tEnter = Math.max(tEnter, Math.min(t0, t1));
+            tExit = Math.min(tExit, Math.max(t0, t1));
+            if (tEnter > tExit) return -1;
+        }
+        if (moveY == 0.0) {
+            if (startY < minY || startY > maxY) return -1;
+        } else {
+            double t0 = (minY - startY) / moveY;
+            double t1 = (maxY - startY) / moveY;
+            tEnter = Math.max(tEnter, Math.min(t0, t1));
+            tExit = Math.min(tExit, Math.max(t0, t1));
+            if (tEnter > tExit) return -1;
+        }
+        if (!CollisionMask.ENABLED) return tEnter;
+
+        CollisionMask projectileMask = CollisionMask.forView(projectile, width, height);
+        CollisionMask targetMask = CollisionMask.forNode(target);
+        if (projectileMask == null && targetMask == null) return tEnter;
+        double step = Math.max(1.0, Math.min(width, height) / 2);
+        double distance = Math.hypot(moveX, moveY) * (tExit - tEnter);
+        int samples = Math.min(MAX_SWEEP_SAMPLES, (int) Math.ceil(distance / step) + 1);
+        for (int i = 0; i < samples; i++) {
+            double t = samples == 1 ? tEnter : tEnter + (tExit - tEnter) * i / (samples - 1);
+            if (pixelsOverlap(projectileMask, startX + moveX * t, startY + moveY * t, width, height,
+                    targetMask, bx, by, boundsB.getWidth(), boundsB.getHeight())) {
+                return t;
+            }
+        }
+        return -1;
+    }
+
+    static int takeTestCount() {
+        int count = testCount;
+        testCount = 0;
+        return count;
+    }
+}
@@ -0,0 +1,118 @@
+package org.example.spaceinvaders;
+
+import javafx.scene.layout.Pane;
+
+/**
+ * Ein Spiel ohne Fenster: {@link GameEntityManager} und {@link GameUpdater} auf einer Pane, die in keiner Szene
+ * hängt, gesteuert über dieselbe Eingabe-Queue wie im Spiel. Jeder {@link #tick()} ist ein Frame auf einer eigenen
+ * Spielzeit; das Spiel beginnt mit dem ersten Tick. Ohne Sound. Zwei Varianten:
+ * <ul>
+ *   <li>{@link #DetachedGame(double, double)}: der {@link StressBot} spielt, nach Game Over oder Abspann beginnt
+ *       sofort ein neues Spiel (JIT-Warm-up, Allokationstest). Der Konstruktor lädt nur Bilder und baut Nodes, er
+ *       darf auch außerhalb des FX-Threads laufen; alles andere nur FX-Thread (Animationen der Meldungen laufen über
+ *       den Pulse).</li>
+ *   <li>{@link #DetachedGame(double, double, long)}: ein Client spielt über {@link #getInputHandler()}, ein Spiel
+ *       pro Objekt (Server-Session). Ohne Animationen, deshalb gehört das Spiel dem Thread, der es baut und tickt;
+ *       Eingaben darf genau ein anderer Thread liefern.</li>
+ * </ul>
+ */
+public class DetachedGame implements GameHost {
+    public static final long TICK_NANOS = 1_000_000_000L / 60;
+
+    private final GameEntityManager entityManager;
+    private final GameUpdater gameUpdater;
+    private final UIManager uiManager;
+    private final InputHandler inputHandler = new InputHandler();
+    private final StressBot bot; // null: Client spielt
+    private GameState state = GameState.MAIN_MENU;
+    private long now = System.nanoTime(); // gleiche Skala wie die Zeitstempel der Spielschleife
+    private int gamesStarted = 0;
+    private long frames = 0;
+
+    /** Vom {@link StressBot} gespieltes Dauerspiel. */
+    public DetachedGame(double width, double height) {
+        this(width, height, true);
+    }
+
+    /** Ein Spiel mit Eingaben von außen; der Seed legt Minion-Wellen und Angriffsmuster des Bosses fest. */
+    public DetachedGame(double width, double height, long seed) {
+        this(width, height, false);
+        uiManager.setAnimated(false);
+        entityManager.getBossController().setRandomSeed(seed);
+    }
+
+    private DetachedGame(double width, double height, boolean botControlled) {
+        GameDimensions gameDimensions = new GameDimensions(width, height);
+        Pane uiPane = new Pane();
+        this.uiManager = new UIManager(uiPane, gameDimensions, null);
+        this.entityManager = new GameEntityManager(new Pane(), gameDimensions, uiManager, null, this);
+        this.gameUpdater = new GameUpdater(entityManager, inputHandler, gameDimensions, uiManager, this, null);
+        this.bot = botControlled ? new StressBot(entityManager, inputHandler) : null;
+    }
+
+    private void startGame() {
+        entityManager.resetGame();
+        uiManager.resetScore();
+        state = GameState.PLAYING;
+        entityManager.createPlayer();
+        entityManager.spawnEnemyWaveInitial();
+        gamesStarted++;
+    }
+
+    /** Ein 60-Hz-Frame. */
+    public void tick() {
+        tick(TICK_NANOS);
+    }
+
+    /**
+     * Ein Frame mit {@code frameNanos} Spielzeit. Mit Bot beginnt nach dem Spielende sofort ein neues Spiel, sonst
+     * bleibt das Spiel in {@link GameState#GAME_OVER} bzw. {@link GameState#CREDITS} stehen.
+     */
+    public void tick(long frameNanos) {
+        if (gamesStarted == 0) startGame();
+        else if (bot == null && !isGameplayActive()) return;
+        now += frameNanos;
+        frames++;
+        if (bot != null) bot.update();
+        gameUpdater.update(now, frameNanos / 1_000_000_000.0);
+        if (bot != null && !isGameplayActive()) startGame();
+    }
+
+    /** Springt direkt zum Boss (ersetzt die laufende Welle). */
+    public void startBoss() {
+        if (gamesStarted == 0) startGame();
+        entityManager.createBoss();
+    }
+
+    public GameEntityManager getEntityManager() { return entityManager; }
+    public InputHandler getInputHandler() { return inputHandler; }
+    public int getGamesStarted() { return gamesStarted; }
+    public long getFrames() { return frames; }
+    public int getScore() { return uiManager.getCurrentScore(); }
+
+    /** Lebenspunkte des Bosses, 0 ohne Boss. */
+    public int getBossHealth() {
+        Enemy boss = entityManager.getBossEnemy();
+        return boss != null ? boss.getHealth() : 0;
+    }
+
+    @Override
+    public GameState getCurrentGameState() { return state; }
+
+    @Override
+    public void changeGameState(GameState newState) { state = newState; }
+
+    @Override
+    public boolean isGameplayActive() {
+        return state == GameState.PLAYING || state == GameState.LEVEL_TRANSITION;
+    }
+
+    @Override
+    public void triggerGameOver() { state = GameState.GAME_OVER; }
+
+    @Override
+    public VoiceProfile getSelectedVoiceProfile() { return null; }
+
+    @Override
+    public boolean isDetached() { return true; }
+}
@@ -5,15 +5,17 @@ import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 
 public class Enemy {
+    private static final GameLog LOG = GameLog.get(Enemy.class);
     private ImageView node;
     private int health;
     private final int points;
+    private int formationSlot = -1; // Slot in der EnemyFormation, -1 = gehört zu keiner Formation (Boss, Minions)
     // private Image enemyImage; // Nicht unbedingt nötig, da das Bild im ImageView gespeichert ist
 
     public Enemy(Image image, double width, double height, int initialHealth, int points) {
         // this.enemyImage = image; // Kann entfernt werden, wenn nicht anderweitig benötigt
         if (image == null || image.isError()) {
-            System.err.println("Fehlerhaftes oder fehlendes Bild für Enemy übergeben. Erstelle Dummy-Node.");
+            LOG.warn("Fehlerhaftes oder fehlendes Bild für Enemy übergeben. Erstelle Dummy-Node.");
             this.node = new ImageView(); // Leerer Node, um NPE zu vermeiden
             // Hier könnte man ein Fallback-Rechteck erstellen und dieses als Node setzen,
             // aber dann müsste der Typ von 'node' zu 'Node' geändert werden.
@@ -32,6 +34,8 @@ public class Enemy {
     }
     public int getHealth() { return health; }
     public int getPoints() { return points; }
+    public int getFormationSlot() { return formationSlot; }
+    public void setFormationSlot(int slot) { this.formationSlot = slot; }
     public boolean isAlive() { return health > 0; }
 
     public void takeHit() {
@@ -49,7 +53,7 @@ public class Enemy {
         if (this.node != null && newImage != null && !newImage.isError()) {
             this.node.setImage(newImage);
         } else if (newImage == null || newImage.isError()) {
-            System.err.println("Versuch, fehlerhaftes oder fehlendes Bild für Enemy zu setzen.");
+            LOG.warn("Versuch, fehlerhaftes oder fehlendes Bild für Enemy zu setzen.");
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,186 @@
+package org.example.spaceinvaders;
+
+import java.util.Arrays;
+
+/**
+ * Gegnerformation als festes Raster: jeder Gegner hat einen Slot (Reihe, Spalte), dazu Bitsets der lebenden
+ * Gegner pro Reihe und pro Spalte. Linker/rechter Rand und unterste Reihe werden nur bei einem Abschuss neu
+ * bestimmt und sind sonst O(1) abfragbar, ebenso der vorderste Gegner einer Spalte (klassisches Schießen von unten).
+ * <p>
+ * Die Position der Formation ist der Ursprung (linke obere Ecke von Slot 0,0); ein Slot liegt bei
+ * {@code origin + spalte * stepX / reihe * stepY}. Im Spiel ist der Ursprung die Verschiebung der Formationsebene,
+ * die Gegner-Nodes darin stehen fest auf {@code spalte * stepX / reihe * stepY}.
+ */
+public class EnemyFormation {
+    private int rows;
+    private int columns;
+    private int rowWords;
+    private int columnWords;
+    private Enemy[] slots = new Enemy[0];
+    private long[] rowAlive = new long[0];      // pro Reihe: Bit c = Spalte c lebt
+    private long[] columnAlive = new long[0];   // pro Spalte: Bit r = Reihe r lebt
+    private long[] occupiedColumns = new long[0];
+    private long[] occupiedRows = new long[0];
+    private int aliveCount;
+
+    private int leftColumn = -1;
+    private int rightColumn = -1;
+    private int lowestRow = -1;
+
+    private double originX;
+    private double originY;
+    private double stepX;
+    private double stepY;
+    private double enemyWidth;
+    private double enemyHeight;
+
+    /** Leeres Raster für eine neue Welle anlegen (Arrays werden wiederverwendet, wenn sie groß genug sind). */
+    public void reset(int rows, int columns, double originX, double originY, double stepX, double stepY,
+                      double enemyWidth, double enemyHeight) {
+        this.rows = rows;
+        this.columns = columns;
+        this.rowWords = (rows + 63) >>> 6;
+        this.columnWords = (columns + 63) >>> 6;
+        this.originX = originX;
+        this.originY = originY;
+        this.stepX = stepX;
+        this.stepY = stepY;
+        this.enemyWidth = enemyWidth;
+        this.enemyHeight = enemyHeight;
+
+        slots = ensure(slots, rows * columns);
+        rowAlive = ensure(rowAlive, rows * columnWords);
+        columnAlive = ensure(columnAlive, columns * rowWords);
+        occupiedColumns = ensure(occupiedColumns, columnWords);
+        occupiedRows = ensure(occupiedRows, rowWords);
+        Arrays.fill(slots, null);
+        Arrays.fill(rowAlive, 0);
+        Arrays.fill(columnAlive, 0);
+        Arrays.fill(occupiedColumns, 0);
+        Arrays.fill(occupiedRows, 0);
+        aliveCount = 0;
+        leftColumn = rightColumn = lowestRow = -1;
+    }
+
+    public void clear() {
+        reset(0, 0, 0, 0, 0, 0, 0, 0);
+    }
+
+    /** Gegner in seinen Slot ({@link Enemy#getFormationSlot()}) eintragen. */
+    public void place(Enemy enemy) {
+        int slot = enemy.getFormationSlot();
+        if (slot < 0 || slot >= rows * columns || slots[slot] != null) return;
+        int row = slot / columns;
+        int column = slot % columns;
+        slots[slot] = enemy;
+        setBit(rowAlive, row * columnWords, column);
+        setBit(columnAlive, column * rowWords, row);
+        setBit(occupiedColumns, 0, column);
+        setBit(occupiedRows, 0, row);
+        aliveCount++;
+        if (leftColumn < 0 || column < leftColumn) leftColumn = column;
+        if (column > rightColumn) rightColumn = column;
+        if (row > lowestRow) lowestRow = row;
+    }
+
+    /** Abschuss: Bits löschen, Ränder nur neu bestimmen, wenn eine Randspalte/-reihe leer geworden ist. */
+    public void remove(Enemy enemy) {
+        int slot = enemy.getFormationSlot();
+        if (slot < 0 || slot >= rows * columns || slots[slot] != enemy) return;
+        int row = slot / columns;
+        int column = slot % columns;
+        slots[slot] = null;
+        aliveCount--;
+        clearBit(rowAlive, row * columnWords, column);
+        clearBit(columnAlive, column * rowWords, row);
+
+        if (isEmpty(columnAlive, column * rowWords, rowWords)) {
+            clearBit(occupiedColumns, 0, column);
+            if (column == leftColumn) leftColumn = firstSet(occupiedColumns, 0, columnWords);
+            if (column == rightColumn) rightColumn = lastSet(occupiedColumns, 0, columnWords);
+        }
+        if (isEmpty(rowAlive, row * columnWords, columnWords)) {
+            clearBit(occupiedRows, 0, row);
+            if (row == lowestRow) lowestRow = lastSet(occupiedRows, 0, rowWords);
+        }
+    }
+
+    public void translate(double dx, double dy) {
+        originX += dx;
+        originY += dy;
+    }
+
+    public int getAliveCount() { return aliveCount; }
+    public int getRows() { return rows; }
+    public int getColumns() { return columns; }
+    public int getLeftColumn() { return leftColumn; }
+    public int getRightColumn() { return rightColumn; }
+    public int getLowestRow() { return lowestRow; }
+
+    public double getLeftEdge() { return originX + leftColumn * stepX; }
+    public double getRightEdge() { return originX + rightColumn * stepX + enemyWidth; }
+    public double getBottomEdge() { return originY + lowestRow * stepY + enemyHeight; }
+
+    public double getOriginX() { return originX; }
+    public double getOriginY() { return originY; }
+    public void setOrigin(double x, double y) {
+        originX = x;
+        originY = y;
+    }
+
+    public double getSlotX(int slot) { return originX + (slot % columns) * stepX; }
+    public double getSlotY(int slot) { return originY + (slot / columns) * stepY; }
+    public int rowOf(int slot) { return slot / columns; }
+    public int columnOf(int slot) { return slot % columns; }
+
+    /** Vorderster (unterster) lebender Gegner der Spalte oder null. */
+    public Enemy getFrontLineEnemy(int column) {
+        if (column < 0 || column >= columns) return null;
+        int row = lastSet(columnAlive, column * rowWords, rowWords);
+        return row < 0 ? null : slots[row * columns + column];
+    }
+
+    /** Bitset der Spalten, in denen noch Gegner leben (Kopie). */
+    public long[] getOccupiedColumns() {
+        return Arrays.copyOf(occupiedColumns, columnWords);
+    }
+
+    // --- Bit-Hilfen über mehrere longs ---
+
+    private static void setBit(long[] bits, int offset, int index) {
+        bits[offset + (index >>> 6)] |= 1L << (index & 63);
+    }
+
+    private static void clearBit(long[] bits, int offset, int index) {
+        bits[offset + (index >>> 6)] &= ~(1L << (index & 63));
+    }
+
+    private static boolean isEmpty(long[] bits, int offset, int words) {
+        for (int i = 0; i < words; i++) if (bits[offset + i] != 0) return false;
+        return true;
+    }
+
+    private static int firstSet(long[] bits, int offset, int words) {
+        for (int i = 0; i < words; i++) {
+            long word = bits[offset + i];
+            if (word != 0) return (i << 6) + Long.numberOfTrailingZeros(word);
+        }
+        return -1;
+    }
+
+    private static int lastSet(long[] bits, int offset, int words) {
+        for (int i = words - 1; i >= 0; i--) {
+            long word = bits[offset + i];
+            if (word != 0) return (i << 6) + 63 - Long.numberOfLeadingZeros(word);
+        }
+        return -1;
+    }
+
+    private static Enemy[] ensure(Enemy[] array, int size) {
+        return array.length >= size ? array : new Enemy[size];
+    }
+
+    private static long[] ensure(long[] array, int size) {
+        return array.length >= size ? array : new long[size];
+    }
+}
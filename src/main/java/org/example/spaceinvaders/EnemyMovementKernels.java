@@ -0,0 +1,75 @@
+package org.example.spaceinvaders;
+
+/**
+ * Bewegungs-Kernels für die Gegnerformation auf primitiven Arrays (x, y, Breite, Höhe pro Gegner).
+ * Wenn das Modul {@code jdk.incubator.vector} geladen ist (JVM-Option {@code --add-modules jdk.incubator.vector}),
+ * laufen die Kernels über die Vector API, sonst über die skalaren Schleifen hier.
+ * Mit {@code -Dspaceinvaders.scalarKernels=true} lässt sich die skalare Variante erzwingen (z.B. zum Vergleichen).
+ */
+public final class EnemyMovementKernels {
+    static final double TWO_PI = Math.PI * 2;
+    static final double INV_TWO_PI = 1.0 / TWO_PI;
+    // (x + 1.5 * 2^52) - 1.5 * 2^52 rundet x auf die nächste ganze Zahl, ohne Verzweigung (auch lane-weise)
+    static final double ROUND_MAGIC = 6755399441055744.0;
+    static final double SIN_C3 = -1.0 / 6.0;
+    static final double SIN_C5 = 1.0 / 120.0;
+    static final double SIN_C7 = -1.0 / 5040.0;
+    static final double SIN_C9 = 1.0 / 362880.0;
+
+    private static final boolean VECTOR_ENABLED = detectVectorSupport();
+
+    private EnemyMovementKernels() {
+    }
+
+    private static boolean detectVectorSupport() {
+        if (Boolean.getBoolean("spaceinvaders.scalarKernels")) return false;
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) return false;
+        try {
+            return VectorEnemyMovementKernels.laneCount() > 1;
+        } catch (LinkageError e) {
+            return false;
+        }
+    }
+
+    public static boolean isVectorEnabled() {
+        return VECTOR_ENABLED;
+    }
+
+    /**
+     * Sinus-Formation (Welle 3): x = baseX + sin((waveTime + phase) * frequency) * amplitude, geklemmt auf
+     * [leftLimit, rightLimit - Breite]; y wandert um dy nach unten. Liefert die tiefste Unterkante.
+     */
+    public static double formationWave(double[] xs, double[] ys, double[] widths, double[] heights,
+                                       double[] baseXs, double[] phases, int count,
+                                       double waveTime, double frequency, double amplitude, double dy,
+                                       double leftLimit, double rightLimit) {
+        return VECTOR_ENABLED
+                ? VectorEnemyMovementKernels.formationWave(xs, ys, widths, heights, baseXs, phases, count,
+                        waveTime, frequency, amplitude, dy, leftLimit, rightLimit)
+                : scalarFormationWave(xs, ys, widths, heights, baseXs, phases, count,
+                        waveTime, frequency, amplitude, dy, leftLimit, rightLimit);
+    }
+
+    /** Sinus-Näherung (Reduktion auf [-pi/2, pi/2] + Taylor-Polynom 9. Grades, Fehler < 4e-6). */
+    public static double fastSin(double x) {
+        double k = (x * INV_TWO_PI + ROUND_MAGIC) - ROUND_MAGIC;
+        double y = x - k * TWO_PI;
+        y = Math.max(Math.min(y, Math.PI - y), -Math.PI - y);
+        double y2 = y * y;
+        return y * (1.0 + y2 * (SIN_C3 + y2 * (SIN_C5 + y2 * (SIN_C7 + y2 * SIN_C9))));
+    }
+
+    static double scalarFormationWave(double[] xs, double[] ys, double[] widths, double[] heights,
+                                      double[] baseXs, double[] phases, int count,
+                                      double waveTime, double frequency, double amplitude, double dy,
+                                      double leftLimit, double rightLimit) {
+        double maxBottom = -Double.MAX_VALUE;
+        for (int i = 0; i < count; i++) {
+            double targetX = baseXs[i] + fastSin((waveTime + phases[i]) * frequency) * amplitude;
+            xs[i] = Math.max(leftLimit, Math.min(targetX, rightLimit - widths[i]));
+            ys[i] += dy;
+            maxBottom = Math.max(maxBottom, ys[i] + heights[i]);
+        }
+        return maxBottom;
+    }
+}
@@ -0,0 +1,62 @@
+package org.example.spaceinvaders;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * JFR-Event für einen Simulationsschritt ({@link GameUpdater#update}). Die Dauer des Events ist der ganze Schritt,
+ * die Felder zerlegen ihn in Teilphasen. Wird nur angelegt, wenn eine Aufzeichnung das Event aktiviert hat.
+ */
+@Name("spaceinvaders.FrameTick")
+@Label("Frame Tick")
+@Category({"Musical Invaders", "Game Loop"})
+@Description("Ein Update des Spielzustands mit Dauer der Teilphasen")
+@StackTrace(false)
+public class FrameTickEvent extends jdk.jfr.Event {
+    private static final EventType TYPE = EventType.getEventType(FrameTickEvent.class);
+
+    @Label("Wave")
+    public int wave;
+
+    @Label("Boss Active")
+    public boolean bossActive;
+
+    @Label("Enemies")
+    public int enemies;
+
+    @Label("Projectiles")
+    public int projectiles;
+
+    @Label("Input") @Timespan(Timespan.NANOSECONDS)
+    public long inputNanos;
+
+    @Label("Player And Shots") @Timespan(Timespan.NANOSECONDS)
+    public long playerNanos;
+
+    @Label("Enemy Or Boss Movement") @Timespan(Timespan.NANOSECONDS)
+    public long movementNanos;
+
+    @Label("Collisions") @Timespan(Timespan.NANOSECONDS)
+    public long collisionNanos;
+
+    @Label("Event Flush") @Timespan(Timespan.NANOSECONDS)
+    public long flushNanos;
+
+    @Label("Collision Tests")
+    @Description("Anzahl der AABB-/Swept-Tests in diesem Schritt")
+    public int collisionTests;
+
+    @Label("Pool Misses")
+    @Description("Projektil-Nodes, die in diesem Schritt neu angelegt werden mussten")
+    public int poolMisses;
+
+    /** Billiger Vorab-Check, damit ohne aktive Aufzeichnung kein Event-Objekt entsteht. */
+    public static boolean isTypeEnabled() {
+        return TYPE.isEnabled();
+    }
+}
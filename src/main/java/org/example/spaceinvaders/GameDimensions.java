@@ -1,6 +1,7 @@
 package org.example.spaceinvaders;
 
 public class GameDimensions {
+    private static final GameLog LOG = GameLog.get(GameDimensions.class);
     private final double width;
     private final double height;
 
@@ -37,8 +38,8 @@ public class GameDimensions {
         // Verwendung der vollen Fenstergröße ohne -10
         this.width = windowWidth;
         this.height = windowHeight;
-        System.out.println("Window width: " + windowWidth);
-        System.out.println("Window height: " + windowHeight);
+        LOG.debug("Window width: {}", windowWidth);
+        LOG.debug("Window height: {}", windowHeight);
 //1920 x 1080 zb.
         this.playerWidth = windowWidth * PLAYER_WIDTH_RATIO;
         this.playerHeight = windowHeight * PLAYER_HEIGHT_RATIO;
@@ -1,25 +1,26 @@
 package org.example.spaceinvaders;
 
-import javafx.animation.PauseTransition;
 import javafx.application.Platform;
+import javafx.scene.CacheHint;
+import javafx.scene.Group;
 import javafx.scene.Node;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.Pane;
 // import javafx.scene.paint.Color; // Kaum noch direkt verwendet
 // import javafx.scene.shape.Rectangle; // Kaum noch direkt verwendet
-import javafx.util.Duration;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
 
 public class GameEntityManager {
+    private static final GameLog LOG = GameLog.get(GameEntityManager.class);
     private Pane gamePane;
     private GameDimensions gameDimensions;
     private UIManager uiManager;
     private BossController bossController;
-    private MusicalInvaders mainApp;
+    private GameHost mainApp;
 
     private Image enemyGreenEyeImage;
     private Image enemyPurpleEyeImage;
@@ -38,30 +39,55 @@ public class GameEntityManager {
     private double enemyGroupSpeedX;
     private double enemyGroupSpeedY;
     private boolean moveDownNextCycle = false;
+    // Aktuelle Formationsgröße (im Stresstest größer als ENEMY_ROWS x ENEMIES_PER_ROW)
+    private int formationRows = GameDimensions.ENEMY_ROWS;
+    private int formationColumns = GameDimensions.ENEMIES_PER_ROW;
+    private double formationSpacingX;
 
     private Player player;
     private List<Enemy> enemies = new ArrayList<>();
     private List<ImageView> playerProjectiles = new ArrayList<>();
     private Random random = new Random(); // Wird hier nicht direkt verwendet, aber oft nützlich
-
-
-    public GameEntityManager(Pane gamePane, GameDimensions gameDimensions, UIManager uiManager, SoundManager soundManager, MusicalInvaders mainApp) {
+    private final GameEventBus eventBus = new GameEventBus(256);
+    private final boolean detached; // Spiel ohne Fenster: keine JFR-Ereignisse
+    private ProjectilePool playerProjectilePool;
+    private final WaveBuilder waveBuilder;
+    private final EnemyFormation formation = new EnemyFormation();
+    // Alle Gegner einer Welle in einer Ebene: Reihen-/Schrittbewegung verschiebt nur diese eine Group
+    private final Group formationLayer = new Group();
+    // Verzögerte Spiel-Logik auf der Spielzeit (steht still, solange pausiert ist)
+    private final GameScheduler scheduler = new GameScheduler();
+    private BeatClock beatClock = BeatClock.unsynced();
+    private static final long WAVE_TRANSITION_NANOS = 2_000_000_000L;
+    private static final long BOSS_TRANSITION_NANOS = 2_500_000_000L;
+    private final Runnable endTransitionDelay = () -> transitionDelayElapsed = true;
+    private boolean transitionDelayElapsed;
+
+
+    public GameEntityManager(Pane gamePane, GameDimensions gameDimensions, UIManager uiManager, SoundManager soundManager, GameHost mainApp) {
         this.gamePane = gamePane;
         this.gameDimensions = gameDimensions;
         this.uiManager = uiManager;
         this.mainApp = mainApp;
-
+        this.detached = mainApp.isDetached();
+        this.playerProjectilePool = new ProjectilePool(gamePane, false);
+        this.formationLayer.setCache(true);
+        this.formationLayer.setCacheHint(CacheHint.SPEED);
+        this.gamePane.getChildren().add(formationLayer);
+        this.waveBuilder = new WaveBuilder(gamePane, formationLayer);
+        this.formationSpacingX = gameDimensions.getEnemySpacingX();
+
+        // Bilder kommen aus dem gemeinsamen Cache, neue Spiele laden nichts nach
         try {
-            enemyGreenEyeImage = loadImage("/images/enemy_eye_green.png");
-            enemyPurpleEyeImage = loadImage("/images/enemy_eye_purple.png");
-            bossEyesImage = loadImage("/images/boss_eyes.png");
-            playerCometShotImage = loadImage("/images/comet_shot.png");
-            playerBeerShotImage = loadImage("/images/beer_shot.png");
-            bossCometShotImage = loadImage("/images/pistol_bullet1.png");
+            enemyGreenEyeImage = GameImages.get("/images/enemy_eye_green.png");
+            enemyPurpleEyeImage = GameImages.get("/images/enemy_eye_purple.png");
+            bossEyesImage = GameImages.get("/images/boss_eyes.png");
+            playerCometShotImage = GameImages.get("/images/comet_shot.png");
+            playerBeerShotImage = GameImages.get("/images/beer_shot.png");
+            bossCometShotImage = GameImages.get("/images/pistol_bullet1.png");
 
         } catch (RuntimeException e) {
-            System.err.println("Ein oder mehrere kritische Spielgrafiken konnten nicht geladen werden. Spiel wird beendet.");
-            e.printStackTrace();
+            LOG.error("Ein oder mehrere kritische Spielgrafiken konnten nicht geladen werden. Spiel wird beendet.", e);
             Platform.exit();
             return;
         }
@@ -74,25 +100,6 @@ public class GameEntityManager {
         resetInitialStateFlags();
     }
 
-    private Image loadImage(String path) {
-        try {
-            Image img = new Image(getClass().getResourceAsStream(path));
-            if (img.isError()) {
-                System.err.println("Fehler beim Laden des Bildes: " + path);
-                System.err.println("Exception: " + (img.getException() != null ? img.getException().getMessage() : "Unbekannter Bildladefehler"));
-                throw new RuntimeException("Konnte Bild nicht laden: " + path, img.getException());
-            }
-            System.out.println("Bild geladen: " + path);
-            return img;
-        } catch (NullPointerException e) {
-            System.err.println("Bildressource nicht gefunden (NullPointerException): " + path);
-            throw new RuntimeException("Bildressource nicht gefunden: " + path, e);
-        } catch (Exception e) {
-            System.err.println("Allgemeiner Fehler beim Laden des Bildes: " + path);
-            throw new RuntimeException("Allgemeiner Fehler beim Laden des Bildes: " + path, e);
-        }
-    }
-
     private void resetInitialStateFlags() {
         this.bossEnemy = null;
         this.bossActive = false;
@@ -107,53 +114,66 @@ public class GameEntityManager {
 
     public void createPlayer() {
         this.player = new Player(gameDimensions);
+        CollisionMask.prepare(player.getNode());
         if (player.getNode() != null && player.getNode().getScene() == null) {
             if (!gamePane.getChildren().contains(player.getNode())) {
                 gamePane.getChildren().add(player.getNode());
             }
         } else if (player.getNode() == null) {
-            System.err.println("Spieler-Node ist null nach Erstellung!");
+            LOG.warn("Spieler-Node ist null nach Erstellung!");
         }
     }
 
     public void createEnemies() {
         if (bossActive) return;
 
-        for (Enemy oldEnemy : new ArrayList<>(enemies)) {
-            if (oldEnemy.getNode() != null) gamePane.getChildren().remove(oldEnemy.getNode());
-        }
-        enemies.clear();
+        clearEnemies();
+        planEnemyWave();
+        waveBuilder.step(Long.MAX_VALUE);
+        enemies.addAll(waveBuilder.activate(formation));
+        attachFormationLayer();
+    }
+
+    // Formation für die aktuelle Welle berechnen und im WaveBuilder einplanen (noch keine Nodes)
+    private void planEnemyWave() {
+        StressConfig stressConfig = StressConfig.get();
+        formationRows = stressConfig.formationRows(Math.max(1, currentWaveNumber));
+        formationColumns = stressConfig.formationColumns(Math.max(1, currentWaveNumber));
 
         double enemyWidth = gameDimensions.getEnemyWidth() * 0.75;
         double enemyHeight = gameDimensions.getEnemyHeight() * 0.75;
-
-        double startX = (gameDimensions.getWidth() - (GameDimensions.ENEMIES_PER_ROW * (enemyWidth + gameDimensions.getEnemySpacingX()) - gameDimensions.getEnemySpacingX())) / 2;
+        double spacingX = gameDimensions.getEnemySpacingX();
+        double spacingY = gameDimensions.getEnemySpacingY();
+
+        // Große (Stresstest-)Formationen verkleinern, damit sie auf 90% der Breite / 45% der Höhe passen
+        double formationWidth = formationColumns * (enemyWidth + spacingX) - spacingX;
+        double formationHeight = formationRows * (enemyHeight + spacingY) - spacingY;
+        double fit = Math.min(1.0, Math.min(gameDimensions.getWidth() * 0.9 / formationWidth, gameDimensions.getHeight() * 0.45 / formationHeight));
+        enemyWidth *= fit;
+        enemyHeight *= fit;
+        spacingX *= fit;
+        spacingY *= fit;
+        formationSpacingX = spacingX;
+
+        double startX = (gameDimensions.getWidth() - (formationColumns * (enemyWidth + spacingX) - spacingX)) / 2;
         double startY = gameDimensions.getHeight() * 0.10;
 
-        for (int row = 0; row < GameDimensions.ENEMY_ROWS; row++) {
-            for (int col = 0; col < GameDimensions.ENEMIES_PER_ROW; col++) {
-                Image currentEnemyImg = (row < GameDimensions.ENEMY_ROWS / 2) ? enemyPurpleEyeImage : enemyGreenEyeImage;
-                if (currentEnemyImg == null || currentEnemyImg.isError()){ // Zusätzlicher Check
-                    System.err.println("Fehlerhaftes Bild für normalen Gegner, überspringe Erstellung.");
-                    continue;
-                }
-
-                Enemy newLogicalEnemy = new Enemy(currentEnemyImg, enemyWidth, enemyHeight, 1, GameDimensions.POINTS_PER_ENEMY);
-
-                Node enemyNode = newLogicalEnemy.getNode();
-                double x = startX + col * (enemyWidth + gameDimensions.getEnemySpacingX());
-                double y = startY + row * (enemyHeight + gameDimensions.getEnemySpacingY());
-                enemyNode.setLayoutX(x);
-                enemyNode.setLayoutY(y);
-
-                enemies.add(newLogicalEnemy);
-                if (!gamePane.getChildren().contains(enemyNode)) {
-                    gamePane.getChildren().add(enemyNode);
-                }
-            }
+        waveBuilder.beginWave(formationRows, formationColumns, enemyPurpleEyeImage, enemyGreenEyeImage,
+                enemyWidth, enemyHeight, startX, startY, enemyWidth + spacingX, enemyHeight + spacingY);
+    }
+
+    public void clearEnemies() {
+        for (Enemy oldEnemy : enemies) {
+            if (oldEnemy.getNode() != null) removeEnemyNode(oldEnemy.getNode());
         }
+        enemies.clear();
+        formation.clear();
     }
 
+    public int getFormationRows() { return formationRows; }
+    public int getFormationColumns() { return formationColumns; }
+    public double getFormationSpacingX() { return formationSpacingX; }
+
     public void createProjectile() {
         if (player == null) return;
 
@@ -168,11 +188,10 @@ public class GameEntityManager {
         }
 
         if (projectileImageToUse == null || projectileImageToUse.isError()) {
-            System.err.println("Projektilbild nicht geladen oder fehlerhaft, Schuss wird nicht erstellt.");
+            LOG.warn("Projektilbild nicht geladen oder fehlerhaft, Schuss wird nicht erstellt.");
             return;
         }
 
-        ImageView projectileNode = new ImageView(projectileImageToUse);
         double projWidth, projHeight;
 
         if (projectileImageToUse == playerBeerShotImage) {
@@ -183,50 +202,57 @@ public class GameEntityManager {
             projHeight = gameDimensions.getProjectileHeight() * 2.0;
         }
 
-        projectileNode.setFitWidth(projWidth);
-        projectileNode.setFitHeight(projHeight);
-        projectileNode.setPreserveRatio(true);
+        ImageView projectileNode = playerProjectilePool.acquire(projectileImageToUse, projWidth, projHeight);
 
         projectileNode.setLayoutX(player.getX() + player.getWidth() / 2 - projectileNode.getFitWidth() / 2);
         projectileNode.setLayoutY(player.getY() - projectileNode.getFitHeight());
+        ProjectilePool.markPosition(projectileNode);
 
         playerProjectiles.add(projectileNode);
-        gamePane.getChildren().add(projectileNode);
+    }
+
+    // Gibt ein Spieler-Projektil an den Pool zurück (Node bleibt unsichtbar in der Pane)
+    public void releasePlayerProjectile(Node projectileNode) {
+        if (projectileNode instanceof ImageView) {
+            playerProjectilePool.release((ImageView) projectileNode);
+        }
     }
 
     public void createBoss() {
+        if (!planBoss()) return;
+        waveBuilder.step(Long.MAX_VALUE);
+        activateBoss();
+    }
+
+    private boolean planBoss() {
         if(bossActive || bossEyesImage == null || bossEyesImage.isError()){
-            System.err.println("Boss kann nicht erstellt werden. Aktiv: " + bossActive + ", Bild geladen: " + (bossEyesImage != null && !bossEyesImage.isError()));
-            return;
+            LOG.warn("Boss kann nicht erstellt werden. Aktiv: {}, Bild geladen: {}", bossActive, bossEyesImage != null && !bossEyesImage.isError());
+            return false;
         }
-        for(Enemy oldEnemy : new ArrayList<>(enemies)) {
-            if(oldEnemy.getNode() != null) gamePane.getChildren().remove(oldEnemy.getNode());
-        }
-        enemies.clear();
-
         double bossSpriteAspectRatio = bossEyesImage.getWidth() / bossEyesImage.getHeight();
         double bossDisplayWidth = gameDimensions.getWidth() * 0.4;
         double bossDisplayHeight = bossDisplayWidth / bossSpriteAspectRatio;
+        waveBuilder.beginBoss(bossEyesImage, bossDisplayWidth, bossDisplayHeight);
+        return true;
+    }
 
-        this.bossEnemy = new Enemy(bossEyesImage, bossDisplayWidth, bossDisplayHeight, GameDimensions.BOSS_HEALTH, GameDimensions.BOSS_POINTS);
-
-        this.bossActive = true;
-        if (bossEnemy.getNode() != null && bossEnemy.getNode().getScene() == null) {
-            if(!gamePane.getChildren().contains(bossEnemy.getNode())){
-                gamePane.getChildren().add(bossEnemy.getNode());
-            }
+    private void activateBoss() {
+        clearEnemies();
+        this.bossEnemy = waveBuilder.activateBoss();
+        if (bossEnemy == null) {
+            isLoadingNextWave = false;
+            return;
         }
+        this.bossActive = true;
         uiManager.showBossSpawnMessage();
         bossController.initializeBoss();
         isLoadingNextWave = false;
     }
 
     public void removeProjectile(Node projectileNode) {
-        if (projectileNode != null && gamePane.getChildren().contains(projectileNode)) {
-            gamePane.getChildren().remove(projectileNode);
-            if (projectileNode instanceof ImageView) {
-                playerProjectiles.remove((ImageView) projectileNode);
-            }
+        if (projectileNode instanceof ImageView) {
+            playerProjectiles.remove((ImageView) projectileNode);
+            playerProjectilePool.release((ImageView) projectileNode);
         }
     }
 
@@ -248,11 +274,16 @@ public class GameEntityManager {
             isLoadingNextWave = true;
             currentWaveNumber = 1;
             createEnemies();
+            if (!detached) WaveEvent.emit(currentWaveNumber, "START", enemies.size());
             uiManager.showWaveStartMessage(currentWaveNumber);
             isLoadingNextWave = false;
         }
     }
 
+    /**
+     * Startet den Übergang zur nächsten Welle bzw. zum Boss: Zustand LEVEL_TRANSITION, der Aufbau läuft über
+     * {@link #updateLevelTransition()} verteilt auf die Frames der Wartezeit.
+     */
     public void spawnNextWaveOrBoss() {
         if(isLoadingNextWave) { return; }
         isLoadingNextWave = true;
@@ -264,24 +295,39 @@ public class GameEntityManager {
             return;
         }
 
-        boolean spawnBossNow = (currentWaveNumber >= GameDimensions.WAVE_NUMBER_TO_SPAWN_BOSS && !bossHasSpawnedThisGameCycle);
+        if (!detached) WaveEvent.emit(currentWaveNumber - 1, "CLEARED", 0);
+        boolean spawnBossNow = (currentWaveNumber >= StressConfig.get().getBossWave() && !bossHasSpawnedThisGameCycle);
 
-        if(spawnBossNow){
+        transitionDelayElapsed = false;
+        if(spawnBossNow && planBoss()){
+            if (!detached) WaveEvent.emit(currentWaveNumber, "BOSS_INCOMING", 0);
             uiManager.showBossSpawnMessage();
-            PauseTransition bossPause = new PauseTransition(Duration.seconds(2.5));
-            bossPause.setOnFinished(event -> {
-                bossHasSpawnedThisGameCycle = true;
-                createBoss();
-            });
-            bossPause.play();
+            scheduler.schedule(BOSS_TRANSITION_NANOS, endTransitionDelay);
         }else{
             uiManager.showWaveClearMessage(currentWaveNumber);
-            PauseTransition wavePause = new PauseTransition(Duration.seconds(2));
-            wavePause.setOnFinished(event -> {
-                createEnemies();
-                isLoadingNextWave = false;
-            });
-            wavePause.play();
+            planEnemyWave();
+            scheduler.schedule(WAVE_TRANSITION_NANOS, endTransitionDelay);
+        }
+        mainApp.changeGameState(GameState.LEVEL_TRANSITION);
+    }
+
+    /** Pro Frame während des Übergangs: im Zeitbudget weiterbauen, nach Ablauf der Wartezeit umschalten. */
+    public void updateLevelTransition() {
+        if (!isLoadingNextWave) return;
+        boolean complete = waveBuilder.step(WaveBuilder.FRAME_BUDGET_NANOS);
+        if (!complete || !transitionDelayElapsed) return;
+
+        if (waveBuilder.isBossWave()) {
+            bossHasSpawnedThisGameCycle = true;
+            activateBoss();
+        } else {
+            enemies.addAll(waveBuilder.activate(formation));
+            attachFormationLayer();
+            if (!detached) WaveEvent.emit(currentWaveNumber, "START", enemies.size());
+            isLoadingNextWave = false;
+        }
+        if (mainApp.getCurrentGameState() == GameState.LEVEL_TRANSITION) {
+            mainApp.changeGameState(GameState.PLAYING);
         }
     }
 
@@ -289,16 +335,68 @@ public class GameEntityManager {
 
     public void removeEnemy(Enemy enemy) {
         if (enemy != null) {
-            if(enemy.getNode() != null) gamePane.getChildren().remove(enemy.getNode());
-            enemies.remove(enemy);
+            if(enemy.getNode() != null) removeEnemyNode(enemy.getNode());
+            int index = enemies.indexOf(enemy);
+            if (index >= 0) killEnemy(index);
         }
     }
 
+    // Neue Welle: Ebene auf den Ursprung der Formation setzen, Bitmap-Cache wieder an
+    private void attachFormationLayer() {
+        formationLayer.setCache(true);
+        syncFormationLayer();
+    }
+
+    /** Eine Transform-Änderung bewegt die ganze Formation (statt layoutX/Y für jeden Gegner). */
+    public void syncFormationLayer() {
+        formationLayer.setTranslateX(formation.getOriginX());
+        formationLayer.setTranslateY(formation.getOriginY());
+    }
+
+    /**
+     * Für Bewegungsarten mit eigener Position pro Gegner (Sinus-Formation): Verschiebung der Ebene in die Nodes
+     * übernehmen, danach sind Node-Koordinaten wieder Spielflächen-Koordinaten. Der Cache bleibt aus, weil sich
+     * sonst jedes Frame alle Kinder ändern und die Bitmap neu gezeichnet würde.
+     */
+    public void flattenFormationLayer() {
+        double offsetX = formationLayer.getTranslateX();
+        double offsetY = formationLayer.getTranslateY();
+        if (offsetX == 0 && offsetY == 0 && !formationLayer.isCache()) return;
+        for (int i = 0; i < enemies.size(); i++) {
+            Node node = enemies.get(i).getNode();
+            if (node == null) continue;
+            node.setLayoutX(node.getLayoutX() + offsetX);
+            node.setLayoutY(node.getLayoutY() + offsetY);
+        }
+        formation.setOrigin(0, 0);
+        formationLayer.setTranslateX(0);
+        formationLayer.setTranslateY(0);
+        formationLayer.setCache(false);
+    }
+
+    // Verschiebung der Formationsebene gegenüber der Spielfläche (für Kollisionen in Formationskoordinaten)
+    public double getFormationOffsetX() { return formationLayer.getLayoutX() + formationLayer.getTranslateX(); }
+    public double getFormationOffsetY() { return formationLayer.getLayoutY() + formationLayer.getTranslateY(); }
+
+    /**
+     * Gegner aus Liste und Formation nehmen (Node bleibt, bis das ENEMY_KILLED-Ereignis verarbeitet ist). Die Liste
+     * ist ungeordnet: der letzte Eintrag rückt an die freie Stelle, damit das Entfernen O(1) bleibt.
+     */
+    public Enemy killEnemy(int index) {
+        Enemy enemy = enemies.get(index);
+        int last = enemies.size() - 1;
+        enemies.set(index, enemies.get(last));
+        enemies.remove(last);
+        formation.remove(enemy);
+        return enemy;
+    }
+
     public void removeProjectileNode(Node projectileNode) {
-        if (projectileNode != null) gamePane.getChildren().remove(projectileNode);
+        releasePlayerProjectile(projectileNode);
     }
 
     public void bossDefeated() {
+        if (!detached) BossPhaseEvent.emit(bossController != null ? bossController.getBossPhase() : 0, "DEFEATED", 0);
         if(bossEnemy != null && bossEnemy.getNode() != null) {
             gamePane.getChildren().remove(bossEnemy.getNode());
         }
@@ -314,14 +412,16 @@ public class GameEntityManager {
     }
 
     public void resetGame(){
-        System.out.println("GameEntityManager.resetGame(): Start.");
+        LOG.debug("resetGame(): Start.");
         for(Enemy enemy : new ArrayList<>(enemies)) {
-            if(enemy.getNode()!=null) gamePane.getChildren().remove(enemy.getNode());
+            if(enemy.getNode()!=null) removeEnemyNode(enemy.getNode());
         }
         enemies.clear();
+        formation.clear();
+        waveBuilder.cancel();
 
-        for(ImageView projectile : new ArrayList<>(playerProjectiles)){
-            if(projectile!=null) gamePane.getChildren().remove(projectile);
+        for(ImageView projectile : playerProjectiles){
+            playerProjectilePool.release(projectile);
         }
         playerProjectiles.clear();
 
@@ -332,12 +432,20 @@ public class GameEntityManager {
             gamePane.getChildren().remove(player.getNode());
         }
         resetInitialStateFlags();
+        eventBus.clear();
+        scheduler.clear();
         if (bossController != null) bossController.resetBoss();
-        System.out.println("GameEntityManager.resetGame(): Abgeschlossen.");
+        LOG.debug("resetGame(): Abgeschlossen.");
     }
 
     public void removeEnemyNode(Node enemyNode) {
-        if(enemyNode != null) gamePane.getChildren().remove(enemyNode);
+        if (enemyNode == null) return;
+        // Wellen-Gegner liegen in der Formationsebene, Minions direkt in der Spielfläche
+        if (enemyNode.getParent() == formationLayer) {
+            formationLayer.getChildren().remove(enemyNode);
+        } else {
+            gamePane.getChildren().remove(enemyNode);
+        }
     }
 
     public void resetBossHealth(int newHealth) {
@@ -347,7 +455,13 @@ public class GameEntityManager {
     public Player getPlayer() { return player; }
     public boolean bossAlreadySpawnedThisCycle(){return this.bossHasSpawnedThisGameCycle;}
     public List<Enemy> getEnemies() { return enemies; }
+    public Group getFormationLayer() { return formationLayer; }
+    public EnemyFormation getFormation() { return formation; }
+    public GameScheduler getScheduler() { return scheduler; }
+    public BeatClock getBeatClock() { return beatClock; }
+    public void setBeatClock(BeatClock beatClock) { this.beatClock = beatClock != null ? beatClock : BeatClock.unsynced(); }
     public boolean isBossActive() { return bossActive; }
+    public boolean isDetached() { return detached; }
     public boolean isLoadingNextWave() {return isLoadingNextWave;}
     public Enemy getBossEnemy() { return bossEnemy;}
     public double getEnemyMovementDirection(){return enemyMovementDirection;}
@@ -357,6 +471,7 @@ public class GameEntityManager {
     public boolean shouldMoveDownNextCycle(){return moveDownNextCycle;}
     public void setMoveDownNextCycle(boolean moveDown){moveDownNextCycle = moveDown;}
     public BossController getBossController() { return bossController; }
+    public GameEventBus getEventBus() { return eventBus; }
     public Pane getGamePane() { return gamePane; }
     public boolean wasBossJustDefeated() { return bossWasJustDefeated; }
 }
\ No newline at end of file
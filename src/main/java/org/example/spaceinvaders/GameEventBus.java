@@ -0,0 +1,92 @@
+package org.example.spaceinvaders;
+
+import javafx.scene.Node;
+
+/**
+ * Ringpuffer für Spielereignisse eines Frames. Kollisions- und Bewegungscode hängt nur Ereignisse an,
+ * die Nebenwirkungen (Sound, Score, Entfernen von Nodes) werden nach dem Simulationsschritt gesammelt abgearbeitet.
+ * Die Arrays werden einmal angelegt und wiederverwendet; nur wenn ein Frame mehr Ereignisse erzeugt als Platz ist,
+ * wird der Puffer vergrößert.
+ */
+public class GameEventBus {
+
+    @FunctionalInterface
+    public interface Handler {
+        void onEvent(GameEventType type, Node subject, int value);
+    }
+
+    private GameEventType[] types;
+    private Node[] subjects;
+    private int[] values;
+    private int head = 0;
+    private int size = 0;
+
+    public GameEventBus(int initialCapacity) {
+        int capacity = Math.max(16, initialCapacity);
+        types = new GameEventType[capacity];
+        subjects = new Node[capacity];
+        values = new int[capacity];
+    }
+
+    public void post(GameEventType type) {
+        post(type, null, 0);
+    }
+
+    public void post(GameEventType type, Node subject, int value) {
+        if (size == types.length) grow();
+        int index = (head + size) % types.length;
+        types[index] = type;
+        subjects[index] = subject;
+        values[index] = value;
+        size++;
+    }
+
+    /** Arbeitet alle anstehenden Ereignisse in Reihenfolge ab und gibt deren Anzahl zurück. */
+    public int drain(Handler handler) {
+        int drained = 0;
+        while (size > 0) {
+            GameEventType type = types[head];
+            Node subject = subjects[head];
+            int value = values[head];
+            types[head] = null;
+            subjects[head] = null;
+            head = (head + 1) % types.length;
+            size--;
+            drained++;
+            handler.onEvent(type, subject, value);
+        }
+        head = 0;
+        return drained;
+    }
+
+    public void clear() {
+        while (size > 0) {
+            types[head] = null;
+            subjects[head] = null;
+            head = (head + 1) % types.length;
+            size--;
+        }
+        head = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private void grow() {
+        int newCapacity = types.length * 2;
+        GameEventType[] newTypes = new GameEventType[newCapacity];
+        Node[] newSubjects = new Node[newCapacity];
+        int[] newValues = new int[newCapacity];
+        for (int i = 0; i < size; i++) {
+            int index = (head + i) % types.length;
+            newTypes[i] = types[index];
+            newSubjects[i] = subjects[index];
+            newValues[i] = values[index];
+        }
+        types = newTypes;
+        subjects = newSubjects;
+        values = newValues;
+        head = 0;
+    }
+}
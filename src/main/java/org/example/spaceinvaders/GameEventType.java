@@ -0,0 +1,15 @@
+package org.example.spaceinvaders;
+
+public enum GameEventType {
+    PLAYER_SHOT,
+    PROJECTILE_SPENT,   // subject = Projektil-Node, wird aus der Szene entfernt
+    ENEMY_HIT,
+    ENEMY_KILLED,       // subject = Gegner-Node, value = Punkte
+    MINION_KILLED,      // subject = Minion-Node, value = Punkte
+    BOSS_DEFEATED,      // value = Punkte
+    BOSS_SHOT,
+    BOSS_RETREAT,
+    PLAYER_COLLISION,
+    PLAYER_DEATH,
+    GAME_OVER,          // Zustandswechsel erst nach dem Abarbeiten, damit Punkte dieses Frames mitzählen
+}
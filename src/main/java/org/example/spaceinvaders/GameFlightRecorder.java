@@ -0,0 +1,48 @@
+package org.example.spaceinvaders;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Startet bei {@code -Dspaceinvaders.jfr=<datei.jfr>} eine Flight-Recorder-Aufnahme mit dem JDK-Profil "default"
+ * plus den Spiel-Events aus {@code /jfr/spaceinvaders.jfc}. Die Aufnahme wird beim Beenden der JVM in die Datei
+ * geschrieben.
+ */
+public final class GameFlightRecorder {
+    private static final GameLog LOG = GameLog.get(GameFlightRecorder.class);
+    private static final String SETTINGS_RESOURCE = "/jfr/spaceinvaders.jfc";
+
+    private GameFlightRecorder() {
+    }
+
+    public static void startIfRequested() {
+        String destination = System.getProperty("spaceinvaders.jfr");
+        if (destination == null || destination.isBlank()) return;
+        try {
+            Map<String, String> settings = new HashMap<>(Configuration.getConfiguration("default").getSettings());
+            try (InputStream in = GameFlightRecorder.class.getResourceAsStream(SETTINGS_RESOURCE)) {
+                if (in != null) {
+                    settings.putAll(Configuration.create(new InputStreamReader(in, StandardCharsets.UTF_8)).getSettings());
+                } else {
+                    LOG.warn("{} nicht gefunden, nur JDK-Standardprofil.", SETTINGS_RESOURCE);
+                }
+            }
+            Recording recording = new Recording(settings);
+            recording.setName("Musical Invaders");
+            recording.setToDisk(true);
+            recording.setDestination(Path.of(destination));
+            recording.setDumpOnExit(true);
+            recording.start();
+            LOG.info("JFR-Aufnahme gestartet, Ziel: {}", Path.of(destination).toAbsolutePath());
+        } catch (Exception e) {
+            LOG.warn("Aufnahme konnte nicht gestartet werden: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package org.example.spaceinvaders;
+
+/**
+ * Was die Spiel-Logik ({@link GameEntityManager}, {@link GameUpdater}) von der Anwendung braucht: Spielzustand und
+ * gewählte Stimme. Im Spiel ist das {@link MusicalInvaders}, ohne Fenster {@link DetachedGame}.
+ */
+public interface GameHost {
+    GameState getCurrentGameState();
+
+    void changeGameState(GameState newState);
+
+    // Spiel läuft (auch während des Übergangs zwischen zwei Wellen)
+    boolean isGameplayActive();
+
+    void triggerGameOver();
+
+    VoiceProfile getSelectedVoiceProfile();
+
+    // Spiel ohne Fenster (JIT-Warm-up, Tests): keine JFR-Ereignisse und keine Fortschrittsmeldungen im Log, die in
+    // einer Aufnahme wie echtes Spiel aussähen
+    boolean isDetached();
+}
@@ -0,0 +1,45 @@
+package org.example.spaceinvaders;
+
+import javafx.scene.image.Image;
+
+import java.io.InputStream;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Spielgrafiken, einmal pro Prozess geladen und von allen Spielen geteilt: Fenster, {@link JitWarmup},
+ * {@link SimulationThread} und jede Session des {@link GameServer}. Ein Bild ändert sich nach dem Laden nicht mehr;
+ * weil die Bilder bleiben, bleibt auch der Cache der {@link CollisionMask} (Schlüssel ist das Bild) klein. Von
+ * beliebigen Threads aufrufbar, das JavaFX-Toolkit muss laufen.
+ */
+public final class GameImages {
+    private static final GameLog LOG = GameLog.get(GameImages.class);
+    private static final Map<String, Image> images = new ConcurrentHashMap<>();
+
+    private GameImages() {
+    }
+
+    /** Bild aus den Ressourcen (z.B. {@code /images/xwing.png}); RuntimeException, wenn es fehlt oder kaputt ist. */
+    public static Image get(String path) {
+        return images.computeIfAbsent(path, GameImages::load);
+    }
+
+    private static Image load(String path) {
+        AssetLoadEvent loadEvent = AssetLoadEvent.start("image", path);
+        InputStream in = GameImages.class.getResourceAsStream(path);
+        if (in == null) {
+            loadEvent.finish(false);
+            LOG.warn("Bildressource nicht gefunden: {}", path);
+            throw new RuntimeException("Bildressource nicht gefunden: " + path);
+        }
+        Image image = new Image(in);
+        loadEvent.finish(!image.isError());
+        if (image.isError()) {
+            LOG.warn("Fehler beim Laden des Bildes: {} ({})", path,
+                    image.getException() != null ? image.getException().getMessage() : "Unbekannter Bildladefehler");
+            throw new RuntimeException("Konnte Bild nicht laden: " + path, image.getException());
+        }
+        LOG.info("Bild geladen: {}", path);
+        return image;
+    }
+}
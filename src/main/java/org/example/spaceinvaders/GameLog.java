@@ -0,0 +1,264 @@
+package org.example.spaceinvaders;
+
+import java.io.PrintStream;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Asynchroner Logger fürs Spiel: Aufrufer schreiben strukturierte Einträge (Zeit, Level, Kategorie, Vorlage,
+ * Argumente) in einen vorab angelegten Ringpuffer und kehren sofort zurück. Ein Hintergrund-Thread formatiert und
+ * schreibt auf stdout (DEBUG/INFO) bzw. stderr (WARN/ERROR). Ist der Puffer voll, wird verworfen statt gewartet.
+ * <p>
+ * Platzhalter in der Vorlage sind {@code {}}; formatiert wird erst im Hintergrund-Thread. Pro Kategorie gilt ein
+ * Limit an Einträgen pro Sekunde (ERROR ausgenommen), unterdrückte Einträge werden gezählt und gemeldet.
+ * <pre>
+ * -Dspaceinvaders.log.level=DEBUG|INFO|WARN|ERROR   (Standard INFO)
+ * -Dspaceinvaders.log.rateLimit=50                  (Einträge pro Sekunde und Kategorie, 0 = unbegrenzt)
+ * -Dspaceinvaders.log.bufferSize=4096
+ * </pre>
+ */
+public final class GameLog {
+    public enum Level { DEBUG, INFO, WARN, ERROR }
+
+    private static final Level THRESHOLD = parseLevel(System.getProperty("spaceinvaders.log.level", "INFO"));
+    private static final int RATE_LIMIT = Integer.getInteger("spaceinvaders.log.rateLimit", 50);
+    private static final long IDLE_PARK_NANOS = 10_000_000L;
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("HH:mm:ss.SSS").withZone(ZoneId.systemDefault());
+
+    private static final Map<String, GameLog> categories = new ConcurrentHashMap<>();
+    private static final Entry[] ring;
+    private static final int mask;
+    private static final AtomicLong claimed = new AtomicLong();
+    private static volatile long consumed;
+    private static final LongAdder dropped = new LongAdder();
+    private static final Thread writer;
+
+    static {
+        int requested = Math.max(64, Integer.getInteger("spaceinvaders.log.bufferSize", 4096));
+        int size = Integer.highestOneBit(requested - 1) << 1;
+        ring = new Entry[size];
+        for (int i = 0; i < size; i++) ring[i] = new Entry(i - size);
+        mask = size - 1;
+
+        writer = new Thread(GameLog::writeLoop, "game-log-writer");
+        writer.setDaemon(true);
+        writer.setPriority(Thread.MIN_PRIORITY);
+        writer.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(GameLog::flush, "game-log-flush"));
+    }
+
+    private final String category;
+    // Rate-Limit: Zähler im aktuellen Sekundenfenster
+    private volatile long windowStartNanos = System.nanoTime();
+    private final AtomicInteger windowCount = new AtomicInteger();
+    private final AtomicInteger suppressed = new AtomicInteger();
+
+    private GameLog(String category) {
+        this.category = category;
+    }
+
+    /** Logger für eine Kategorie (üblich: ein statisches Feld pro Klasse). */
+    public static GameLog get(String category) {
+        return categories.computeIfAbsent(category, GameLog::new);
+    }
+
+    public static GameLog get(Class<?> type) {
+        return get(type.getSimpleName());
+    }
+
+    public boolean isEnabled(Level level) {
+        return level.compareTo(THRESHOLD) >= 0;
+    }
+
+    public void debug(String message) { log(Level.DEBUG, message, null, null, null, null, 0); }
+    public void debug(String template, Object a) { log(Level.DEBUG, template, a, null, null, null, 1); }
+    public void debug(String template, Object a, Object b) { log(Level.DEBUG, template, a, b, null, null, 2); }
+    public void debug(String template, Object a, Object b, Object c) { log(Level.DEBUG, template, a, b, c, null, 3); }
+
+    public void info(String message) { log(Level.INFO, message, null, null, null, null, 0); }
+    public void info(String template, Object a) { log(Level.INFO, template, a, null, null, null, 1); }
+    public void info(String template, Object a, Object b) { log(Level.INFO, template, a, b, null, null, 2); }
+    public void info(String template, Object a, Object b, Object c) { log(Level.INFO, template, a, b, c, null, 3); }
+
+    public void warn(String message) { log(Level.WARN, message, null, null, null, null, 0); }
+    public void warn(String template, Object a) { log(Level.WARN, template, a, null, null, null, 1); }
+    public void warn(String template, Object a, Object b) { log(Level.WARN, template, a, b, null, null, 2); }
+    public void warn(String template, Object a, Object b, Object c) { log(Level.WARN, template, a, b, c, null, 3); }
+
+    public void error(String message) { log(Level.ERROR, message, null, null, null, null, 0); }
+    public void error(String message, Throwable thrown) { log(Level.ERROR, message, null, null, null, thrown, 0); }
+    public void error(String template, Object a, Throwable thrown) { log(Level.ERROR, template, a, null, null, thrown, 1); }
+
+    private void log(Level level, String template, Object a, Object b, Object c, Throwable thrown, int argCount) {
+        if (level.compareTo(THRESHOLD) < 0) return;
+        if (level != Level.ERROR && !withinRateLimit()) return;
+
+        // Platz im Ring reservieren (mehrere Schreiber möglich); voll = verwerfen, nie warten
+        long sequence;
+        do {
+            sequence = claimed.get();
+            if (sequence - consumed >= ring.length) {
+                dropped.increment();
+                return;
+            }
+        } while (!claimed.compareAndSet(sequence, sequence + 1));
+
+        Entry entry = ring[(int) sequence & mask];
+        entry.millis = System.currentTimeMillis();
+        entry.level = level;
+        entry.logger = this;
+        entry.thread = Thread.currentThread().getName();
+        entry.template = template != null ? template : "null";
+        entry.argCount = argCount;
+        entry.a = a;
+        entry.b = b;
+        entry.c = c;
+        entry.thrown = thrown;
+        entry.published = sequence; // volatile: Eintrag für den Schreiber freigeben
+        if (level == Level.ERROR) LockSupport.unpark(writer);
+    }
+
+    private boolean withinRateLimit() {
+        if (RATE_LIMIT <= 0) return true;
+        long now = System.nanoTime();
+        if (now - windowStartNanos >= 1_000_000_000L) {
+            windowStartNanos = now;
+            windowCount.set(0);
+        }
+        if (windowCount.incrementAndGet() <= RATE_LIMIT) return true;
+        suppressed.incrementAndGet();
+        return false;
+    }
+
+    // --- Hintergrund-Thread ---
+
+    private static void writeLoop() {
+        StringBuilder out = new StringBuilder(4096);
+        StringBuilder err = new StringBuilder(1024);
+        while (true) {
+            if (drain(out, err) == 0) LockSupport.parkNanos(IDLE_PARK_NANOS);
+        }
+    }
+
+    /** Schreibt alles, was bis jetzt im Puffer steht (z.B. beim Beenden). */
+    public static void flush() {
+        synchronized (GameLog.class) {
+            drain(new StringBuilder(), new StringBuilder());
+        }
+    }
+
+    private static int drain(StringBuilder out, StringBuilder err) {
+        int written = 0;
+        synchronized (GameLog.class) {
+            long next = consumed;
+            while (true) {
+                Entry entry = ring[(int) next & mask];
+                if (entry.published != next) break;
+                Throwable thrown = entry.thrown;
+                StringBuilder target = entry.level.compareTo(Level.WARN) >= 0 ? err : out;
+                format(entry, target);
+                entry.clear();
+                consumed = ++next;
+                written++;
+                if (thrown != null) {
+                    write(out, err);
+                    thrown.printStackTrace(System.err);
+                }
+            }
+            if (written > 0) {
+                reportSuppressed(out);
+                write(out, err);
+            }
+        }
+        return written;
+    }
+
+    private static void reportSuppressed(StringBuilder out) {
+        long lost = dropped.sumThenReset();
+        if (lost > 0) out.append("GameLog: ").append(lost).append(" Einträge verworfen (Puffer voll)\n");
+        for (GameLog logger : categories.values()) {
+            int count = logger.suppressed.getAndSet(0);
+            if (count > 0) {
+                out.append("GameLog: [").append(logger.category).append("] ").append(count)
+                        .append(" Einträge unterdrückt (Rate-Limit ").append(RATE_LIMIT).append("/s)\n");
+            }
+        }
+    }
+
+    private static void write(StringBuilder out, StringBuilder err) {
+        if (out.length() > 0) {
+            print(System.out, out);
+        }
+        if (err.length() > 0) {
+            print(System.err, err);
+        }
+    }
+
+    private static void print(PrintStream stream, StringBuilder text) {
+        stream.print(text);
+        stream.flush();
+        text.setLength(0);
+    }
+
+    private static void format(Entry entry, StringBuilder target) {
+        TIME_FORMAT.formatTo(Instant.ofEpochMilli(entry.millis), target);
+        target.append(' ').append(entry.level).append(" [").append(entry.logger.category).append("] ");
+        String template = entry.template;
+        Object[] args = {entry.a, entry.b, entry.c};
+        int argIndex = 0;
+        int from = 0;
+        int placeholder;
+        while (argIndex < entry.argCount && (placeholder = template.indexOf("{}", from)) >= 0) {
+            target.append(template, from, placeholder).append(args[argIndex++]);
+            from = placeholder + 2;
+        }
+        target.append(template, from, template.length());
+        if (!"main".equals(entry.thread) && !"JavaFX Application Thread".equals(entry.thread)) {
+            target.append(" (").append(entry.thread).append(')');
+        }
+        target.append('\n');
+    }
+
+    private static Level parseLevel(String name) {
+        try {
+            return Level.valueOf(name.trim().toUpperCase(java.util.Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return Level.INFO;
+        }
+    }
+
+    private static final class Entry {
+        volatile long published;
+        long millis;
+        Level level;
+        GameLog logger;
+        String thread;
+        String template;
+        Object a;
+        Object b;
+        Object c;
+        Throwable thrown;
+        int argCount;
+
+        Entry(long published) {
+            this.published = published;
+        }
+
+        void clear() {
+            logger = null;
+            thread = null;
+            template = null;
+            a = null;
+            b = null;
+            c = null;
+            thrown = null;
+        }
+    }
+}
@@ -0,0 +1,286 @@
+package org.example.spaceinvaders;
+
+import javafx.application.Platform;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Live-Metriken des Spiels für JMX (siehe {@link GameMetricsMXBean}). Alle Zählungen laufen auf dem FX-Thread
+ * im Takt von {@link #PUBLISH_INTERVAL_MILLIS}; JMX-Clients lesen nur die zuletzt veröffentlichten Werte.
+ * Der Takt kommt von einem Daemon-Thread statt einer Timeline (eine laufende Animation hielte den Pulse auch im
+ * statischen Menü auf voller Rate), im Leerlauf ({@link #setIdle(boolean)}) nur jedes {@value #IDLE_PUBLISH_DIVIDER}. Mal.
+ * Abschalten mit {@code -Dspaceinvaders.jmx=false}.
+ */
+public class GameMetrics implements GameMetricsMXBean {
+    private static final GameLog LOG = GameLog.get(GameMetrics.class);
+    public static final long PUBLISH_INTERVAL_MILLIS = 500;
+    private static final String OBJECT_NAME = "org.example.spaceinvaders:type=GameMetrics";
+    private static final int FRAME_WINDOW = 600; // ca. 10 Sekunden bei 60 Hz
+    static final int IDLE_PUBLISH_DIVIDER = 10;
+
+    private final MusicalInvaders app;
+    private final long[] frameNanos = new long[FRAME_WINDOW]; // nur FX-Thread
+    private int frameIndex = 0;
+    private int frameCount = 0;
+    private long framesTotal = 0;
+    private ScheduledExecutorService publisher;
+    private long publishTicks = 0; // nur Publisher-Thread
+    private volatile boolean idle = false;
+    private ObjectName registeredName;
+
+    // Veröffentlichter Schnappschuss
+    private volatile String gameState = "";
+    private volatile int waveNumber;
+    private volatile int bossPhase;
+    private volatile boolean bossActive;
+    private volatile int enemyCount;
+    private volatile int minionCount;
+    private volatile int playerProjectileCount;
+    private volatile int bossProjectileCount;
+    private volatile int sceneNodeCount;
+    private volatile double frameP50;
+    private volatile double frameP95;
+    private volatile double frameP99;
+    private volatile double frameMax;
+    private volatile long framesRecorded;
+    private volatile int sfxVoicesPlaying;
+    private volatile long decodedImageBytes;
+    private volatile long decodedAudioBytes;
+    private volatile Map<String, Long> audioBytesBySource = Collections.emptyMap();
+    private volatile boolean perfHudVisible;
+
+    public GameMetrics(MusicalInvaders app) {
+        this.app = app;
+    }
+
+    /** Registriert die MBean und startet die Veröffentlichung; liefert null, wenn JMX abgeschaltet ist. */
+    public static GameMetrics startIfEnabled(MusicalInvaders app) {
+        if (!Boolean.parseBoolean(System.getProperty("spaceinvaders.jmx", "true"))) return null;
+        GameMetrics metrics = new GameMetrics(app);
+        metrics.start();
+        return metrics;
+    }
+
+    private void start() {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            if (server.isRegistered(name)) server.unregisterMBean(name);
+            server.registerMBean(this, name);
+            registeredName = name;
+        } catch (JMException e) {
+            LOG.warn("MBean konnte nicht registriert werden: {}", e.getMessage());
+        }
+        publisher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "game-metrics");
+            thread.setDaemon(true);
+            return thread;
+        });
+        publisher.scheduleAtFixedRate(this::requestPublish, PUBLISH_INTERVAL_MILLIS, PUBLISH_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    private void requestPublish() {
+        if (idle && publishTicks++ % IDLE_PUBLISH_DIVIDER != 0) return;
+        Platform.runLater(this::publish);
+    }
+
+    /** Leerlauf (siehe {@link IdleGovernor}): seltener veröffentlichen. */
+    public void setIdle(boolean idle) {
+        this.idle = idle;
+    }
+
+    public void stop() {
+        if (publisher != null) publisher.shutdownNow();
+        if (registeredName == null) return;
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(registeredName);
+        } catch (JMException e) {
+            LOG.warn("MBean konnte nicht entfernt werden: {}", e.getMessage());
+        }
+        registeredName = null;
+    }
+
+    /** Einmal pro Pulse aus der Spielschleife (FX-Thread). */
+    public void recordFrame(long nanos) {
+        frameNanos[frameIndex] = nanos;
+        frameIndex = (frameIndex + 1) % FRAME_WINDOW;
+        if (frameCount < FRAME_WINDOW) frameCount++;
+        framesTotal++;
+    }
+
+    // --- Schnappschuss (FX-Thread) ---
+
+    private void publish() {
+        GameState state = app.getCurrentGameState();
+        gameState = state != null ? state.name() : "";
+
+        GameEntityManager entityManager = app.getEntityManager();
+        BossController bossController = entityManager != null ? entityManager.getBossController() : null;
+        waveNumber = entityManager != null ? entityManager.getCurrentWaveNumber() : 0;
+        bossActive = entityManager != null && entityManager.isBossActive();
+        bossPhase = bossActive && bossController != null ? bossController.getBossPhase() : 0;
+        enemyCount = entityManager != null ? entityManager.getEnemies().size() : 0;
+        playerProjectileCount = entityManager != null ? entityManager.getPlayerProjectiles().size() : 0;
+        minionCount = bossController != null ? bossController.getMinionEnemies().size() : 0;
+        bossProjectileCount = bossController != null ? bossController.getBossProjectiles().size() : 0;
+
+        publishFrameTimes();
+        publishSceneAndImages(entityManager);
+        publishAudio();
+
+        UIManager uiManager = app.getGameUIManager();
+        perfHudVisible = uiManager != null && uiManager.isPerfHudVisible();
+        if (perfHudVisible) {
+            long heapMb = (Runtime.getRuntime().totalMemory() - Runtime.getRuntime().freeMemory()) / (1024 * 1024);
+            uiManager.updatePerfHud(String.format(Locale.ROOT, "p50 %.1f  p99 %.1f ms%nNodes %d  Heap %d MB",
+                    frameP50, frameP99, sceneNodeCount, heapMb));
+        }
+    }
+
+    private void publishFrameTimes() {
+        framesRecorded = framesTotal;
+        if (frameCount == 0) {
+            frameP50 = frameP95 = frameP99 = frameMax = 0;
+            return;
+        }
+        long[] sorted = Arrays.copyOf(frameNanos, frameCount);
+        Arrays.sort(sorted);
+        frameP50 = percentile(sorted, 0.50);
+        frameP95 = percentile(sorted, 0.95);
+        frameP99 = percentile(sorted, 0.99);
+        frameMax = sorted[sorted.length - 1] / 1_000_000.0;
+    }
+
+    // Nearest-Rank-Perzentil in Millisekunden
+    private static double percentile(long[] sorted, double p) {
+        int rank = (int) Math.ceil(p * sorted.length);
+        return sorted[Math.max(0, Math.min(sorted.length - 1, rank - 1))] / 1_000_000.0;
+    }
+
+    private void publishSceneAndImages(GameEntityManager entityManager) {
+        Set<Image> images = Collections.newSetFromMap(new IdentityHashMap<>());
+        Scene scene = app.getPrimaryStage() != null ? app.getPrimaryStage().getScene() : null;
+        sceneNodeCount = scene != null ? collect(scene.getRoot(), images) : 0;
+        if (entityManager != null) {
+            // Auch gecachte Bilder zählen, die gerade nicht in der Szene hängen
+            addImage(images, entityManager.getBossProjectileImage());
+            addImage(images, entityManager.getEnemyGreenEyeImage());
+            addImage(images, entityManager.getEnemyPurpleEyeImage());
+        }
+        long bytes = 0;
+        for (Image image : images) {
+            bytes += (long) image.getWidth() * (long) image.getHeight() * 4; // BGRA
+        }
+        decodedImageBytes = bytes;
+    }
+
+    private static int collect(Node node, Set<Image> images) {
+        int count = 1;
+        if (node instanceof ImageView imageView) addImage(images, imageView.getImage());
+        if (node instanceof Parent parent) {
+            for (Node child : parent.getChildrenUnmodifiable()) count += collect(child, images);
+        }
+        return count;
+    }
+
+    private static void addImage(Set<Image> images, Image image) {
+        if (image != null) images.add(image);
+    }
+
+    private void publishAudio() {
+        Map<String, Long> bySource = new LinkedHashMap<>();
+        int playing = 0;
+        long total = 0;
+        for (SoundManager soundManager : new SoundManager[]{app.getGlobalSoundManager(), app.getProfileSoundManager()}) {
+            if (soundManager == null) continue;
+            playing += soundManager.countPlayingClips();
+            total += soundManager.getEstimatedAudioBytes();
+            bySource.merge("sfx:" + soundManager.getLabel(), soundManager.getEstimatedAudioBytes(), Long::sum);
+        }
+        if (app.getVoiceProfiles() != null) {
+            for (VoiceProfile profile : app.getVoiceProfiles()) {
+                long introBytes = profile.getEstimatedIntroBytes();
+                if (introBytes == 0) continue;
+                total += introBytes;
+                bySource.put("intro:" + profile.getDisplayName(), introBytes);
+            }
+        }
+        sfxVoicesPlaying = playing;
+        decodedAudioBytes = total;
+        audioBytesBySource = Collections.unmodifiableMap(bySource);
+    }
+
+    // --- Operationen ---
+
+    private void releaseIdleAssetsOnFxThread() {
+        int released = 0;
+        if (app.getVoiceProfiles() != null) {
+            for (VoiceProfile profile : app.getVoiceProfiles()) {
+                if (profile == app.getSelectedVoiceProfile() || profile == app.getCurrentlyPreviewedVoice()) continue;
+                if (profile.releaseIntroClip()) released++;
+            }
+        }
+        System.gc();
+        LOG.info("{} Intro-Clips freigegeben, GC angestoßen.", released);
+        publish();
+    }
+
+    @Override
+    public void releaseIdleAssets() {
+        Platform.runLater(this::releaseIdleAssetsOnFxThread);
+    }
+
+    @Override
+    public void togglePerfHud() {
+        Platform.runLater(() -> {
+            UIManager uiManager = app.getGameUIManager();
+            if (uiManager != null) uiManager.setPerfHudVisible(!uiManager.isPerfHudVisible());
+        });
+    }
+
+    @Override
+    public void setPerfHudVisible(boolean visible) {
+        Platform.runLater(() -> {
+            UIManager uiManager = app.getGameUIManager();
+            if (uiManager != null) uiManager.setPerfHudVisible(visible);
+        });
+    }
+
+    @Override public String getGameState() { return gameState; }
+    @Override public int getWaveNumber() { return waveNumber; }
+    @Override public int getBossPhase() { return bossPhase; }
+    @Override public boolean isBossActive() { return bossActive; }
+    @Override public int getEnemyCount() { return enemyCount; }
+    @Override public int getMinionCount() { return minionCount; }
+    @Override public int getPlayerProjectileCount() { return playerProjectileCount; }
+    @Override public int getBossProjectileCount() { return bossProjectileCount; }
+    @Override public int getSceneNodeCount() { return sceneNodeCount; }
+    @Override public double getFrameTimeP50Millis() { return frameP50; }
+    @Override public double getFrameTimeP95Millis() { return frameP95; }
+    @Override public double getFrameTimeP99Millis() { return frameP99; }
+    @Override public double getFrameTimeMaxMillis() { return frameMax; }
+    @Override public long getFramesRecorded() { return framesRecorded; }
+    @Override public int getSfxVoicesPlaying() { return sfxVoicesPlaying; }
+    @Override public long getDecodedImageBytes() { return decodedImageBytes; }
+    @Override public long getDecodedAudioBytes() { return decodedAudioBytes; }
+    @Override public Map<String, Long> getDecodedAudioBytesBySource() { return audioBytesBySource; }
+    @Override public boolean isPerfHudVisible() { return perfHudVisible; }
+}
@@ -0,0 +1,40 @@
+package org.example.spaceinvaders;
+
+import java.util.Map;
+
+/**
+ * JMX-Sicht auf das laufende Spiel ({@code org.example.spaceinvaders:type=GameMetrics}).
+ * Die Werte sind ein Schnappschuss, der alle {@link GameMetrics#PUBLISH_INTERVAL_MILLIS} ms auf dem FX-Thread
+ * erneuert wird; Operationen werden per {@code Platform.runLater} auf dem FX-Thread ausgeführt.
+ */
+public interface GameMetricsMXBean {
+    String getGameState();
+    int getWaveNumber();
+    int getBossPhase();
+    boolean isBossActive();
+
+    int getEnemyCount();
+    int getMinionCount();
+    int getPlayerProjectileCount();
+    int getBossProjectileCount();
+    int getSceneNodeCount();
+
+    double getFrameTimeP50Millis();
+    double getFrameTimeP95Millis();
+    double getFrameTimeP99Millis();
+    double getFrameTimeMaxMillis();
+    long getFramesRecorded();
+
+    int getSfxVoicesPlaying();
+    long getDecodedImageBytes();
+    long getDecodedAudioBytes();
+    /** Geschätzte dekodierte Audio-Bytes pro SoundManager bzw. Stimmprofil-Intro. */
+    Map<String, Long> getDecodedAudioBytesBySource();
+
+    boolean isPerfHudVisible();
+    void setPerfHudVisible(boolean visible);
+
+    /** Gibt nicht benötigte Intro-Clips frei und stößt danach eine GC an. */
+    void releaseIdleAssets();
+    void togglePerfHud();
+}
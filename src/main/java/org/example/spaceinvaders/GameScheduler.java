@@ -0,0 +1,262 @@
+package org.example.spaceinvaders;
+
+import java.util.Arrays;
+
+/**
+ * Verzögerte Spiel-Logik auf der Spielzeit statt auf Animationszeit: ein Hashed Timing Wheel mit
+ * {@link #SLOTS} Fächern zu je {@link #TICK_NANOS}. Die Uhr läuft nur über {@link #advance(long)} aus dem
+ * Game-Loop weiter, steht also während der Pause still und folgt festen Ticks bzw. gekappten Frame-Zeiten.
+ * <p>
+ * Einplanen und Abbrechen sind O(1) und allokationsfrei (Timer liegen in vorab angelegten Arrays, verkettet pro
+ * Fach). Ein Handle enthält eine Generation: nach dem Auslösen oder Abbrechen ist es ungültig, ein Timer feuert
+ * also höchstens einmal. Gleichzeitig fällige Timer feuern in der Reihenfolge ihres Einplanens.
+ * Nur vom FX-Thread (bzw. dem Thread des Game-Loops) benutzen.
+ */
+public final class GameScheduler {
+    private static final GameLog LOG = GameLog.get(GameScheduler.class);
+
+    public static final long NO_TIMER = 0;
+    static final long TICK_NANOS = 1_000_000L;        // 1 ms Auflösung
+    static final int SLOTS = 1024;                     // eine Umdrehung ~ 1 s, längere Timer bleiben mehrere Runden liegen
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int NONE = -1;
+
+    private final int[] slotHeads = new int[SLOTS];
+    private final int[] slotTails = new int[SLOTS];
+
+    // Timer-Einträge als parallele Arrays (Index = Timer), freie Einträge als Stack in 'next'
+    private Runnable[] tasks;
+    private long[] deadlineTicks;
+    private long[] sequences;
+    private int[] generations;
+    private int[] next;
+    private int[] previous;
+    private int freeHead;
+    private int pending;
+    private int[] dueBuffer;
+    private long[] dueHandles;
+
+    private long nanos;          // Spielzeit seit Start/clear()
+    private long currentTick;    // zuletzt abgearbeiteter Tick
+    private long nextSequence;
+
+    public GameScheduler() {
+        this(64);
+    }
+
+    public GameScheduler(int initialCapacity) {
+        allocate(Math.max(8, initialCapacity));
+        Arrays.fill(slotHeads, NONE);
+        Arrays.fill(slotTails, NONE);
+    }
+
+    /**
+     * Task nach {@code delayNanos} Spielzeit ausführen (frühestens im nächsten Tick).
+     * @return Handle für {@link #cancel(long)}, nie {@link #NO_TIMER}
+     */
+    public long schedule(long delayNanos, Runnable task) {
+        if (task == null) throw new IllegalArgumentException("task == null");
+        if (freeHead == NONE) grow();
+        int timer = freeHead;
+        freeHead = next[timer];
+
+        long delayTicks = Math.max(1, (Math.max(0, delayNanos) + TICK_NANOS - 1) / TICK_NANOS);
+        tasks[timer] = task;
+        deadlineTicks[timer] = currentTick + delayTicks;
+        sequences[timer] = nextSequence++;
+        link(timer, (int) (deadlineTicks[timer] & SLOT_MASK));
+        pending++;
+        return handle(timer);
+    }
+
+    /** Timer abbrechen; false, wenn er schon gefeuert hat, abgebrochen ist oder das Handle leer ist. */
+    public boolean cancel(long handle) {
+        int timer = resolve(handle);
+        if (timer == NONE) return false;
+        unlink(timer, (int) (deadlineTicks[timer] & SLOT_MASK));
+        release(timer);
+        return true;
+    }
+
+    public boolean isPending(long handle) {
+        return resolve(handle) != NONE;
+    }
+
+    /**
+     * Spielzeit vorstellen und fällige Timer auslösen. Ein Sprung über mehr als eine Umdrehung (langer Hänger,
+     * Zeitraffer) läuft nicht Tick für Tick, sondern sammelt einmal über alle Fächer ein und feuert nach Fälligkeit.
+     */
+    public void advance(long elapsedNanos) {
+        if (elapsedNanos <= 0) return;
+        nanos += elapsedNanos;
+        long targetTick = nanos / TICK_NANOS;
+        if (targetTick <= currentTick) return;
+        if (pending == 0) {
+            currentTick = targetTick;
+            return;
+        }
+        if (targetTick - currentTick >= SLOTS) {
+            fireAllDue(targetTick);
+            return;
+        }
+        while (currentTick < targetTick) {
+            currentTick++;
+            fireSlot((int) (currentTick & SLOT_MASK));
+        }
+    }
+
+    // Ein Fach abarbeiten: nur Timer dieser Runde feuern, die übrigen bleiben für spätere Umdrehungen liegen
+    private void fireSlot(int slot) {
+        int timer = slotHeads[slot];
+        while (timer != NONE) {
+            if (deadlineTicks[timer] <= currentTick) {
+                fire(timer, slot);
+                timer = slotHeads[slot]; // der Callback kann Timer dieses Fachs abgebrochen haben: von vorn
+            } else {
+                timer = next[timer];
+            }
+        }
+    }
+
+    private void fireAllDue(long targetTick) {
+        // Mehrere Durchgänge, falls Callbacks neue Timer einplanen, die noch vor targetTick fällig sind
+        int count;
+        while ((count = collectDue(targetTick)) > 0) {
+            for (int i = 0; i < count; i++) {
+                int timer = resolve(dueHandles[i]);
+                if (timer == NONE) continue; // von einem früheren Callback abgebrochen
+                currentTick = Math.max(currentTick, deadlineTicks[timer]);
+                fire(timer, (int) (deadlineTicks[timer] & SLOT_MASK));
+            }
+        }
+        currentTick = targetTick;
+    }
+
+    // Fällige Timer nach Fälligkeit, bei Gleichstand nach Einplanung sortiert in dueHandles ablegen
+    private int collectDue(long targetTick) {
+        int count = 0;
+        for (int slot = 0; slot < SLOTS; slot++) {
+            for (int timer = slotHeads[slot]; timer != NONE; timer = next[timer]) {
+                if (deadlineTicks[timer] <= targetTick) dueBuffer[count++] = timer;
+            }
+        }
+        for (int i = 1; i < count; i++) { // Einfügesortierung: selten und kurz
+            int timer = dueBuffer[i];
+            int j = i - 1;
+            while (j >= 0 && firesBefore(timer, dueBuffer[j])) {
+                dueBuffer[j + 1] = dueBuffer[j];
+                j--;
+            }
+            dueBuffer[j + 1] = timer;
+        }
+        for (int i = 0; i < count; i++) dueHandles[i] = handle(dueBuffer[i]);
+        return count;
+    }
+
+    private boolean firesBefore(int a, int b) {
+        if (deadlineTicks[a] != deadlineTicks[b]) return deadlineTicks[a] < deadlineTicks[b];
+        return sequences[a] < sequences[b];
+    }
+
+    private void fire(int timer, int slot) {
+        Runnable task = tasks[timer];
+        unlink(timer, slot);
+        release(timer); // vor dem Aufruf: Handle ist ungültig, ein cancel() im Callback ist wirkungslos
+        try {
+            task.run();
+        } catch (RuntimeException e) {
+            LOG.error("Fehler in geplanter Aufgabe", e);
+        }
+    }
+
+    /** Alle Timer verwerfen und die Spielzeit auf 0 setzen (neues Spiel). */
+    public void clear() {
+        for (int slot = 0; slot < SLOTS; slot++) {
+            int timer = slotHeads[slot];
+            while (timer != NONE) {
+                int following = next[timer];
+                release(timer);
+                timer = following;
+            }
+            slotHeads[slot] = NONE;
+            slotTails[slot] = NONE;
+        }
+        nanos = 0;
+        currentTick = 0;
+    }
+
+    public long getNanos() { return nanos; }
+    public int getPendingCount() { return pending; }
+
+    // --- Verwaltung der Einträge ---
+
+    private void link(int timer, int slot) {
+        next[timer] = NONE;
+        previous[timer] = slotTails[slot];
+        if (slotTails[slot] == NONE) slotHeads[slot] = timer;
+        else next[slotTails[slot]] = timer;
+        slotTails[slot] = timer;
+    }
+
+    private void unlink(int timer, int slot) {
+        if (previous[timer] == NONE) slotHeads[slot] = next[timer];
+        else next[previous[timer]] = next[timer];
+        if (next[timer] == NONE) slotTails[slot] = previous[timer];
+        else previous[next[timer]] = previous[timer];
+    }
+
+    private void release(int timer) {
+        tasks[timer] = null;
+        if (++generations[timer] == 0) generations[timer] = 1; // Handle darf nie NO_TIMER werden
+        previous[timer] = NONE;
+        next[timer] = freeHead;
+        freeHead = timer;
+        pending--;
+    }
+
+    // Handle = Generation (obere 32 Bit, immer >= 1) | Index
+    private long handle(int timer) {
+        return ((long) generations[timer] << 32) | timer;
+    }
+
+    private int resolve(long handle) {
+        int timer = (int) handle;
+        int generation = (int) (handle >>> 32);
+        if (handle == NO_TIMER || timer < 0 || timer >= tasks.length || generations[timer] != generation) return NONE;
+        return tasks[timer] != null ? timer : NONE;
+    }
+
+    private void allocate(int capacity) {
+        tasks = new Runnable[capacity];
+        deadlineTicks = new long[capacity];
+        sequences = new long[capacity];
+        generations = new int[capacity];
+        next = new int[capacity];
+        previous = new int[capacity];
+        dueBuffer = new int[capacity];
+        dueHandles = new long[capacity];
+        Arrays.fill(generations, 1);
+        for (int i = 0; i < capacity; i++) next[i] = i + 1 < capacity ? i + 1 : NONE;
+        freeHead = 0;
+    }
+
+    // Nur wenn mehr Timer gleichzeitig anstehen als je zuvor
+    private void grow() {
+        int oldCapacity = tasks.length;
+        int capacity = oldCapacity * 2;
+        tasks = Arrays.copyOf(tasks, capacity);
+        deadlineTicks = Arrays.copyOf(deadlineTicks, capacity);
+        sequences = Arrays.copyOf(sequences, capacity);
+        generations = Arrays.copyOf(generations, capacity);
+        next = Arrays.copyOf(next, capacity);
+        previous = Arrays.copyOf(previous, capacity);
+        dueBuffer = new int[capacity];
+        dueHandles = new long[capacity];
+        for (int i = oldCapacity; i < capacity; i++) {
+            generations[i] = 1;
+            next[i] = i + 1 < capacity ? i + 1 : NONE;
+        }
+        freeHead = oldCapacity;
+        LOG.debug("Kapazität erhöht auf {}", capacity);
+    }
+}
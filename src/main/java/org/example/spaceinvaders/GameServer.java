@@ -0,0 +1,148 @@
+package org.example.spaceinvaders;
+
+import javafx.application.Platform;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Headless-Server für autoritative Spiele (Turniere): viele unabhängige {@link ServerSession}s in einer JVM, jede
+ * auf eigenen virtuellen Threads mit fester Tick-Rate. Jede Session spielt das echte Spiel als {@link DetachedGame}
+ * (dieselben Klassen wie im Fenster, Spielfeld {@link #GAME_WIDTH} x {@link #GAME_HEIGHT}); ein Client steuert den
+ * Spieler. Die Spiele bauen JavaFX-Nodes, deshalb startet der Server das Toolkit, ohne Angabe von
+ * {@code -Dglass.platform} headless über Monocle.
+ * <p>
+ * Protokoll über TCP (big-endian):
+ * <pre>
+ * Client -> Server: int magic 0x4D495332, long seed (Zufall des Bosses),
+ *                   danach pro Änderung ein Byte mit den Eingabe-Bits (INPUT_*); 0xFF beendet die Session
+ * Server -> Client: alle STATE_INTERVAL_TICKS Ticks und am Spielende 6 ints:
+ *                   frame, welle, punkte, gegner, bossLeben, ergebnis (RESULT_*)
+ * </pre>
+ * Start: {@code java -cp <jar> org.example.spaceinvaders.GameServer port=7777 tickHz=60 reportSeconds=5} (Klassenpfad,
+ * Monocle liegt nicht im Modul javafx.graphics). Lauscht nur auf Loopback, außer {@code host=} wird angegeben.
+ */
+public class GameServer {
+    public static final int PROTOCOL_MAGIC = 0x4D495332; // "MIS2"
+    public static final int CLIENT_BYE = 0xFF;
+    public static final int STATE_INTERVAL_TICKS = 3;
+    public static final int INPUT_LEFT = 1;
+    public static final int INPUT_RIGHT = 1 << 1;
+    public static final int INPUT_SHOOT = 1 << 2;
+    public static final int INPUT_MASK = INPUT_LEFT | INPUT_RIGHT | INPUT_SHOOT;
+    public static final int RESULT_RUNNING = 0;
+    public static final int RESULT_GAME_OVER = 1;
+    public static final int RESULT_BOSS_DEFEATED = 2;
+    // 4:3 wie das Fenster; Geschwindigkeiten und Abstände skalieren mit der Größe, im Turnier gilt für alle dieselbe
+    public static final double GAME_WIDTH = 1024;
+    public static final double GAME_HEIGHT = 768;
+    private static final GameLog LOG = GameLog.get(GameServer.class);
+
+    private final ServerSocket serverSocket;
+    private final long tickNanos;
+    private final ServerStats stats;
+    private final Map<Integer, ServerSession> sessions = new ConcurrentHashMap<>();
+    private final AtomicInteger nextSessionId = new AtomicInteger();
+    private volatile boolean running = true;
+    private boolean ownsToolkit = false;
+
+    public GameServer(InetSocketAddress address, int tickHz) throws IOException {
+        this.serverSocket = new ServerSocket();
+        this.serverSocket.bind(address, 1024);
+        this.tickNanos = 1_000_000_000L / tickHz;
+        this.stats = new ServerStats(tickNanos);
+    }
+
+    /** Startet das JavaFX-Toolkit (falls nötig) und nimmt dann Verbindungen an. */
+    public void start() throws InterruptedException {
+        startToolkit();
+        Thread.ofVirtual().name("game-server-accept").start(this::acceptLoop);
+    }
+
+    private void startToolkit() throws InterruptedException {
+        if (System.getProperty("glass.platform") == null) {
+            System.setProperty("glass.platform", "Monocle");
+            System.setProperty("monocle.platform", "Headless");
+            System.setProperty("prism.order", "sw");
+        }
+        CountDownLatch started = new CountDownLatch(1);
+        try {
+            Platform.startup(started::countDown);
+            ownsToolkit = true;
+        } catch (IllegalStateException e) {
+            started.countDown(); // läuft schon (Server in einer JavaFX-Anwendung)
+        }
+        started.await();
+        if (ownsToolkit) Platform.setImplicitExit(false); // ohne Fenster gibt es kein letztes, das schließt
+    }
+
+    private void acceptLoop() {
+        while (running) {
+            try {
+                Socket socket = serverSocket.accept();
+                ServerSession session = new ServerSession(this, socket, nextSessionId.incrementAndGet());
+                sessions.put(session.getId(), session);
+                session.start();
+            } catch (IOException e) {
+                if (running) LOG.warn("accept fehlgeschlagen: {}", e.getMessage());
+            }
+        }
+    }
+
+    boolean removeSession(ServerSession session) {
+        return sessions.remove(session.getId(), session);
+    }
+
+    public void stop() {
+        running = false;
+        try {
+            serverSocket.close();
+        } catch (IOException e) {
+            LOG.warn("Fehler beim Schließen: {}", e.getMessage());
+        }
+        for (ServerSession session : sessions.values()) session.close();
+        if (ownsToolkit) Platform.exit(); // sonst hält der FX-Thread die JVM am Leben
+    }
+
+    public int getPort() { return serverSocket.getLocalPort(); }
+    public int getActiveSessions() { return sessions.size(); }
+    public ServerStats getStats() { return stats; }
+    long getTickNanos() { return tickNanos; }
+
+    public String report() {
+        return stats.report(sessions.size());
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int port = 7777, tickHz = 60, reportSeconds = 5;
+        String host = null;
+        for (String arg : args) {
+            String[] pair = arg.split("=", 2);
+            if (pair.length != 2) continue;
+            switch (pair[0]) {
+                case "port" -> port = Integer.parseInt(pair[1]);
+                case "tickHz" -> tickHz = Integer.parseInt(pair[1]);
+                case "reportSeconds" -> reportSeconds = Integer.parseInt(pair[1]);
+                case "host" -> host = pair[1];
+                default -> LOG.warn("Unbekanntes Argument: {}", arg);
+            }
+        }
+        InetAddress bindAddress = host != null ? InetAddress.getByName(host) : InetAddress.getLoopbackAddress();
+        GameServer server = new GameServer(new InetSocketAddress(bindAddress, port), tickHz);
+        server.start();
+        LOG.info("GameServer läuft auf {}:{} mit {} Hz.", bindAddress.getHostAddress(), server.getPort(), tickHz);
+        LOG.info("{} Kerne verfügbar.", Runtime.getRuntime().availableProcessors());
+        Runtime.getRuntime().addShutdownHook(new Thread(server::stop));
+        while (true) {
+            Thread.sleep(reportSeconds * 1000L);
+            LOG.info("{}", server.report());
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package org.example.spaceinvaders;
+
+import javafx.collections.ObservableList;
+import javafx.geometry.Bounds;
+import javafx.scene.Group;
+import javafx.scene.Node;
+import javafx.scene.effect.ColorAdjust;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.scene.layout.Pane;
+
+import java.util.Arrays;
+
+/**
+ * Ein Frame des {@link SimulationThread} für den FX-Thread: pro sichtbarem ImageView der Spiel-Pane (auch in der
+ * Formationsebene) Bild, Position, Anzeigegröße und Farbeffekt, in Zeichenreihenfolge. Dazu Punkte, Welle,
+ * Spielzustand und die letzte Meldung. Die Arrays wachsen bei Bedarf und werden wiederverwendet; die Bilder selbst
+ * ändern sich nach dem Laden nicht und werden von beiden Threads gemeinsam benutzt.
+ */
+public final class GameSnapshot {
+    int count = 0;
+    Image[] images = new Image[128];
+    double[] xs = new double[128];
+    double[] ys = new double[128];
+    double[] widths = new double[128];
+    double[] heights = new double[128];
+    // Farbeffekt (Boss-Phasen, Projektile): hue, saturation, brightness, contrast; ohne Effekt alles NaN
+    double[] colorAdjusts = new double[128 * 4];
+
+    int score;
+    int wave;
+    GameState state;
+    String message;
+    double messageSeconds;
+    int messageCount;
+
+    // --- Simulations-Thread ---
+
+    void capture(Pane gamePane, GameState state, UIManager uiManager, int wave) {
+        count = 0;
+        addChildren(gamePane.getChildren(), 0, 0);
+        this.state = state;
+        this.wave = wave;
+        score = uiManager.getCurrentScore();
+        message = uiManager.getLastMessage();
+        messageSeconds = uiManager.getLastMessageSeconds();
+        messageCount = uiManager.getMessageCount();
+    }
+
+    private void addChildren(ObservableList<Node> children, double offsetX, double offsetY) {
+        for (int i = 0; i < children.size(); i++) {
+            Node node = children.get(i);
+            if (!node.isVisible()) continue;
+            if (node instanceof ImageView view) {
+                addView(view, offsetX, offsetY);
+            } else if (node instanceof Group group) {
+                addChildren(group.getChildren(), offsetX + group.getLayoutX() + group.getTranslateX(),
+                        offsetY + group.getLayoutY() + group.getTranslateY());
+            }
+        }
+    }
+
+    private void addView(ImageView view, double offsetX, double offsetY) {
+        Image image = view.getImage();
+        if (image == null) return;
+        if (count == images.length) grow();
+        Bounds bounds = view.getLayoutBounds(); // mit fitWidth/preserveRatio, ändert sich nur mit Bild oder Größe
+        images[count] = image;
+        xs[count] = offsetX + view.getLayoutX() + view.getTranslateX() + bounds.getMinX();
+        ys[count] = offsetY + view.getLayoutY() + view.getTranslateY() + bounds.getMinY();
+        widths[count] = bounds.getWidth();
+        heights[count] = bounds.getHeight();
+        int effect = count * 4;
+        if (view.getEffect() instanceof ColorAdjust adjust) {
+            colorAdjusts[effect] = adjust.getHue();
+            colorAdjusts[effect + 1] = adjust.getSaturation();
+            colorAdjusts[effect + 2] = adjust.getBrightness();
+            colorAdjusts[effect + 3] = adjust.getContrast();
+        } else {
+            colorAdjusts[effect] = Double.NaN;
+        }
+        count++;
+    }
+
+    private void grow() {
+        int size = images.length * 2;
+        images = Arrays.copyOf(images, size);
+        xs = Arrays.copyOf(xs, size);
+        ys = Arrays.copyOf(ys, size);
+        widths = Arrays.copyOf(widths, size);
+        heights = Arrays.copyOf(heights, size);
+        colorAdjusts = Arrays.copyOf(colorAdjusts, size * 4);
+    }
+
+    // --- FX-Thread ---
+
+    public GameState getState() { return state; }
+    public int getScore() { return score; }
+    public int getWave() { return wave; }
+}
@@ -0,0 +1,120 @@
+package org.example.spaceinvaders;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Zähler und Histogramme für den {@link PrometheusExporter}. Geschrieben wird vom FX-Thread, gelesen vom
+ * HTTP-Thread; alles über {@link LongAdder}/{@link DoubleAdder}, damit ein Scrape das Spiel nie blockiert.
+ * Solange der Exporter nicht läuft, ist {@link #isEnabled()} false und die Aufrufer überspringen die Messung.
+ */
+public final class GameStats {
+    public static final int PHASE_INPUT = 0;
+    public static final int PHASE_PLAYER = 1;
+    public static final int PHASE_MOVEMENT = 2;
+    public static final int PHASE_COLLISION = 3;
+    public static final int PHASE_FLUSH = 4;
+    static final String[] PHASE_NAMES = {"input", "player", "movement", "collision", "flush"};
+
+    // Grenzen in Sekunden
+    static final double[] FRAME_BUCKETS = {0.004, 0.008, 0.012, 0.0167, 0.020, 0.025, 0.0333, 0.050, 0.100, 0.250};
+    static final double[] PHASE_BUCKETS = {0.00005, 0.0001, 0.00025, 0.0005, 0.001, 0.002, 0.004, 0.008, 0.016};
+
+    private static volatile boolean enabled = false;
+    private static volatile long fxThreadId = -1;
+    private static boolean suspended = false; // nur FX-Thread
+
+    static final Histogram FRAME_TIME = new Histogram(FRAME_BUCKETS);
+    static final Histogram[] PHASE_TIME = new Histogram[PHASE_NAMES.length];
+    static final LongAdder[] EVENTS = new LongAdder[GameEventType.values().length];
+    static final LongAdder COLLISION_TESTS = new LongAdder();
+    static final LongAdder SFX_COALESCED = new LongAdder(); // mehrere gleiche Sounds in einem Frame -> einer
+    static final LongAdder SFX_MISSING = new LongAdder();   // Kategorie ohne geladene Clips
+    static final Map<String, LongAdder> SFX_PLAYS = new ConcurrentHashMap<>();
+    static final LongAdder POOL_HITS = new LongAdder();
+    static final LongAdder POOL_MISSES = new LongAdder();
+
+    static {
+        for (int i = 0; i < PHASE_TIME.length; i++) PHASE_TIME[i] = new Histogram(PHASE_BUCKETS);
+        for (int i = 0; i < EVENTS.length; i++) EVENTS[i] = new LongAdder();
+    }
+
+    private GameStats() {
+    }
+
+    static void enable() {
+        enabled = true;
+    }
+
+    public static boolean isEnabled() {
+        return enabled && !suspended;
+    }
+
+    /** Zählt vorübergehend nichts (FX-Thread), z.B. während der {@link JitWarmup} Ticks ohne Fenster spielt. */
+    static void setSuspended(boolean value) {
+        suspended = value;
+    }
+
+    /** Frame-Zeit eines Pulses (FX-Thread); merkt sich dabei den Thread für die Allokationsrate. */
+    public static void recordFrame(long nanos) {
+        if (!isEnabled()) return;
+        if (fxThreadId < 0) fxThreadId = Thread.currentThread().threadId();
+        FRAME_TIME.observe(nanos / 1_000_000_000.0);
+    }
+
+    public static void recordPhase(int phase, long nanos) {
+        PHASE_TIME[phase].observe(nanos / 1_000_000_000.0);
+    }
+
+    public static void countEvent(GameEventType type) {
+        if (isEnabled()) EVENTS[type.ordinal()].increment();
+    }
+
+    public static void countCollisionTests(int tests) {
+        COLLISION_TESTS.add(tests);
+    }
+
+    public static void countSfxPlay(String category) {
+        if (isEnabled()) SFX_PLAYS.computeIfAbsent(category, c -> new LongAdder()).increment();
+    }
+
+    public static void countSfxMissing() {
+        if (isEnabled()) SFX_MISSING.increment();
+    }
+
+    public static void countSfxCoalesced() {
+        if (isEnabled()) SFX_COALESCED.increment();
+    }
+
+    public static void countPoolAcquire(boolean hit) {
+        if (!isEnabled()) return;
+        if (hit) POOL_HITS.increment();
+        else POOL_MISSES.increment();
+    }
+
+    static long getFxThreadId() {
+        return fxThreadId;
+    }
+
+    /** Histogramm mit festen Grenzen; die Buckets werden erst beim Export kumuliert. */
+    static final class Histogram {
+        final double[] upperBounds;
+        final LongAdder[] buckets; // letzter Bucket = +Inf
+        final DoubleAdder sum = new DoubleAdder();
+
+        Histogram(double[] upperBounds) {
+            this.upperBounds = upperBounds;
+            this.buckets = new LongAdder[upperBounds.length + 1];
+            for (int i = 0; i < buckets.length; i++) buckets[i] = new LongAdder();
+        }
+
+        void observe(double value) {
+            int i = 0;
+            while (i < upperBounds.length && value > upperBounds[i]) i++;
+            buckets[i].increment();
+            sum.add(value);
+        }
+    }
+}
@@ -1,13 +1,9 @@
 package org.example.spaceinvaders;
 
-import javafx.animation.PauseTransition;
 import javafx.scene.Node;
 import javafx.scene.image.ImageView; // Import
 // import javafx.scene.shape.Rectangle; // Nicht mehr für Spieler-Projektile verwendet
-import javafx.util.Duration;
 
-import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.List;
 
 public class GameUpdater {
@@ -15,32 +11,91 @@ public class GameUpdater {
     private InputHandler inputHandler;
     private GameDimensions gameDimensions;
     private UIManager uiManager;
-    private MusicalInvaders mainApp;
+    private GameHost mainApp;
     private SoundManager soundManager;
     private long lastShotTime = 0;
 
     private double waveTime = 0;
     private long lastEnemyMoveTimeWave2 = 0;
     private int lastProcessedWaveForTimeReset = 0;
+
+    // Primitive Arrays (SoA) für die Bewegungs-Kernels, wächst bei Bedarf und wird pro Frame wiederverwendet
+    private double[] enemyXs = new double[64];
+    private double[] enemyYs = new double[64];
+    private double[] enemyWidths = new double[64];
+    private double[] enemyHeights = new double[64];
+    private double[] enemyBaseXs = new double[64];
+    private double[] enemyPhases = new double[64];
+    private int[] enemySlots = new int[64];
+
+    // Pro Frame gesammelte Nebenwirkungen aus dem GameEventBus
+    private final GameEventBus.Handler frameEventHandler = this::collectFrameEvent;
+    private int frameScore = 0;
+    private int frameSounds = 0; // SoundManager.SFX_*-Bits
+    // Ohne SoundManager (Simulations-Thread): Sounds sammeln, der FX-Thread spielt sie ab (takeUnplayedSounds)
+    private int unplayedSounds = 0;
+    private boolean frameGameOver = false;
+    // Nur mit -Dspaceinvaders.allocationCheck=true gesetzt, sonst null
+    private final AllocationMonitor allocationMonitor = AllocationMonitor.createIfEnabled();
+    private final StressConfig stressConfig = StressConfig.get();
+    private final StressBot stressBot;
+    private final boolean detached; // Spiel ohne Fenster: keine FrameTick-Ereignisse
+    private long phaseStartNanos = 0; // für die Teilphasen im FrameTickEvent
+    private static final long CREDITS_DELAY_NANOS = 3_000_000_000L;
+    private final Runnable showCredits = () -> mainApp.changeGameState(GameState.CREDITS);
+    private long creditsTimer = GameScheduler.NO_TIMER;
     // private boolean wave3Initialized = false; // wave3Initialized wurde im vorherigen Code nicht verwendet, kann entfernt werden
 
 
     public GameUpdater(GameEntityManager entityManager, InputHandler inputHandler,
-                       GameDimensions gameDimensions, UIManager uiManager, MusicalInvaders mainApp, SoundManager soundManager) {
+                       GameDimensions gameDimensions, UIManager uiManager, GameHost mainApp, SoundManager soundManager) {
         this.entityManager = entityManager;
         this.inputHandler = inputHandler;
         this.gameDimensions = gameDimensions;
         this.uiManager = uiManager;
         this.mainApp = mainApp;
+        this.detached = mainApp.isDetached();
         this.soundManager = soundManager;
+        this.stressBot = stressConfig.isBotEnabled() ? new StressBot(entityManager, inputHandler) : null;
     }
 
     public void update(long now, double deltaTime) {
-        if (mainApp.getCurrentGameState() != GameState.PLAYING) return;
+        if (!mainApp.isGameplayActive()) return;
+
+        if (allocationMonitor == null) {
+            updateFrame(now, deltaTime);
+            return;
+        }
+        allocationMonitor.beginFrame();
+        updateFrame(now, deltaTime);
+        allocationMonitor.endFrame();
+    }
+
+    private void updateFrame(long now, double deltaTime) {
+        // JFR: Event-Objekt nur, wenn eine Aufzeichnung FrameTick aktiviert hat (sonst allokationsfrei)
+        FrameTickEvent tick = null;
+        if (!detached && FrameTickEvent.isTypeEnabled()) {
+            tick = new FrameTickEvent();
+            tick.begin();
+        }
+        // Teilphasen messen für JFR und/oder den Prometheus-Exporter
+        boolean timed = tick != null || GameStats.isEnabled();
+        if (timed) {
+            phaseStartNanos = System.nanoTime();
+            Collisions.takeTestCount();
+            ProjectilePool.takeMissCount();
+        }
+
+        long frameNanos = (long) (deltaTime * 1_000_000_000L);
+        entityManager.getBeatClock().onFrame(frameNanos); // Schläge dieses Frames für Boss und Formation
 
+        if (stressBot != null) stressBot.update();
+        inputHandler.pollEvents();
+        long inputNanos = timed ? lapNanos() : 0;
         updatePlayer(now);
         handlePlayerShooting(now);
-        updateProjectiles();
+        updateProjectiles(deltaTime);
+        long playerNanos = timed ? lapNanos() : 0;
 
         BossController bossController = entityManager.getBossController();
 
@@ -49,21 +104,62 @@ public class GameUpdater {
             bossController.updateBossMovement(now, deltaTime);
         } else if (!entityManager.getEnemies().isEmpty()) {
             updateEnemyMovement(deltaTime, now);
+        } else if (entityManager.isLoadingNextWave()) {
+            entityManager.updateLevelTransition();
         } else if (entityManager.getEnemies().isEmpty() && !entityManager.isBossActive() && !entityManager.isLoadingNextWave() && !entityManager.wasBossJustDefeated()) {
             // wave3Initialized = false; // Nicht verwendet
             entityManager.spawnNextWaveOrBoss();
         }
+        long movementNanos = timed ? lapNanos() : 0;
 
         checkCollisions(now);
+        long collisionNanos = timed ? lapNanos() : 0;
+        flushFrameEvents();
 
         if (entityManager.wasBossJustDefeated() && entityManager.getBossEnemy() == null) {
-            if (mainApp.getCurrentGameState() == GameState.PLAYING) {
+            // Nur einmal einplanen (die Bedingung gilt bis zum Wechsel in CREDITS in jedem Frame)
+            if (mainApp.getCurrentGameState() == GameState.PLAYING && creditsTimer == GameScheduler.NO_TIMER) {
                 uiManager.showBossDefeatedMessage();
-                PauseTransition delay = new PauseTransition(Duration.seconds(3));
-                delay.setOnFinished(event -> mainApp.changeGameState(GameState.CREDITS));
-                delay.play();
+                creditsTimer = entityManager.getScheduler().schedule(CREDITS_DELAY_NANOS, showCredits);
             }
+        } else {
+            creditsTimer = GameScheduler.NO_TIMER;
+        }
+        // Spielzeit weiterzählen; fällige Timer laufen am Ende des Frames, nach Bewegung und Kollisionen
+        entityManager.getScheduler().advance(frameNanos);
+
+        if (!timed) return;
+        long flushNanos = lapNanos();
+        int collisionTests = Collisions.takeTestCount();
+        if (GameStats.isEnabled()) {
+            GameStats.recordPhase(GameStats.PHASE_INPUT, inputNanos);
+            GameStats.recordPhase(GameStats.PHASE_PLAYER, playerNanos);
+            GameStats.recordPhase(GameStats.PHASE_MOVEMENT, movementNanos);
+            GameStats.recordPhase(GameStats.PHASE_COLLISION, collisionNanos);
+            GameStats.recordPhase(GameStats.PHASE_FLUSH, flushNanos);
+            GameStats.countCollisionTests(collisionTests);
         }
+        if (tick != null) {
+            tick.inputNanos = inputNanos;
+            tick.playerNanos = playerNanos;
+            tick.movementNanos = movementNanos;
+            tick.collisionNanos = collisionNanos;
+            tick.flushNanos = flushNanos;
+            tick.wave = entityManager.getCurrentWaveNumber();
+            tick.bossActive = entityManager.isBossActive();
+            tick.enemies = entityManager.getEnemies().size();
+            tick.projectiles = entityManager.getPlayerProjectiles().size();
+            tick.collisionTests = collisionTests;
+            tick.poolMisses = ProjectilePool.takeMissCount();
+            tick.commit();
+        }
+    }
+
+    private long lapNanos() {
+        long now = System.nanoTime();
+        long elapsed = now - phaseStartNanos;
+        phaseStartNanos = now;
+        return elapsed;
     }
 
     private void updatePlayer(long now) {
@@ -82,20 +178,26 @@ public class GameUpdater {
         if (inputHandler.isShootingPressed() && (now - lastShotTime) / 1_000_000 >= GameDimensions.SHOOT_COOLDOWN_MS) {
             entityManager.createProjectile();
             lastShotTime = now;
-            if (soundManager != null) {
-                soundManager.playPlayerShoot();
-            }
+            entityManager.getEventBus().post(GameEventType.PLAYER_SHOT);
         }
     }
 
-    private void updateProjectiles() {
-        Iterator<ImageView> iterator = entityManager.getPlayerProjectiles().iterator(); // Typ geändert
-        while (iterator.hasNext()) {
-            ImageView p = iterator.next(); // Typ geändert
-            p.setLayoutY(p.getLayoutY() - gameDimensions.getProjectileSpeed()); // Verwende setLayoutY
-            if (p.getLayoutY() + p.getFitHeight() < 0) { // Verwende getFitHeight
-                iterator.remove();
-                entityManager.removeProjectileNode(p);
+    private void updateProjectiles(double deltaTime) {
+        // Geschwindigkeit ist "pro 60-Hz-Tick", damit Schüsse bei anderen Tickraten gleich schnell bleiben
+        double dtGameTickScaling = deltaTime * 60.0;
+        if (dtGameTickScaling <= 0) dtGameTickScaling = 1.0;
+        double step = gameDimensions.getProjectileSpeed() * dtGameTickScaling;
+
+        List<ImageView> projectiles = entityManager.getPlayerProjectiles();
+        for (int i = projectiles.size() - 1; i >= 0; i--) { // Index-Schleife statt Iterator: keine Allokation pro Frame
+            ImageView p = projectiles.get(i);
+            double previousY = p.getLayoutY();
+            ProjectilePool.markPosition(p); // Startpunkt für den Swept-Test in checkCollisions
+            p.setLayoutY(previousY - step); // Verwende setLayoutY
+            // Erst entfernen, wenn auch der Startpunkt schon oben raus war: sonst fehlt der Swept-Test für diesen Tick
+            if (previousY + p.getFitHeight() < 0) { // Verwende getFitHeight
+                projectiles.remove(i);
+                entityManager.releasePlayerProjectile(p);
             }
         }
     }
@@ -123,23 +225,16 @@ public class GameUpdater {
     }
 
     private void updateBasicMovementOriginal(double deltaTime) {
-        List<Enemy> currentEnemies = entityManager.getEnemies();
-        if (currentEnemies.isEmpty()) return;
+        EnemyFormation formation = entityManager.getFormation();
+        if (formation.getAliveCount() == 0) return;
 
         double currentDirection = entityManager.getEnemyMovementDirection();
         double effectiveSpeedX = entityManager.getEnemyGroupSpeedX();
         double effectiveSpeedY = entityManager.getEnemyGroupSpeedY();
         boolean reverseDirectionAndMoveDown = false;
-        double groupLeftMost = Double.MAX_VALUE;
-        double groupRightMost = Double.MIN_VALUE;
-
-        for (Enemy enemy : currentEnemies) {
-            Node enemyNode = enemy.getNode();
-            if (enemyNode == null) continue;
-            double nodeWidth = (enemyNode instanceof ImageView) ? ((ImageView)enemyNode).getFitWidth() : enemyNode.getBoundsInLocal().getWidth();
-            groupLeftMost = Math.min(groupLeftMost, enemyNode.getLayoutX());
-            groupRightMost = Math.max(groupRightMost, enemyNode.getLayoutX() + nodeWidth);
-        }
+        // Ränder aus den Bitsets der Formation, ohne über die Gegner zu laufen
+        double groupLeftMost = formation.getLeftEdge();
+        double groupRightMost = formation.getRightEdge();
 
         double moveXThisFrameForCheck = effectiveSpeedX * deltaTime * 60.0;
         if (moveXThisFrameForCheck == 0 && effectiveSpeedX != 0) moveXThisFrameForCheck = effectiveSpeedX * currentDirection;
@@ -164,40 +259,22 @@ public class GameUpdater {
             if (dx == 0 && effectiveSpeedX != 0) dx = effectiveSpeedX * currentDirection; // Fallback
         }
 
-        for (Enemy enemy : currentEnemies) {
-            Node enemyNode = enemy.getNode();
-            if (enemyNode == null) continue;
-
-            enemyNode.setLayoutX(enemyNode.getLayoutX() + dx);
-            enemyNode.setLayoutY(enemyNode.getLayoutY() + dy);
-
-            double nodeHeight = (enemyNode instanceof ImageView) ? ((ImageView)enemyNode).getFitHeight() : enemyNode.getBoundsInLocal().getHeight();
-            double enemyBottomY = enemyNode.getLayoutY() + nodeHeight;
-            double playerHeightForGameOver = gameDimensions.getPlayerHeight();
-            if (playerHeightForGameOver <=0 && entityManager.getPlayer() != null) playerHeightForGameOver = entityManager.getPlayer().getHeight();
-            if (playerHeightForGameOver <=0) playerHeightForGameOver = 30;
-
-            double gameOverLine = gameDimensions.getHeight() - (playerHeightForGameOver * 0.8);
-
-            if (enemyBottomY >= gameOverLine) {
-                if (mainApp.getCurrentGameState() == GameState.PLAYING) {
-                    mainApp.triggerGameOver();
-                }
-                return; // Spiel vorbei, keine weiteren Updates für diese Methode
-            }
-        }
+        formation.translate(dx, dy);
+        entityManager.syncFormationLayer();
+        checkEnemiesReachedGameOverLine(formation.getBottomEdge());
     }
 
     private void updateAcceleratingMovementOriginal(long now) {
-        List<Enemy> currentEnemies = entityManager.getEnemies(); if (currentEnemies.isEmpty()) return;
-        int totalEnemiesAtStart = GameDimensions.ENEMIES_PER_ROW * GameDimensions.ENEMY_ROWS;
-        int remainingEnemies = currentEnemies.size();
+        EnemyFormation formation = entityManager.getFormation(); if (formation.getAliveCount() == 0) return;
+        int totalEnemiesAtStart = entityManager.getFormationColumns() * entityManager.getFormationRows();
+        int remainingEnemies = formation.getAliveCount();
         double speedMultiplier = Math.max(1.0, (double) totalEnemiesAtStart / Math.max(1, remainingEnemies));
         speedMultiplier = Math.min(speedMultiplier, 4.0); // Max Multiplikator
 
         long stepIntervalNanos = (long) (600_000_000 / speedMultiplier); // Basisintervall / Multiplikator
 
-        if (now - lastEnemyMoveTimeWave2 < stepIntervalNanos) return;
+        // Schritte auf Sechzehntel der Musik (ohne Taktgeber: reines Intervall)
+        if (!entityManager.getBeatClock().isDue(now - lastEnemyMoveTimeWave2, stepIntervalNanos, 4)) return;
         lastEnemyMoveTimeWave2 = now;
 
         double currentDirection = entityManager.getEnemyMovementDirection();
@@ -205,16 +282,8 @@ public class GameUpdater {
         double stepSizeY = entityManager.getEnemyGroupSpeedY() * 1.5; // Vertikale Schrittweite
 
         boolean reverseDirectionAndMoveDown = false;
-        double groupLeftMost = Double.MAX_VALUE;
-        double groupRightMost = Double.MIN_VALUE;
-
-        for (Enemy enemy : currentEnemies) {
-            Node enemyNode = enemy.getNode();
-            if (enemyNode == null) continue;
-            double nodeWidth = (enemyNode instanceof ImageView) ? ((ImageView)enemyNode).getFitWidth() : enemyNode.getBoundsInLocal().getWidth();
-            groupLeftMost = Math.min(groupLeftMost, enemyNode.getLayoutX());
-            groupRightMost = Math.max(groupRightMost, enemyNode.getLayoutX() + nodeWidth);
-        }
+        double groupLeftMost = formation.getLeftEdge();
+        double groupRightMost = formation.getRightEdge();
 
         if (currentDirection > 0 && groupRightMost + stepSizeX > gameDimensions.getWidth()) {
             reverseDirectionAndMoveDown = true;
@@ -232,81 +301,104 @@ public class GameUpdater {
             dx = stepSizeX * currentDirection;
         }
 
-        for (Enemy enemy : currentEnemies) {
-            Node enemyNode = enemy.getNode();
-            if (enemyNode == null) continue;
-            enemyNode.setLayoutX(enemyNode.getLayoutX() + dx);
-            enemyNode.setLayoutY(enemyNode.getLayoutY() + dy);
-
-            double nodeHeight = (enemyNode instanceof ImageView) ? ((ImageView)enemyNode).getFitHeight() : enemyNode.getBoundsInLocal().getHeight();
-            double enemyBottomY = enemyNode.getLayoutY() + nodeHeight;
-            double playerHeightForGameOver = gameDimensions.getPlayerHeight();
-            if (playerHeightForGameOver <=0 && entityManager.getPlayer() != null) playerHeightForGameOver = entityManager.getPlayer().getHeight();
-            if (playerHeightForGameOver <=0) playerHeightForGameOver = 30;
-
-            double gameOverLine = gameDimensions.getHeight() - (playerHeightForGameOver * 0.8);
-            if (enemyBottomY >= gameOverLine) {
-                if (mainApp.getCurrentGameState() == GameState.PLAYING) mainApp.triggerGameOver();
-                return;
-            }
-        }
+        formation.translate(dx, dy);
+        entityManager.syncFormationLayer();
+        checkEnemiesReachedGameOverLine(formation.getBottomEdge());
     }
 
     private void updateFormationMovementOriginal(double deltaTime, long now) {
         waveTime += deltaTime * 2.5; // Geschwindigkeit der Wellenbewegung
+        entityManager.flattenFormationLayer(); // jeder Gegner bewegt sich einzeln, Ebene bleibt bei 0/0 ohne Cache
 
         List<Enemy> currentEnemies = entityManager.getEnemies();
-        if (currentEnemies.isEmpty()) return;
+        int count = gatherEnemyGeometry(currentEnemies);
+        if (count == 0) return;
 
         double constantDownwardSpeed = entityManager.getEnemyGroupSpeedY() * 0.02; // Sehr langsame konstante Abwärtsbewegung
 
         final double WAVE_AMPLITUDE = gameDimensions.getWidth() * 0.25; // Amplitude relativ zur Bildschirmbreite
         final double WAVE_FREQUENCY = 2.5; // Frequenz der Sinuswelle
 
-        int enemyIndex = 0;
-        int totalEnemiesPerRow = GameDimensions.ENEMIES_PER_ROW;
-
-        for (Enemy enemy : currentEnemies) {
-            Node enemyNode = enemy.getNode();
-            if (enemyNode == null) continue;
+        EnemyFormation formation = entityManager.getFormation();
+        int totalEnemiesPerRow = entityManager.getFormationColumns();
+        double centerX = gameDimensions.getWidth() / 2;
+        double spacingX = entityManager.getFormationSpacingX();
 
-            double nodeWidth = (enemyNode instanceof ImageView) ? ((ImageView)enemyNode).getFitWidth() : enemyNode.getBoundsInLocal().getWidth();
-            double nodeHeight = (enemyNode instanceof ImageView) ? ((ImageView)enemyNode).getFitHeight() : enemyNode.getBoundsInLocal().getHeight();
+        // Phase und Basis-X pro Gegner (abhängig von Reihe/Spalte des Slots); der Sinus selbst läuft im Kernel
+        for (int i = 0; i < count; i++) {
+            int row = formation.rowOf(enemySlots[i]);
+            int col = formation.columnOf(enemySlots[i]);
+            enemyPhases[i] = row * 0.8 + col * 0.3;
+            // Basis-X-Position, um die Formation zu zentrieren
+            double formationTotalWidth = totalEnemiesPerRow * (enemyWidths[i] + spacingX) - spacingX;
+            enemyBaseXs[i] = centerX - formationTotalWidth / 2 + col * (enemyWidths[i] + spacingX);
+        }
 
-            int row = enemyIndex / totalEnemiesPerRow;
-            int col = enemyIndex % totalEnemiesPerRow;
-            double rowPhaseOffset = row * 0.8;
-            double colPhaseOffset = col * 0.3;
-            double waveOffset = Math.sin((waveTime + rowPhaseOffset + colPhaseOffset) * WAVE_FREQUENCY) * WAVE_AMPLITUDE;
+        // Konstante Abwärtsbewegung
+        double downwardMovementThisFrame = constantDownwardSpeed * deltaTime * 60.0;
+        if (downwardMovementThisFrame == 0 && constantDownwardSpeed != 0) downwardMovementThisFrame = constantDownwardSpeed;
 
-            double centerX = gameDimensions.getWidth() / 2;
-            // Basis-X-Position, um die Formation zu zentrieren
-            double formationTotalWidth = totalEnemiesPerRow * (nodeWidth + gameDimensions.getEnemySpacingX()) - gameDimensions.getEnemySpacingX();
-            double baseX = centerX - formationTotalWidth / 2;
+        // Sicherstellen, dass Gegner im Bildschirm bleiben (10px Rand links und rechts)
+        double lowestEnemyBottom = EnemyMovementKernels.formationWave(enemyXs, enemyYs, enemyWidths, enemyHeights,
+                enemyBaseXs, enemyPhases, count, waveTime, WAVE_FREQUENCY, WAVE_AMPLITUDE, downwardMovementThisFrame,
+                10, gameDimensions.getWidth() - 10);
+        scatterEnemyPositions(currentEnemies);
+        checkEnemiesReachedGameOverLine(lowestEnemyBottom);
+    }
 
-            double targetX = baseX + col * (nodeWidth + gameDimensions.getEnemySpacingX()) + waveOffset;
-            // Sicherstellen, dass Gegner im Bildschirm bleiben
-            targetX = Math.max(10, Math.min(targetX, gameDimensions.getWidth() - nodeWidth - 10));
-            enemyNode.setLayoutX(targetX);
+    // Kopiert Position und Größe aller Gegner in die primitiven Arrays für die Bewegungs-Kernels
+    private int gatherEnemyGeometry(List<Enemy> currentEnemies) {
+        ensureEnemyArrayCapacity(currentEnemies.size());
+        int count = 0;
+        for (int i = 0; i < currentEnemies.size(); i++) {
+            Node enemyNode = currentEnemies.get(i).getNode();
+            if (enemyNode == null) continue;
+            enemySlots[count] = currentEnemies.get(i).getFormationSlot();
+            enemyXs[count] = enemyNode.getLayoutX();
+            enemyYs[count] = enemyNode.getLayoutY();
+            enemyWidths[count] = (enemyNode instanceof ImageView) ? ((ImageView)enemyNode).getFitWidth() : enemyNode.getBoundsInLocal().getWidth();
+            enemyHeights[count] = (enemyNode instanceof ImageView) ? ((ImageView)enemyNode).getFitHeight() : enemyNode.getBoundsInLocal().getHeight();
+            count++;
+        }
+        return count;
+    }
 
-            // Konstante Abwärtsbewegung
-            double downwardMovementThisFrame = constantDownwardSpeed * deltaTime * 60.0;
-            if (downwardMovementThisFrame == 0 && constantDownwardSpeed != 0) downwardMovementThisFrame = constantDownwardSpeed;
+    // Schreibt die von den Kernels berechneten Positionen zurück in die Nodes (gleiche Reihenfolge wie gather)
+    private void scatterEnemyPositions(List<Enemy> currentEnemies) {
+        int index = 0;
+        for (int i = 0; i < currentEnemies.size(); i++) {
+            Node enemyNode = currentEnemies.get(i).getNode();
+            if (enemyNode == null) continue;
+            enemyNode.setLayoutX(enemyXs[index]);
+            enemyNode.setLayoutY(enemyYs[index]);
+            index++;
+        }
+    }
 
-            double newY = enemyNode.getLayoutY() + downwardMovementThisFrame;
-            enemyNode.setLayoutY(newY);
+    private void ensureEnemyArrayCapacity(int required) {
+        if (enemyXs.length >= required) return;
+        int newCapacity = Math.max(required, enemyXs.length * 2);
+        enemyXs = new double[newCapacity];
+        enemyYs = new double[newCapacity];
+        enemyWidths = new double[newCapacity];
+        enemyHeights = new double[newCapacity];
+        enemyBaseXs = new double[newCapacity];
+        enemyPhases = new double[newCapacity];
+        enemySlots = new int[newCapacity];
+    }
 
-            double enemyBottomY = newY + nodeHeight;
-            double playerHeightForGameOver = gameDimensions.getPlayerHeight();
-            if (playerHeightForGameOver <=0 && entityManager.getPlayer() != null) playerHeightForGameOver = entityManager.getPlayer().getHeight();
-            if (playerHeightForGameOver <=0) playerHeightForGameOver = 30;
+    private void checkEnemiesReachedGameOverLine(double lowestEnemyBottom) {
+        double playerHeightForGameOver = gameDimensions.getPlayerHeight();
+        if (playerHeightForGameOver <=0 && entityManager.getPlayer() != null) playerHeightForGameOver = entityManager.getPlayer().getHeight();
+        if (playerHeightForGameOver <=0) playerHeightForGameOver = 30;
 
-            double gameOverLine = gameDimensions.getHeight() - (playerHeightForGameOver * 0.8);
-            if (enemyBottomY >= gameOverLine) {
-                if (mainApp.getCurrentGameState() == GameState.PLAYING) mainApp.triggerGameOver();
+        double gameOverLine = gameDimensions.getHeight() - (playerHeightForGameOver * 0.8);
+        if (lowestEnemyBottom >= gameOverLine) {
+            if (stressConfig.isInvulnerable()) {
+                entityManager.clearEnemies(); // Stresstest: Welle verwerfen, die nächste startet automatisch
                 return;
             }
-            enemyIndex++;
+            if (mainApp.isGameplayActive()) entityManager.getEventBus().post(GameEventType.GAME_OVER);
         }
     }
 
@@ -318,70 +410,74 @@ public class GameUpdater {
         }
 
         BossController bossController = entityManager.getBossController();
-        Iterator<ImageView> projIterator = entityManager.getPlayerProjectiles().iterator(); // Typ geändert
+        List<ImageView> projectiles = entityManager.getPlayerProjectiles();
+        List<Enemy> enemies = entityManager.getEnemies();
 
-        while (projIterator.hasNext()) {
-            ImageView projectile = projIterator.next(); // Typ geändert
+        for (int i = 0; i < projectiles.size(); ) {
+            ImageView projectile = projectiles.get(i);
             boolean projectileUsedThisHit = false;
 
             if (entityManager.isBossActive() && bossController != null && entityManager.getBossEnemy() != null) {
                 Enemy currentBossEntity = entityManager.getBossEnemy();
                 if (currentBossEntity.getNode() != null) {
-                    boolean isIntersecting = projectile.getBoundsInParent().intersects(currentBossEntity.getNode().getBoundsInParent());
+                    boolean isIntersecting = Collisions.timeOfImpact(projectile, currentBossEntity.getNode()) >= 0;
 
                     if (isIntersecting && !bossController.isBossRetreating()) {
                         bossController.bossTakeHit();
                         Enemy bossAfterHit = entityManager.getBossEnemy(); // Erneut holen, da Zustand sich ändern kann
                         if (bossAfterHit != null && !bossAfterHit.isAlive()) { // Boss besiegt in dieser Phase
                             if (bossController.getBossPhase() >= 3) { // Endgültig besiegt
-                                uiManager.addScore(currentBossEntity.getPoints());
-                                if (soundManager != null) soundManager.playBossFinalDefeat();
+                                entityManager.getEventBus().post(GameEventType.BOSS_DEFEATED, null, currentBossEntity.getPoints());
                                 entityManager.bossDefeated(); // Markiert Boss als besiegt
                             }
                             // Wenn nicht endgültig besiegt, startet der Rückzug in bossTakeHit() -> startBossRetreat()
                         } else if (bossAfterHit != null) { // Boss nur getroffen
-                            if (soundManager != null) soundManager.playEnemyHit();
+                            entityManager.getEventBus().post(GameEventType.ENEMY_HIT);
                         }
                         projectileUsedThisHit = true;
                     }
                 }
                 // Kollision mit Minions, während Boss sich zurückzieht
                 if (!projectileUsedThisHit && bossController.isBossRetreating() && !bossController.getMinionEnemies().isEmpty()) {
-                    // checkPlayerProjectileVsMinionCollisions erwartet List<ImageView>
-                    List<ImageView> singleProjectileList = new ArrayList<>();
-                    singleProjectileList.add(projectile);
-                    if (bossController.checkPlayerProjectileVsMinionCollisions(singleProjectileList, uiManager)) {
-                        if (soundManager != null) soundManager.playEnemyHit();
+                    if (bossController.checkPlayerProjectileVsMinionCollision(projectile)) {
+                        entityManager.getEventBus().post(GameEventType.ENEMY_HIT);
                         projectileUsedThisHit = true;
-                        // Das Projektil wird in checkPlayerProjectileVsMinionCollisions entfernt, wenn es trifft.
-                        // Wir müssen es hier nicht erneut aus dem Iterator entfernen, wenn es dort schon passiert.
-                        // Um sicherzugehen, können wir den Rückgabewert prüfen oder die Logik anpassen.
-                        // Fürs Erste: Wenn check... true zurückgibt, wurde es dort behandelt.
                     }
                 }
             }
-            else if (!entityManager.getEnemies().isEmpty()) { // Normale Gegner
-                Iterator<Enemy> enemyIterator = entityManager.getEnemies().iterator();
-                while (enemyIterator.hasNext()) {
-                    Enemy enemy = enemyIterator.next();
-                    if (enemy.getNode() != null && projectile.getBoundsInParent().intersects(enemy.getNode().getBoundsInParent())) {
-                        enemy.takeHit();
-                        if (soundManager != null) soundManager.playEnemyHit();
-
-                        if (!enemy.isAlive()) {
-                            enemyIterator.remove(); // Entferne logischen Gegner
-                            entityManager.removeEnemyNode(enemy.getNode()); // Entferne grafischen Node
-                            uiManager.addScore(enemy.getPoints());
-                        }
-                        projectileUsedThisHit = true;
-                        break;
+            else if (!enemies.isEmpty()) { // Normale Gegner
+                // Getroffen wird der Gegner, den der Schuss auf seinem Weg in diesem Tick zuerst berührt
+                int hitIndex = -1;
+                double earliestImpact = Double.MAX_VALUE;
+                double formationX = entityManager.getFormationOffsetX();
+                double formationY = entityManager.getFormationOffsetY();
+                for (int j = 0; j < enemies.size(); j++) {
+                    Enemy enemy = enemies.get(j);
+                    if (enemy.getNode() == null) continue;
+                    double impact = Collisions.timeOfImpact(projectile, enemy.getNode(), formationX, formationY);
+                    if (impact >= 0 && impact < earliestImpact) {
+                        earliestImpact = impact;
+                        hitIndex = j;
                     }
                 }
+                if (hitIndex >= 0) {
+                    Enemy enemy = enemies.get(hitIndex);
+                    enemy.takeHit();
+                    entityManager.getEventBus().post(GameEventType.ENEMY_HIT);
+
+                    if (!enemy.isAlive()) {
+                        entityManager.killEnemy(hitIndex); // O(1) aus Liste und Formation, Node + Punkte am Frame-Ende
+                        entityManager.getEventBus().post(GameEventType.ENEMY_KILLED, enemy.getNode(), enemy.getPoints());
+                    }
+                    projectileUsedThisHit = true;
+                }
             }
 
-            if (projectileUsedThisHit && playerProjectilesContains(projectile)) { // Nur entfernen, wenn noch in der Liste
-                projIterator.remove();
-                entityManager.removeProjectileNode(projectile);
+            if (projectileUsedThisHit) {
+                projectiles.remove(i);
+                entityManager.getEventBus().post(GameEventType.PROJECTILE_SPENT, projectile, 0);
+            } else {
+                i++;
             }
         }
 
@@ -397,7 +493,7 @@ public class GameUpdater {
             if (!playerHitSomething && entityManager.getBossEnemy() != null &&
                     entityManager.getBossEnemy().getNode() != null &&
                     !bossController.isBossRetreating() &&
-                    player.getNode().getBoundsInParent().intersects(entityManager.getBossEnemy().getNode().getBoundsInParent())) {
+                    Collisions.intersects(player.getNode(), entityManager.getBossEnemy().getNode())) {
                 hitReason = "Spieler vs Boss-Körper";
                 playerHitSomething = true;
             }
@@ -405,9 +501,12 @@ public class GameUpdater {
                 hitReason = "Spieler vs Minion (Boss retreating)";
                 playerHitSomething = true;
             }
-        } else if (!entityManager.getEnemies().isEmpty()) {
-            for (Enemy enemy : new ArrayList<>(entityManager.getEnemies())) { // Kopie für sichere Iteration
-                if (enemy.getNode() != null && player.getNode().getBoundsInParent().intersects(enemy.getNode().getBoundsInParent())) {
+        } else if (!enemies.isEmpty()) {
+            double formationX = entityManager.getFormationOffsetX();
+            double formationY = entityManager.getFormationOffsetY();
+            for (int j = 0; j < enemies.size(); j++) {
+                Enemy enemy = enemies.get(j);
+                if (enemy.getNode() != null && Collisions.intersects(player.getNode(), enemy.getNode(), formationX, formationY)) {
                     hitReason = "Spieler vs Normaler Gegner";
                     playerHitSomething = true;
                     break;
@@ -416,30 +515,71 @@ public class GameUpdater {
         }
 
         if (playerHitSomething) {
-            if (soundManager != null) {
-                soundManager.playPlayerEnemyCollision();
-            }
+            entityManager.getEventBus().post(GameEventType.PLAYER_COLLISION);
             handlePlayerDeath();
         }
     }
 
-    // Hilfsmethode, um zu prüfen, ob ein Projektil noch in der Liste ist
-    // (nötig, da checkPlayerProjectileVsMinionCollisions es evtl. schon entfernt hat)
-    private boolean playerProjectilesContains(ImageView projectile) {
-        for (ImageView p : entityManager.getPlayerProjectiles()) {
-            if (p == projectile) return true;
+    // Arbeitet die Ereignisse dieses Frames ab: Nodes entfernen, Punkte summieren, pro Sound-Art höchstens ein Sound
+    private void flushFrameEvents() {
+        entityManager.getEventBus().drain(frameEventHandler);
+
+        if (frameScore != 0) uiManager.addScore(frameScore);
+        if (frameSounds != 0) {
+            if (soundManager != null) soundManager.playFrameSounds(frameSounds);
+            else unplayedSounds |= frameSounds;
+        }
+
+        frameScore = 0;
+        frameSounds = 0;
+        // Zuletzt: der Spielstand (Highscore, Game-Over-Anzeige) enthält damit auch die Treffer dieses Frames
+        if (frameGameOver) {
+            frameGameOver = false;
+            if (mainApp.isGameplayActive()) mainApp.triggerGameOver();
+        }
+    }
+
+    private void collectFrameEvent(GameEventType type, Node subject, int value) {
+        GameStats.countEvent(type);
+        switch (type) {
+            case PLAYER_SHOT -> markSound(SoundManager.SFX_PLAYER_SHOT);
+            case PROJECTILE_SPENT -> entityManager.removeProjectileNode(subject);
+            case ENEMY_HIT -> markSound(SoundManager.SFX_ENEMY_HIT);
+            case ENEMY_KILLED, MINION_KILLED -> {
+                entityManager.removeEnemyNode(subject);
+                frameScore += value;
+            }
+            case BOSS_DEFEATED -> {
+                frameScore += value;
+                frameSounds |= SoundManager.SFX_BOSS_DEFEAT;
+            }
+            case BOSS_SHOT -> markSound(SoundManager.SFX_BOSS_SHOT);
+            case BOSS_RETREAT -> frameSounds |= SoundManager.SFX_BOSS_RETREAT;
+            case PLAYER_COLLISION -> frameSounds |= SoundManager.SFX_COLLISION;
+            case PLAYER_DEATH -> frameSounds |= SoundManager.SFX_PLAYER_DEATH;
+            case GAME_OVER -> frameGameOver = true;
         }
-        return false;
     }
 
+    // Pro Frame nur ein Sound je Art; weitere zählen als zusammengefasst
+    private void markSound(int sound) {
+        if ((frameSounds & sound) != 0) GameStats.countSfxCoalesced();
+        frameSounds |= sound;
+    }
+
+    /** Seit dem letzten Aufruf gesammelte Sounds (nur ohne SoundManager), als SoundManager.SFX_*-Bits. */
+    public int takeUnplayedSounds() {
+        int sounds = unplayedSounds;
+        unplayedSounds = 0;
+        return sounds;
+    }
 
     private void handlePlayerDeath() {
         Player player = entityManager.getPlayer(); if (player == null) return;
-        if (mainApp.getCurrentGameState() == GameState.PLAYING) {
-            if (soundManager != null) {
-                soundManager.playPlayerDeath();
-            }
-            mainApp.triggerGameOver();
+        if (stressConfig.isInvulnerable()) return; // Stresstest: Spieler stirbt nicht
+        if (mainApp.isGameplayActive()) {
+            entityManager.getEventBus().post(GameEventType.PLAYER_DEATH);
+            entityManager.getEventBus().post(GameEventType.GAME_OVER);
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,285 @@
+package org.example.spaceinvaders;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+
+/**
+ * Highscores und Spielverlauf in einem Append-only-Log ({@code sessions.log} im Datenverzeichnis,
+ * {@code -Dspaceinvaders.dataDir}, Standard {@code ~/.musicalinvaders}).
+ * <p>
+ * Die Datei wird in Fenstern von {@link #WINDOW_SIZE} Bytes gemappt. Ein Eintrag ist auf 8 Bytes ausgerichtet:
+ * {@code [int magic][int länge][payload][int crc32]}. Das Magic wird als Letztes geschrieben (Commit-Marker),
+ * ein halb geschriebener Eintrag fällt beim Start durch Magic oder CRC auf. Passt ein Eintrag nicht mehr in das
+ * aktuelle Fenster, wird der Rest mit einem Füll-Eintrag markiert und im nächsten Fenster weitergeschrieben.
+ * <p>
+ * Alle Dateizugriffe (Wiederherstellungs-Scan beim Start, Schreiben) laufen auf einem eigenen Thread. Die Top-K
+ * pro Stimmprofil liegen fertig im Speicher, {@link #getTopScores(String)} ist ein einfacher Map-Zugriff.
+ */
+public class HighScoreStore {
+    private static final GameLog LOG = GameLog.get(HighScoreStore.class);
+    public static final int TOP_K = 10;
+
+    static final long WINDOW_SIZE = 64L * 1024 * 1024;
+    private static final int RECORD_MAGIC = 0x4D495331; // "MIS1"
+    private static final int PADDING_MAGIC = 0x4D495330; // "MIS0": Rest des Fensters ist leer
+    private static final int HEADER_BYTES = 8;
+    private static final int CRC_BYTES = 4;
+    private static final int MAX_PAYLOAD = 1024;
+
+    public record SessionRecord(String profile, int score, int wave, boolean bossDefeated,
+                                long startedAtMillis, long durationMillis) {
+    }
+
+    private final Path logFile;
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "highscore-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    // Unveränderliche Listen, werden nur vom Writer-Thread ersetzt
+    private final Map<String, List<SessionRecord>> topScoresByProfile = new ConcurrentHashMap<>();
+    private final Map<String, SessionRecord[]> topScoresWork = new HashMap<>(); // nur Writer-Thread
+    private final CRC32 crc = new CRC32(); // nur Writer-Thread
+
+    private FileChannel channel;
+    private MappedByteBuffer window;
+    private long windowStart = 0;
+    private long writePosition = 0;
+    private volatile long sessionCount = 0;
+    private volatile boolean ready = false;
+
+    public HighScoreStore(Path dataDirectory) {
+        this.logFile = dataDirectory.resolve("sessions.log");
+        writer.execute(this::openAndRecover);
+    }
+
+    public static HighScoreStore openDefault() {
+        String dir = System.getProperty("spaceinvaders.dataDir");
+        Path dataDirectory = dir != null ? Path.of(dir) : Path.of(System.getProperty("user.home"), ".musicalinvaders");
+        return new HighScoreStore(dataDirectory);
+    }
+
+    /** Nimmt eine beendete Session auf; kehrt sofort zurück, geschrieben wird im Hintergrund. */
+    public void record(SessionRecord session) {
+        writer.execute(() -> append(session));
+    }
+
+    /** Bestenliste eines Profils, absteigend nach Punkten (höchstens {@link #TOP_K} Einträge). */
+    public List<SessionRecord> getTopScores(String profile) {
+        List<SessionRecord> scores = topScoresByProfile.get(profile);
+        return scores != null ? scores : Collections.emptyList();
+    }
+
+    public int getBestScore(String profile) {
+        List<SessionRecord> scores = getTopScores(profile);
+        return scores.isEmpty() ? 0 : scores.get(0).score();
+    }
+
+    public long getSessionCount() { return sessionCount; }
+    public boolean isReady() { return ready; }
+
+    public void close() {
+        writer.execute(() -> {
+            try {
+                if (window != null) window.force();
+                if (channel != null) channel.close();
+            } catch (IOException e) {
+                LOG.warn("Fehler beim Schließen: {}", e.getMessage());
+            }
+        });
+        writer.shutdown();
+        try {
+            writer.awaitTermination(2, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // --- Ab hier nur auf dem Writer-Thread ---
+
+    private void openAndRecover() {
+        try {
+            Files.createDirectories(logFile.getParent());
+            channel = FileChannel.open(logFile, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            long recovered = recover();
+            LOG.info("{} Sessions aus {} geladen.", recovered, logFile);
+        } catch (IOException e) {
+            LOG.warn("Log konnte nicht geöffnet werden ({}): {}", logFile, e.getMessage());
+            channel = null;
+        }
+        ready = true;
+    }
+
+    private long recover() throws IOException {
+        long fileSize = channel.size();
+        long position = 0;
+        long count = 0;
+        boolean damaged = false;
+        while (position < fileSize) {
+            // Einträge sind 8-Byte-ausgerichtet, der Header passt also immer noch ins Fenster
+            long start = position - position % WINDOW_SIZE;
+            mapWindow(start);
+            int offset = (int) (position - start);
+            int magic = window.getInt(offset);
+            if (magic == PADDING_MAGIC) {
+                position = start + WINDOW_SIZE;
+                continue;
+            }
+            if (magic != RECORD_MAGIC) { // Ende des Logs (Nullen) oder abgebrochener Eintrag
+                damaged = magic != 0;
+                break;
+            }
+            int length = window.getInt(offset + 4);
+            int recordSize = recordSize(length);
+            if (length <= 0 || length > MAX_PAYLOAD || offset + recordSize > WINDOW_SIZE || !crcMatches(offset, length)) {
+                damaged = true;
+                break;
+            }
+            addToTopScores(readPayload(offset + HEADER_BYTES));
+            count++;
+            position += recordSize;
+        }
+        writePosition = position;
+        if (damaged) {
+            // Alles ab dem ersten ungültigen Eintrag verwerfen, damit alte Reste später nicht wieder gültig aussehen
+            LOG.warn("Ungültiger Eintrag bei Position {}, Log wird dort abgeschnitten.", position);
+            long start = writePosition - writePosition % WINDOW_SIZE;
+            mapWindow(start);
+            for (int i = (int) (writePosition - start); i < WINDOW_SIZE; i++) window.put(i, (byte) 0);
+            window.force();
+            try {
+                if (fileSize > start + WINDOW_SIZE) channel.truncate(start + WINDOW_SIZE);
+            } catch (IOException e) {
+                LOG.warn("Folgefenster konnten nicht abgeschnitten werden: {}", e.getMessage());
+            }
+        } else if (writePosition < fileSize) {
+            // Ein beim Absturz halb geschriebener Eintrag hat noch kein Magic, kann aber Länge/Payload enthalten
+            long start = writePosition - writePosition % WINDOW_SIZE;
+            mapWindow(start);
+            int offset = (int) (writePosition - start);
+            int clearUntil = (int) Math.min(WINDOW_SIZE, offset + (long) recordSize(MAX_PAYLOAD));
+            for (int i = offset; i < clearUntil; i++) window.put(i, (byte) 0);
+        }
+        sessionCount = count;
+        publishAll();
+        return count;
+    }
+
+    private void append(SessionRecord session) {
+        if (channel == null) return;
+        try {
+            byte[] profileBytes = session.profile().getBytes(StandardCharsets.UTF_8);
+            int profileLength = Math.min(profileBytes.length, MAX_PAYLOAD - 40);
+            int length = 8 + 8 + 4 + 4 + 1 + 2 + profileLength;
+            int recordSize = recordSize(length);
+
+            long start = writePosition - writePosition % WINDOW_SIZE;
+            mapWindow(start);
+            int offset = (int) (writePosition - start);
+            if (offset + recordSize > WINDOW_SIZE) {
+                window.putInt(offset, PADDING_MAGIC);
+                writePosition = start + WINDOW_SIZE;
+                mapWindow(writePosition);
+                offset = 0;
+            }
+
+            int payload = offset + HEADER_BYTES;
+            window.putInt(offset + 4, length);
+            window.putLong(payload, session.startedAtMillis());
+            window.putLong(payload + 8, session.durationMillis());
+            window.putInt(payload + 16, session.score());
+            window.putInt(payload + 20, session.wave());
+            window.put(payload + 24, (byte) (session.bossDefeated() ? 1 : 0));
+            window.putShort(payload + 25, (short) profileLength);
+            window.put(payload + 27, profileBytes, 0, profileLength);
+            window.putInt(payload + length, computeCrc(offset, length));
+            window.putInt(offset, RECORD_MAGIC); // Commit-Marker zuletzt
+            window.force();
+
+            writePosition += recordSize;
+            sessionCount++;
+            if (addToTopScores(session)) publish(session.profile());
+        } catch (IOException | RuntimeException e) {
+            LOG.warn("Session konnte nicht gespeichert werden: {}", e.getMessage());
+        }
+    }
+
+    private void mapWindow(long start) throws IOException {
+        if (window != null && windowStart == start) return;
+        if (window != null) window.force();
+        window = channel.map(FileChannel.MapMode.READ_WRITE, start, WINDOW_SIZE); // vergrößert die Datei bei Bedarf
+        windowStart = start;
+    }
+
+    private static int recordSize(int payloadLength) {
+        int size = HEADER_BYTES + payloadLength + CRC_BYTES;
+        return (size + 7) & ~7;
+    }
+
+    private int computeCrc(int offset, int length) {
+        crc.reset();
+        // Länge und Payload; Bulk-Lesen über eine Slice-Sicht ohne die Position des Fensters zu verändern
+        crc.update(window.slice(offset + 4, 4 + length));
+        return (int) crc.getValue();
+    }
+
+    private boolean crcMatches(int offset, int length) {
+        return computeCrc(offset, length) == window.getInt(offset + HEADER_BYTES + length);
+    }
+
+    private SessionRecord readPayload(int payload) {
+        long startedAt = window.getLong(payload);
+        long duration = window.getLong(payload + 8);
+        int score = window.getInt(payload + 16);
+        int wave = window.getInt(payload + 20);
+        boolean bossDefeated = window.get(payload + 24) != 0;
+        int profileLength = window.getShort(payload + 25);
+        byte[] profileBytes = new byte[profileLength];
+        window.get(payload + 27, profileBytes);
+        return new SessionRecord(new String(profileBytes, StandardCharsets.UTF_8), score, wave, bossDefeated, startedAt, duration);
+    }
+
+    // Sortiertes Einfügen in die Top-K des Profils; true, wenn sich die Liste geändert hat
+    private boolean addToTopScores(SessionRecord session) {
+        SessionRecord[] top = topScoresWork.computeIfAbsent(session.profile(), p -> new SessionRecord[TOP_K]);
+        int insertAt = -1;
+        for (int i = 0; i < TOP_K; i++) {
+            if (top[i] == null || session.score() > top[i].score()) {
+                insertAt = i;
+                break;
+            }
+        }
+        if (insertAt < 0) return false;
+        System.arraycopy(top, insertAt, top, insertAt + 1, TOP_K - insertAt - 1);
+        top[insertAt] = session;
+        return true;
+    }
+
+    private void publish(String profile) {
+        SessionRecord[] top = topScoresWork.get(profile);
+        List<SessionRecord> list = new ArrayList<>(TOP_K);
+        for (SessionRecord record : top) {
+            if (record != null) list.add(record);
+        }
+        topScoresByProfile.put(profile, List.copyOf(list));
+    }
+
+    private void publishAll() {
+        for (String profile : topScoresWork.keySet()) publish(profile);
+    }
+}
@@ -0,0 +1,114 @@
+package org.example.spaceinvaders;
+
+import javafx.application.Platform;
+import javafx.beans.value.ChangeListener;
+import javafx.event.Event;
+import javafx.event.EventHandler;
+import javafx.scene.input.InputEvent;
+import javafx.stage.Stage;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+/**
+ * Stromsparmodus für Automaten, die die meiste Zeit unbenutzt stehen. Drei Zustände:
+ * <ul>
+ *   <li>ACTIVE: normaler Betrieb</li>
+ *   <li>MENU_IDLE: in einem statischen Menü seit {@code -Dspaceinvaders.idleMenuSeconds} (Standard 30) keine
+ *       Eingabe; nichts soll mehr animieren, Hintergrundarbeit läuft seltener</li>
+ *   <li>SUSPENDED: Fenster minimiert oder ohne Fokus; Spiel pausiert, Animationen und Audio angehalten</li>
+ * </ul>
+ * Was in welchem Zustand angehalten wird, entscheidet der Listener (siehe {@link MusicalInvaders}). Die Leerlauf-
+ * Prüfung läuft bewusst nicht als Timeline, denn jede laufende Animation hält den JavaFX-Pulse auf voller Rate,
+ * sondern als Daemon-Thread, der einmal pro Sekunde auf den FX-Thread wechselt.
+ * Abschalten mit {@code -Dspaceinvaders.idleGovernor=false}.
+ */
+public class IdleGovernor {
+    private static final GameLog LOG = GameLog.get(IdleGovernor.class);
+
+    public enum Mode { ACTIVE, MENU_IDLE, SUSPENDED }
+
+    private static final long CHECK_INTERVAL_MILLIS = 1000;
+
+    private final Stage stage;
+    private final BooleanSupplier menuIdleAllowed;
+    private final Consumer<Mode> listener;
+    private final long menuIdleNanos;
+    private final EventHandler<Event> inputFilter = event -> onInput();
+    private final ChangeListener<Boolean> windowListener = (obs, oldValue, newValue) -> touch();
+    private ScheduledExecutorService checker;
+
+    private Mode mode = Mode.ACTIVE;
+    private volatile long lastInputNanos = System.nanoTime();
+
+    /**
+     * @param menuIdleAllowed true, wenn der aktuelle Bildschirm statisch ist (Menüs, nicht Spiel oder Abspann)
+     * @param listener        bekommt jeden Zustandswechsel auf dem FX-Thread
+     */
+    public IdleGovernor(Stage stage, BooleanSupplier menuIdleAllowed, Consumer<Mode> listener) {
+        this.stage = stage;
+        this.menuIdleAllowed = menuIdleAllowed;
+        this.listener = listener;
+        this.menuIdleNanos = TimeUnit.SECONDS.toNanos(Math.max(1, Long.getLong("spaceinvaders.idleMenuSeconds", 30)));
+    }
+
+    /** Startet die Überwachung; liefert null, wenn sie abgeschaltet ist. */
+    public static IdleGovernor startIfEnabled(Stage stage, BooleanSupplier menuIdleAllowed, Consumer<Mode> listener) {
+        if ("false".equalsIgnoreCase(System.getProperty("spaceinvaders.idleGovernor"))) return null;
+        IdleGovernor governor = new IdleGovernor(stage, menuIdleAllowed, listener);
+        governor.start();
+        return governor;
+    }
+
+    private void start() {
+        stage.addEventFilter(InputEvent.ANY, inputFilter);
+        stage.focusedProperty().addListener(windowListener);
+        stage.iconifiedProperty().addListener(windowListener);
+        checker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "idle-governor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        checker.scheduleWithFixedDelay(() -> Platform.runLater(this::evaluate),
+                CHECK_INTERVAL_MILLIS, CHECK_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    public void stop() {
+        if (checker != null) checker.shutdownNow();
+        stage.removeEventFilter(InputEvent.ANY, inputFilter);
+        stage.focusedProperty().removeListener(windowListener);
+        stage.iconifiedProperty().removeListener(windowListener);
+    }
+
+    private void onInput() {
+        lastInputNanos = System.nanoTime();
+        if (mode == Mode.MENU_IDLE) evaluate(); // sofort aufwachen, nicht erst beim nächsten Check
+    }
+
+    /** Eingabe oder Zustandswechsel außerhalb der Stage (z.B. neuer Bildschirm): Leerlauf-Zeit neu beginnen. */
+    public void touch() {
+        lastInputNanos = System.nanoTime();
+        evaluate();
+    }
+
+    // Nur FX-Thread
+    private void evaluate() {
+        Mode next;
+        if (stage.isIconified() || !stage.isFocused()) {
+            next = Mode.SUSPENDED;
+        } else if (menuIdleAllowed.getAsBoolean() && System.nanoTime() - lastInputNanos >= menuIdleNanos) {
+            next = Mode.MENU_IDLE;
+        } else {
+            next = Mode.ACTIVE;
+        }
+        if (next == mode) return;
+        LOG.info("Leerlauf-Modus {} -> {}", mode, next);
+        mode = next;
+        listener.accept(next);
+    }
+
+    public Mode getMode() { return mode; }
+}
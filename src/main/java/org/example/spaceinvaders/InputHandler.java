@@ -3,26 +3,79 @@ package org.example.spaceinvaders;
 import javafx.scene.Scene;
 import javafx.scene.input.KeyCode;
 
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Tastatur-Eingaben für die Simulation. Der FX-Thread reiht nur Zustandswechsel ein (gedrückt/losgelassen pro
+ * Aktion, Tastenwiederholungen fallen weg), der Simulationsschritt holt sie mit {@link #pollEvents()} ab. Das kann
+ * derselbe Thread sein oder der {@link SimulationThread}.
+ */
 public class InputHandler {
+    // Kodierung der Events in der Queue: (Aktion << 1) | gedrückt
+    static final int ACTION_LEFT = 0;
+    static final int ACTION_RIGHT = 1;
+    static final int ACTION_SHOOT = 2;
+    private static final int NO_EVENT = -1;
+
+    private final SpscInputQueue pendingEvents = new SpscInputQueue(256);
+    // Nur Produzent: zuletzt eingereihter Zustand, ein Bit pro Aktion
+    private volatile int producerState = 0;
+    // Queue war voll: der Konsument übernimmt danach producerState, damit kein Loslassen verloren geht
+    private final AtomicBoolean overflowed = new AtomicBoolean();
+
     private boolean moveLeft = false;
     private boolean moveRight = false;
     private boolean shooting = false;
 
     public InputHandler(Scene scene) {
-        scene.setOnKeyPressed(event -> {
-            if (event.getCode() == KeyCode.LEFT || event.getCode() == KeyCode.A) moveLeft = true;
-            else if (event.getCode() == KeyCode.RIGHT || event.getCode() == KeyCode.D) moveRight = true;
-            else if (event.getCode() == KeyCode.SPACE || event.getCode() == KeyCode.UP) shooting = true;
-        });
-
-        scene.setOnKeyReleased(event -> {
-            if (event.getCode() == KeyCode.LEFT || event.getCode() == KeyCode.A) moveLeft = false;
-            else if (event.getCode() == KeyCode.RIGHT || event.getCode() == KeyCode.D) moveRight = false;
-            else if (event.getCode() == KeyCode.SPACE || event.getCode() == KeyCode.UP) shooting = false;
-        });
+        scene.setOnKeyPressed(event -> enqueue(event.getCode(), true));
+        scene.setOnKeyReleased(event -> enqueue(event.getCode(), false));
+    }
+
+    // Ohne Szene: Eingaben nur über offerAction (Bots, Tests)
+    InputHandler() {
+    }
+
+    private void enqueue(KeyCode code, boolean pressed) {
+        int action;
+        if (code == KeyCode.LEFT || code == KeyCode.A) action = ACTION_LEFT;
+        else if (code == KeyCode.RIGHT || code == KeyCode.D) action = ACTION_RIGHT;
+        else if (code == KeyCode.SPACE || code == KeyCode.UP) action = ACTION_SHOOT;
+        else return;
+        offerAction(action, pressed);
+    }
+
+    // Auch für den StressBot: Eingaben laufen über dieselbe Queue wie Tastendrücke (gleicher Thread als Produzent)
+    void offerAction(int action, boolean pressed) {
+        int bit = 1 << action;
+        int state = pressed ? producerState | bit : producerState & ~bit;
+        if (state == producerState) return; // gehaltene Taste: Wiederholungen füllen sonst die Queue (z.B. in der Pause)
+        producerState = state;
+        if (!pendingEvents.offer((action << 1) | (pressed ? 1 : 0))) {
+            overflowed.set(true);
+        }
+    }
+
+    // Wird vom Simulationsschritt aufgerufen, bevor die Eingabe gelesen wird
+    public void pollEvents() {
+        for (int event = pendingEvents.poll(NO_EVENT); event != NO_EVENT; event = pendingEvents.poll(NO_EVENT)) {
+            boolean pressed = (event & 1) != 0;
+            switch (event >> 1) {
+                case ACTION_LEFT -> moveLeft = pressed;
+                case ACTION_RIGHT -> moveRight = pressed;
+                case ACTION_SHOOT -> shooting = pressed;
+            }
+        }
+        if (overflowed.getAndSet(false)) {
+            // Einzelne Wechsel fehlen, der zuletzt eingereihte Zustand ist aber mindestens so neu wie die Queue
+            int state = producerState;
+            moveLeft = (state & (1 << ACTION_LEFT)) != 0;
+            moveRight = (state & (1 << ACTION_RIGHT)) != 0;
+            shooting = (state & (1 << ACTION_SHOOT)) != 0;
+        }
     }
 
     public boolean isMoveLeftPressed() { return moveLeft; }
     public boolean isMoveRightPressed() { return moveRight; }
     public boolean isShootingPressed() { return shooting; }
-}
\ No newline at end of file
+}
@@ -0,0 +1,61 @@
+package org.example.spaceinvaders;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Wiedergabe eines Intro-Clips im Hauptmenü. Kurze Clips liegen wie die SFX dekodiert als AudioClip im Speicher
+ * ({@link BufferedIntroPlayback}), lange Erzählungen werden beim Abspielen stückweise aus der Ressource gelesen und
+ * dekodiert ({@link StreamingIntroPlayback}); dann hängt der Speicher nur an der Puffergröße, nicht an der Länge.
+ * <p>
+ * Schwelle mit {@code -Dspaceinvaders.streamIntroBytes} (Dateigröße, Standard 512 KiB).
+ */
+public interface IntroPlayback {
+    long STREAM_THRESHOLD_BYTES = Long.getLong("spaceinvaders.streamIntroBytes", 512 * 1024L);
+
+    void play();
+
+    void stop();
+
+    boolean isPlaying();
+
+    /** Dekodierte Audiodaten, die gerade im Speicher liegen (Schätzung für die Metriken). */
+    long getResidentBytes();
+
+    /** Dekodierte Daten freigeben (beim nächsten {@link #play()} neu geladen); false, wenn nichts frei wurde. */
+    boolean release();
+
+    /** Öffnet die Audiodaten für eine Wiedergabe erneut (Ressource oder Eintrag im Voice-Pack). */
+    @FunctionalInterface
+    interface Source {
+        InputStream open() throws IOException;
+    }
+
+    /** Passende Wiedergabe für eine Ressource oder null, wenn sie nicht existiert. */
+    static IntroPlayback open(String resourcePath) {
+        URL url = IntroPlayback.class.getResource(resourcePath);
+        if (url == null) return null;
+        long bytes;
+        try {
+            bytes = Math.max(0, url.openConnection().getContentLengthLong());
+        } catch (IOException e) {
+            bytes = 0;
+        }
+        return create(url, resourcePath, bytes, url::openStream);
+    }
+
+    /** Wie {@link #open(String)} für einen Eintrag im Zip-Dateisystem eines {@link VoicePack}. */
+    static IntroPlayback open(Path entry) throws IOException {
+        if (!Files.isRegularFile(entry)) return null;
+        return create(entry.toUri().toURL(), entry.toUri().toString(), Files.size(entry), () -> Files.newInputStream(entry));
+    }
+
+    private static IntroPlayback create(URL url, String label, long bytes, Source source) {
+        return bytes > STREAM_THRESHOLD_BYTES
+                ? new StreamingIntroPlayback(label, source)
+                : new BufferedIntroPlayback(url, label, bytes);
+    }
+}
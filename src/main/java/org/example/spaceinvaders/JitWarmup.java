@@ -0,0 +1,142 @@
+package org.example.spaceinvaders;
+
+import javafx.application.Platform;
+
+import java.util.Locale;
+
+/**
+ * Wärmt die heißen Spielpfade vor, solange der Spieler im Hauptmenü Stimmen durchsieht, damit die erste Welle
+ * nicht interpretiert bzw. mit C1-Code und beim ersten Boss-Auftritt mit Klassenladen ruckelt. Gespielt wird ein
+ * echtes Spiel ohne Fenster ({@link DetachedGame}) mit dem {@link StressBot}, also genau die Aufrufe aus dem Spiel.
+ * <ul>
+ *   <li>Hintergrund-Thread (niedrige Priorität): baut das Spiel auf (Klassen laden, Bilder dekodieren, Nodes).</li>
+ *   <li>FX-Thread, in Scheiben von etwa {@value #FX_SLICE_NANOS} ns pro {@code runLater}: Ticks durch den
+ *       {@link GameUpdater}, in der ersten Hälfte Wellen, in der zweiten der Boss. Der Boss kommt mit wenigen
+ *       Lebenspunkten, damit der Bot auch Rückzug und Minion-Wellen erreicht. Ein Tick mit Spielstart (Spielerbild,
+ *       neue Welle) dauert wie im Spiel länger als eine Scheibe; Animationen starten nur auf dem FX-Thread.</li>
+ * </ul>
+ * Die Ticks zählen nicht in {@link GameStats}. Startet das Spiel vorher, wird abgebrochen. Das Ergebnis steht im
+ * {@link StartupReport}. {@code -Dspaceinvaders.warmup=false} schaltet ab, {@code -Dspaceinvaders.warmupTicks}
+ * (Standard 3000) setzt die Anzahl Ticks.
+ */
+public final class JitWarmup {
+    private static final GameLog LOG = GameLog.get(JitWarmup.class);
+    private static final long FX_SLICE_NANOS = 2_000_000L;
+    private static final double WIDTH = 800;   // Größe spielt für den JIT keine Rolle
+    private static final double HEIGHT = 600;
+    private static final int BOSS_HEALTH = 2;
+
+    private final int ticks;
+    private final long startedNanos = System.nanoTime();
+    private volatile boolean cancelled = false;
+    // ab hier nur FX-Thread
+    private DetachedGame game;
+    private boolean built = false;
+    private boolean fxDone = false;
+    private int fxTicks = 0;
+    private int bossStarts = 0;
+    private int minionWaves = 0;
+    private boolean minionsActive = false;
+    private boolean reported = false;
+
+    private JitWarmup(int ticks) {
+        this.ticks = ticks;
+    }
+
+    /** Startet den Warm-up (vom FX-Thread aufrufen); liefert null, wenn er abgeschaltet ist. */
+    public static JitWarmup startIfEnabled() {
+        if ("false".equalsIgnoreCase(System.getProperty("spaceinvaders.warmup"))) return null;
+        JitWarmup warmup = new JitWarmup(Math.max(1, Integer.getInteger("spaceinvaders.warmupTicks", 3000)));
+        Thread thread = new Thread(warmup::buildGame, "jit-warmup");
+        thread.setDaemon(true);
+        thread.setPriority(Thread.MIN_PRIORITY);
+        thread.start();
+        return warmup;
+    }
+
+    /** Spielstart: nicht mehr mit dem Spiel um CPU und FX-Thread konkurrieren. */
+    public void cancel() {
+        if (cancelled || reported) return;
+        cancelled = true;
+        Platform.runLater(this::finishIfDone);
+    }
+
+    // --- Hintergrund ---
+
+    private void buildGame() {
+        DetachedGame detached = null;
+        try {
+            if (!cancelled) detached = new DetachedGame(WIDTH, HEIGHT);
+        } catch (RuntimeException | LinkageError e) {
+            LOG.warn("Warm-up: Spiel konnte nicht aufgebaut werden: {}", e.toString());
+        }
+        DetachedGame result = detached;
+        Platform.runLater(() -> {
+            game = result;
+            built = true;
+            fxDone = result == null;
+            runFxSlice();
+        });
+    }
+
+    // --- FX-Thread ---
+
+    private void runFxSlice() {
+        if (cancelled || fxDone) {
+            finishIfDone();
+            return;
+        }
+        long sliceEnd = System.nanoTime() + FX_SLICE_NANOS;
+        GameStats.setSuspended(true);
+        try {
+            while (fxTicks < ticks && System.nanoTime() < sliceEnd) {
+                if (fxTicks >= ticks / 2) keepBossActive();
+                game.tick();
+                countMinionWave();
+                fxTicks++;
+            }
+        } catch (RuntimeException e) {
+            LOG.warn("Warm-up bei Tick {} abgebrochen: {}", fxTicks, e.toString());
+            fxTicks = ticks;
+        } finally {
+            GameStats.setSuspended(false);
+        }
+        if (fxTicks >= ticks) {
+            fxDone = true;
+            finishIfDone();
+        } else {
+            Platform.runLater(this::runFxSlice);
+        }
+    }
+
+    // Boss mit wenig Lebenspunkten: der Bot überlebt keinen vollen Boss, der erste Treffer löst den Rückzug aus
+    private void keepBossActive() {
+        GameEntityManager entityManager = game.getEntityManager();
+        if (entityManager.isBossActive() || entityManager.wasBossJustDefeated()) return;
+        game.startBoss();
+        Enemy boss = entityManager.getBossEnemy();
+        if (boss != null) boss.setHealth(BOSS_HEALTH);
+        bossStarts++;
+    }
+
+    private void countMinionWave() {
+        BossController bossController = game.getEntityManager().getBossController();
+        boolean active = bossController != null && !bossController.getMinionEnemies().isEmpty();
+        if (active && !minionsActive) minionWaves++;
+        minionsActive = active;
+    }
+
+    private void finishIfDone() {
+        if (reported || !built || !(fxDone || cancelled)) return;
+        reported = true;
+        game = null; // Nodes des Warm-up-Spiels freigeben; die Bilder bleiben in GameImages für das echte Spiel
+        Collisions.takeTestCount(); // Warm-up-Tests nicht in der ersten Frame-Statistik zählen
+        ProjectilePool.takeMissCount();
+        long millis = (System.nanoTime() - startedNanos) / 1_000_000;
+        StartupReport.mark(cancelled ? "JIT-Warm-up abgebrochen (Spielstart)" : "JIT-Warm-up fertig",
+                String.format(Locale.ROOT, "%d/%d Ticks, Boss %d-mal, %d Minion-Wellen, %d ms, Vektor-Kernels %s",
+                        fxTicks, ticks, bossStarts, minionWaves, millis,
+                        EnemyMovementKernels.isVectorEnabled() ? "an" : "aus"));
+        StartupReport.log();
+    }
+}
@@ -19,7 +19,6 @@ import javafx.scene.image.ImageView;
 import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.*;
-import javafx.scene.media.AudioClip;
 import javafx.scene.paint.Color;
 import javafx.scene.shape.Rectangle;
 import javafx.scene.text.TextAlignment;
@@ -27,15 +26,20 @@ import javafx.stage.Screen;
 import javafx.stage.Stage;
 import javafx.util.Duration;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 
-public class MusicalInvaders extends Application {
+public class MusicalInvaders extends Application implements GameHost {
+    private static final GameLog LOG = GameLog.get(MusicalInvaders.class);
+    private static final GameLog CREDITS_LOG = GameLog.get("Credits");
     private Stage primaryStage;
     private Scene mainMenuScene;
     private Scene gameScene;
     private BorderPane mainMenuRootLayout;
 
     private GameState currentGameState;
+    private GameState stateBeforePause = GameState.PLAYING; // PLAYING oder LEVEL_TRANSITION
     private StackPane pauseMenuPane;
     private StackPane gameOverMenuPane;
     private StackPane creditsMenuPane;
@@ -51,9 +55,10 @@ public class MusicalInvaders extends Application {
 
 
     private ObservableList<VoiceProfile> voiceProfiles;
+    private List<VoicePack> voicePacks = List.of();
     private VoiceProfile currentlyPreviewedVoice = null;
     private VoiceProfile selectedVoiceProfile = null;
-    private AudioClip currentPlayingIntro = null;
+    private IntroPlayback currentPlayingIntro = null;
 
     private GameDimensions gameDimensions;
     private GameEntityManager entityManager;
@@ -61,34 +66,78 @@ public class MusicalInvaders extends Application {
     private UIManager gameUIManager;
     private InputHandler inputHandler;
     private AnimationTimer gameLoop;
+    private IdleGovernor idleGovernor;
+    private JitWarmup jitWarmup;
+    private QualityGovernor qualityGovernor;
+    private StressRecorder stressRecorder;
+    private HighScoreStore highScoreStore;
+    private GameMetrics gameMetrics;
+    private PrometheusExporter prometheusExporter;
+    // Nur mit -Dspaceinvaders.simThread: Spiel-Logik auf eigenem Thread, die Szene zeigt dessen Schnappschüsse
+    private boolean useSimulationThread = false;
+    private SimulationThread simulationThread;
+    private SnapshotView snapshotView;
+    private Label gameOverScoreLabel;
+    private long gameStartedAtMillis = 0;
+    private long gameStartedAtNanos = 0;
+    private boolean sessionRecorded = true;
 
     private SoundManager globalSoundManager;
     private SoundManager profileSoundManager;
+    private BeatClock beatClock;
 
 
     private static final String MAIN_MENU_CSS_PATH = "/mainmenu.css";
     public static final String GAME_FONT_NAME = "Press Start 2P";
 
+    // Optional: feste Simulationsrate, z.B. -Dspaceinvaders.fixedTickHz=60 (0 = ein Update pro Pulse wie bisher)
+    private static final long FIXED_TICK_NANOS = fixedTickNanosFromProperty();
+    private static final int MAX_TICKS_PER_PULSE = 5;
+
 
     @Override
     public void start(Stage primaryStage) {
+        StartupReport.mark("FX-Start");
+        GameFlightRecorder.startIfRequested();
         this.primaryStage = primaryStage;
         this.primaryStage.setTitle("Musical Invaders");
 
         try {
             javafx.scene.text.Font.loadFont(getClass().getResourceAsStream("/fonts/PressStart2P-Regular.ttf"), 10);
-            System.out.println("Schriftart '" + GAME_FONT_NAME + "' programmatisch geladen.");
+            LOG.info("Schriftart '{}' programmatisch geladen.", GAME_FONT_NAME);
         } catch (Exception e) {
-            System.err.println("Fehler beim programmatischen Laden der Schriftart '/fonts/PressStart2P-Regular.ttf': " + e.getMessage());
+            LOG.warn("Fehler beim programmatischen Laden der Schriftart '/fonts/PressStart2P-Regular.ttf': {}", e.getMessage());
         }
 
         this.globalSoundManager = new SoundManager();
+        this.beatClock = BeatClock.create();
+        this.highScoreStore = HighScoreStore.openDefault();
+        this.gameMetrics = GameMetrics.startIfEnabled(this);
+        this.prometheusExporter = PrometheusExporter.startIfRequested();
+        // Der StressBot wäre ein zweiter Schreiber auf der Eingabe-Queue, der StressRecorder liest die Spiel-Nodes
+        useSimulationThread = SimulationThread.isRequested() && !StressConfig.get().isEnabled();
+        if (SimulationThread.isRequested() && !useSimulationThread) {
+            LOG.warn("Stresstest läuft auf dem FX-Thread, -Dspaceinvaders.simThread wird ignoriert.");
+        }
 
         loadVoiceProfiles();
         initializeGlobalInput(primaryStage);
         createMenuOverlays();
 
         changeGameState(GameState.MAIN_MENU);
+        StartupReport.mark("Hauptmenü aufgebaut");
+        jitWarmup = JitWarmup.startIfEnabled(); // läuft, während der Spieler Stimmen durchsieht
+
+        // Stromsparen im Leerlauf; nicht im Stresstest, der läuft unbeaufsichtigt auch ohne Fokus
+        if (!StressConfig.get().isEnabled()) {
+            idleGovernor = IdleGovernor.startIfEnabled(primaryStage, this::isStaticMenuState, this::applyIdleMode);
+        }
+
+        // Stresstest: ohne Menü mit dem ersten Sprachprofil direkt starten
+        if (StressConfig.get().isEnabled() && voiceProfiles != null && !voiceProfiles.isEmpty()) {
+            selectedVoiceProfile = voiceProfiles.get(0);
+            changeGameState(GameState.PLAYING);
+        }
 
         if (primaryStage.getScene() != null) {
             Rectangle2D screenBounds = Screen.getPrimary().getVisualBounds();
@@ -102,53 +151,18 @@ public class MusicalInvaders extends Application {
     }
 
     private void loadVoiceProfiles() {
-        voiceProfiles = FXCollections.observableArrayList(
-                new VoiceProfile("Der Franzose", "/sfx/Der_Franzose/Vorstellung.wav", "/sfx/Der_Franzose/", "Ein Baguette, frisch aus dem Ofen heiß,\n" +
-                        "\n" +
-                        "geformt von Bäckerhand mit Fleiß.\n" +
-                        "\n" +
-                        "Im Laden lag es, goldbraun, ein wahrer Augenschmaus,\n" +
-                        "\n" +
-                        "ich trug es stolz dann schnell nach Haus.\n" +
-                        "\n" +
-                        "\n" +
-                        "\n" +
-                        "Die Kruste knackt, so knusprig fein,\n" +
-                        "\n" +
-                        "das Inn're weich, ein lichter Schein.\n" +
-                        "\n" +
-                        "Mit Butter, Käse oder pur – ein Genuss,\n" +
-                        "\n" +
-                        "so endet es mit einem Kuss."),
-                new VoiceProfile("Prof. Slawitscheck", "/sfx/Prof. Slawitscheck/Introduction.wav", "/sfx/Prof. Slawitscheck/", "Slawitscheck, ein Lehrer feinster Art,\n" +
-                        "Mathe für ihn ist wie Musik für Mozart,\n" +
-                        "\n" +
-                        "SOPK mit ihm, ist wie eine Sitzung im Senat, \n" +
-                        "\n" +
-                        "Bei ihm sammelt man Wissen wie Benzin bei einem Tankautomat. \n" +
-                        "\n" +
-                        "\n" +
-                        "\n" +
-                        "In seiner Freizeit tüftelt er mit Herz und Sinn,\n" +
-                        "\n" +
-                        "Mit seinen Spielen macht er ordentlich Gewinn.\n" +
-                        "\n" +
-                        "Die Spielstunden sind seiner Schüler ein Stein in der Brandung,\n" +
-                        "\n" +
-                        "Unsere Schularbeiten sind ihm wichtig wie eine Dokumentensammlung."
-                ),
-                new VoiceProfile("Prof. Csaszar", "/sfx/Prof. Csaszar/Introduction.wav", "/sfx/Prof. Csaszar/", "So nehme man einen Dwayn 'the Rock'\n\nJohnson und wartet 10 Jahre so\n\nerscheint ein Professor Robert Csaszar.\n\nSein Physikunterricht ist wie eine Oase\n\ndes Wissens, es gibt keine Dummen\n\nFragen und keine dürftigen Antworten.\n\nAn Spaß mangelte es auch nicht, du\n\nmöchtest mit einem Auto in eine Wand\n\nfahren und es 'Experiment' nennen? Dann\n\nist er dein Mann! Was muss ein Lehrer\n\nhaben damit er als 'cool' durchgeht?\n\nEin Motorrad? Eine glänzende Glatze?\n\nEinen eleganter Bart? Er hat sie alle.\n\nUnd wie kann man bloß auf seine\n\nCatchphrase vergessen? ein 'Abgelehnt'\n\ngesprochen mit der Stimme eines Engels."),
-                new VoiceProfile("Mary Fly", "/sfx/Mary Fly/Vorstellung.wav", "/sfx/Mary Fly/", "Mary Fly, offiziell Marie Kissler\n\ngenannt, hat eine mysteriöse\n\nObsession mit Mailand,\n\nich weiß auch nicht wieso, naja.\n\nHugo ist ihr Erzfeind,\n\nnur ein Schluck und sie fällt Tot um\n\n(stimmt wirklich, hab ich schon mal miterlebt).\n\nDoch solltest du so unvorsichtig\n\nsein und das Wort 'Vodkabull' in ihrer\n\nNähe erwähnen, so kannst du dir\n\nsicher sein, dass sie bereits den Weg\n\nzu dir eingeschlagen hat und du bald\n\nihrer funkelnden Augen siehst\n\n(naja, angenommen du schaust nicht über sie drüber).\n\nSie wohnt bei 47°57'40.6\"N 16°24'...\n\nNein, Spaß Marie ich doxs dich nicht, keine Angst."),
-                new VoiceProfile("Omar Rosbal", "/sfx/Omar Rosypal/Introduction.wav", "/sfx/Omar Rosypal/", "Omar Rosbal? Wieso Omar Rosbal?\n\nEigentlicht heißt er Omar Rosypal,\n\ndoch niemand weiß wie man seinen Namen ausspricht,\n\ndeswegen kassiert er jede Stunde einen neuen Spitznamen vom Lehrer.\n\nLeider haben wir den echten Omar Rosypal schon vor langer Zeit verloren.\n\nSein Mörder?\n\nEin Spieleentwickler Studio namens 'Riot Games'.\n\n'Wie ist das nur möglich?' hör ich dich fragen.\n\nDie Antwort ist simpel: LEAGUE OF LEGENDS und Valorant,\n\ndas eine hat ihn vergifted das ander ihm ein Messer in den Rücken gestoßen.\n\nNun eine Schweigeminute für unseren gefallenen Bruder."),
-                new VoiceProfile("Mhh lecka Bierchen", "/sfx/Simon Leber/Introduction.wav", "/sfx/Simon Leber/", "'Mhh lecka Bierchen' wurde von Simon Leber gevoiced.\n\nBierchen sind seine Leibspeise, ich mein im Endeffekt ist Bier eh nur flüssiges Brot, also...\n\nFalls du dich jemals in einer\n\nkniffligen Lage befindest, in welcher\n\nein Muskelpaket, welches Hulk den Platz weißt, deine einzige Rettung ist,\n\ndann sollte Simon Leber deine erste Wahl sein.\n\nDoch er ist nicht nur eine absolute Maschine,\n\nseine Stimme ist wie das Knistern eines heißen Feuers in einem Stein Kamin an einem kalten Wintertag,\n\nwie die Glocke nach der 10ten Stunde am Mittwoch,\n\nwie dieser eine Gehfehler,\n\nwie der Sternenhimmel an einer mondlosen Nacht."),
-                new VoiceProfile("Momoko X Selin", "/sfx/Momoko X Selin/Vorstellung.wav", "/sfx/Momoko X Selin/", "Max isst gerne Pizza."),
-                new VoiceProfile("General TK25", "/sfx/General Kriener/Introduction.wav", "/sfx/General Kriener/", "Der General"),
-                new VoiceProfile("Der Japaner", "/sfx/Leo Fukahori/Introduction.wav", "/sfx/Leo Fukahori/", "'Der Japaner', gevoiced von Leo Fukahori,\n\nist eine energetische und unterstützende Wahl.\n\n'Fukahori' ist der Lieblingsname vom Herrn Dr. Karl Wodnar,\n\nbei jeder seiner Amtshandlungen durchtrennt er beim vorlesen des Namens die Luft mit seiner Hand,\n\nwie Butter mit einem heißen Messer.\n\nDoch verstehst du alles was unser Reis verschlingende Freund zu sagen hat?\n\nUm es präziser zu formulieren, wie hoch ist deine Doulingo-Streak?\n\nIch habe gehört er hat mal 2 Platten Sushi mit nur einem Stift zubereitet,\n\nist diese Geschichte wirklich so passiert oder haben wir sie frei erfunden?\n\nHier noch ein lustiges Yojijukugo (Japanese: 四字熟語): 今朝毎朝 (Kesamaiasa),\n\nder Witz liegt im Bilingualismus der Aussprache der vier Kanji :))."),
-                new VoiceProfile("Fabian Meduna", "/sfx/Fabio Meduna/Introduction.wav", "/sfx/Fabio Meduna/", "Fabio Meduna, was soll ich sagen?\n\nEine besondere Figur, man könnte fast schon Komiker sagen.\n\nEigentlich würde ich ihn hier jetzt haten (eng), jedoch finde ich,\n\ndass man auch ab und zu etwas positives über dem Herrn Meduna sagen kann.\n\nZum Beispiel weiß ich, dass der Kollege,\n\nwenn ihn ein Thema interessiert,\n\näußerst lernfreudig sein kann und voller Neugier und Enthusiasmus über ein Thema reden kann.\n\nAuch weiß ich, dass er eine interessanten Kink für Straßenschilder hat,\n\ndoch wieso, weiß ich nicht,\n\nähnlich wie bei Mary Fly's Obsession mit Mailand.\n\nNaja, jedem das Seine ig."),
-                new VoiceProfile("Lebron James", "/sfx/Lebron James/Introduction.wav", "/sfx/Lebron James/", "Die Stimme von Lebron James interpretiert vom professionellen Basketballspieler Polat Sahin Keles. ."),
-                new VoiceProfile("Angjelo", "/sfx/Angjelo/Introduction.wav", "/sfx/Angjelo/", "Die Stimme von Lebron James interpretiert vom professionellen Basketballspieler Polat Sahin Keles. ."),
-                new VoiceProfile("Nemo", "/sfx/Nemo/Introduction.wav", "/sfx/Nemo/", "Nemo.")
-        );
+        // Mitgelieferte Stimmen, soweit im Jar, dann die Voice-Packs (gleicher Name ersetzt das mitgelieferte Profil)
+        List<VoiceProfile> profiles = new ArrayList<>();
+        for (VoiceProfile builtIn : BuiltInVoiceProfiles.create()) {
+            if (builtIn.isAvailable()) profiles.add(builtIn);
+        }
+        voicePacks = VoicePack.discover(VoicePack.defaultDirectory());
+        for (VoicePack pack : voicePacks) {
+            VoiceProfile packProfile = new VoiceProfile(pack);
+            profiles.removeIf(profile -> profile.getDisplayName().equals(packProfile.getDisplayName()));
+            profiles.add(packProfile);
+        }
+        voiceProfiles = FXCollections.observableArrayList(profiles);
         if (!voiceProfiles.isEmpty()) {
             currentlyPreviewedVoice = voiceProfiles.get(0);
         }
@@ -157,12 +171,15 @@ public class MusicalInvaders extends Application {
     private void initializeGlobalInput(Stage stage) {
         stage.addEventFilter(KeyEvent.KEY_PRESSED, event -> {
             if (event.getCode() == KeyCode.ESCAPE) {
-                if (currentGameState == GameState.PLAYING) {
+                if (isGameplayActive()) {
                     changeGameState(GameState.PAUSED);
                 } else if (currentGameState == GameState.PAUSED) {
-                    changeGameState(GameState.PLAYING);
+                    changeGameState(stateBeforePause);
                 }
                 event.consume();
+            } else if (event.getCode() == KeyCode.F3 && gameUIManager != null) {
+                gameUIManager.setPerfHudVisible(!gameUIManager.isPerfHudVisible());
+                event.consume();
             }
         });
     }
@@ -175,7 +192,7 @@ public class MusicalInvaders extends Application {
         pauseLabel.getStyleClass().add("menu-title");
         Button resumeButton = new Button("Resume");
         resumeButton.getStyleClass().add("menu-button");
-        resumeButton.setOnAction(e -> changeGameState(GameState.PLAYING));
+        resumeButton.setOnAction(e -> changeGameState(stateBeforePause));
         Button backToMainMenuFromPauseButton = new Button("Back to Main Menu");
         backToMainMenuFromPauseButton.getStyleClass().add("menu-button");
         backToMainMenuFromPauseButton.setOnAction(e -> changeGameState(GameState.MAIN_MENU));
@@ -197,7 +214,7 @@ public class MusicalInvaders extends Application {
             if (selectedVoiceProfile != null) {
                 changeGameState(GameState.PLAYING);
             } else {
-                System.err.println("Keine Stimme ausgewählt für 'Try Again'. Gehe zum Hauptmenü.");
+                LOG.warn("Keine Stimme ausgewählt für 'Try Again'. Gehe zum Hauptmenü.");
                 changeGameState(GameState.MAIN_MENU);
             }
         });
@@ -206,7 +223,10 @@ public class MusicalInvaders extends Application {
         backToMainMenuFromGameOverButton.getStyleClass().add("menu-button");
         backToMainMenuFromGameOverButton.setOnAction(e -> changeGameState(GameState.MAIN_MENU));
 
-        VBox gameOverContent = new VBox(20, gameOverLabel, tryAgainButton, backToMainMenuFromGameOverButton);
+        gameOverScoreLabel = new Label();
+        gameOverScoreLabel.getStyleClass().add("menu-info");
+
+        VBox gameOverContent = new VBox(20, gameOverLabel, gameOverScoreLabel, tryAgainButton, backToMainMenuFromGameOverButton);
         gameOverContent.setAlignment(Pos.CENTER);
         gameOverContent.getStyleClass().add("menu-content-box");
         gameOverMenuPane.getChildren().add(gameOverContent);
@@ -238,8 +258,25 @@ public class MusicalInvaders extends Application {
                 return;
             }
         }
-        System.out.println("Changing state from " + previousState + " to " + newState);
+        LOG.info("Changing state from {} to {}", previousState, newState);
         this.currentGameState = newState;
+        if (newState == GameState.PAUSED && isGameplayState(previousState)) stateBeforePause = previousState;
+        if (idleGovernor != null) idleGovernor.touch(); // neuer Bildschirm: Leerlauf-Zeit beginnt von vorn
+
+        if (newState == GameState.GAME_OVER || newState == GameState.CREDITS) {
+            recordSession(newState == GameState.CREDITS);
+        }
+
+        if (stressRecorder != null && (newState == GameState.GAME_OVER || newState == GameState.CREDITS
+                || newState == GameState.MAIN_MENU)) {
+            finishStressRun();
+        }
+        if (qualityGovernor != null && (newState == GameState.GAME_OVER || newState == GameState.CREDITS
+                || newState == GameState.MAIN_MENU)) {
+            // Menüs und das nächste Spiel beginnen wieder in voller Qualität
+            qualityGovernor.detach();
+            qualityGovernor = null;
+        }
 
         pauseMenuPane.setVisible(false);
         gameOverMenuPane.setVisible(false);
@@ -249,7 +286,7 @@ public class MusicalInvaders extends Application {
             if (viewportListener != null) {
                 creditsScrollPane.viewportBoundsProperty().removeListener(viewportListener);
                 viewportListener = null;
-                System.out.println("[Credits] Viewport listener removed due to state change from CREDITS.");
+                CREDITS_LOG.debug("Viewport listener removed due to state change from CREDITS.");
             }
         } else {
             creditsMenuPane.setVisible(false);
@@ -261,9 +298,15 @@ public class MusicalInvaders extends Application {
         }
 
 
-        if (gameLoop != null && newState != GameState.PLAYING) {
+        if (beatClock != null) beatClock.setRunning(isGameplayState(newState)); // Musik nur im Spiel, Pause hält sie an
+        if (simulationThread != null) {
+            if (newState == GameState.PAUSED) simulationThread.setPaused(true);
+            else if (isGameplayState(newState)) simulationThread.setPaused(false);
+            else stopSimulationThread(); // Game Over, Abspann, Hauptmenü: Spiel ist vorbei
+        }
+        if (gameLoop != null && !isGameplayState(newState)) {
             gameLoop.stop();
-            System.out.println("GameLoop stopped.");
+            LOG.debug("GameLoop stopped.");
         }
         if (currentPlayingIntro != null && currentPlayingIntro.isPlaying() && newState != GameState.MAIN_MENU) {
             currentPlayingIntro.stop();
@@ -295,19 +338,20 @@ public class MusicalInvaders extends Application {
             case PLAYING:
                 if (mainMenuRootLayout != null) mainMenuRootLayout.setVisible(false);
                 if (selectedVoiceProfile == null) {
-                    System.err.println("Keine Stimme ausgewählt. Zurück zum Hauptmenü.");
+                    LOG.warn("Keine Stimme ausgewählt. Zurück zum Hauptmenü.");
                     changeGameState(GameState.MAIN_MENU);
                     return;
                 }
-                if (previousState == GameState.PAUSED) {
+                if (previousState == GameState.PAUSED || previousState == GameState.LEVEL_TRANSITION) {
                     if (primaryStage.getScene() != gameScene) primaryStage.setScene(gameScene);
                 } else {
+                    if (jitWarmup != null) jitWarmup.cancel(); // ab jetzt gehört die CPU dem Spiel
                     initializeGame();
                     primaryStage.setScene(gameScene);
                 }
                 if (gameLoop != null) {
                     gameLoop.start();
-                    System.out.println("GameLoop started/resumed.");
+                    LOG.debug("GameLoop started/resumed.");
                 }
                 break;
 
@@ -371,9 +415,9 @@ public class MusicalInvaders extends Application {
                 }
 
                 viewportListener = (observable, oldValue, newValue) -> {
-                    System.out.println("[Credits Viewport Listener] Viewport bounds changed: " + newValue);
+                    CREDITS_LOG.debug("Viewport Listener: bounds changed: {}", newValue);
                     if (newValue != null && newValue.getHeight() > 20) {
-                        System.out.println("[Credits Viewport Listener] Viewport has valid height ("+ newValue.getHeight() +"). Removing listener and preparing to start roll.");
+                        CREDITS_LOG.debug("Viewport Listener: valid height ({}). Removing listener and preparing to start roll.", newValue.getHeight());
                         if (this.viewportListener != null) {
                             creditsScrollPane.viewportBoundsProperty().removeListener(this.viewportListener);
                             this.viewportListener = null;
@@ -381,26 +425,29 @@ public class MusicalInvaders extends Application {
 
                         Platform.runLater(this::startCreditRollAnimationOnly);
                     } else if (newValue != null && newValue.getHeight() <= 20) {
-                        System.err.println("[Credits Viewport Listener] Viewport height is still too small or negative: " + newValue.getHeight() + ".");
+                        CREDITS_LOG.warn("Viewport Listener: height is still too small or negative: {}.", newValue.getHeight());
                     }
                 };
                 creditsScrollPane.viewportBoundsProperty().addListener(viewportListener);
-                System.out.println("[Credits] Viewport listener added. Waiting for valid viewport height.");
+                CREDITS_LOG.debug("Viewport listener added. Waiting for valid viewport height.");
 
                 Platform.runLater(() -> {
-                    System.out.println("[Credits] Applying CSS and performing initial layout pass...");
+                    CREDITS_LOG.debug("Applying CSS and performing initial layout pass...");
                     sceneRoot.applyCss();
                     sceneRoot.layout();
-                    System.out.println("[Credits] Initial layout pass done. ScrollPane viewport height: " + creditsScrollPane.getViewportBounds().getHeight());
-                    System.out.println("[Credits] creditsMenuPane - Actual Width: " + creditsMenuPane.getWidth() + ", Height: " + creditsMenuPane.getHeight());
-                    System.out.println("[Credits] creditsScrollPane - Actual Width: " + creditsScrollPane.getWidth() + ", Height: " + creditsScrollPane.getHeight());
+                    CREDITS_LOG.debug("Initial layout pass done. ScrollPane viewport height: {}", creditsScrollPane.getViewportBounds().getHeight());
+                    CREDITS_LOG.debug("creditsMenuPane - Actual Width: {}, Height: {}", creditsMenuPane.getWidth(), creditsMenuPane.getHeight());
+                    CREDITS_LOG.debug("creditsScrollPane - Actual Width: {}, Height: {}", creditsScrollPane.getWidth(), creditsScrollPane.getHeight());
                 });
 
                 if (globalSoundManager != null) globalSoundManager.startJubelLoop();
                 break;
 
             case LEVEL_TRANSITION:
-                System.out.println("Level Transition (Placeholder)");
+                // Spielschleife läuft weiter, der GameEntityManager baut die nächste Welle im Hintergrund auf
+                if (mainMenuRootLayout != null) mainMenuRootLayout.setVisible(false);
+                if (previousState == GameState.PAUSED && primaryStage.getScene() != gameScene) primaryStage.setScene(gameScene);
+                if (gameLoop != null) gameLoop.start();
                 break;
         }
     }
@@ -418,11 +465,11 @@ public class MusicalInvaders extends Application {
         addCreditEntry("My, Myself and I", "credit-names-label");
         addCreditEntry("", null);
         addCreditEntry("Danke fürs Spielen!", "credit-sub-header");
-        System.out.println("[Credits] fillCreditsContent: Number of children in creditsContentBox: " + creditsContentBox.getChildren().size());
+        CREDITS_LOG.debug("fillCreditsContent: Number of children in creditsContentBox: {}", creditsContentBox.getChildren().size());
     }
 
     private void startCreditRollAnimationOnly() {
-        System.out.println("[Credits] startCreditRollAnimationOnly called.");
+        CREDITS_LOG.debug("startCreditRollAnimationOnly called.");
         creditsScrollPane.setVvalue(0.0);
 
         if(creditRollTimeline != null){
@@ -433,38 +480,38 @@ public class MusicalInvaders extends Application {
         double actualHeight = creditsContentBox.getBoundsInLocal().getHeight();
         double visibleHeight = creditsScrollPane.getViewportBounds().getHeight();
 
-        System.out.println("[Credits] Actual Content Height (for animation): " + actualHeight);
-        System.out.println("[Credits] Visible ScrollPane Height (for animation, from viewport): " + visibleHeight);
+        CREDITS_LOG.debug("Actual Content Height (for animation): {}", actualHeight);
+        CREDITS_LOG.debug("Visible ScrollPane Height (for animation, from viewport): {}", visibleHeight);
 
         if (visibleHeight <= 20) {
-            System.err.println("[Credits] visibleHeight is STILL " + visibleHeight + " in startCreditRollAnimationOnly. Using prefHeight as fallback.");
+            CREDITS_LOG.warn("visibleHeight is STILL {} in startCreditRollAnimationOnly. Using prefHeight as fallback.", visibleHeight);
             visibleHeight = creditsScrollPane.getPrefHeight();
             if (visibleHeight <= 20) {
-                System.err.println("[Credits] prefHeight also too small or zero. Using scene-based fallback for visibleHeight.");
+                CREDITS_LOG.warn("prefHeight also too small or zero. Using scene-based fallback for visibleHeight.");
                 visibleHeight = (primaryStage.getScene() != null ? primaryStage.getScene().getHeight() * 0.7 : 650 * 0.7);
             }
-            System.out.println("[Credits] Effective Visible ScrollPane Height for animation (after fallbacks): " + visibleHeight);
+            CREDITS_LOG.debug("Effective Visible ScrollPane Height for animation (after fallbacks): {}", visibleHeight);
         }
         if (actualHeight <= 20) {
-            System.err.println("[Credits] actualHeight ("+actualHeight+") is too small. Aborting.");
+            CREDITS_LOG.warn("actualHeight ({}) is too small. Aborting.", actualHeight);
             cleanupCredits();
             changeGameState(GameState.MAIN_MENU);
             return;
         }
 
         creditsContentBox.setTranslateY(visibleHeight);
-        System.out.println("[Credits] Initial translateY for animation: " + creditsContentBox.getTranslateY());
+        CREDITS_LOG.debug("Initial translateY for animation: {}", creditsContentBox.getTranslateY());
 
 
         creditRollTimeline = new Timeline();
         creditRollTimeline.statusProperty().addListener((obs, oldStatus, newStatus) -> {
-            System.out.println("[Credits Timeline] Status changed from " + oldStatus + " to " + newStatus);
+            CREDITS_LOG.debug("Timeline status changed from {} to {}", oldStatus, newStatus);
         });
 
         double totalScrollDistance = actualHeight + visibleHeight;
 
         if (totalScrollDistance <= visibleHeight * 0.5 || actualHeight < visibleHeight * 0.1) {
-            System.err.println("[Credits] Total scroll distance or actualHeight too small. Aborting.");
+            CREDITS_LOG.warn("Total scroll distance or actualHeight too small. Aborting.");
             cleanupCredits();
             changeGameState(GameState.MAIN_MENU);
             return;
@@ -474,21 +521,21 @@ public class MusicalInvaders extends Application {
         double durationSeconds = totalScrollDistance / scrollSpeedPixelsPerSecond;
         durationSeconds = Math.max(8.0, Math.min(durationSeconds, 120.0));
 
-        System.out.println("[Credits] Calculated roll duration: " + durationSeconds + " seconds for distance " + totalScrollDistance);
-        System.out.println("[Credits] Animating translateY from " + visibleHeight + " to " + (-actualHeight));
+        CREDITS_LOG.debug("Calculated roll duration: {} seconds for distance {}", durationSeconds, totalScrollDistance);
+        CREDITS_LOG.debug("Animating translateY from {} to {}", visibleHeight, -actualHeight);
 
         KeyValue kv = new KeyValue(creditsContentBox.translateYProperty(), -actualHeight);
         KeyFrame kf = new KeyFrame(Duration.seconds(durationSeconds), kv);
         creditRollTimeline.getKeyFrames().setAll(kf);
 
         creditRollTimeline.setOnFinished(e -> {
-            System.out.println("[Credits] Roll finished. Final translateY: " + creditsContentBox.getTranslateY() + ". Changing to Main Menu.");
+            CREDITS_LOG.info("Roll finished. Final translateY: {}. Changing to Main Menu.", creditsContentBox.getTranslateY());
             cleanupCredits();
             changeGameState(GameState.MAIN_MENU);
         });
 
         creditRollTimeline.play();
-        System.out.println("[Credits] Roll timeline play() called. Current status: " + creditRollTimeline.getStatus());
+        CREDITS_LOG.debug("Roll timeline play() called. Current status: {}", creditRollTimeline.getStatus());
     }
 
     private void cleanupCredits() {
@@ -496,7 +543,7 @@ public class MusicalInvaders extends Application {
         if (creditsContentBox != null) creditsContentBox.setTranslateY(0);
         if (creditsMenuPane != null) creditsMenuPane.setStyle(null);
         if (creditsScrollPane != null) creditsScrollPane.setStyle(null);
-        System.out.println("[Credits] Cleanup credits called.");
+        CREDITS_LOG.debug("Cleanup credits called.");
     }
 
     private void addCreditEntry(String text, String styleClass) {
@@ -529,8 +576,10 @@ public class MusicalInvaders extends Application {
         StackPane backgroundPane = new StackPane();
         backgroundPane.setId("main-menu-background-container");
         Image backgroundImage = null;
+        AssetLoadEvent backgroundLoad = AssetLoadEvent.start("image", "/images/outer-space-background.jpg");
         try { backgroundImage = new Image(getClass().getResourceAsStream("/images/outer-space-background.jpg")); }
-        catch (Exception e) { System.err.println("Hintergrundbild nicht gefunden: " + e.getMessage()); }
+        catch (Exception e) { LOG.warn("Hintergrundbild nicht gefunden: {}", e.getMessage()); }
+        backgroundLoad.finish(backgroundImage != null && !backgroundImage.isError());
         if (backgroundImage != null) {
             ImageView backgroundImageView = new ImageView(backgroundImage);
             backgroundImageView.fitWidthProperty().bind(backgroundPane.widthProperty());
@@ -549,7 +598,7 @@ public class MusicalInvaders extends Application {
         try {
             String cssPath = Objects.requireNonNull(getClass().getResource(MAIN_MENU_CSS_PATH)).toExternalForm();
             sceneRoot.getStylesheets().add(cssPath);
-        } catch (Exception e) { System.err.println("CSS-Datei für Hauptmenü nicht gefunden: " + e.getMessage()); }
+        } catch (Exception e) { LOG.warn("CSS-Datei für Hauptmenü nicht gefunden: {}", e.getMessage()); }
 
         Label titleLabel = new Label("Musical Invaders");
         titleLabel.setId("title-label");
@@ -648,12 +697,15 @@ public class MusicalInvaders extends Application {
 
         this.gameDimensions = new GameDimensions(windowWidth, windowHeight);
 
-        if (selectedVoiceProfile != null && selectedVoiceProfile.getSfxFolderPath() != null) {
+        if (selectedVoiceProfile != null && selectedVoiceProfile.getVoicePack() != null) {
+            this.profileSoundManager = new SoundManager(selectedVoiceProfile.getVoicePack());
+        } else if (selectedVoiceProfile != null && selectedVoiceProfile.getSfxFolderPath() != null) {
             this.profileSoundManager = new SoundManager(selectedVoiceProfile.getSfxFolderPath());
         } else {
-            System.err.println("MusicalInvaders: selectedVoiceProfile or its SFX path is null for profileSoundManager.");
+            LOG.warn("selectedVoiceProfile or its SFX path is null for profileSoundManager.");
             this.profileSoundManager = new SoundManager((String) null);
         }
+        globalSoundManager.loadPackJubelSounds(voicePacks); // Packs erst jetzt öffnen, nicht beim Start
 
         gamePane = new Pane();
         gamePane.setPrefSize(gameDimensions.getWidth(), gameDimensions.getHeight());
@@ -677,7 +729,7 @@ public class MusicalInvaders extends Application {
             String cssPath = Objects.requireNonNull(getClass().getResource(MAIN_MENU_CSS_PATH)).toExternalForm();
             gameScene.getStylesheets().add(cssPath);
         } catch (Exception e) {
-            System.err.println("CSS-Datei für Spielszene nicht gefunden: " + e.getMessage());
+            LOG.warn("CSS-Datei für Spielszene nicht gefunden: {}", e.getMessage());
         }
 
         inputHandler = new InputHandler(gameScene);
@@ -688,40 +740,159 @@ public class MusicalInvaders extends Application {
             gameUIManager.setUiPane(uiPane);
         }
 
-        entityManager = new GameEntityManager(gamePane, gameDimensions, gameUIManager, this.profileSoundManager, this);
-
-        gameUpdater = new GameUpdater(entityManager, inputHandler, gameDimensions, gameUIManager, this, this.profileSoundManager);
-
+        stopSimulationThread();
+        if (beatClock != null) beatClock.restart();
+        if (qualityGovernor != null) qualityGovernor.detach();
+        qualityGovernor = null;
         gameUIManager.resetScore();
-        entityManager.createPlayer();
-        entityManager.spawnEnemyWaveInitial();
+        if (useSimulationThread) {
+            // Kein Governor: Qualitätsstufen schalten an den Spiel-Nodes, die gehören dem Simulations-Thread
+            entityManager = null;
+            gameUpdater = null;
+            stressRecorder = null;
+            snapshotView = new SnapshotView(gamePane, gameUIManager, this.profileSoundManager);
+            simulationThread = new SimulationThread(gameDimensions, selectedVoiceProfile, inputHandler, beatClock);
+            snapshotView.apply(simulationThread.latestSnapshot(), 0); // erste Welle schon vor dem ersten Pulse
+        } else {
+            snapshotView = null;
+            entityManager = new GameEntityManager(gamePane, gameDimensions, gameUIManager, this.profileSoundManager, this);
+            entityManager.setBeatClock(beatClock);
+            gameUpdater = new GameUpdater(entityManager, inputHandler, gameDimensions, gameUIManager, this, this.profileSoundManager);
+            qualityGovernor = new QualityGovernor(primaryStage, gamePane, gameUIManager, entityManager);
+            stressRecorder = StressConfig.get().isEnabled() ? new StressRecorder(StressConfig.get()) : null;
+            entityManager.createPlayer();
+            entityManager.spawnEnemyWaveInitial();
+        }
+        gameStartedAtMillis = System.currentTimeMillis();
+        gameStartedAtNanos = System.nanoTime();
+        sessionRecorded = false;
 
         if (gameLoop == null) {
             gameLoop = new AnimationTimer() {
                 private long lastUpdate = 0;
+                private long tickAccumulator = 0;
                 private boolean firstFrameAfterResume = true;
+                private boolean running = false;
+
+                // Pause, Game Over und Abspann halten den Timer an: der erste Pulse danach misst keinen Abstand,
+                // sonst ginge die ganze Pausendauer als ein Frame in Governor, Metriken, Statistik und Stress-Report.
+                // start() auf dem laufenden Timer (Wellenübergang) ändert nichts.
+                @Override
+                public void start() {
+                    if (!running) firstFrameAfterResume = true;
+                    running = true;
+                    super.start();
+                }
+
+                @Override
+                public void stop() {
+                    running = false;
+                    super.stop();
+                }
+
                 @Override
                 public void handle(long now) {
-                    if (MusicalInvaders.this.currentGameState != GameState.PLAYING) {
+                    if (!isGameplayActive()) {
                         firstFrameAfterResume = true;
                         return;
                     }
                     if (firstFrameAfterResume || lastUpdate == 0) {
                         lastUpdate = now;
+                        tickAccumulator = 0;
                         firstFrameAfterResume = false;
                         return;
                     }
+                    if (qualityGovernor != null) qualityGovernor.onFrame(now - lastUpdate);
+                    if (gameMetrics != null) gameMetrics.recordFrame(now - lastUpdate);
+                    GameStats.recordFrame(now - lastUpdate);
+                    if (stressRecorder != null && stressRecorder.onFrame(now - lastUpdate, entityManager)) {
+                        finishStressRun(); // maxWaves erreicht
+                        return;
+                    }
+                    if (simulationThread != null) {
+                        lastUpdate = now;
+                        showSimulationSnapshot();
+                        return;
+                    }
+                    if (FIXED_TICK_NANOS > 0) {
+                        runFixedTicks(now);
+                        return;
+                    }
                     double deltaTime = (now - lastUpdate) / 1_000_000_000.0;
                     lastUpdate = now;
                     if (deltaTime > 0.1) { deltaTime = 0.1; }
                     if (deltaTime <= 0) { deltaTime = 1.0/60.0; }
                     gameUpdater.update(now, deltaTime);
                 }
+
+                // Simulation in festen Schritten; die Tick-Zeitstempel bleiben auf der System.nanoTime-Skala
+                private void runFixedTicks(long now) {
+                    tickAccumulator += now - lastUpdate;
+                    lastUpdate = now;
+                    tickAccumulator = Math.min(tickAccumulator, FIXED_TICK_NANOS * MAX_TICKS_PER_PULSE);
+                    long tickTime = now - tickAccumulator;
+                    double tickSeconds = FIXED_TICK_NANOS / 1_000_000_000.0;
+                    while (tickAccumulator >= FIXED_TICK_NANOS && isGameplayActive()) {
+                        tickTime += FIXED_TICK_NANOS;
+                        tickAccumulator -= FIXED_TICK_NANOS;
+                        gameUpdater.update(tickTime, tickSeconds);
+                    }
+                }
             };
         }
-        System.out.println("Spiel initialisiert/neu gestartet.");
+        if (simulationThread != null) simulationThread.start();
+        LOG.info("Spiel initialisiert/neu gestartet{}.", simulationThread != null ? " (Simulations-Thread)" : "");
+    }
+
+    // Neuester Stand des Simulations-Threads in die Szene; seine Zustandswechsel (Wellenübergang, Game Over, Abspann)
+    // erst danach, damit Game-Over-Anzeige und Highscore die Punkte dieses Stands haben
+    private void showSimulationSnapshot() {
+        GameSnapshot snapshot = simulationThread.latestSnapshot();
+        snapshotView.apply(snapshot, simulationThread.takeSounds());
+        if (snapshot.getState() != currentGameState) changeGameState(snapshot.getState());
+    }
+
+    private void stopSimulationThread() {
+        if (simulationThread == null) return;
+        simulationThread.stop();
+        simulationThread = null;
+    }
+
+
+    // Einmal pro Spiel: Session in den HighScoreStore (schreibt im Hintergrund) und Game-Over-Anzeige aktualisieren
+    private void recordSession(boolean bossDefeated) {
+        if (sessionRecorded || gameUIManager == null || selectedVoiceProfile == null) return;
+        sessionRecorded = true;
+        String profile = selectedVoiceProfile.getDisplayName();
+        int score = gameUIManager.getCurrentScore();
+        int previousBest = highScoreStore.getBestScore(profile);
+        int wave = entityManager != null ? entityManager.getCurrentWaveNumber()
+                : snapshotView != null ? snapshotView.getWave() : 0;
+        long durationMillis = (System.nanoTime() - gameStartedAtNanos) / 1_000_000;
+        highScoreStore.record(new HighScoreStore.SessionRecord(profile, score, wave, bossDefeated, gameStartedAtMillis, durationMillis));
+
+        if (score > previousBest) {
+            gameOverScoreLabel.setText("Score: " + score + "\nNEW HIGHSCORE!");
+        } else {
+            gameOverScoreLabel.setText("Score: " + score + "\nHighscore: " + previousBest);
+        }
+    }
+
+    private void finishStressRun() {
+        StressRecorder recorder = stressRecorder;
+        stressRecorder = null;
+        recorder.finish();
+        if (StressConfig.get().isExitWhenDone()) {
+            Platform.exit();
+        } else if (isGameplayActive()) {
+            changeGameState(GameState.GAME_OVER);
+        }
     }
 
+    private static long fixedTickNanosFromProperty() {
+        int hz = Integer.getInteger("spaceinvaders.fixedTickHz", 0);
+        return hz > 0 ? 1_000_000_000L / hz : 0;
+    }
 
     public void triggerGameOver() {
         changeGameState(GameState.GAME_OVER);
@@ -731,17 +902,72 @@ public class MusicalInvaders extends Application {
         return selectedVoiceProfile;
     }
 
+    @Override
+    public boolean isDetached() {
+        return false;
+    }
+
     public GameState getCurrentGameState(){
         return this.currentGameState;
     }
 
+    // Spiel läuft (auch während des Übergangs zwischen zwei Wellen)
+    public boolean isGameplayActive() {
+        return isGameplayState(currentGameState);
+    }
+
+    private static boolean isGameplayState(GameState state) {
+        return state == GameState.PLAYING || state == GameState.LEVEL_TRANSITION;
+    }
+
+    // Bildschirme ohne eigene Animation (Abspann und Spiel zählen nicht)
+    private boolean isStaticMenuState() {
+        return currentGameState == GameState.MAIN_MENU || currentGameState == GameState.PAUSED
+                || currentGameState == GameState.GAME_OVER;
+    }
+
+    // Minimiert/ohne Fokus: Spiel pausieren, Animationen und Audio anhalten; im statischen Menü nur Hintergrundarbeit drosseln
+    private void applyIdleMode(IdleGovernor.Mode mode) {
+        boolean suspended = mode == IdleGovernor.Mode.SUSPENDED;
+        if (suspended && isGameplayActive()) changeGameState(GameState.PAUSED); // stoppt Spielschleife und Musik
+        if (suspended && currentPlayingIntro != null && currentPlayingIntro.isPlaying()) currentPlayingIntro.stop();
+        if (creditRollTimeline != null && currentGameState == GameState.CREDITS) {
+            if (suspended) creditRollTimeline.pause();
+            else if (creditRollTimeline.getStatus() == Animation.Status.PAUSED) creditRollTimeline.play();
+        }
+        if (globalSoundManager != null) globalSoundManager.setJubelSuspended(suspended);
+        if (gameMetrics != null) gameMetrics.setIdle(mode != IdleGovernor.Mode.ACTIVE);
+    }
+
+    // Für GameMetrics (JMX)
+    Stage getPrimaryStage() { return primaryStage; }
+    GameEntityManager getEntityManager() { return entityManager; }
+    UIManager getGameUIManager() { return gameUIManager; }
+    SoundManager getGlobalSoundManager() { return globalSoundManager; }
+    SoundManager getProfileSoundManager() { return profileSoundManager; }
+    ObservableList<VoiceProfile> getVoiceProfiles() { return voiceProfiles; }
+    VoiceProfile getCurrentlyPreviewedVoice() { return currentlyPreviewedVoice; }
+
     private void playIntro(VoiceProfile profile) {
-        if (profile == null || profile.getIntroAudioClip() == null) { System.err.println("Kein Intro-Clip für: " + (profile != null ? profile.getDisplayName() : "Unbekannt")); return; }
+        if (profile == null || profile.getIntroPlayback() == null) { LOG.warn("Kein Intro-Clip für: {}", profile != null ? profile.getDisplayName() : "Unbekannt"); return; }
         if (currentPlayingIntro != null && currentPlayingIntro.isPlaying()) { currentPlayingIntro.stop(); }
-        currentPlayingIntro = profile.getIntroAudioClip();
+        currentPlayingIntro = profile.getIntroPlayback();
         currentPlayingIntro.play();
     }
 
+    @Override
+    public void stop() {
+        if (idleGovernor != null) idleGovernor.stop();
+        if (gameMetrics != null) gameMetrics.stop();
+        if (prometheusExporter != null) prometheusExporter.stop();
+        stopSimulationThread();
+        if (highScoreStore != null) highScoreStore.close(); // ausstehende Sessions noch schreiben
+        if (beatClock != null) beatClock.close();
+        if (currentPlayingIntro != null) currentPlayingIntro.stop(); // Streaming-Thread beenden
+        for (VoicePack pack : voicePacks) pack.close();
+        GameLog.flush();
+    }
+
     public static void main(String[] args) {
         launch(args);
     }
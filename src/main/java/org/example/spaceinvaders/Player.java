@@ -7,6 +7,7 @@ import javafx.scene.paint.Color; // Nur für Fallback
 import javafx.scene.shape.Rectangle; // Nur für Fallback
 
 public class Player {
+    private static final GameLog LOG = GameLog.get(Player.class);
     private ImageView node;
     private GameDimensions gameDimensions;
     private Image playerImage;
@@ -17,18 +18,15 @@ public class Player {
         try {
             // Lade das Spielerbild - stelle sicher, dass der Pfad korrekt ist!
             // Beispiel: /images/xwing.png
-            playerImage = new Image(getClass().getResourceAsStream("/images/xwing.png"));
-            if (playerImage.isError()) {
-                throw new IllegalArgumentException("Fehler beim Laden des Spielerbildes: " + playerImage.getException().getMessage());
-            }
+            playerImage = GameImages.get("/images/xwing.png");
         } catch (Exception e) {
-            System.err.println("Schwerwiegender Fehler beim Laden des Spielerbildes: /images/xwing.png - " + e.getMessage());
+            LOG.warn("Schwerwiegender Fehler beim Laden des Spielerbildes: /images/xwing.png - {}", e.getMessage());
             // Fallback zu einem Rechteck (als Notlösung, besser wäre ein Standard-Sprite)
             Rectangle fallbackNode = new Rectangle(gameDimensions.getPlayerWidth(), gameDimensions.getPlayerHeight());
             fallbackNode.setFill(Color.CYAN);
             this.node = new ImageView(); // Leeres ImageView, um NPE zu vermeiden
             // Besser wäre es, das Spiel hier zu beenden oder einen echten Fallback-Sprite zu verwenden
-            System.err.println("Spiel kann aufgrund fehlender Spieler-Grafik möglicherweise nicht korrekt angezeigt werden.");
+            LOG.warn("Spiel kann aufgrund fehlender Spieler-Grafik möglicherweise nicht korrekt angezeigt werden.");
             return;
         }
 
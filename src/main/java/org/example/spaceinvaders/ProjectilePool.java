@@ -0,0 +1,116 @@
+package org.example.spaceinvaders;
+
+import javafx.scene.effect.ColorAdjust;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.scene.layout.Pane;
+
+/**
+ * Wiederverwendbare Projektil-Nodes. Ein Node wird beim ersten Bedarf angelegt und einmal in die Pane gehängt;
+ * danach wird er beim Freigeben nur unsichtbar geschaltet statt entfernt, damit Schüsse im laufenden Spiel
+ * weder Objekte noch Änderungen an der Kinderliste der Pane erzeugen.
+ * Jeder Node trägt als UserData ein eigenes double[{@link #DATA_SIZE}] (vx, vy, vorheriges x, vorheriges y,
+ * Breite, Höhe).
+ */
+public class ProjectilePool {
+    public static final int VELOCITY_X = 0;
+    public static final int VELOCITY_Y = 1;
+    public static final int PREVIOUS_X = 2;
+    public static final int PREVIOUS_Y = 3;
+    public static final int WIDTH = 4;
+    public static final int HEIGHT = 5;
+    public static final int DATA_SIZE = 6;
+    private static final String COLOR_ADJUST_KEY = "projectilePool.colorAdjust";
+
+    private final Pane pane;
+    private final boolean withColorAdjust;
+    private ImageView[] free = new ImageView[32];
+    private int freeCount = 0;
+    private int createdCount = 0;
+    private static int missCount = 0; // über alle Pools, seit dem letzten takeMissCount() (FrameTickEvent)
+
+    public ProjectilePool(Pane pane, boolean withColorAdjust) {
+        this.pane = pane;
+        this.withColorAdjust = withColorAdjust;
+    }
+
+    public ImageView acquire(Image image, double width, double height) {
+        ImageView node;
+        GameStats.countPoolAcquire(freeCount > 0);
+        if (freeCount > 0) {
+            node = free[--freeCount];
+            free[freeCount] = null;
+        } else {
+            node = new ImageView();
+            node.setPreserveRatio(true);
+            node.setUserData(new double[DATA_SIZE]);
+            if (withColorAdjust) {
+                // Effekt am Node merken, damit er auch abgeschaltet (setEffect(null)) wiederverwendet werden kann
+                ColorAdjust colorAdjust = new ColorAdjust();
+                node.getProperties().put(COLOR_ADJUST_KEY, colorAdjust);
+                node.setEffect(colorAdjust);
+            }
+            pane.getChildren().add(node);
+            createdCount++;
+            missCount++;
+        }
+        if (node.getImage() != image) node.setImage(image);
+        node.setFitWidth(width);
+        node.setFitHeight(height);
+        double[] data = (double[]) node.getUserData();
+        data[VELOCITY_X] = 0;
+        data[VELOCITY_Y] = 0;
+        storeSize(data, image, width, height);
+        node.setVisible(true);
+        return node;
+    }
+
+    public void release(ImageView node) {
+        if (node == null || !node.isVisible()) return; // schon freigegeben
+        node.setVisible(false);
+        if (freeCount == free.length) {
+            ImageView[] bigger = new ImageView[free.length * 2];
+            System.arraycopy(free, 0, bigger, 0, freeCount);
+            free = bigger;
+        }
+        free[freeCount++] = node;
+    }
+
+    /**
+     * Größe wie in den Layout-Bounds bei preserveRatio: das Bild wird in fitWidth x fitHeight eingepasst.
+     * Für Projektile außerhalb des Pools (Warm-up) ebenfalls nutzbar.
+     */
+    static void storeSize(double[] data, Image image, double fitWidth, double fitHeight) {
+        double scale = image.getWidth() > 0 && image.getHeight() > 0
+                ? Math.min(fitWidth / image.getWidth(), fitHeight / image.getHeight()) : 0;
+        // float wie die Geometrie-Bounds von JavaFX, sonst weicht die Box in der letzten Stelle ab
+        data[WIDTH] = (float) (scale > 0 ? image.getWidth() * scale : fitWidth);
+        data[HEIGHT] = (float) (scale > 0 ? image.getHeight() * scale : fitHeight);
+    }
+
+    public static double[] data(ImageView node) {
+        return (double[]) node.getUserData();
+    }
+
+    // Merkt die aktuelle Position als Startpunkt der Bewegung dieses Ticks (für den Swept-Test)
+    public static void markPosition(ImageView node) {
+        double[] data = (double[]) node.getUserData();
+        data[PREVIOUS_X] = node.getLayoutX();
+        data[PREVIOUS_Y] = node.getLayoutY();
+    }
+
+    public static ColorAdjust colorAdjust(ImageView node) {
+        return (ColorAdjust) node.getProperties().get(COLOR_ADJUST_KEY);
+    }
+
+    static int takeMissCount() {
+        int count = missCount;
+        missCount = 0;
+        return count;
+    }
+
+    /** Anzahl der Nodes, die neu angelegt werden mussten (Pool war leer). */
+    public int getCreatedCount() {
+        return createdCount;
+    }
+}
@@ -0,0 +1,173 @@
+package org.example.spaceinvaders;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryUsage;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lokaler HTTP-Endpunkt {@code /metrics} im Prometheus-Textformat. Nur aktiv mit
+ * {@code -Dspaceinvaders.metricsPort=<port>}; lauscht standardmäßig nur auf Loopback
+ * ({@code -Dspaceinvaders.metricsHost} zum Ändern). Die Werte kommen aus {@link GameStats}.
+ */
+public class PrometheusExporter {
+    private static final GameLog LOG = GameLog.get(PrometheusExporter.class);
+    private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "metrics-http");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private PrometheusExporter(InetSocketAddress address) throws IOException {
+        server = HttpServer.create(address, 0);
+        server.createContext("/metrics", this::handleScrape);
+        server.setExecutor(executor);
+    }
+
+    /** Startet den Exporter, wenn ein Port gesetzt ist; sonst null (und {@link GameStats} bleibt aus). */
+    public static PrometheusExporter startIfRequested() {
+        Integer port = Integer.getInteger("spaceinvaders.metricsPort");
+        if (port == null) return null;
+        String host = System.getProperty("spaceinvaders.metricsHost");
+        try {
+            InetAddress bindAddress = host != null ? InetAddress.getByName(host) : InetAddress.getLoopbackAddress();
+            PrometheusExporter exporter = new PrometheusExporter(new InetSocketAddress(bindAddress, port));
+            exporter.server.start();
+            GameStats.enable();
+            LOG.info("Prometheus-Metriken unter http://{}:{}/metrics", bindAddress.getHostAddress(), port);
+            return exporter;
+        } catch (IOException e) {
+            LOG.warn("Konnte Port {} nicht öffnen: {}", port, e.getMessage());
+            return null;
+        }
+    }
+
+    public void stop() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handleScrape(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            byte[] body = render().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+
+    private String render() {
+        StringBuilder out = new StringBuilder(8192);
+
+        header(out, "spaceinvaders_frame_seconds", "histogram", "Zeit zwischen zwei Pulses während PLAYING");
+        histogram(out, "spaceinvaders_frame_seconds", "", GameStats.FRAME_TIME);
+
+        header(out, "spaceinvaders_update_phase_seconds", "histogram", "Dauer der Teilphasen von GameUpdater.update");
+        for (int i = 0; i < GameStats.PHASE_NAMES.length; i++) {
+            histogram(out, "spaceinvaders_update_phase_seconds", "phase=\"" + GameStats.PHASE_NAMES[i] + "\"", GameStats.PHASE_TIME[i]);
+        }
+
+        header(out, "spaceinvaders_collision_tests_total", "counter", "AABB- und Swept-Tests");
+        sample(out, "spaceinvaders_collision_tests_total", "", GameStats.COLLISION_TESTS.sum());
+
+        header(out, "spaceinvaders_game_events_total", "counter", "Spielereignisse (Schüsse, Treffer, Kollisionen)");
+        GameEventType[] types = GameEventType.values();
+        for (int i = 0; i < types.length; i++) {
+            sample(out, "spaceinvaders_game_events_total", "type=\"" + types[i].name().toLowerCase(Locale.ROOT) + "\"",
+                    GameStats.EVENTS[i].sum());
+        }
+        header(out, "spaceinvaders_shots_fired_total", "counter", "Abgefeuerte Projektile");
+        sample(out, "spaceinvaders_shots_fired_total", "shooter=\"player\"", GameStats.EVENTS[GameEventType.PLAYER_SHOT.ordinal()].sum());
+        sample(out, "spaceinvaders_shots_fired_total", "shooter=\"boss\"", GameStats.EVENTS[GameEventType.BOSS_SHOT.ordinal()].sum());
+
+        header(out, "spaceinvaders_sfx_plays_total", "counter", "Gestartete Soundeffekte pro Kategorie");
+        for (Map.Entry<String, LongAdder> entry : GameStats.SFX_PLAYS.entrySet()) {
+            sample(out, "spaceinvaders_sfx_plays_total", "category=\"" + entry.getKey() + "\"", entry.getValue().sum());
+        }
+        header(out, "spaceinvaders_sfx_drops_total", "counter", "Nicht abgespielte Soundeffekte");
+        sample(out, "spaceinvaders_sfx_drops_total", "reason=\"coalesced\"", GameStats.SFX_COALESCED.sum());
+        sample(out, "spaceinvaders_sfx_drops_total", "reason=\"missing\"", GameStats.SFX_MISSING.sum());
+
+        header(out, "spaceinvaders_projectile_pool_acquires_total", "counter", "Projektil-Nodes aus dem Pool (hit) oder neu angelegt (miss)");
+        sample(out, "spaceinvaders_projectile_pool_acquires_total", "result=\"hit\"", GameStats.POOL_HITS.sum());
+        sample(out, "spaceinvaders_projectile_pool_acquires_total", "result=\"miss\"", GameStats.POOL_MISSES.sum());
+
+        renderJvm(out);
+        return out.toString();
+    }
+
+    private static void renderJvm(StringBuilder out) {
+        long fxThreadId = GameStats.getFxThreadId();
+        if (fxThreadId >= 0 && ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+                && bean.isThreadAllocatedMemorySupported() && bean.isThreadAllocatedMemoryEnabled()) {
+            long bytes = bean.getThreadAllocatedBytes(fxThreadId);
+            if (bytes >= 0) {
+                header(out, "spaceinvaders_fx_thread_allocated_bytes_total", "counter", "Vom FX-Thread allokierte Bytes");
+                sample(out, "spaceinvaders_fx_thread_allocated_bytes_total", "", bytes);
+            }
+        }
+
+        MemoryUsage heap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage();
+        header(out, "spaceinvaders_jvm_heap_used_bytes", "gauge", "Belegter Heap");
+        sample(out, "spaceinvaders_jvm_heap_used_bytes", "", heap.getUsed());
+
+        header(out, "spaceinvaders_jvm_gc_collections_total", "counter", "GC-Läufe pro Collector");
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            sample(out, "spaceinvaders_jvm_gc_collections_total", "gc=\"" + gc.getName() + "\"", Math.max(0, gc.getCollectionCount()));
+        }
+        header(out, "spaceinvaders_jvm_gc_seconds_total", "counter", "GC-Zeit pro Collector");
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            sample(out, "spaceinvaders_jvm_gc_seconds_total", "gc=\"" + gc.getName() + "\"", Math.max(0, gc.getCollectionTime()) / 1000.0);
+        }
+    }
+
+    private static void header(StringBuilder out, String name, String type, String help) {
+        out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        out.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    }
+
+    private static void sample(StringBuilder out, String name, String labels, double value) {
+        out.append(name);
+        if (!labels.isEmpty()) out.append('{').append(labels).append('}');
+        out.append(' ');
+        if (value == Math.rint(value) && Math.abs(value) < 1e15) {
+            out.append((long) value);
+        } else {
+            out.append(value);
+        }
+        out.append('\n');
+    }
+
+    private static void histogram(StringBuilder out, String name, String labels, GameStats.Histogram histogram) {
+        String prefix = labels.isEmpty() ? "" : labels + ",";
+        long cumulative = 0;
+        for (int i = 0; i < histogram.buckets.length; i++) {
+            cumulative += histogram.buckets[i].sum();
+            String le = i < histogram.upperBounds.length ? Double.toString(histogram.upperBounds[i]) : "+Inf";
+            sample(out, name + "_bucket", prefix + "le=\"" + le + "\"", cumulative);
+        }
+        sample(out, name + "_sum", labels, histogram.sum.sum());
+        sample(out, name + "_count", labels, cumulative);
+    }
+}
@@ -0,0 +1,184 @@
+package org.example.spaceinvaders;
+
+import javafx.collections.ListChangeListener;
+import javafx.scene.Node;
+import javafx.scene.image.ImageView;
+import javafx.scene.layout.Pane;
+import javafx.stage.Window;
+
+/**
+ * Passt die Darstellungsqualität an die gemessene Frame-Zeit an. Dauert ein Frame im Mittel deutlich länger als
+ * das Ziel, wird eine Stufe heruntergeschaltet, bei dauerhaft genug Luft wieder hoch:
+ * <ul>
+ *   <li>HIGH: alles an</li>
+ *   <li>MEDIUM: keine Schatten an den Labels, keine ColorAdjust-Effekte am Boss und seinen Projektilen</li>
+ *   <li>LOW: zusätzlich keine Glättung (smooth) bei den ImageViews des Spielfelds</li>
+ *   <li>LOWEST: zusätzlich wird das Fenster mit reduzierter Render-Skalierung gezeichnet</li>
+ * </ul>
+ * Nur auf LOWEST wird die Render-Skalierung des Fensters überschrieben, auf allen anderen Stufen folgt sie wie
+ * gewohnt der Ausgabe-Skalierung. UIManager und Fenster überdauern ein Spiel: {@link #detach()} stellt am Spielende
+ * bzw. vor dem nächsten Governor den Zustand von HIGH wieder her.
+ * {@code -Dspaceinvaders.quality=high|medium|low|lowest} fixiert eine Stufe und schaltet die Regelung ab,
+ * {@code -Dspaceinvaders.qualityGovernor=false} schaltet sie ganz ab (immer HIGH).
+ */
+public class QualityGovernor {
+    private static final GameLog LOG = GameLog.get(QualityGovernor.class);
+
+    public enum Level { HIGH, MEDIUM, LOW, LOWEST }
+
+    private static final long TARGET_FRAME_NANOS = 1_000_000_000L / 60;
+    private static final double EMA_ALPHA = 0.05; // ca. 20 Frames Glättung
+    private static final double DOWNGRADE_FACTOR = 1.3; // > 21.7 ms im Mittel
+    private static final double UPGRADE_FACTOR = 1.08; // < 18 ms im Mittel
+    private static final long DOWNGRADE_HOLD_NANOS = 2_000_000_000L;
+    private static final long BASE_UPGRADE_HOLD_NANOS = 8_000_000_000L;
+    private static final long MAX_UPGRADE_HOLD_NANOS = 120_000_000_000L;
+    private static final double LOWEST_RENDER_SCALE_FACTOR = 0.6;
+
+    private final Window window;
+    private final Pane gamePane;
+    private final UIManager uiManager;
+    private final GameEntityManager entityManager;
+    private final boolean adaptive;
+
+    private Level level = Level.HIGH;
+    private double averageFrameNanos = TARGET_FRAME_NANOS;
+    private long overBudgetNanos = 0;
+    private long underBudgetNanos = 0;
+    private long upgradeHoldNanos = BASE_UPGRADE_HOLD_NANOS;
+    private long nanosSinceUpgrade = Long.MAX_VALUE;
+    private boolean renderScaleReduced = false;
+    private boolean savedForceIntegerRenderScale = false;
+    private boolean smoothImages = true;
+    private final ListChangeListener<Node> applySmooth;
+
+    public QualityGovernor(Window window, Pane gamePane, UIManager uiManager, GameEntityManager entityManager) {
+        this.window = window;
+        this.gamePane = gamePane;
+        this.uiManager = uiManager;
+        this.entityManager = entityManager;
+
+        // Neu hinzugefügte Spielfiguren (auch Gegner in der Formationsebene) übernehmen die aktuelle Glättungs-Einstellung
+        applySmooth = change -> {
+            if (smoothImages) return;
+            while (change.next()) {
+                for (Node added : change.getAddedSubList()) {
+                    if (added instanceof ImageView imageView) imageView.setSmooth(false);
+                }
+            }
+        };
+        gamePane.getChildren().addListener(applySmooth);
+        entityManager.getFormationLayer().getChildren().addListener(applySmooth);
+
+        String fixed = System.getProperty("spaceinvaders.quality");
+        if (fixed != null) {
+            Level fixedLevel = Level.HIGH;
+            try {
+                fixedLevel = Level.valueOf(fixed.trim().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                LOG.warn("Unbekannte Qualitätsstufe '{}', verwende HIGH.", fixed);
+            }
+            adaptive = false;
+            applyLevel(fixedLevel);
+        } else {
+            adaptive = !"false".equalsIgnoreCase(System.getProperty("spaceinvaders.qualityGovernor"));
+        }
+    }
+
+    /** Einmal pro Pulse mit dem Abstand zum vorherigen Pulse aufrufen. */
+    public void onFrame(long frameNanos) {
+        if (!adaptive || frameNanos <= 0) return;
+        frameNanos = Math.min(frameNanos, 250_000_000L); // Hänger (Fenster verschoben o.ä.) nicht überbewerten
+        averageFrameNanos += (frameNanos - averageFrameNanos) * EMA_ALPHA;
+        if (nanosSinceUpgrade != Long.MAX_VALUE) nanosSinceUpgrade += frameNanos;
+
+        if (averageFrameNanos > TARGET_FRAME_NANOS * DOWNGRADE_FACTOR) {
+            underBudgetNanos = 0;
+            overBudgetNanos += frameNanos;
+            if (overBudgetNanos >= DOWNGRADE_HOLD_NANOS && level != Level.LOWEST) {
+                // Direkt nach einem Hochschalten wieder zu langsam: beim nächsten Mal länger warten
+                if (nanosSinceUpgrade < upgradeHoldNanos) {
+                    upgradeHoldNanos = Math.min(upgradeHoldNanos * 2, MAX_UPGRADE_HOLD_NANOS);
+                }
+                applyLevel(Level.values()[level.ordinal() + 1]);
+            }
+        } else if (averageFrameNanos < TARGET_FRAME_NANOS * UPGRADE_FACTOR) {
+            overBudgetNanos = 0;
+            underBudgetNanos += frameNanos;
+            if (underBudgetNanos >= upgradeHoldNanos && level != Level.HIGH) {
+                applyLevel(Level.values()[level.ordinal() - 1]);
+                nanosSinceUpgrade = 0;
+            }
+        } else {
+            overBudgetNanos = 0;
+            underBudgetNanos = 0;
+        }
+    }
+
+    /**
+     * Spiel vorbei oder ein neuer Governor übernimmt: Effekte, Glättung und Render-Skalierung wie auf HIGH
+     * zurücksetzen und die Listener am Spielfeld lösen. Danach keine Aufrufe mehr.
+     */
+    public void detach() {
+        gamePane.getChildren().removeListener(applySmooth);
+        entityManager.getFormationLayer().getChildren().removeListener(applySmooth);
+        if (level == Level.HIGH) return;
+        LOG.info("{} -> HIGH (Spielende)", level);
+        level = Level.HIGH;
+        applySettings(Level.HIGH);
+    }
+
+    private void applyLevel(Level newLevel) {
+        LOG.info("{} -> {} (Frame-Zeit im Mittel {} ms)", level, newLevel, Math.round(averageFrameNanos / 100_000.0) / 10.0);
+        level = newLevel;
+        overBudgetNanos = 0;
+        underBudgetNanos = 0;
+        applySettings(newLevel);
+    }
+
+    private void applySettings(Level newLevel) {
+        boolean effects = newLevel == Level.HIGH;
+        uiManager.setEffectsEnabled(effects);
+        BossController bossController = entityManager.getBossController();
+        if (bossController != null) bossController.setEffectsEnabled(effects);
+
+        setSmoothImages(newLevel.ordinal() < Level.LOW.ordinal());
+        setRenderScaleReduced(newLevel == Level.LOWEST);
+    }
+
+    private void setRenderScaleReduced(boolean reduced) {
+        if (renderScaleReduced == reduced) return;
+        renderScaleReduced = reduced;
+        if (reduced) {
+            // Ausgangswert ist die aktuelle Ausgabe-Skalierung (HiDPI: z.B. 2.0 auf 4K)
+            savedForceIntegerRenderScale = window.isForceIntegerRenderScale();
+            window.setForceIntegerRenderScale(false);
+            window.setRenderScaleX(Math.max(0.5, window.getOutputScaleX() * LOWEST_RENDER_SCALE_FACTOR));
+            window.setRenderScaleY(Math.max(0.5, window.getOutputScaleY() * LOWEST_RENDER_SCALE_FACTOR));
+        } else {
+            // Wieder so, wie das Fenster selbst sie setzt: Ausgabe-Skalierung, mit forceIntegerRenderScale aufgerundet
+            window.setForceIntegerRenderScale(savedForceIntegerRenderScale);
+            window.setRenderScaleX(savedForceIntegerRenderScale ? Math.ceil(window.getOutputScaleX()) : window.getOutputScaleX());
+            window.setRenderScaleY(savedForceIntegerRenderScale ? Math.ceil(window.getOutputScaleY()) : window.getOutputScaleY());
+        }
+    }
+
+    private void setSmoothImages(boolean smooth) {
+        if (smoothImages == smooth) return;
+        smoothImages = smooth;
+        for (Node child : gamePane.getChildren()) {
+            if (child instanceof ImageView imageView) imageView.setSmooth(smooth);
+        }
+        for (Node child : entityManager.getFormationLayer().getChildren()) {
+            if (child instanceof ImageView imageView) imageView.setSmooth(smooth);
+        }
+    }
+
+    public Level getLevel() {
+        return level;
+    }
+
+    public double getAverageFrameMillis() {
+        return averageFrameNanos / 1_000_000.0;
+    }
+}
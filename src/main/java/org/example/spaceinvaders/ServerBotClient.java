@@ -0,0 +1,177 @@
+package org.example.spaceinvaders;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bot-Client für den {@link GameServer}, als Ersatz für echte Spieler in Last- und Kapazitätstests. Jeder Bot läuft
+ * auf einem virtuellen Thread, ändert alle paar hundert Millisekunden seine Eingabe und startet nach Game Over oder
+ * Abspann sofort ein neues Spiel.
+ * <pre>
+ * java ... org.example.spaceinvaders.ServerBotClient host=127.0.0.1 port=7777 bots=200 seconds=30
+ * java ... org.example.spaceinvaders.ServerBotClient embedded=true steps=100,200,400,800 seconds=10
+ * </pre>
+ * Mit {@code embedded=true} startet der Client einen Server in derselben JVM und erhöht die Bot-Anzahl stufenweise;
+ * pro Stufe wird der Server-Bericht ausgegeben (Überläufe, Sessions pro Kern). Jede Session ist ein echtes Spiel,
+ * ein Tick kostet deutlich mehr als früher die vereinfachte Simulation; die Stufen entsprechend kleiner wählen.
+ */
+public final class ServerBotClient {
+    private static final LongAdder statesReceived = new LongAdder();
+    private static final LongAdder gamesFinished = new LongAdder();
+    private static final LongAdder connectionErrors = new LongAdder();
+
+    private ServerBotClient() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        String host = "127.0.0.1";
+        int port = 7777, seconds = 30, tickHz = 60;
+        String steps = "200";
+        boolean embedded = false;
+        for (String arg : args) {
+            String[] pair = arg.split("=", 2);
+            if (pair.length != 2) continue;
+            switch (pair[0]) {
+                case "host" -> host = pair[1];
+                case "port" -> port = Integer.parseInt(pair[1]);
+                case "bots", "steps" -> steps = pair[1];
+                case "seconds" -> seconds = Integer.parseInt(pair[1]);
+                case "tickHz" -> tickHz = Integer.parseInt(pair[1]);
+                case "embedded" -> embedded = Boolean.parseBoolean(pair[1]);
+                default -> System.err.println("Unbekanntes Argument: " + arg);
+            }
+        }
+
+        GameServer server = null;
+        InetSocketAddress address;
+        if (embedded) {
+            server = new GameServer(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), tickHz);
+            server.start();
+            address = new InetSocketAddress(InetAddress.getLoopbackAddress(), server.getPort());
+        } else {
+            address = new InetSocketAddress(host, port);
+        }
+
+        List<Bot> bots = new ArrayList<>();
+        for (String step : steps.split(",")) {
+            int target = Integer.parseInt(step.trim());
+            while (bots.size() < target) {
+                Bot bot = new Bot(address, bots.size());
+                bots.add(bot);
+                Thread.ofVirtual().name("bot-" + bots.size()).start(bot);
+            }
+            if (server != null) server.report(); // Intervall beginnt mit der neuen Stufe
+            Thread.sleep(seconds * 1000L);
+            System.out.printf(Locale.ROOT, "Bots: %d, Zustände empfangen %d, Spiele beendet %d, Verbindungsfehler %d%n",
+                    bots.size(), statesReceived.sum(), gamesFinished.sum(), connectionErrors.sum());
+            if (server != null) System.out.println(server.report());
+        }
+
+        for (Bot bot : bots) bot.stop();
+        if (server != null) server.stop();
+    }
+
+    private static final class Bot implements Runnable {
+        private final InetSocketAddress address;
+        private final long seed;
+        private volatile boolean running = true;
+        private volatile Socket socket;
+
+        Bot(InetSocketAddress address, long seed) {
+            this.address = address;
+            this.seed = seed;
+        }
+
+        @Override
+        public void run() {
+            while (running) {
+                try (Socket connection = new Socket()) {
+                    socket = connection;
+                    connection.connect(address, 5000);
+                    connection.setTcpNoDelay(true);
+                    playOneGame(connection);
+                } catch (IOException e) {
+                    if (!running) return;
+                    connectionErrors.increment();
+                    try {
+                        Thread.sleep(200);
+                    } catch (InterruptedException interrupted) {
+                        return;
+                    }
+                }
+            }
+        }
+
+        private void playOneGame(Socket connection) throws IOException {
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(connection.getOutputStream()));
+            DataInputStream in = new DataInputStream(new BufferedInputStream(connection.getInputStream()));
+            out.writeInt(GameServer.PROTOCOL_MAGIC);
+            out.writeLong(seed);
+            out.flush();
+
+            // Eingaben auf eigenem virtuellen Thread, damit das Lesen der Zustände nicht blockiert wird
+            Thread writer = Thread.ofVirtual().start(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                try {
+                    while (running && !connection.isClosed()) {
+                        int input = switch (random.nextInt(3)) {
+                            case 0 -> GameServer.INPUT_LEFT;
+                            case 1 -> GameServer.INPUT_RIGHT;
+                            default -> 0;
+                        };
+                        out.writeByte(input | GameServer.INPUT_SHOOT);
+                        out.flush();
+                        Thread.sleep(150 + random.nextInt(250));
+                    }
+                } catch (IOException | InterruptedException e) {
+                    // Spiel vorbei oder Verbindung weg
+                }
+            });
+
+            try {
+                while (running) {
+                    in.readInt(); // frame
+                    in.readInt(); // welle
+                    in.readInt(); // punkte
+                    in.readInt(); // gegner
+                    in.readInt(); // bossLeben
+                    boolean finished = in.readInt() != GameServer.RESULT_RUNNING;
+                    statesReceived.increment();
+                    if (finished) {
+                        gamesFinished.increment();
+                        break;
+                    }
+                }
+            } catch (EOFException e) {
+                // Server hat die Session beendet
+            } finally {
+                connection.close();
+                writer.interrupt();
+            }
+        }
+
+        void stop() {
+            running = false;
+            Socket current = socket;
+            if (current != null) {
+                try {
+                    current.close();
+                } catch (IOException e) {
+                    // egal
+                }
+            }
+        }
+    }
+}
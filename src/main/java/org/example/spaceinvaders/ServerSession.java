@@ -0,0 +1,127 @@
+package org.example.spaceinvaders;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.Socket;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Ein Spiel auf dem {@link GameServer}: ein {@link DetachedGame}, dessen Zustand nur der Server verändert.
+ * Pro Session laufen zwei virtuelle Threads: die Tick-Schleife mit fester Rate, der das Spiel gehört, und ein Leser
+ * für die Eingaben des Clients. Der Leser gibt Tastenwechsel über die lock-freie Queue des {@link InputHandler}
+ * weiter (ein Produzent, ein Konsument), wie die Tastatur im Fenster.
+ */
+public class ServerSession {
+    private static final int MAX_CATCH_UP_TICKS = 5;
+    private static final GameLog LOG = GameLog.get(ServerSession.class);
+
+    private final GameServer server;
+    private final Socket socket;
+    private final int id;
+    private final ServerStats stats;
+    private final long tickNanos;
+    private DetachedGame game;
+    private DataOutputStream out;
+    private volatile boolean running = true;
+
+    ServerSession(GameServer server, Socket socket, int id) {
+        this.server = server;
+        this.socket = socket;
+        this.id = id;
+        this.stats = server.getStats();
+        this.tickNanos = server.getTickNanos();
+    }
+
+    /** Handshake lesen, dann Leser und Tick-Schleife auf je einem virtuellen Thread. */
+    void start() {
+        Thread.ofVirtual().name("session-" + id + "-tick").start(() -> {
+            try {
+                socket.setTcpNoDelay(true);
+                DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+                out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+                if (in.readInt() != GameServer.PROTOCOL_MAGIC) throw new IOException("Falsches Protokoll");
+                long seed = in.readLong();
+                game = new DetachedGame(GameServer.GAME_WIDTH, GameServer.GAME_HEIGHT, seed);
+                InputHandler inputHandler = game.getInputHandler();
+
+                Thread.ofVirtual().name("session-" + id + "-input").start(() -> readInputs(in, inputHandler));
+                stats.sessionStarted();
+                runTicks();
+            } catch (IOException e) {
+                if (running) LOG.warn("Session {}: {}", id, e.getMessage());
+            } catch (RuntimeException e) {
+                LOG.error("Session {}: Spiel abgebrochen", id, e); // nur diese Session, der Server läuft weiter
+            } finally {
+                close();
+            }
+        });
+    }
+
+    private void readInputs(DataInputStream in, InputHandler inputHandler) {
+        try {
+            while (running) {
+                int value = in.read();
+                if (value < 0 || value == GameServer.CLIENT_BYE) break;
+                inputHandler.offerAction(InputHandler.ACTION_LEFT, (value & GameServer.INPUT_LEFT) != 0);
+                inputHandler.offerAction(InputHandler.ACTION_RIGHT, (value & GameServer.INPUT_RIGHT) != 0);
+                inputHandler.offerAction(InputHandler.ACTION_SHOOT, (value & GameServer.INPUT_SHOOT) != 0);
+            }
+        } catch (IOException e) {
+            // Verbindung weg, die Tick-Schleife beendet sich beim nächsten Senden
+        }
+        running = false;
+    }
+
+    private void runTicks() throws IOException {
+        long next = System.nanoTime();
+        while (running) {
+            next += tickNanos;
+            long now = System.nanoTime();
+            if (next > now) LockSupport.parkNanos(next - now); // virtueller Thread gibt den Träger frei
+            long wake = System.nanoTime();
+            long lateness = Math.max(0, wake - next);
+            if (lateness > tickNanos * MAX_CATCH_UP_TICKS) {
+                // Zu weit hinten: nicht aufholen, sondern Ticks auslassen und neu takten
+                stats.recordSkippedTicks(lateness / tickNanos);
+                next = wake;
+            }
+
+            game.tick(tickNanos);
+            stats.recordTick(lateness, System.nanoTime() - wake);
+
+            boolean finished = !game.isGameplayActive();
+            if (finished || game.getFrames() % GameServer.STATE_INTERVAL_TICKS == 0) {
+                writeState(finished);
+            }
+            if (finished) break;
+        }
+    }
+
+    private void writeState(boolean finished) throws IOException {
+        int result = !finished ? GameServer.RESULT_RUNNING
+                : game.getCurrentGameState() == GameState.CREDITS ? GameServer.RESULT_BOSS_DEFEATED
+                : GameServer.RESULT_GAME_OVER;
+        out.writeInt((int) game.getFrames());
+        out.writeInt(game.getEntityManager().getCurrentWaveNumber());
+        out.writeInt(game.getScore());
+        out.writeInt(game.getEntityManager().getEnemies().size());
+        out.writeInt(game.getBossHealth());
+        out.writeInt(result);
+        out.flush();
+    }
+
+    void close() {
+        running = false;
+        try {
+            socket.close();
+        } catch (IOException e) {
+            // schon zu
+        }
+        if (server.removeSession(this) && game != null) stats.sessionFinished();
+    }
+
+    int getId() { return id; }
+}
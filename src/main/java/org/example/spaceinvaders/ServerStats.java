@@ -0,0 +1,110 @@
+package org.example.spaceinvaders;
+
+import java.lang.management.ManagementFactory;
+import java.util.Locale;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Gemeinsame Statistik aller {@link ServerSession}s: Ticks, Verspätungen und Rechenzeit. Die Sessions schreiben
+ * ohne Sperren (LongAdder), {@link #report(int)} bildet die Differenz zum letzten Bericht.
+ * <p>
+ * Ein Tick gilt als Überlauf, wenn er mehr als eine Tick-Dauer nach seinem geplanten Zeitpunkt begonnen hat.
+ */
+public class ServerStats {
+    // Obergrenzen der Verspätungs-Buckets in Millisekunden, letzter Bucket = darüber
+    private static final long[] LATENESS_BUCKETS_MILLIS = {1, 2, 4, 8, 16};
+
+    private final long tickNanos;
+    private final LongAdder ticks = new LongAdder();
+    private final LongAdder overruns = new LongAdder();
+    private final LongAdder skippedTicks = new LongAdder();
+    private final LongAdder workNanos = new LongAdder();
+    private final LongAdder sessionsStarted = new LongAdder();
+    private final LongAdder sessionsFinished = new LongAdder();
+    private final LongAdder[] latenessBuckets = new LongAdder[LATENESS_BUCKETS_MILLIS.length + 1];
+    private final LongAccumulator maxLatenessNanos = new LongAccumulator(Math::max, 0);
+
+    private long lastReportNanos = System.nanoTime();
+    private long lastCpuNanos = processCpuNanos();
+    private long lastTicks;
+    private long lastOverruns;
+    private long lastWorkNanos;
+
+    public ServerStats(long tickNanos) {
+        this.tickNanos = tickNanos;
+        for (int i = 0; i < latenessBuckets.length; i++) latenessBuckets[i] = new LongAdder();
+    }
+
+    void recordTick(long latenessNanos, long tickWorkNanos) {
+        ticks.increment();
+        workNanos.add(tickWorkNanos);
+        if (latenessNanos > tickNanos) overruns.increment();
+        long latenessMillis = latenessNanos / 1_000_000;
+        int bucket = 0;
+        while (bucket < LATENESS_BUCKETS_MILLIS.length && latenessMillis >= LATENESS_BUCKETS_MILLIS[bucket]) bucket++;
+        latenessBuckets[bucket].increment();
+        maxLatenessNanos.accumulate(latenessNanos);
+    }
+
+    void recordSkippedTicks(long count) {
+        skippedTicks.add(count);
+    }
+
+    void sessionStarted() { sessionsStarted.increment(); }
+    void sessionFinished() { sessionsFinished.increment(); }
+
+    /** Bericht seit dem letzten Aufruf; {@code activeSessions} = aktuell laufende Sessions. */
+    public synchronized String report(int activeSessions) {
+        long now = System.nanoTime();
+        long cpu = processCpuNanos();
+        long totalTicks = ticks.sum();
+        long totalOverruns = overruns.sum();
+        long totalWork = workNanos.sum();
+
+        double wallSeconds = Math.max(1e-9, (now - lastReportNanos) / 1e9);
+        long intervalTicks = totalTicks - lastTicks;
+        long intervalOverruns = totalOverruns - lastOverruns;
+        long intervalWork = totalWork - lastWorkNanos;
+        double busyCores = cpu >= 0 && lastCpuNanos >= 0 ? (cpu - lastCpuNanos) / 1e9 / wallSeconds : Double.NaN;
+        int cores = Runtime.getRuntime().availableProcessors();
+
+        // Kapazität: gemessen über die Prozess-CPU-Zeit (inkl. Netzwerk und Scheduling) und rein aus der Tick-Arbeit
+        double sessionsPerCore = activeSessions > 0 && busyCores > 0 ? activeSessions / busyCores : Double.NaN;
+        double avgWorkNanos = intervalTicks > 0 ? intervalWork / (double) intervalTicks : 0;
+        double workBoundSessionsPerCore = avgWorkNanos > 0 ? tickNanos / avgWorkNanos : Double.NaN;
+
+        StringBuilder lateness = new StringBuilder();
+        long bucketTotal = 0;
+        for (int i = 0; i < latenessBuckets.length; i++) {
+            lateness.append(i < LATENESS_BUCKETS_MILLIS.length ? "<" + LATENESS_BUCKETS_MILLIS[i] + "ms=" : ">=16ms=")
+                    .append(latenessBuckets[i].sum()).append(i + 1 < latenessBuckets.length ? " " : "");
+            bucketTotal += latenessBuckets[i].sum();
+        }
+
+        lastReportNanos = now;
+        lastCpuNanos = cpu;
+        lastTicks = totalTicks;
+        lastOverruns = totalOverruns;
+        lastWorkNanos = totalWork;
+
+        return String.format(Locale.ROOT,
+                "Server: %d Sessions (%d gestartet, %d beendet), %.0f Ticks/s, Überläufe %d (%.2f %%), übersprungen %d, "
+                        + "max. Verspätung %.2f ms, Tick-Arbeit %.2f µs, CPU %.2f/%d Kerne, %.0f Sessions/Kern "
+                        + "(reine Tick-Arbeit: %.0f), Verspätung gesamt [%s] (%d Ticks)",
+                activeSessions, sessionsStarted.sum(), sessionsFinished.sum(), intervalTicks / wallSeconds,
+                intervalOverruns, intervalTicks > 0 ? 100.0 * intervalOverruns / intervalTicks : 0.0, skippedTicks.sum(),
+                maxLatenessNanos.get() / 1e6, avgWorkNanos / 1000.0, busyCores, cores, sessionsPerCore,
+                workBoundSessionsPerCore, lateness, bucketTotal);
+    }
+
+    public long getTicks() { return ticks.sum(); }
+    public long getOverruns() { return overruns.sum(); }
+
+    private static long processCpuNanos() {
+        if (ManagementFactory.getOperatingSystemMXBean() instanceof com.sun.management.OperatingSystemMXBean os) {
+            return os.getProcessCpuTime();
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,190 @@
+package org.example.spaceinvaders;
+
+import javafx.scene.layout.Pane;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * Lässt das Spiel ({@link GameEntityManager}, {@link GameUpdater}, {@link BossController}) auf einem eigenen Thread
+ * mit festen 60 Hz laufen, damit Simulation und Zeichnen auf verschiedenen Kernen parallel laufen. Start mit
+ * {@code -Dspaceinvaders.simThread=true}, sonst läuft das Spiel wie bisher im Pulse des FX-Threads.
+ * <ul>
+ *   <li>Die Spiel-Nodes hängen an einer Pane ohne Szene und gehören ab {@link #start()} nur diesem Thread; Meldungen
+ *       laufen ohne Animation ({@link UIManager#setAnimated(boolean)}).</li>
+ *   <li>Eingaben kommen vom FX-Thread über die lock-freie Queue des {@link InputHandler} (FX-Thread schreibt,
+ *       dieser Thread liest).</li>
+ *   <li>Nach jedem Durchlauf wird ein {@link GameSnapshot} in einen {@link SnapshotExchange} kopiert; der FX-Thread
+ *       überträgt den neuesten vollständigen Stand auf die Nodes der Szene ({@link SnapshotView}). Sounds sammelt
+ *       {@link #takeSounds()}.</li>
+ * </ul>
+ * Wellenübergang, Game Over und Abspann stehen im Schnappschuss, {@link MusicalInvaders} übernimmt sie. Nach dem
+ * Spielende hört der Thread auf; ein neues Spiel bekommt einen neuen.
+ */
+public class SimulationThread implements GameHost {
+    private static final GameLog LOG = GameLog.get(SimulationThread.class);
+    public static final long TICK_NANOS = 1_000_000_000L / 60;
+    private static final double TICK_SECONDS = TICK_NANOS / 1_000_000_000.0;
+    private static final int MAX_CATCH_UP_TICKS = 5;
+
+    private final Pane gamePane = new Pane();
+    private final UIManager uiManager;
+    private final GameEntityManager entityManager;
+    private final GameUpdater gameUpdater;
+    private final VoiceProfile voiceProfile;
+    private final SnapshotExchange<GameSnapshot> snapshots = new SnapshotExchange<>(GameSnapshot::new);
+    private final AtomicInteger pendingSounds = new AtomicInteger();
+    private final Thread thread;
+    private volatile boolean running = true;
+    private volatile boolean paused = false;
+    // ab start() nur Simulations-Thread
+    private GameState state = GameState.PLAYING;
+    private long ticks = 0;
+    private long busyNanos = 0;
+
+    /** Baut das Spiel auf (FX-Thread, wie initializeGame) und veröffentlicht den ersten Stand. */
+    public SimulationThread(GameDimensions gameDimensions, VoiceProfile voiceProfile, InputHandler inputHandler,
+                            BeatClock beatClock) {
+        this.voiceProfile = voiceProfile;
+        this.uiManager = new UIManager(new Pane(), gameDimensions, null);
+        uiManager.setAnimated(false);
+        this.entityManager = new GameEntityManager(gamePane, gameDimensions, uiManager, null, this);
+        entityManager.setBeatClock(beatClock);
+        this.gameUpdater = new GameUpdater(entityManager, inputHandler, gameDimensions, uiManager, this, null);
+
+        uiManager.resetScore();
+        entityManager.createPlayer();
+        entityManager.spawnEnemyWaveInitial();
+        publishSnapshot();
+        this.thread = new Thread(this::run, "simulation");
+        this.thread.setDaemon(true);
+    }
+
+    public static boolean isRequested() {
+        return Boolean.getBoolean("spaceinvaders.simThread");
+    }
+
+    public void start() {
+        thread.start();
+    }
+
+    /** Pause (Menü, Fenster ohne Fokus): keine Ticks, danach geht es ohne Nachholen weiter. */
+    public void setPaused(boolean paused) {
+        this.paused = paused;
+        if (!paused) LockSupport.unpark(thread);
+    }
+
+    public void stop() {
+        running = false;
+        LockSupport.unpark(thread);
+        try {
+            thread.join(500);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (ticks > 0) LOG.info("Simulations-Thread beendet: {} Ticks, im Schnitt {} µs pro Tick", ticks, busyNanos / ticks / 1000);
+    }
+
+    /** Neuester veröffentlichter Stand; gehört bis zum nächsten Aufruf dem Leser (nur ein Leser-Thread). */
+    public GameSnapshot latestSnapshot() {
+        return snapshots.latest();
+    }
+
+    /** Seit dem letzten Aufruf angefallene Sounds (SoundManager.SFX_*-Bits), auch aus nicht gelesenen Ständen. */
+    public int takeSounds() {
+        return pendingSounds.getAndSet(0);
+    }
+
+    private void run() {
+        long nextTick = System.nanoTime();
+        while (running && isGameplayActive()) {
+            if (paused) {
+                LockSupport.park(this);
+                nextTick = System.nanoTime();
+                continue;
+            }
+            long now = System.nanoTime();
+            if (now < nextTick) {
+                LockSupport.parkNanos(this, nextTick - now);
+                continue;
+            }
+            int caughtUp = 0;
+            while (nextTick <= now && caughtUp < MAX_CATCH_UP_TICKS && isGameplayActive()) {
+                nextTick += TICK_NANOS; // Tick-Zeitstempel auf der System.nanoTime-Skala wie in der Spielschleife
+                gameUpdater.update(nextTick, TICK_SECONDS);
+                caughtUp++;
+            }
+            if (nextTick <= now) nextTick = now + TICK_NANOS; // zu weit zurück (z.B. Debugger): nicht nachholen
+            int sounds = gameUpdater.takeUnplayedSounds();
+            if (sounds != 0) pendingSounds.getAndAccumulate(sounds, (a, b) -> a | b);
+            publishSnapshot(); // nach dem Spielende ein letztes Mal, mit Game Over bzw. Abspann
+            ticks += caughtUp;
+            busyNanos += System.nanoTime() - now;
+        }
+    }
+
+    private void publishSnapshot() {
+        snapshots.writeBuffer().capture(gamePane, state, uiManager, entityManager.getCurrentWaveNumber());
+        snapshots.publish();
+    }
+
+    // --- GameHost, nur Simulations-Thread (vor start() der FX-Thread) ---
+
+    @Override
+    public GameState getCurrentGameState() { return state; }
+
+    @Override
+    public void changeGameState(GameState newState) { state = newState; }
+
+    @Override
+    public boolean isGameplayActive() {
+        return state == GameState.PLAYING || state == GameState.LEVEL_TRANSITION;
+    }
+
+    @Override
+    public void triggerGameOver() { state = GameState.GAME_OVER; }
+
+    @Override
+    public VoiceProfile getSelectedVoiceProfile() { return voiceProfile; }
+
+    @Override
+    public boolean isDetached() { return false; }
+
+    /**
+     * Doppelpuffer mit einem dritten Puffer in der Mitte, damit keine Seite warten muss: der Schreiber füllt seinen
+     * Puffer und tauscht ihn gegen den mittleren, der Leser tauscht seinen gegen den mittleren, wenn dort ein neuer
+     * Stand liegt. Beide Tausche sind ein einziges {@code getAndSet}, kein Puffer wird gleichzeitig gelesen und
+     * beschrieben. Genau ein Schreiber- und ein Leser-Thread; die drei Puffer werden immer wieder verwendet.
+     */
+    static final class SnapshotExchange<T> {
+        private static final int INDEX_MASK = 3;
+        private static final int FRESH = 4; // mittlerer Puffer enthält einen noch nicht gelesenen Stand
+
+        private final Object[] buffers;
+        private final AtomicInteger middle = new AtomicInteger(1);
+        private int writeIndex = 0; // nur Schreiber
+        private int readIndex = 2;  // nur Leser
+
+        SnapshotExchange(Supplier<T> factory) {
+            buffers = new Object[]{factory.get(), factory.get(), factory.get()};
+        }
+
+        @SuppressWarnings("unchecked")
+        T writeBuffer() {
+            return (T) buffers[writeIndex];
+        }
+
+        void publish() {
+            writeIndex = middle.getAndSet(writeIndex | FRESH) & INDEX_MASK;
+        }
+
+        @SuppressWarnings("unchecked")
+        T latest() {
+            if ((middle.get() & FRESH) != 0) {
+                readIndex = middle.getAndSet(readIndex) & INDEX_MASK;
+            }
+            return (T) buffers[readIndex];
+        }
+    }
+}
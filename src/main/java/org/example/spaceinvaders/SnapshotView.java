@@ -0,0 +1,81 @@
+package org.example.spaceinvaders;
+
+import javafx.scene.effect.ColorAdjust;
+import javafx.scene.image.ImageView;
+import javafx.scene.layout.Pane;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * FX-Seite des {@link SimulationThread}: überträgt pro Pulse den neuesten {@link GameSnapshot} auf die Spiel-Pane der
+ * Szene. Ein Pool von ImageViews bekommt Bild, Position, Größe und Farbeffekt, übrige Views werden versteckt; es
+ * wird nur gesetzt, was sich geändert hat. Punkte und Meldungen gehen an den {@link UIManager} der Szene (dort mit
+ * Animation), Sounds an den {@link SoundManager} des Profils.
+ */
+public final class SnapshotView {
+    private final Pane gamePane;
+    private final UIManager uiManager;
+    private final SoundManager soundManager;
+    private final List<ImageView> views = new ArrayList<>();
+    private final List<ColorAdjust> effects = new ArrayList<>();
+    private int visibleCount = 0;
+    private int shownMessages = 0;
+    private int wave = 0;
+
+    public SnapshotView(Pane gamePane, UIManager uiManager, SoundManager soundManager) {
+        this.gamePane = gamePane;
+        this.uiManager = uiManager;
+        this.soundManager = soundManager;
+    }
+
+    public void apply(GameSnapshot snapshot, int sounds) {
+        for (int i = 0; i < snapshot.count; i++) {
+            ImageView view = viewAt(i);
+            if (view.getImage() != snapshot.images[i]) view.setImage(snapshot.images[i]);
+            view.setLayoutX(snapshot.xs[i]);
+            view.setLayoutY(snapshot.ys[i]);
+            view.setFitWidth(snapshot.widths[i]);
+            view.setFitHeight(snapshot.heights[i]);
+            applyEffect(view, i, snapshot.colorAdjusts);
+            view.setVisible(true);
+        }
+        for (int i = snapshot.count; i < visibleCount; i++) views.get(i).setVisible(false);
+        visibleCount = snapshot.count;
+
+        wave = snapshot.wave;
+        uiManager.setScore(snapshot.score);
+        if (snapshot.messageCount != shownMessages) {
+            shownMessages = snapshot.messageCount; // übersprungene Stände: nur die neueste Meldung zeigen
+            if (snapshot.message != null) uiManager.showPopupMessage(snapshot.message, snapshot.messageSeconds);
+        }
+        if (sounds != 0 && soundManager != null) soundManager.playFrameSounds(sounds);
+    }
+
+    public int getWave() { return wave; }
+
+    private ImageView viewAt(int index) {
+        while (views.size() <= index) {
+            ImageView view = new ImageView();
+            view.setPreserveRatio(false); // Größe kommt fertig aus dem Schnappschuss
+            views.add(view);
+            effects.add(new ColorAdjust());
+            gamePane.getChildren().add(view);
+        }
+        return views.get(index);
+    }
+
+    private void applyEffect(ImageView view, int index, double[] colorAdjusts) {
+        int offset = index * 4;
+        if (Double.isNaN(colorAdjusts[offset])) {
+            if (view.getEffect() != null) view.setEffect(null);
+            return;
+        }
+        ColorAdjust effect = effects.get(index);
+        effect.setHue(colorAdjusts[offset]);
+        effect.setSaturation(colorAdjusts[offset + 1]);
+        effect.setBrightness(colorAdjusts[offset + 2]);
+        effect.setContrast(colorAdjusts[offset + 3]);
+        if (view.getEffect() != effect) view.setEffect(effect);
+    }
+}
@@ -11,15 +11,31 @@ import java.io.IOException;
 import java.net.JarURLConnection;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Random;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
 
 public class SoundManager {
+    private static final GameLog LOG = GameLog.get(SoundManager.class);
+    // Sound-Arten eines Frames als Bits, siehe playFrameSounds
+    public static final int SFX_PLAYER_SHOT = 1;
+    public static final int SFX_ENEMY_HIT = 1 << 1;
+    public static final int SFX_BOSS_SHOT = 1 << 2;
+    public static final int SFX_BOSS_RETREAT = 1 << 3;
+    public static final int SFX_BOSS_DEFEAT = 1 << 4;
+    public static final int SFX_COLLISION = 1 << 5;
+    public static final int SFX_PLAYER_DEATH = 1 << 6;
     private final String baseSfxPath;
     private final Random random = new Random();
 
@@ -33,7 +49,19 @@ public class SoundManager {
 
     private final List<AudioClip> allJubelSounds = new ArrayList<>();
     private boolean isJubelLooping = false;
+    private boolean jubelSuspended = false;
     private List<Timeline> jubelFadeOutTimelines = new ArrayList<>();
+    private final List<AudioClip> allLoadedClips = new ArrayList<>(); // für die JMX-Metriken
+    private long estimatedAudioBytes = 0;
+    // Offline erzeugte Analyse (Dauer, Pegel, Onsets, Tempo) aus analysis.idx des Profils, siehe AudioAnalyzer
+    private AudioAnalysisIndex analysisIndex = AudioAnalysisIndex.empty();
+    private final Map<AudioClip, AudioAnalysisIndex.ClipAnalysis> clipAnalyses = new HashMap<>();
+    private final Set<VoicePack> jubelPacks = new HashSet<>();
+
+    // Lädt die Clips einer Kategorie (Unterordner des Profils) in die Liste
+    private interface CategoryLoader {
+        void load(List<AudioClip> soundList, String categorySubfolder, Predicate<String> fileNameFilter);
+    }
 
     public SoundManager(String baseSfxPath) {
         if (baseSfxPath == null || baseSfxPath.trim().isEmpty()) {
@@ -42,7 +70,17 @@ public class SoundManager {
             return;
         }
         this.baseSfxPath = baseSfxPath.endsWith("/") ? baseSfxPath : baseSfxPath + "/";
-        loadProfileSpecificSounds();
+        this.analysisIndex = AudioAnalysisIndex.loadResource(this.baseSfxPath);
+        loadProfileSpecificSounds((soundList, category, filter) -> loadSoundsForCategory(soundList, this.baseSfxPath, category, filter));
+        LOG.info("{}: {} Clips, davon {} mit Analyse-Index", this.baseSfxPath, allLoadedClips.size(), clipAnalyses.size());
+    }
+
+    // Profil aus einem Voice-Pack: dieselben Kategorien, gelesen über das Zip-Dateisystem
+    public SoundManager(VoicePack voicePack) {
+        this.baseSfxPath = voicePack.getLabel();
+        this.analysisIndex = voicePack.loadAnalysisIndex();
+        loadProfileSpecificSounds((soundList, category, filter) -> loadPackCategory(voicePack, soundList, category, filter));
+        LOG.info("{}: {} Clips, davon {} mit Analyse-Index", this.baseSfxPath, allLoadedClips.size(), clipAnalyses.size());
     }
 
     public SoundManager() {
@@ -52,16 +90,115 @@ public class SoundManager {
     }
 
 
-    private void loadProfileSpecificSounds() {
+    // Lädt einen Clip und meldet die Ladezeit als JFR-Event
+    private AudioClip loadClip(URL clipUrl, String resourcePath) {
+        // Index-Pfade sind relativ zum Profilordner
+        String relativePath = baseSfxPath != null && resourcePath.startsWith(baseSfxPath)
+                ? resourcePath.substring(baseSfxPath.length()) : null;
+        return loadIndexedClip(clipUrl, relativePath);
+    }
+
+    // relativePath: Schlüssel im Analyse-Index oder null
+    private AudioClip loadIndexedClip(URL clipUrl, String relativePath) {
+        AssetLoadEvent loadEvent = AssetLoadEvent.start("audio", clipUrl.getPath());
+        try {
+            AudioClip clip = new AudioClip(clipUrl.toExternalForm());
+            loadEvent.finish(true);
+            allLoadedClips.add(clip);
+            if (relativePath != null) {
+                AudioAnalysisIndex.ClipAnalysis analysis = analysisIndex.get(relativePath);
+                if (analysis != null) clipAnalyses.put(clip, analysis);
+            }
+            estimatedAudioBytes += estimateDecodedBytes(clipUrl);
+            return clip;
+        } catch (RuntimeException e) {
+            loadEvent.finish(false);
+            throw e;
+        }
+    }
+
+    // AudioClip hält die PCM-Daten dekodiert im Speicher; bei WAV entspricht das ungefähr der Dateigröße
+    private static long estimateDecodedBytes(URL clipUrl) {
+        try {
+            long length = clipUrl.openConnection().getContentLengthLong();
+            return Math.max(0, length);
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    // Anzahl der Clips, die gerade spielen (nur auf dem FX-Thread aufrufen)
+    public int countPlayingClips() {
+        int playing = 0;
+        for (AudioClip clip : allLoadedClips) {
+            if (clip.isPlaying()) playing++;
+        }
+        return playing;
+    }
+
+    public int getLoadedClipCount() { return allLoadedClips.size(); }
+    public long getEstimatedAudioBytes() { return estimatedAudioBytes; }
+    public String getLabel() { return baseSfxPath != null ? baseSfxPath : "global"; }
+    public AudioAnalysisIndex getAnalysisIndex() { return analysisIndex; }
+
+    /** Vorberechnete Analyse eines geladenen Clips oder null (kein Index bzw. Clip nicht im Index). */
+    public AudioAnalysisIndex.ClipAnalysis getClipAnalysis(AudioClip clip) {
+        return clipAnalyses.get(clip);
+    }
+
+    private void loadProfileSpecificSounds(CategoryLoader loader) {
         if (this.baseSfxPath == null || this.baseSfxPath.isEmpty()) return;
         // System.out.println("SoundManager: Loading profile-specific sounds from base path: " + this.baseSfxPath);
-        loadSoundsForCategory(playerShootSounds, this.baseSfxPath, "SchussPlayer", s -> true);
-        loadSoundsForCategory(enemyHitSounds, this.baseSfxPath, "TodEnemy", s -> true);
-        loadSoundsForCategory(bossShootSounds, this.baseSfxPath, "SchussBoss", s -> true);
-        loadSoundsForCategory(todBossScaredSounds, this.baseSfxPath, "TodBoss", s -> !s.toLowerCase().contains("bosstodfinal"));
-        loadSoundsForCategory(todBossFinalSounds, this.baseSfxPath, "TodBoss", s -> s.toLowerCase().contains("bosstodfinal"));
-        loadSoundsForCategory(playerDeathSounds, this.baseSfxPath, "TodPlayer", s -> true);
-        loadSoundsForCategory(playerEnemyCollisionSounds, this.baseSfxPath, "Kollision", s -> true);
+        loader.load(playerShootSounds, "SchussPlayer", s -> true);
+        loader.load(enemyHitSounds, "TodEnemy", s -> true);
+        loader.load(bossShootSounds, "SchussBoss", s -> true);
+        loader.load(todBossScaredSounds, "TodBoss", s -> !s.toLowerCase().contains("bosstodfinal"));
+        loader.load(todBossFinalSounds, "TodBoss", s -> s.toLowerCase().contains("bosstodfinal"));
+        loader.load(playerDeathSounds, "TodPlayer", s -> true);
+        loader.load(playerEnemyCollisionSounds, "Kollision", s -> true);
+    }
+
+    // Kategorie-Ordner im Zip-Dateisystem; AudioClip bekommt die jar:-URL des Eintrags
+    private void loadPackCategory(VoicePack voicePack, List<AudioClip> soundList, String categorySubfolder, Predicate<String> fileNameFilter) {
+        try {
+            Path directory = voicePack.resolve(categorySubfolder);
+            if (!Files.isDirectory(directory)) return;
+            List<Path> wavFiles = new ArrayList<>();
+            try (DirectoryStream<Path> entries = Files.newDirectoryStream(directory)) {
+                for (Path entry : entries) {
+                    String fileName = entry.getFileName().toString();
+                    if (fileName.toLowerCase().endsWith(".wav") && fileNameFilter.test(fileName)) wavFiles.add(entry);
+                }
+            }
+            for (Path wavFile : wavFiles) {
+                try {
+                    soundList.add(loadIndexedClip(wavFile.toUri().toURL(), categorySubfolder + "/" + wavFile.getFileName()));
+                } catch (RuntimeException e) {
+                    LOG.warn("Clip {} aus {} nicht geladen: {}", wavFile, voicePack.getLabel(), e.getMessage());
+                }
+            }
+        } catch (IOException e) {
+            LOG.warn("Kategorie {} in {} kann nicht gelesen werden: {}", categorySubfolder, voicePack.getLabel(), e.getMessage());
+        }
+    }
+
+    /**
+     * Jubel.wav aus den Voice-Packs zum globalen Jubel-Loop hinzufügen (jedes Pack nur einmal). Erst beim
+     * Spielstart aufrufen, damit beim Programmstart nur die Manifeste gelesen werden.
+     */
+    public void loadPackJubelSounds(List<VoicePack> voicePacks) {
+        for (VoicePack voicePack : voicePacks) {
+            if (!jubelPacks.add(voicePack)) continue;
+            try {
+                Path jubel = voicePack.resolve("Jubel.wav");
+                if (!Files.isRegularFile(jubel)) continue;
+                AudioClip clip = loadIndexedClip(jubel.toUri().toURL(), null);
+                clip.setCycleCount(AudioClip.INDEFINITE);
+                allJubelSounds.add(clip);
+            } catch (IOException | RuntimeException e) {
+                LOG.warn("Jubel aus {} nicht geladen: {}", voicePack.getLabel(), e.getMessage());
+            }
+        }
     }
 
     private void loadAllJubelSoundsGlobally() {
@@ -72,7 +209,7 @@ public class SoundManager {
         URL sfxRootUrl = getClass().getResource(globalSfxBasePath);
 
         if (sfxRootUrl == null) {
-            System.err.println("SoundManager: Global SFX root folder '" + globalSfxBasePath + "' not found.");
+            LOG.warn("Global SFX root folder '{}' not found.", globalSfxBasePath);
             return;
         }
 
@@ -102,7 +239,7 @@ public class SoundManager {
 
                             URL clipUrl = getClass().getResource("/" + entryName);
                             if (clipUrl != null) {
-                                AudioClip clip = new AudioClip(clipUrl.toExternalForm());
+                                AudioClip clip = loadClip(clipUrl, "/" + entryName);
                                 clip.setCycleCount(AudioClip.INDEFINITE);
                                 allJubelSounds.add(clip);
                                 // System.out.println("  Loaded Jubel (JAR): /" + entryName);
@@ -114,8 +251,7 @@ public class SoundManager {
                 }
             }
         } catch (Exception e) {
-            System.err.println("SoundManager: Error loading global Jubel sounds: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("Error loading global Jubel sounds", e);
         }
 
         // if (allJubelSounds.isEmpty()) {
@@ -158,9 +294,9 @@ public class SoundManager {
                 collectWavFilesFromJar(folderURL, fullCategoryPath, soundList, fileNameFilter);
             }
         } catch (URISyntaxException e) {
-            System.err.println("SoundManager: Invalid URI syntax for SFX folder " + fullCategoryPath + ": " + e.getMessage());
+            LOG.warn("Invalid URI syntax for SFX folder {}: {}", fullCategoryPath, e.getMessage());
         } catch (IOException e) {
-            System.err.println("SoundManager: IOException while accessing SFX folder " + fullCategoryPath + ": " + e.getMessage());
+            LOG.warn("IOException while accessing SFX folder {}: {}", fullCategoryPath, e.getMessage());
         }
     }
 
@@ -179,7 +315,7 @@ public class SoundManager {
                 try {
                     URL clipURL = getClass().getResource(fullResourcePathToFile);
                     if (clipURL != null) {
-                        AudioClip clip = new AudioClip(clipURL.toExternalForm());
+                        AudioClip clip = loadClip(clipURL, fullResourcePathToFile);
                         if (soundList == allJubelSounds && fileName.equalsIgnoreCase("Jubel.wav")) {
                             clip.setCycleCount(AudioClip.INDEFINITE);
                         }
@@ -209,7 +345,7 @@ public class SoundManager {
                         try {
                             URL clipUrl = getClass().getResource(resourcePathForClip);
                             if (clipUrl != null) {
-                                AudioClip clip = new AudioClip(clipUrl.toExternalForm());
+                                AudioClip clip = loadClip(clipUrl, resourcePathForClip);
                                 if (soundList == allJubelSounds && fileNameInDir.equalsIgnoreCase("Jubel.wav")) {
                                     clip.setCycleCount(AudioClip.INDEFINITE);
                                 }
@@ -226,10 +362,12 @@ public class SoundManager {
 
     private void playRandom(List<AudioClip> soundList, String categoryName) {
         if (soundList == null || soundList.isEmpty()) {
+            GameStats.countSfxMissing();
             return;
         }
         AudioClip clip = soundList.get(random.nextInt(soundList.size()));
         clip.play();
+        GameStats.countSfxPlay(categoryName);
     }
 
     public void startJubelLoop() {
@@ -244,6 +382,7 @@ public class SoundManager {
 
         // System.out.println("SoundManager: Starte Jubel-Loop mit " + allJubelSounds.size() + " Sounds.");
         isJubelLooping = true;
+        if (jubelSuspended) return; // startet bei setJubelSuspended(false)
         for (AudioClip jubelClip : allJubelSounds) {
             jubelClip.setVolume(1.0);
             if (!jubelClip.isPlaying()) {
@@ -252,6 +391,21 @@ public class SoundManager {
         }
     }
 
+    // Fenster minimiert o.ä.: Jubel-Clips sofort anhalten (ohne Fade, kein Dekodieren mehr) und danach neu starten
+    public void setJubelSuspended(boolean suspended) {
+        if (jubelSuspended == suspended) return;
+        jubelSuspended = suspended;
+        if (!isJubelLooping) return;
+        for (AudioClip jubelClip : allJubelSounds) {
+            if (suspended) {
+                jubelClip.stop();
+            } else if (!jubelClip.isPlaying()) {
+                jubelClip.setVolume(1.0);
+                jubelClip.play();
+            }
+        }
+    }
+
     public void stopJubelLoop() {
         if (!isJubelLooping && allJubelSounds.stream().noneMatch(AudioClip::isPlaying)) {
             // System.out.println("SoundManager: Nichts zu stoppen für Jubel-Loop (war nicht aktiv).");
@@ -283,6 +437,17 @@ public class SoundManager {
         }
     }
 
+    /** Die Sounds eines Frames (SFX_*-Bits aus dem {@link GameUpdater}), je Art einer; der Boss-Tod übertönt Treffer. */
+    public void playFrameSounds(int sounds) {
+        if ((sounds & SFX_PLAYER_SHOT) != 0) playPlayerShoot();
+        if ((sounds & SFX_BOSS_SHOT) != 0) playBossShoot();
+        if ((sounds & SFX_BOSS_DEFEAT) != 0) playBossFinalDefeat();
+        else if ((sounds & SFX_ENEMY_HIT) != 0) playEnemyHit();
+        if ((sounds & SFX_BOSS_RETREAT) != 0) playBossScared();
+        if ((sounds & SFX_COLLISION) != 0) playPlayerEnemyCollision();
+        if ((sounds & SFX_PLAYER_DEATH) != 0) playPlayerDeath();
+    }
+
     public void playPlayerShoot() { playRandom(playerShootSounds, "PlayerShoot"); }
     public void playEnemyHit() { playRandom(enemyHitSounds, "EnemyHit"); }
     public void playBossShoot() { playRandom(bossShootSounds, "BossShoot"); }
@@ -290,6 +455,7 @@ public class SoundManager {
     public void playBossFinalDefeat() {
         if (todBossFinalSounds != null && !todBossFinalSounds.isEmpty()) {
             todBossFinalSounds.get(random.nextInt(todBossFinalSounds.size())).play();
+            GameStats.countSfxPlay("BossFinalDefeat");
         } else {
             // System.err.println("SoundManager: Kein BossFinalDefeat-Sound gefunden, spiele BossScared.");
             playBossScared();
@@ -0,0 +1,48 @@
+package org.example.spaceinvaders;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-freie Warteschlange für genau einen Produzenten (Tastatur-Events auf dem FX-Thread) und genau einen
+ * Konsumenten (den Simulationsschritt). Die Einträge sind kodierte int-Werte, es wird nichts pro Event allokiert.
+ * Ist die Warteschlange voll, wird das Event verworfen und {@link #offer(int)} liefert false.
+ */
+public class SpscInputQueue {
+    private final int[] buffer;
+    private final int mask;
+    private final AtomicLong head = new AtomicLong(); // nächster Leseindex, nur vom Konsumenten geschrieben
+    private final AtomicLong tail = new AtomicLong(); // nächster Schreibindex, nur vom Produzenten geschrieben
+
+    public SpscInputQueue(int capacityPowerOfTwo) {
+        if (Integer.bitCount(capacityPowerOfTwo) != 1) {
+            throw new IllegalArgumentException("Kapazität muss eine Zweierpotenz sein: " + capacityPowerOfTwo);
+        }
+        this.buffer = new int[capacityPowerOfTwo];
+        this.mask = capacityPowerOfTwo - 1;
+    }
+
+    public boolean offer(int value) {
+        long currentTail = tail.get();
+        if (currentTail - head.get() >= buffer.length) {
+            return false;
+        }
+        buffer[(int) (currentTail & mask)] = value;
+        tail.lazySet(currentTail + 1); // veröffentlicht den Eintrag für den Konsumenten
+        return true;
+    }
+
+    public boolean isEmpty() {
+        return head.get() == tail.get();
+    }
+
+    /** Liefert den nächsten Eintrag oder {@code emptyValue}, wenn nichts ansteht. */
+    public int poll(int emptyValue) {
+        long currentHead = head.get();
+        if (currentHead == tail.get()) {
+            return emptyValue;
+        }
+        int value = buffer[(int) (currentHead & mask)];
+        head.lazySet(currentHead + 1);
+        return value;
+    }
+}
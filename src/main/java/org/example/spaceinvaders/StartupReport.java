@@ -0,0 +1,45 @@
+package org.example.spaceinvaders;
+
+import java.lang.management.ClassLoadingMXBean;
+import java.lang.management.CompilationMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Meilensteine vom JVM-Start bis zum spielbereiten Zustand (Zeiten als JVM-Uptime). Wird einmal als Block ins Log
+ * geschrieben, sobald der {@link JitWarmup} fertig oder abgebrochen ist, mit JIT-Zeit und Anzahl geladener Klassen.
+ */
+public final class StartupReport {
+    private static final GameLog LOG = GameLog.get(StartupReport.class);
+    private static final List<String> milestones = new ArrayList<>();
+    private static boolean logged = false;
+
+    private StartupReport() {
+    }
+
+    public static void mark(String milestone) {
+        mark(milestone, null);
+    }
+
+    public static synchronized void mark(String milestone, String detail) {
+        long uptime = ManagementFactory.getRuntimeMXBean().getUptime();
+        milestones.add(String.format(Locale.ROOT, "%7d ms  %s%s", uptime, milestone, detail != null ? " (" + detail + ")" : ""));
+    }
+
+    public static synchronized void log() {
+        if (logged) return;
+        logged = true;
+        StringBuilder report = new StringBuilder();
+        for (String line : milestones) report.append(System.lineSeparator()).append("  ").append(line);
+        CompilationMXBean jit = ManagementFactory.getCompilationMXBean();
+        if (jit != null && jit.isCompilationTimeMonitoringSupported()) {
+            report.append(System.lineSeparator()).append("  JIT ").append(jit.getName()).append(": ")
+                    .append(jit.getTotalCompilationTime()).append(" ms Compile-Zeit");
+        }
+        ClassLoadingMXBean classes = ManagementFactory.getClassLoadingMXBean();
+        report.append(System.lineSeparator()).append("  Klassen geladen: ").append(classes.getLoadedClassCount());
+        LOG.info("Startbericht:{}", report);
+    }
+}
@@ -0,0 +1,118 @@
+package org.example.spaceinvaders;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.LineUnavailableException;
+import javax.sound.sampled.SourceDataLine;
+import javax.sound.sampled.UnsupportedAudioFileException;
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Langer Intro-Clip, beim Abspielen in kleinen Stücken aus der Ressource gelesen, dekodiert und in eine
+ * {@link SourceDataLine} geschrieben (eigener Daemon-Thread pro Wiedergabe). Im Speicher liegen nur der Lesepuffer
+ * und der Puffer der Line, und das nur während der Wiedergabe.
+ */
+public final class StreamingIntroPlayback implements IntroPlayback {
+    private static final GameLog LOG = GameLog.get(StreamingIntroPlayback.class);
+    private static final int CHUNK_BYTES = 16 * 1024;
+    private static final int LINE_BUFFER_BYTES = 64 * 1024;
+
+    private final String resourcePath;
+    private final Source source;
+    private volatile Session session;
+
+    // Eine Wiedergabe; stop() betrifft nur die eigene, ein neues play() startet eine neue Session
+    private final class Session implements Runnable {
+        private volatile boolean stopped;
+        private volatile SourceDataLine line;
+
+        @Override
+        public void run() {
+            AssetLoadEvent loadEvent = AssetLoadEvent.start("audio-stream", resourcePath);
+            try (AudioInputStream audio = openPcm()) {
+                AudioFormat format = audio.getFormat();
+                SourceDataLine opened = AudioSystem.getSourceDataLine(format);
+                opened.open(format, LINE_BUFFER_BYTES - LINE_BUFFER_BYTES % format.getFrameSize());
+                line = opened;
+                loadEvent.finish(true);
+                if (stopped) return;
+                opened.start();
+                byte[] chunk = new byte[CHUNK_BYTES - CHUNK_BYTES % format.getFrameSize()];
+                int read;
+                while (!stopped && (read = audio.read(chunk, 0, chunk.length)) > 0) {
+                    opened.write(chunk, 0, read - read % format.getFrameSize()); // blockiert, bis Platz in der Line ist
+                }
+                if (!stopped) opened.drain();
+            } catch (IOException | UnsupportedAudioFileException | LineUnavailableException | IllegalArgumentException e) {
+                loadEvent.finish(false);
+                LOG.warn("Intro {} kann nicht gestreamt werden: {}", resourcePath, e.getMessage());
+            } finally {
+                SourceDataLine current = line;
+                if (current != null) current.close();
+                if (session == this) session = null;
+            }
+        }
+
+        void stop() {
+            stopped = true;
+            SourceDataLine current = line;
+            if (current != null) {
+                current.stop();
+                current.flush();
+                current.close(); // gibt ein blockiertes write() frei
+            }
+        }
+    }
+
+    StreamingIntroPlayback(String resourcePath, Source source) {
+        this.resourcePath = resourcePath;
+        this.source = source;
+    }
+
+    private AudioInputStream openPcm() throws IOException, UnsupportedAudioFileException {
+        InputStream in = source.open();
+        AudioInputStream source = AudioSystem.getAudioInputStream(new BufferedInputStream(in, CHUNK_BYTES));
+        AudioFormat format = source.getFormat();
+        // Nicht jede Line kann 24 Bit oder Float: alles andere als 16-Bit-PCM umwandeln
+        if (AudioFormat.Encoding.PCM_SIGNED.equals(format.getEncoding()) && format.getSampleSizeInBits() == 16) {
+            return source;
+        }
+        AudioFormat pcm = new AudioFormat(format.getSampleRate(), 16, format.getChannels(), true, false);
+        return AudioSystem.getAudioInputStream(pcm, source);
+    }
+
+    @Override
+    public void play() {
+        stop();
+        Session next = new Session();
+        session = next;
+        Thread thread = new Thread(next, "intro-stream");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @Override
+    public void stop() {
+        Session current = session;
+        session = null;
+        if (current != null) current.stop();
+    }
+
+    @Override
+    public boolean isPlaying() {
+        return session != null;
+    }
+
+    @Override
+    public long getResidentBytes() {
+        return session != null ? CHUNK_BYTES + LINE_BUFFER_BYTES : 0;
+    }
+
+    @Override
+    public boolean release() {
+        return false; // hält außerhalb der Wiedergabe nichts
+    }
+}
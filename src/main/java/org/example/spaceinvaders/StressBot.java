@@ -0,0 +1,94 @@
+package org.example.spaceinvaders;
+
+import javafx.scene.Node;
+
+import java.util.List;
+
+/**
+ * Einfacher Autopilot für den Stresstest: fährt unter den tiefsten Gegner (bzw. den Boss) und schießt dauerhaft.
+ * Die Eingaben laufen über die normale Eingabe-Queue des {@link InputHandler}, damit derselbe Codepfad wie bei
+ * Tastatureingaben getestet wird.
+ */
+public class StressBot {
+    private final GameEntityManager entityManager;
+    private final InputHandler inputHandler;
+    private boolean leftPressed = false;
+    private boolean rightPressed = false;
+    private boolean shootPressed = false;
+
+    public StressBot(GameEntityManager entityManager, InputHandler inputHandler) {
+        this.entityManager = entityManager;
+        this.inputHandler = inputHandler;
+    }
+
+    public void update() {
+        Player player = entityManager.getPlayer();
+        if (player == null || player.getNode() == null) return;
+
+        double targetCenterX = Double.NaN;
+        BossController bossController = entityManager.getBossController();
+        if (entityManager.isBossActive() && bossController != null) {
+            targetCenterX = lowestCenterX(bossController.getMinionEnemies());
+            Enemy boss = entityManager.getBossEnemy();
+            if (Double.isNaN(targetCenterX) && boss != null && boss.getNode() != null) {
+                targetCenterX = centerX(boss.getNode());
+            }
+        } else {
+            // Gegner-Nodes liegen in der Formationsebene, deren Verschiebung kommt dazu
+            targetCenterX = frontLineCenterX(entityManager.getFormation());
+            if (Double.isNaN(targetCenterX)) targetCenterX = lowestCenterX(entityManager.getEnemies());
+            targetCenterX += entityManager.getFormationOffsetX();
+        }
+
+        double playerCenterX = player.getX() + player.getWidth() / 2;
+        double deadZone = player.getWidth() * 0.15;
+        boolean left = !Double.isNaN(targetCenterX) && targetCenterX < playerCenterX - deadZone;
+        boolean right = !Double.isNaN(targetCenterX) && targetCenterX > playerCenterX + deadZone;
+
+        // Nur Änderungen einreihen, damit die Queue nicht jeden Frame volläuft
+        if (left != leftPressed) {
+            leftPressed = left;
+            inputHandler.offerAction(InputHandler.ACTION_LEFT, left);
+        }
+        if (right != rightPressed) {
+            rightPressed = right;
+            inputHandler.offerAction(InputHandler.ACTION_RIGHT, right);
+        }
+        if (!shootPressed) {
+            shootPressed = true;
+            inputHandler.offerAction(InputHandler.ACTION_SHOOT, true);
+        }
+    }
+
+    // Ziel: ein vorderster Gegner aus der untersten besetzten Reihe (Spalten über die Bitsets der Formation)
+    private static double frontLineCenterX(EnemyFormation formation) {
+        int lowestRow = formation.getLowestRow();
+        if (lowestRow < 0) return Double.NaN;
+        for (int column = formation.getLeftColumn(); column <= formation.getRightColumn(); column++) {
+            Enemy front = formation.getFrontLineEnemy(column);
+            if (front != null && front.getNode() != null && formation.rowOf(front.getFormationSlot()) == lowestRow) {
+                return centerX(front.getNode());
+            }
+        }
+        return Double.NaN;
+    }
+
+    private static double lowestCenterX(List<Enemy> enemies) {
+        double lowestBottom = -Double.MAX_VALUE;
+        double result = Double.NaN;
+        for (int i = 0; i < enemies.size(); i++) {
+            Node node = enemies.get(i).getNode();
+            if (node == null) continue;
+            double bottom = node.getLayoutY() + node.getLayoutBounds().getMaxY();
+            if (bottom > lowestBottom) {
+                lowestBottom = bottom;
+                result = centerX(node);
+            }
+        }
+        return result;
+    }
+
+    private static double centerX(Node node) {
+        return node.getLayoutX() + node.getLayoutBounds().getMinX() + node.getLayoutBounds().getWidth() / 2;
+    }
+}
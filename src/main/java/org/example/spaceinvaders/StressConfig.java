@@ -0,0 +1,137 @@
+package org.example.spaceinvaders;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Properties;
+
+/**
+ * Einstellungen für den Stresstest-Modus. Aktiv mit {@code -Dspaceinvaders.stress=true} oder wenn mit
+ * {@code -Dspaceinvaders.stressConfig=<datei>} eine Properties-Datei angegeben wird. Schlüssel in der Datei ohne
+ * Präfix (z.B. {@code formationScale=2}); System-Properties {@code -Dspaceinvaders.stress.<schlüssel>=...}
+ * überschreiben die Datei.
+ * <pre>
+ * formationScale=1.0          Faktor auf die Gegneranzahl der ersten Welle (Reihen und Spalten je mit Wurzel)
+ * formationScaleStepPerWave=0 wird pro Welle auf formationScale addiert -> Skalierungskurve
+ * minionScale=1.0             Faktor auf die Minion-Anzahl pro Boss-Minionwelle
+ * bossFireRateScale=1.0       Faktor auf die Schussrate des Bosses
+ * bossWave=4                  Welle, in der der Boss kommt
+ * maxWaves=0                  nach so vielen Wellen ist der Lauf beendet (0 = bis Game Over/Boss besiegt)
+ * bot=true                    Spieler wird automatisch gesteuert
+ * invulnerable=true           Spieler stirbt nicht; erreicht eine Welle die Game-Over-Linie, wird sie entfernt
+ * report=stress-report.csv    CSV mit den Frame-Zeit-Perzentilen pro Welle
+ * exitWhenDone=false          Anwendung nach dem Lauf beenden
+ * </pre>
+ * Ohne Stresstest liefern alle Werte das normale Spielverhalten.
+ */
+public final class StressConfig {
+    private static final GameLog LOG = GameLog.get(StressConfig.class);
+    private static final String PROPERTY_PREFIX = "spaceinvaders.stress.";
+    private static final StressConfig INSTANCE = load();
+
+    private final boolean enabled;
+    private final double formationScale;
+    private final double formationScaleStepPerWave;
+    private final double minionScale;
+    private final double bossFireRateScale;
+    private final int bossWave;
+    private final int maxWaves;
+    private final boolean bot;
+    private final boolean invulnerable;
+    private final String reportPath;
+    private final boolean exitWhenDone;
+
+    private StressConfig(boolean enabled, Properties values) {
+        this.enabled = enabled;
+        this.formationScale = enabled ? Math.max(0.05, doubleValue(values, "formationScale", 1.0)) : 1.0;
+        this.formationScaleStepPerWave = enabled ? Math.max(0.0, doubleValue(values, "formationScaleStepPerWave", 0.0)) : 0.0;
+        this.minionScale = enabled ? Math.max(0.0, doubleValue(values, "minionScale", 1.0)) : 1.0;
+        this.bossFireRateScale = enabled ? Math.max(0.05, doubleValue(values, "bossFireRateScale", 1.0)) : 1.0;
+        this.bossWave = enabled ? Math.max(1, intValue(values, "bossWave", GameDimensions.WAVE_NUMBER_TO_SPAWN_BOSS))
+                : GameDimensions.WAVE_NUMBER_TO_SPAWN_BOSS;
+        this.maxWaves = enabled ? Math.max(0, intValue(values, "maxWaves", 0)) : 0;
+        this.bot = enabled && Boolean.parseBoolean(values.getProperty("bot", "true"));
+        this.invulnerable = enabled && Boolean.parseBoolean(values.getProperty("invulnerable", "true"));
+        this.reportPath = values.getProperty("report", "stress-report.csv");
+        this.exitWhenDone = enabled && Boolean.parseBoolean(values.getProperty("exitWhenDone", "false"));
+    }
+
+    public static StressConfig get() {
+        return INSTANCE;
+    }
+
+    private static StressConfig load() {
+        Properties values = new Properties();
+        String file = System.getProperty("spaceinvaders.stressConfig");
+        boolean enabled = Boolean.getBoolean("spaceinvaders.stress");
+        if (file != null) {
+            try (InputStream in = Files.newInputStream(Path.of(file))) {
+                values.load(in);
+                enabled = true;
+            } catch (IOException e) {
+                LOG.warn("Konnte '{}' nicht lesen: {}", file, e.getMessage());
+            }
+        }
+        for (String name : System.getProperties().stringPropertyNames()) {
+            if (name.startsWith(PROPERTY_PREFIX)) {
+                values.setProperty(name.substring(PROPERTY_PREFIX.length()), System.getProperty(name));
+            }
+        }
+        StressConfig config = new StressConfig(enabled, values);
+        if (enabled) LOG.info("Stresstest-Modus aktiv: {}", config);
+        return config;
+    }
+
+    private static double doubleValue(Properties values, String key, double fallback) {
+        String value = values.getProperty(key);
+        if (value == null) return fallback;
+        try {
+            return Double.parseDouble(value.trim());
+        } catch (NumberFormatException e) {
+            LOG.warn("Ungültiger Wert für {}: {}", key, value);
+            return fallback;
+        }
+    }
+
+    private static int intValue(Properties values, String key, int fallback) {
+        return (int) Math.round(doubleValue(values, key, fallback));
+    }
+
+    /** Gesamtfaktor auf die Gegneranzahl für diese Welle. */
+    public double formationScaleForWave(int waveNumber) {
+        return formationScale + Math.max(0, waveNumber - 1) * formationScaleStepPerWave;
+    }
+
+    public int formationRows(int waveNumber) {
+        return Math.max(1, (int) Math.round(GameDimensions.ENEMY_ROWS * Math.sqrt(formationScaleForWave(waveNumber))));
+    }
+
+    public int formationColumns(int waveNumber) {
+        return Math.max(1, (int) Math.round(GameDimensions.ENEMIES_PER_ROW * Math.sqrt(formationScaleForWave(waveNumber))));
+    }
+
+    public int scaleMinionCount(int minionCount) {
+        return (int) Math.round(minionCount * minionScale);
+    }
+
+    public long scaleBossShootCooldown(long cooldownNanos) {
+        return (long) (cooldownNanos / bossFireRateScale);
+    }
+
+    public boolean isEnabled() { return enabled; }
+    public int getBossWave() { return bossWave; }
+    public int getMaxWaves() { return maxWaves; }
+    public boolean isBotEnabled() { return bot; }
+    public boolean isInvulnerable() { return invulnerable; }
+    public String getReportPath() { return reportPath; }
+    public boolean isExitWhenDone() { return exitWhenDone; }
+
+    @Override
+    public String toString() {
+        return "formationScale=" + formationScale + ", formationScaleStepPerWave=" + formationScaleStepPerWave
+                + ", minionScale=" + minionScale + ", bossFireRateScale=" + bossFireRateScale
+                + ", bossWave=" + bossWave + ", maxWaves=" + maxWaves + ", bot=" + bot
+                + ", invulnerable=" + invulnerable + ", report=" + reportPath;
+    }
+}
@@ -0,0 +1,122 @@
+package org.example.spaceinvaders;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Sammelt im Stresstest die Frame-Zeiten pro Welle und schreibt beim Wellenwechsel eine CSV-Zeile
+ * (Perzentile, Spitzenwerte der Objektanzahl). Am Ende des Laufs wird die Kurve zusätzlich auf der Konsole
+ * ausgegeben, damit man sieht, ab welcher Gegneranzahl die Frame-Zeit wegläuft.
+ */
+public class StressRecorder {
+    private static final GameLog LOG = GameLog.get(StressRecorder.class);
+    private static final String CSV_HEADER = "wave,boss,formationScale,peakEnemies,peakMinions,peakProjectiles,peakNodes,"
+            + "frames,meanMs,p50Ms,p95Ms,p99Ms,maxMs";
+
+    private final StressConfig config;
+    private final List<String> rows = new ArrayList<>();
+    private long[] frameNanos = new long[8192];
+    private int frameCount = 0;
+    private int currentWave = -1;
+    private boolean currentWaveHasBoss = false;
+    private int peakEnemies = 0;
+    private int peakMinions = 0;
+    private int peakProjectiles = 0;
+    private int peakNodes = 0;
+    private boolean finished = false;
+
+    public StressRecorder(StressConfig config) {
+        this.config = config;
+    }
+
+    /** Einmal pro Pulse aufrufen (nur während PLAYING). Liefert true, wenn maxWaves erreicht ist. */
+    public boolean onFrame(long nanos, GameEntityManager entityManager) {
+        if (finished) return true;
+        int wave = entityManager.getCurrentWaveNumber();
+        if (wave != currentWave) {
+            flushWave();
+            currentWave = wave;
+            if (config.getMaxWaves() > 0 && wave > config.getMaxWaves()) {
+                finish();
+                return true;
+            }
+        }
+
+        if (frameCount == frameNanos.length) frameNanos = Arrays.copyOf(frameNanos, frameNanos.length * 2);
+        frameNanos[frameCount++] = nanos;
+
+        BossController bossController = entityManager.getBossController();
+        boolean bossActive = entityManager.isBossActive();
+        currentWaveHasBoss |= bossActive;
+        int minions = bossActive && bossController != null ? bossController.getMinionEnemies().size() : 0;
+        int projectiles = entityManager.getPlayerProjectiles().size()
+                + (bossController != null ? bossController.getBossProjectiles().size() : 0);
+        peakEnemies = Math.max(peakEnemies, entityManager.getEnemies().size());
+        peakMinions = Math.max(peakMinions, minions);
+        peakProjectiles = Math.max(peakProjectiles, projectiles);
+        peakNodes = Math.max(peakNodes, entityManager.getGamePane().getChildren().size());
+        return false;
+    }
+
+    private void flushWave() {
+        if (currentWave < 1 || frameCount == 0) {
+            frameCount = 0;
+            return;
+        }
+        long[] sorted = Arrays.copyOf(frameNanos, frameCount);
+        Arrays.sort(sorted);
+        long total = 0;
+        for (long nanos : sorted) total += nanos;
+
+        rows.add(String.format(Locale.ROOT, "%d,%b,%.2f,%d,%d,%d,%d,%d,%.3f,%.3f,%.3f,%.3f,%.3f",
+                currentWave, currentWaveHasBoss, config.formationScaleForWave(currentWave),
+                peakEnemies, peakMinions, peakProjectiles, peakNodes, frameCount,
+                total / (double) frameCount / 1_000_000.0,
+                percentile(sorted, 0.50), percentile(sorted, 0.95), percentile(sorted, 0.99),
+                sorted[sorted.length - 1] / 1_000_000.0));
+        writeReport();
+
+        frameCount = 0;
+        currentWaveHasBoss = false;
+        peakEnemies = 0;
+        peakMinions = 0;
+        peakProjectiles = 0;
+        peakNodes = 0;
+    }
+
+    // Nearest-Rank-Perzentil in Millisekunden
+    private static double percentile(long[] sorted, double p) {
+        int rank = (int) Math.ceil(p * sorted.length);
+        return sorted[Math.max(0, Math.min(sorted.length - 1, rank - 1))] / 1_000_000.0;
+    }
+
+    private void writeReport() {
+        Path path = Path.of(config.getReportPath());
+        try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(path))) {
+            out.println(CSV_HEADER);
+            for (String row : rows) out.println(row);
+        } catch (IOException e) {
+            LOG.warn("Konnte Report nicht schreiben ({}): {}", path, e.getMessage());
+        }
+    }
+
+    /** Schließt die laufende Welle ab (Game Over, Boss besiegt oder maxWaves) und gibt die Kurve aus. */
+    public void finish() {
+        if (finished) return;
+        flushWave();
+        finished = true;
+        // Kurve als ein Eintrag, damit das Rate-Limit pro Kategorie keine Zeilen unterdrückt
+        LOG.info("Stresstest beendet, Report: {}\n{}\n{}", Path.of(config.getReportPath()).toAbsolutePath(),
+                CSV_HEADER, String.join("\n", rows));
+    }
+
+    public boolean isFinished() {
+        return finished;
+    }
+}
@@ -15,7 +15,26 @@ public class UIManager {
     private GameDimensions gameDimensions;
     private Label waveMessageLabel;
     private Label scoreLabel;
+    private Label perfHudLabel;
+    private boolean perfHudVisible = false;
     private int currentScore = 0;
+    private boolean effectsEnabled = true;
+    // Ohne Animationen (Spiel außerhalb des FX-Threads): Meldungen werden nur gemerkt, siehe setAnimated
+    private boolean animated = true;
+    private String lastMessage;
+    private double lastMessageSeconds;
+    private int messageCount = 0;
+
+    private static final String WAVE_MESSAGE_BASE_STYLE =
+            "-fx-background-color: rgba(10, 20, 50, 0.85); " +  // Dunkelblau, leicht transparent
+                    "-fx-padding: 15px 20px; " +                         // Etwas mehr horizontales Padding
+                    "-fx-border-color: #00FFFF; " +                      // Helles Cyan (Aqua) für den Rand
+                    "-fx-border-width: 2.5px; " +                        // Etwas dickerer Rand
+                    "-fx-border-radius: 3px; " +                         // Leicht abgerundete Ecken für den Rand
+                    "-fx-background-radius: 4px; ";                      // Leicht abgerundete Ecken für den Hintergrund
+    private static final String WAVE_MESSAGE_EFFECT_STYLE =
+            "-fx-effect: dropshadow(gaussian, rgba(0,220,220,0.4), 12, 0.1, 0, 0);"; // Subtiler Cyan-Glow
+    private static final String SCORE_EFFECT_STYLE = "-fx-effect: dropshadow(gaussian, rgba(0,0,0,0.7), 1, 0, 0, 1);";
 
     private static final String GAME_FONT_NAME = "Press Start 2P";
 
@@ -30,8 +49,11 @@ public class UIManager {
         if (this.uiPane != null) {
             if (waveMessageLabel != null) this.uiPane.getChildren().remove(waveMessageLabel);
             if (scoreLabel != null) this.uiPane.getChildren().remove(scoreLabel);
+            if (perfHudLabel != null) this.uiPane.getChildren().remove(perfHudLabel);
         }
         this.uiPane = newUiPane;
+        perfHudLabel = null;
+        if (perfHudVisible) setPerfHudVisible(true);
         createWaveMessageLabel();
         createScoreLabel();
         resetScore();
@@ -47,15 +69,7 @@ public class UIManager {
         waveMessageLabel.setTextFill(Color.WHITE);
 
         // Verbesserter Stil für Pop-up-Nachrichten
-        waveMessageLabel.setStyle(
-                "-fx-background-color: rgba(10, 20, 50, 0.85); " +  // Dunkelblau, leicht transparent
-                        "-fx-padding: 15px 20px; " +                         // Etwas mehr horizontales Padding
-                        "-fx-border-color: #00FFFF; " +                      // Helles Cyan (Aqua) für den Rand
-                        "-fx-border-width: 2.5px; " +                        // Etwas dickerer Rand
-                        "-fx-border-radius: 3px; " +                         // Leicht abgerundete Ecken für den Rand
-                        "-fx-background-radius: 4px; " +                       // Leicht abgerundete Ecken für den Hintergrund
-                        "-fx-effect: dropshadow(gaussian, rgba(0,220,220,0.4), 12, 0.1, 0, 0);" // Subtiler Cyan-Glow
-        );
+        applyWaveMessageStyle();
 
         waveMessageLabel.setTextAlignment(TextAlignment.CENTER);
         waveMessageLabel.setWrapText(true);
@@ -64,6 +78,10 @@ public class UIManager {
     }
 
     public void showPopupMessage(String message, double durationSeconds) {
+        lastMessage = message;
+        lastMessageSeconds = durationSeconds;
+        messageCount++;
+        if (!animated) return;
         if (waveMessageLabel == null) createWaveMessageLabel();
 
         waveMessageLabel.setText(message);
@@ -105,6 +123,20 @@ public class UIManager {
         return new SequentialTransition(fadeIn, displayPause, fadeOut);
     }
 
+    /**
+     * Für Spiele außerhalb des FX-Threads ({@link SimulationThread}, {@link DetachedGame}): Animationen dürfen nur auf
+     * dem FX-Thread starten. Ohne Animation zeigt {@link #showPopupMessage} nichts an, sondern merkt sich nur die
+     * Meldung ({@link #getLastMessage()}, {@link #getMessageCount()}).
+     */
+    public void setAnimated(boolean animated) {
+        this.animated = animated;
+    }
+
+    public String getLastMessage() { return lastMessage; }
+    public double getLastMessageSeconds() { return lastMessageSeconds; }
+    // Zählt jede Meldung, auch zweimal dieselbe
+    public int getMessageCount() { return messageCount; }
+
     public void showWaveStartMessage(int waveNumber) {
         showPopupMessage("Wave " + waveNumber + "\nstarted", 1.5);
     }
@@ -129,12 +161,46 @@ public class UIManager {
         scoreLabel.setTextFill(Color.WHITE);
         scoreLabel.setFont(Font.font(GAME_FONT_NAME, gameDimensions.getHeight() * (20.0 / 600.0)));
         // Optional: Dem Score-Label einen leichten Schatten für bessere Lesbarkeit geben
-        scoreLabel.setStyle("-fx-effect: dropshadow(gaussian, rgba(0,0,0,0.7), 1, 0, 0, 1);");
+        scoreLabel.setStyle(effectsEnabled ? SCORE_EFFECT_STYLE : "");
         scoreLabel.setLayoutX(gameDimensions.getWidth() * (15.0/800.0));
         scoreLabel.setLayoutY(gameDimensions.getHeight() * (10.0/600.0));
         uiPane.getChildren().add(scoreLabel);
     }
 
+    private void applyWaveMessageStyle() {
+        waveMessageLabel.setStyle(effectsEnabled ? WAVE_MESSAGE_BASE_STYLE + WAVE_MESSAGE_EFFECT_STYLE : WAVE_MESSAGE_BASE_STYLE);
+    }
+
+    // Schatten/Glow der Labels an- oder abschalten (QualityGovernor)
+    public void setEffectsEnabled(boolean enabled) {
+        if (effectsEnabled == enabled) return;
+        effectsEnabled = enabled;
+        if (waveMessageLabel != null) applyWaveMessageStyle();
+        if (scoreLabel != null) scoreLabel.setStyle(enabled ? SCORE_EFFECT_STYLE : "");
+    }
+
+    // Kleine Performance-Anzeige oben rechts (F3 oder JMX-Operation togglePerfHud)
+    public void setPerfHudVisible(boolean visible) {
+        perfHudVisible = visible;
+        if (visible && (perfHudLabel == null || !uiPane.getChildren().contains(perfHudLabel))) {
+            perfHudLabel = new Label();
+            perfHudLabel.setTextFill(Color.LIME);
+            perfHudLabel.setFont(Font.font(GAME_FONT_NAME, gameDimensions.getHeight() * (10.0 / 600.0)));
+            perfHudLabel.setLayoutX(gameDimensions.getWidth() * 0.72);
+            perfHudLabel.setLayoutY(gameDimensions.getHeight() * (10.0 / 600.0));
+            uiPane.getChildren().add(perfHudLabel);
+        }
+        if (perfHudLabel != null) perfHudLabel.setVisible(visible);
+    }
+
+    public boolean isPerfHudVisible() {
+        return perfHudVisible;
+    }
+
+    public void updatePerfHud(String text) {
+        if (perfHudVisible && perfHudLabel != null) perfHudLabel.setText(text);
+    }
+
     public void updateScoreDisplay() {
         if (scoreLabel != null) {
             scoreLabel.setText("Score: " + currentScore);
@@ -145,6 +211,13 @@ public class UIManager {
         this.currentScore += points;
         updateScoreDisplay();
     }
+    // Spielstand aus einem Schnappschuss des Simulations-Threads übernehmen
+    public void setScore(int score) {
+        if (this.currentScore == score) return;
+        this.currentScore = score;
+        updateScoreDisplay();
+    }
+
     public void resetScore() {
         this.currentScore = 0;
         if (scoreLabel == null) {
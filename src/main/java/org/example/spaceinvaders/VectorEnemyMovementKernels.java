@@ -0,0 +1,64 @@
+package org.example.spaceinvaders;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+import static org.example.spaceinvaders.EnemyMovementKernels.*;
+
+/**
+ * Vector-API-Varianten der {@link EnemyMovementKernels}. Wird nur geladen, wenn das Incubator-Modul vorhanden ist;
+ * die Reste hinter der letzten vollen Lane-Breite laufen skalar.
+ */
+final class VectorEnemyMovementKernels {
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    private VectorEnemyMovementKernels() {
+    }
+
+    static int laneCount() {
+        return SPECIES.length();
+    }
+
+    static double formationWave(double[] xs, double[] ys, double[] widths, double[] heights,
+                                double[] baseXs, double[] phases, int count,
+                                double waveTime, double frequency, double amplitude, double dy,
+                                double leftLimit, double rightLimit) {
+        int i = 0;
+        int upper = SPECIES.loopBound(count);
+        DoubleVector maxBottom = DoubleVector.broadcast(SPECIES, -Double.MAX_VALUE);
+        for (; i < upper; i += SPECIES.length()) {
+            DoubleVector angle = DoubleVector.fromArray(SPECIES, phases, i).add(waveTime).mul(frequency);
+            DoubleVector targetX = sin(angle).mul(amplitude).add(DoubleVector.fromArray(SPECIES, baseXs, i));
+            DoubleVector maxX = DoubleVector.broadcast(SPECIES, rightLimit).sub(DoubleVector.fromArray(SPECIES, widths, i));
+            targetX.min(maxX).max(leftLimit).intoArray(xs, i);
+
+            DoubleVector y = DoubleVector.fromArray(SPECIES, ys, i).add(dy);
+            y.intoArray(ys, i);
+            maxBottom = maxBottom.max(y.add(DoubleVector.fromArray(SPECIES, heights, i)));
+        }
+        double result = maxBottom.reduceLanes(VectorOperators.MAX);
+        for (; i < count; i++) {
+            double targetX = baseXs[i] + fastSin((waveTime + phases[i]) * frequency) * amplitude;
+            xs[i] = Math.max(leftLimit, Math.min(targetX, rightLimit - widths[i]));
+            ys[i] += dy;
+            result = Math.max(result, ys[i] + heights[i]);
+        }
+        return result;
+    }
+
+    // Gleiche Näherung wie EnemyMovementKernels.fastSin, nur lane-weise
+    private static DoubleVector sin(DoubleVector x) {
+        DoubleVector k = x.mul(INV_TWO_PI).add(ROUND_MAGIC).sub(ROUND_MAGIC);
+        DoubleVector y = x.sub(k.mul(TWO_PI));
+        DoubleVector upperFold = y.neg().add(Math.PI);
+        DoubleVector lowerFold = y.neg().sub(Math.PI);
+        y = y.min(upperFold).max(lowerFold);
+        DoubleVector y2 = y.mul(y);
+        DoubleVector poly = y2.mul(SIN_C9).add(SIN_C7)
+                .mul(y2).add(SIN_C5)
+                .mul(y2).add(SIN_C3)
+                .mul(y2).add(1.0);
+        return y.mul(poly);
+    }
+}
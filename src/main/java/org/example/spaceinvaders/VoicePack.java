@@ -0,0 +1,136 @@
+package org.example.spaceinvaders;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * Externes Sprachprofil als Zip-Archiv, gelesen über das NIO-Zip-Dateisystem (zipfs). Aufbau wie ein Profilordner
+ * unter {@code /sfx/} (Kategorien {@code SchussPlayer/}, {@code TodEnemy/}, ..., optional {@code Jubel.wav} und
+ * {@code analysis.idx}) plus Manifest {@value #MANIFEST}:
+ * <pre>
+ * name=Nemo
+ * intro=Introduction.wav
+ * info=Text im Menü (\n für Zeilenumbrüche)
+ * </pre>
+ * Beim Start wird nur das Manifest gelesen und das Archiv wieder geschlossen; geöffnet (Zentralverzeichnis als
+ * Index, Einträge direkt per Pfad) wird es erst, wenn das Profil Intro oder Sounds braucht.
+ * Packs liegen in {@code -Dspaceinvaders.voicePackDir} (Standard {@code voices} im Arbeitsverzeichnis).
+ */
+public final class VoicePack implements Closeable {
+    private static final GameLog LOG = GameLog.get(VoicePack.class);
+    public static final String MANIFEST = "voicepack.properties";
+
+    private final Path archive;
+    private final String name;
+    private final String introPath;
+    private final String infoText;
+    private FileSystem fileSystem;
+
+    private VoicePack(Path archive, String name, String introPath, String infoText) {
+        this.archive = archive;
+        this.name = name;
+        this.introPath = introPath;
+        this.infoText = infoText;
+    }
+
+    public static Path defaultDirectory() {
+        return Path.of(System.getProperty("spaceinvaders.voicePackDir", "voices"));
+    }
+
+    /** Alle {@code *.zip} eines Ordners mit gültigem Manifest, nach Dateiname sortiert; fehlt der Ordner, leer. */
+    public static List<VoicePack> discover(Path directory) {
+        List<VoicePack> packs = new ArrayList<>();
+        if (!Files.isDirectory(directory)) {
+            LOG.debug("Kein Voice-Pack-Ordner unter {}", directory.toAbsolutePath());
+            return packs;
+        }
+        List<Path> archives = new ArrayList<>();
+        try (DirectoryStream<Path> entries = Files.newDirectoryStream(directory, "*.zip")) {
+            for (Path entry : entries) archives.add(entry);
+        } catch (IOException e) {
+            LOG.warn("Voice-Pack-Ordner {} kann nicht gelesen werden: {}", directory, e.getMessage());
+            return packs;
+        }
+        archives.sort(Comparator.comparing(path -> path.getFileName().toString()));
+        for (Path archive : archives) {
+            try {
+                packs.add(readManifest(archive));
+            } catch (IOException | RuntimeException e) {
+                LOG.warn("Voice-Pack {} übersprungen: {}", archive.getFileName(), e.getMessage());
+            }
+        }
+        LOG.info("{} Voice-Packs in {}", packs.size(), directory.toAbsolutePath());
+        return packs;
+    }
+
+    /** Liest nur das Manifest; das Archiv ist danach wieder geschlossen. */
+    public static VoicePack readManifest(Path archive) throws IOException {
+        Properties manifest = new Properties();
+        try (FileSystem zip = FileSystems.newFileSystem(archive);
+             Reader reader = Files.newBufferedReader(zip.getPath(MANIFEST), StandardCharsets.UTF_8)) {
+            manifest.load(reader);
+        }
+        String name = manifest.getProperty("name");
+        if (name == null || name.isBlank()) throw new IOException("Manifest ohne 'name'");
+        String intro = manifest.getProperty("intro", "Introduction.wav");
+        String info = manifest.getProperty("info", name);
+        return new VoicePack(archive, name.trim(), intro.trim(), info);
+    }
+
+    /** Wurzel im Archiv; öffnet das Zip-Dateisystem beim ersten Zugriff und hält es bis {@link #close()} offen. */
+    public synchronized Path getRoot() throws IOException {
+        if (fileSystem == null || !fileSystem.isOpen()) {
+            fileSystem = FileSystems.newFileSystem(archive);
+            LOG.debug("Voice-Pack {} geöffnet", archive.getFileName());
+        }
+        return fileSystem.getPath("/");
+    }
+
+    public Path resolve(String relativePath) throws IOException {
+        return getRoot().resolve(relativePath);
+    }
+
+    public AudioAnalysisIndex loadAnalysisIndex() {
+        try {
+            Path index = resolve(AudioAnalysisIndex.FILE_NAME);
+            if (!Files.exists(index)) return AudioAnalysisIndex.empty();
+            try (InputStream in = Files.newInputStream(index)) {
+                return AudioAnalysisIndex.read(in);
+            }
+        } catch (IOException e) {
+            LOG.warn("Analyse-Index in {} kann nicht gelesen werden: {}", archive.getFileName(), e.getMessage());
+            return AudioAnalysisIndex.empty();
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        if (fileSystem == null) return;
+        try {
+            fileSystem.close();
+        } catch (IOException e) {
+            LOG.warn("Voice-Pack {} kann nicht geschlossen werden: {}", archive.getFileName(), e.getMessage());
+        }
+        fileSystem = null;
+    }
+
+    public Path getArchive() { return archive; }
+    public String getName() { return name; }
+    public String getIntroPath() { return introPath; }
+    public String getInfoText() { return infoText; }
+
+    /** Kennung für Logs und Metriken, z.B. {@code "zip:Nemo.zip/"}. */
+    public String getLabel() { return "zip:" + archive.getFileName() + "/"; }
+}
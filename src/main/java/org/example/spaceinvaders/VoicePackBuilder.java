@@ -0,0 +1,95 @@
+package org.example.spaceinvaders;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.stream.Stream;
+
+/**
+ * Packt die mitgelieferten Sprachprofile ({@link BuiltInVoiceProfiles}) als {@link VoicePack}-Archive, z.B. für das
+ * schlanke Jar ({@code mvn -Pslim-jar package}), das ohne {@code /sfx/} ausgeliefert wird. Einträge werden
+ * unkomprimiert gespeichert (WAV packt kaum, und so liest zipfs sie ohne Inflater direkt).
+ * <p>
+ * Aufruf: {@code VoicePackBuilder [root=src/main/resources/sfx] [out=voices] [profile=<Anzeigename>]}
+ */
+public final class VoicePackBuilder {
+    private static final String RESOURCE_PREFIX = "/sfx/";
+
+    private VoicePackBuilder() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path root = Paths.get("src/main/resources/sfx");
+        Path out = VoicePack.defaultDirectory();
+        String only = null;
+        for (String arg : args) {
+            String[] pair = arg.split("=", 2);
+            if (pair.length != 2) continue;
+            switch (pair[0]) {
+                case "root" -> root = Paths.get(pair[1]);
+                case "out" -> out = Paths.get(pair[1]);
+                case "profile" -> only = pair[1];
+                default -> System.err.println("Unbekanntes Argument: " + arg);
+            }
+        }
+        if (!Files.isDirectory(root)) {
+            System.err.println("Ordner nicht gefunden: " + root.toAbsolutePath());
+            return;
+        }
+        Files.createDirectories(out);
+
+        int built = 0;
+        for (VoiceProfile profile : BuiltInVoiceProfiles.create()) {
+            if (only != null && !only.equals(profile.getDisplayName())) continue;
+            String folder = profile.getSfxFolderPath();
+            if (folder == null || !folder.startsWith(RESOURCE_PREFIX)) continue;
+            String folderName = folder.substring(RESOURCE_PREFIX.length()).replaceAll("/+$", "");
+            Path source = root.resolve(folderName);
+            if (!Files.isDirectory(source)) {
+                System.err.println("Übersprungen, Ordner fehlt: " + source);
+                continue;
+            }
+            Path archive = out.resolve(folderName + ".zip");
+            long bytes = build(profile, source, archive);
+            System.out.printf("%-24s -> %s (%d KB)%n", profile.getDisplayName(), archive, bytes / 1024);
+            built++;
+        }
+        System.out.println(built + " Voice-Packs in " + out.toAbsolutePath());
+    }
+
+    static long build(VoiceProfile profile, Path source, Path archive) throws IOException {
+        Files.deleteIfExists(archive);
+        String folder = profile.getSfxFolderPath();
+        String intro = profile.getIntroClipPath().startsWith(folder)
+                ? profile.getIntroClipPath().substring(folder.length())
+                : profile.getIntroClipPath();
+
+        List<Path> files;
+        try (Stream<Path> walk = Files.walk(source)) {
+            files = walk.filter(Files::isRegularFile).sorted().toList();
+        }
+        try (FileSystem zip = FileSystems.newFileSystem(archive, Map.of("create", "true", "noCompression", "true"))) {
+            Properties manifest = new Properties();
+            manifest.setProperty("name", profile.getDisplayName());
+            manifest.setProperty("intro", intro);
+            manifest.setProperty("info", profile.getInfoText());
+            try (Writer writer = Files.newBufferedWriter(zip.getPath(VoicePack.MANIFEST), StandardCharsets.UTF_8)) {
+                manifest.store(writer, "Voice-Pack " + profile.getDisplayName());
+            }
+            for (Path file : files) {
+                Path target = zip.getPath("/").resolve(source.relativize(file).toString().replace('\\', '/'));
+                if (target.getParent() != null) Files.createDirectories(target.getParent());
+                Files.copy(file, target);
+            }
+        }
+        return Files.size(archive);
+    }
+}
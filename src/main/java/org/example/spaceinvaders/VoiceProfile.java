@@ -1,45 +1,86 @@
 package org.example.spaceinvaders;
-import javafx.scene.media.AudioClip;
-
-import java.util.Objects;
 
 public class VoiceProfile {
+    private static final GameLog LOG = GameLog.get(VoiceProfile.class);
     private final String displayName;
     private final String introClipPath;
     private final String sfxFolderPath;
     private final String infoText;
-    private AudioClip introAudioClip;
-    private GameDimensions gameDimensions;
+    private final VoicePack voicePack;
+    private IntroPlayback introPlayback;
+    private boolean introResolved = false;
 
     public VoiceProfile(String displayName, String introClipPath, String sfxFolderPath, String infoText) {
         this.displayName = displayName;
         this.introClipPath = introClipPath;
         this.sfxFolderPath = sfxFolderPath;
         this.infoText = infoText;
+        this.voicePack = null;
+    }
+
+    // Profil aus einem Voice-Pack; Intro-Pfad relativ zur Wurzel des Archivs
+    public VoiceProfile(VoicePack voicePack) {
+        this.displayName = voicePack.getName();
+        this.introClipPath = voicePack.getIntroPath();
+        this.sfxFolderPath = null;
+        this.infoText = voicePack.getInfoText();
+        this.voicePack = voicePack;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    // Mitgelieferte Profile nur, wenn ihr Ordner im Jar liegt (fehlt im schlanken Jar)
+    public boolean isAvailable() {
+        return voicePack != null || (sfxFolderPath != null && getClass().getResource(sfxFolderPath) != null);
+    }
+
+    // Intro erst beim ersten Abspielen öffnen: beim Start werden nur Manifeste bzw. Profildaten gelesen
+    public IntroPlayback getIntroPlayback() {
+        if (introResolved) return introPlayback;
+        introResolved = true;
         try{
-            String fullIntroPath = Objects.requireNonNull(getClass().getResource(introClipPath)).toExternalForm();
-            this.introAudioClip = new AudioClip(fullIntroPath);
-            System.out.println(gameDimensions.getWinHeight() + "<- height: " + gameDimensions.getWinWidth() + "<- width: ");
-        }catch (NullPointerException e){
-            System.err.println("Fehler: Intro-Audiodatei nicht gefunden für: " + displayName + " unter Pfad: " + introClipPath);
+            // Kurze Intros als AudioClip, lange werden erst beim Abspielen gestreamt
+            this.introPlayback = voicePack != null
+                    ? IntroPlayback.open(voicePack.resolve(introClipPath))
+                    : IntroPlayback.open(introClipPath);
+            if (introPlayback == null) {
+                LOG.warn("Fehler: Intro-Audiodatei nicht gefunden für: {} unter Pfad: {}", displayName, introClipPath);
+            }
         }catch(Exception e){
-            System.err.println("Allgemeiner Fehler beim Laden des Intro-Audios für: " + displayName + ": " + e.getMessage());
-            this.introAudioClip = null;
+            LOG.warn("Allgemeiner Fehler beim Laden des Intro-Audios für: {}: {}", displayName, e.getMessage());
+            this.introPlayback = null;
         }
+        return introPlayback;
     }
 
-    public String getDisplayName() {
-        return displayName;
+    // Gibt den dekodierten Intro-Clip frei; wird beim nächsten play() neu geladen
+    public boolean releaseIntroClip() {
+        return introPlayback != null && introPlayback.release();
+    }
+
+    public boolean isIntroLoaded() {
+        return introPlayback != null && introPlayback.getResidentBytes() > 0;
     }
 
-    public AudioClip getIntroAudioClip() {
-        return introAudioClip;
+    // Dekodierte Bytes im Speicher: Dateigröße beim AudioClip, nur die Puffer beim Streaming
+    public long getEstimatedIntroBytes() {
+        return introPlayback != null ? introPlayback.getResidentBytes() : 0;
+    }
+
+    public String getIntroClipPath() {
+        return introClipPath;
     }
 
     public String getSfxFolderPath() {
         return sfxFolderPath;
     }
 
+    public VoicePack getVoicePack() {
+        return voicePack;
+    }
+
     public String getInfoText() {
         return infoText;
     }
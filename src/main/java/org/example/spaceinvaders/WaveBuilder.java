@@ -0,0 +1,158 @@
+package org.example.spaceinvaders;
+
+import javafx.scene.Group;
+import javafx.scene.image.Image;
+import javafx.scene.layout.Pane;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Baut die nächste Welle (oder den Boss) während {@link GameState#LEVEL_TRANSITION} stückweise auf: pro Frame nur so
+ * viele Gegner, wie in das Zeitbudget passen. Die Nodes liegen unsichtbar in der Formationsebene (Boss: in der
+ * Spielfläche), {@link #activate(EnemyFormation)} schaltet sie in einem Schritt sichtbar.
+ */
+public class WaveBuilder {
+    private static final GameLog LOG = GameLog.get(WaveBuilder.class);
+    // Zeitbudget pro Frame für den Aufbau, -Dspaceinvaders.waveBuildBudgetMicros
+    static final long FRAME_BUDGET_NANOS = Math.max(100, Integer.getInteger("spaceinvaders.waveBuildBudgetMicros", 1500)) * 1000L;
+
+    private final Pane gamePane;
+    private final Group formationLayer;
+    private final List<Enemy> staged = new ArrayList<>();
+
+    // Aufbauplan der Formation
+    private int rows;
+    private int columns;
+    private int nextSlot;
+    private Image topImage;
+    private Image bottomImage;
+    private double enemyWidth;
+    private double enemyHeight;
+    private double startX;
+    private double startY;
+    private double stepX;
+    private double stepY;
+
+    // Aufbauplan des Bosses
+    private Image bossImage;
+    private double bossWidth;
+    private double bossHeight;
+    private Enemy stagedBoss;
+
+    public WaveBuilder(Pane gamePane, Group formationLayer) {
+        this.gamePane = gamePane;
+        this.formationLayer = formationLayer;
+    }
+
+    /** Neue Formation einplanen; obere Hälfte mit {@code topImage}, untere mit {@code bottomImage}. */
+    public void beginWave(int rows, int columns, Image topImage, Image bottomImage, double enemyWidth, double enemyHeight,
+                          double startX, double startY, double stepX, double stepY) {
+        cancel();
+        this.rows = rows;
+        this.columns = columns;
+        this.topImage = topImage;
+        this.bottomImage = bottomImage;
+        this.enemyWidth = enemyWidth;
+        this.enemyHeight = enemyHeight;
+        this.startX = startX;
+        this.startY = startY;
+        this.stepX = stepX;
+        this.stepY = stepY;
+    }
+
+    public void beginBoss(Image bossImage, double width, double height) {
+        cancel();
+        this.bossImage = bossImage;
+        this.bossWidth = width;
+        this.bossHeight = height;
+    }
+
+    /**
+     * Baut weiter, bis das Budget verbraucht ist (mindestens ein Gegner pro Aufruf, damit es sicher vorangeht).
+     * @return true, wenn alles aufgebaut ist
+     */
+    public boolean step(long budgetNanos) {
+        long start = System.nanoTime(); // Differenz statt Endzeitpunkt: Long.MAX_VALUE (alles sofort) liefe sonst über
+        if (bossImage != null && stagedBoss == null) {
+            stagedBoss = new Enemy(bossImage, bossWidth, bossHeight, GameDimensions.BOSS_HEALTH, GameDimensions.BOSS_POINTS);
+            stage(stagedBoss);
+        }
+        int total = rows * columns;
+        while (nextSlot < total) {
+            int row = nextSlot / columns;
+            int col = nextSlot % columns;
+            nextSlot++;
+            Image image = (row < rows / 2) ? topImage : bottomImage;
+            if (image == null || image.isError()) {
+                LOG.warn("Fehlerhaftes Bild für normalen Gegner, überspringe Erstellung.");
+                continue;
+            }
+            Enemy enemy = new Enemy(image, enemyWidth, enemyHeight, 1, GameDimensions.POINTS_PER_ENEMY);
+            enemy.setFormationSlot(row * columns + col);
+            // Position relativ zur Formationsebene; deren Verschiebung ist der Ursprung (startX, startY)
+            enemy.getNode().setLayoutX(col * stepX);
+            enemy.getNode().setLayoutY(row * stepY);
+            stage(enemy);
+            if (System.nanoTime() - start >= budgetNanos) break;
+        }
+        return isComplete();
+    }
+
+    private void stage(Enemy enemy) {
+        enemy.getNode().setVisible(false);
+        CollisionMask.prepare(enemy.getNode()); // einmal pro Bild und Größe, danach aus dem Cache
+        if (enemy == stagedBoss) {
+            gamePane.getChildren().add(enemy.getNode());
+        } else {
+            formationLayer.getChildren().add(enemy.getNode());
+            staged.add(enemy);
+        }
+    }
+
+    public boolean isComplete() {
+        return nextSlot >= rows * columns && (bossImage == null || stagedBoss != null);
+    }
+
+    public boolean isBossWave() { return bossImage != null; }
+
+    /** Aufgebaute Gegner sichtbar schalten, in die Formation eintragen und übergeben; danach ist der Builder leer. */
+    public List<Enemy> activate(EnemyFormation formation) {
+        formation.reset(rows, columns, startX, startY, stepX, stepY, enemyWidth, enemyHeight);
+        List<Enemy> result = new ArrayList<>(staged);
+        for (Enemy enemy : result) {
+            enemy.getNode().setVisible(true);
+            formation.place(enemy);
+        }
+        staged.clear();
+        resetPlan();
+        return result;
+    }
+
+    /** Aufgebauten Boss sichtbar schalten und übergeben (null, wenn keiner geplant war). */
+    public Enemy activateBoss() {
+        Enemy boss = stagedBoss;
+        if (boss != null) boss.getNode().setVisible(true);
+        stagedBoss = null;
+        resetPlan();
+        return boss;
+    }
+
+    /** Halb aufgebaute Welle verwerfen (z.B. bei Game Over während des Übergangs). */
+    public void cancel() {
+        for (Enemy enemy : staged) formationLayer.getChildren().remove(enemy.getNode());
+        staged.clear();
+        if (stagedBoss != null) gamePane.getChildren().remove(stagedBoss.getNode());
+        stagedBoss = null;
+        resetPlan();
+    }
+
+    private void resetPlan() {
+        rows = 0;
+        columns = 0;
+        nextSlot = 0;
+        topImage = null;
+        bottomImage = null;
+        bossImage = null;
+    }
+}
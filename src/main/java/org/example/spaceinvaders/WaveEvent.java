@@ -0,0 +1,34 @@
+package org.example.spaceinvaders;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/** JFR-Event für Wellenwechsel (Start einer Welle, Welle geschafft, Boss kommt). */
+@Name("spaceinvaders.Wave")
+@Label("Wave")
+@Category({"Musical Invaders", "Gameplay"})
+@Description("Start oder Ende einer Gegnerwelle")
+@StackTrace(false)
+public class WaveEvent extends jdk.jfr.Event {
+    @Label("Wave")
+    public int wave;
+
+    @Label("Action")
+    @Description("START, CLEARED oder BOSS_INCOMING")
+    public String action;
+
+    @Label("Enemies")
+    public int enemies;
+
+    public static void emit(int wave, String action, int enemies) {
+        WaveEvent event = new WaveEvent();
+        if (!event.shouldCommit()) return;
+        event.wave = wave;
+        event.action = action;
+        event.enemies = enemies;
+        event.commit();
+    }
+}
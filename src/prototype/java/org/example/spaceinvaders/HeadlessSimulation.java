@@ -0,0 +1,401 @@
+package org.example.spaceinvaders;
+
+import java.util.Arrays;
+
+/**
+ * Deterministische Simulation ohne JavaFX für zwei Spieler (Netzwerkspiel mit Rollback).
+ * <p>
+ * Der komplette Zustand liegt in einem {@code int[]} mit festen Offsets: Positionen in Subpixeln
+ * ({@link #SUB} pro Pixel einer 800x600-Spielfläche), Zufall über einen xorshift-Generator im Zustand. Es gibt keine
+ * Gleitkommazahlen und keine Zeitabhängigkeit, gleiche Eingaben ergeben auf jedem Rechner denselben Zustand.
+ * Speichern und Laden ist damit ein {@code System.arraycopy} von {@link #STATE_SIZE} ints.
+ * <p>
+ * Ein Aufruf von {@link #step(int, int)} ist ein Frame mit 60 Hz. Im Koop-Modus zählt die Summe der Punkte, im
+ * Versus-Modus bekommt zusätzlich der Gegner Punkte, wenn ein Spieler ein Leben verliert.
+ * <p>
+ * Prototyp für den Rollback-Netcode ({@link RollbackSession}), nicht das Spiel aus dem Menü: vereinfachte Regeln
+ * (rechteckige Formation, Boss ohne Phasen und Minions). Liegt deshalb in {@code src/prototype/java} und wird nur mit
+ * {@code mvn -Pprototype} gebaut; das ausgelieferte Spiel und der {@link GameServer} kennen sie nicht.
+ */
+public class HeadlessSimulation {
+    public static final int SUB = 16;
+    public static final int WIDTH = 800 * SUB;
+    public static final int HEIGHT = 600 * SUB;
+    public static final int PLAYERS = 2;
+
+    // Eingabe-Bits pro Spieler und Frame
+    public static final int INPUT_LEFT = 1;
+    public static final int INPUT_RIGHT = 2;
+    public static final int INPUT_SHOOT = 4;
+    public static final int INPUT_MASK = 7;
+
+    public enum Mode { SOLO, COOP, VERSUS } // SOLO: nur Spieler 0, Spieler 1 startet ohne Leben
+
+    // Geometrie (Verhältnisse wie in GameDimensions bei 800x600)
+    public static final int ROWS = GameDimensions.ENEMY_ROWS;
+    public static final int COLUMNS = GameDimensions.ENEMIES_PER_ROW;
+    public static final int ENEMY_SIZE = 40 * SUB;
+    public static final int ENEMY_STEP_X = (40 + 15) * SUB;
+    public static final int ENEMY_STEP_Y = (40 + 10) * SUB;
+    public static final int PLAYER_WIDTH = 90 * SUB;
+    public static final int PLAYER_HEIGHT = 45 * SUB;
+    public static final int PLAYER_Y = HEIGHT - PLAYER_HEIGHT - 15 * SUB;
+    public static final int SHOT_SIZE = 15 * SUB;
+    public static final int BOSS_WIDTH = (int) (ENEMY_SIZE * GameDimensions.BOSS_WIDTH_MULTIPLIER);
+    public static final int BOSS_HEIGHT = (int) (ENEMY_SIZE * GameDimensions.BOSS_HEIGHT_MULTIPLIER);
+    public static final int BOSS_Y = 60 * SUB;
+    private static final int BOSS_SPEED = 3 * SUB;
+    private static final int FORMATION_START_X = 60 * SUB;
+    private static final int FORMATION_START_Y = 60 * SUB;
+    private static final int FORMATION_DROP = 16 * SUB;
+    private static final int PLAYER_SPEED = 5 * SUB;
+    private static final int SHOT_SPEED = 8 * SUB;
+    private static final int ENEMY_SHOT_SPEED = 5 * SUB;
+    private static final int SHOOT_COOLDOWN_FRAMES = (int) (GameDimensions.SHOOT_COOLDOWN_MS * 60 / 1000);
+    private static final int RESPAWN_FRAMES = 90;
+    private static final int START_LIVES = 3;
+    private static final int VERSUS_LIFE_POINTS = 50;
+
+    public static final int MAX_SHOTS = 16;
+    public static final int MAX_ENEMY_SHOTS = 16;
+
+    // Offsets im Zustand
+    private static final int FRAME = 0;
+    private static final int RNG = 1;
+    private static final int WAVE = 2;
+    private static final int FORMATION_X = 3;
+    private static final int FORMATION_Y = 4;
+    private static final int FORMATION_DIR = 5;
+    private static final int ALIVE_LOW = 6;   // Bit (Reihe * COLUMNS + Spalte), Gegner 0..31
+    private static final int ALIVE_HIGH = 7;  // Gegner 32..63
+    private static final int ENEMY_SHOT_TIMER = 8;
+    private static final int BOSS_HEALTH = 9;   // > 0: Bosswelle läuft
+    private static final int BOSS_X = 10;
+    private static final int BOSS_DIR = 11;
+    private static final int PLAYER_BASE = 12;
+    private static final int PLAYER_X = 0, PLAYER_COOLDOWN = 1, PLAYER_SCORE = 2, PLAYER_LIVES = 3, PLAYER_RESPAWN = 4;
+    private static final int PLAYER_FIELDS = 5;
+    private static final int SHOT_BASE = PLAYER_BASE + PLAYERS * PLAYER_FIELDS;
+    private static final int SHOT_OWNER = 0, SHOT_X = 1, SHOT_Y = 2; // Owner = Spieler + 1, 0 = frei
+    private static final int SHOT_FIELDS = 3;
+    private static final int ENEMY_SHOT_BASE = SHOT_BASE + MAX_SHOTS * SHOT_FIELDS;
+    public static final int STATE_SIZE = ENEMY_SHOT_BASE + MAX_ENEMY_SHOTS * SHOT_FIELDS;
+
+    static {
+        if (ROWS * COLUMNS > 64) throw new IllegalStateException("Formation zu groß für die Alive-Bits");
+    }
+
+    private final Mode mode;
+    private final int[] s = new int[STATE_SIZE];
+
+    public HeadlessSimulation(Mode mode, long seed) {
+        this.mode = mode;
+        reset(seed);
+    }
+
+    public void reset(long seed) {
+        Arrays.fill(s, 0);
+        int rng = (int) (seed ^ (seed >>> 32));
+        s[RNG] = rng != 0 ? rng : 0x2545F491;
+        s[WAVE] = 1;
+        for (int p = 0; p < PLAYERS; p++) {
+            int base = PLAYER_BASE + p * PLAYER_FIELDS;
+            s[base + PLAYER_X] = (WIDTH * (p * 2 + 1)) / (PLAYERS * 2) - PLAYER_WIDTH / 2;
+            s[base + PLAYER_LIVES] = mode == Mode.SOLO && p > 0 ? 0 : START_LIVES;
+        }
+        startWave();
+    }
+
+    public void saveState(int[] target) {
+        System.arraycopy(s, 0, target, 0, STATE_SIZE);
+    }
+
+    public void loadState(int[] source) {
+        System.arraycopy(source, 0, s, 0, STATE_SIZE);
+    }
+
+    /** FNV-1a über den Zustand, zum Erkennen von Desyncs zwischen den Peers. */
+    public int checksum() {
+        return checksum(s);
+    }
+
+    public static int checksum(int[] state) {
+        int hash = 0x811C9DC5;
+        for (int i = 0; i < STATE_SIZE; i++) {
+            hash = (hash ^ state[i]) * 0x01000193;
+        }
+        return hash;
+    }
+
+    /** Ein Frame; die Eingaben sind Bitmasken aus INPUT_LEFT/RIGHT/SHOOT. */
+    public void step(int input0, int input1) {
+        if (isGameOver()) {
+            s[FRAME]++;
+            return;
+        }
+        updatePlayer(0, input0);
+        updatePlayer(1, input1);
+        updateShots();
+        updateFormation();
+        updateEnemyShots();
+        s[FRAME]++;
+    }
+
+    private void updatePlayer(int p, int input) {
+        int base = PLAYER_BASE + p * PLAYER_FIELDS;
+        if (s[base + PLAYER_LIVES] <= 0) return;
+        if (s[base + PLAYER_RESPAWN] > 0) {
+            s[base + PLAYER_RESPAWN]--;
+            return;
+        }
+        int x = s[base + PLAYER_X];
+        if ((input & INPUT_LEFT) != 0) x -= PLAYER_SPEED;
+        if ((input & INPUT_RIGHT) != 0) x += PLAYER_SPEED;
+        s[base + PLAYER_X] = Math.max(0, Math.min(WIDTH - PLAYER_WIDTH, x));
+
+        if (s[base + PLAYER_COOLDOWN] > 0) s[base + PLAYER_COOLDOWN]--;
+        if ((input & INPUT_SHOOT) != 0 && s[base + PLAYER_COOLDOWN] == 0) {
+            int slot = freeSlot(SHOT_BASE, MAX_SHOTS);
+            if (slot >= 0) {
+                s[slot + SHOT_OWNER] = p + 1;
+                s[slot + SHOT_X] = s[base + PLAYER_X] + (PLAYER_WIDTH - SHOT_SIZE) / 2;
+                s[slot + SHOT_Y] = PLAYER_Y - SHOT_SIZE;
+                s[base + PLAYER_COOLDOWN] = SHOOT_COOLDOWN_FRAMES;
+            }
+        }
+    }
+
+    private void updateShots() {
+        for (int i = 0; i < MAX_SHOTS; i++) {
+            int slot = SHOT_BASE + i * SHOT_FIELDS;
+            int owner = s[slot + SHOT_OWNER];
+            if (owner == 0) continue;
+            int y = s[slot + SHOT_Y] - SHOT_SPEED;
+            s[slot + SHOT_Y] = y;
+            if (y + SHOT_SIZE < 0) {
+                s[slot + SHOT_OWNER] = 0;
+                continue;
+            }
+            int x = s[slot + SHOT_X];
+            if (s[BOSS_HEALTH] > 0) {
+                if (hitsBoss(x, y)) {
+                    s[slot + SHOT_OWNER] = 0;
+                    if (--s[BOSS_HEALTH] == 0) {
+                        s[PLAYER_BASE + (owner - 1) * PLAYER_FIELDS + PLAYER_SCORE] += GameDimensions.BOSS_POINTS;
+                    }
+                }
+                continue;
+            }
+            int enemy = enemyAt(x, y);
+            if (enemy >= 0) {
+                setAlive(enemy, false);
+                s[slot + SHOT_OWNER] = 0;
+                s[PLAYER_BASE + (owner - 1) * PLAYER_FIELDS + PLAYER_SCORE] += GameDimensions.POINTS_PER_ENEMY;
+            }
+        }
+    }
+
+    private void updateFormation() {
+        if (s[BOSS_HEALTH] > 0) {
+            int x = s[BOSS_X] + s[BOSS_DIR] * BOSS_SPEED;
+            if (x < 0 || x + BOSS_WIDTH > WIDTH) {
+                s[BOSS_DIR] = -s[BOSS_DIR];
+            } else {
+                s[BOSS_X] = x;
+            }
+            return;
+        }
+        if (s[ALIVE_LOW] == 0 && s[ALIVE_HIGH] == 0) {
+            s[WAVE]++;
+            startWave();
+            return;
+        }
+        int minColumn = COLUMNS, maxColumn = -1, maxRow = -1;
+        for (int i = 0; i < ROWS * COLUMNS; i++) {
+            if (!isAlive(i)) continue;
+            int column = i % COLUMNS;
+            minColumn = Math.min(minColumn, column);
+            maxColumn = Math.max(maxColumn, column);
+            maxRow = Math.max(maxRow, i / COLUMNS);
+        }
+        int speed = SUB / 2 + s[WAVE] * SUB / 2;
+        int x = s[FORMATION_X] + s[FORMATION_DIR] * speed;
+        int left = x + minColumn * ENEMY_STEP_X;
+        int right = x + maxColumn * ENEMY_STEP_X + ENEMY_SIZE;
+        if (left < 0 || right > WIDTH) {
+            s[FORMATION_DIR] = -s[FORMATION_DIR];
+            s[FORMATION_Y] += FORMATION_DROP;
+        } else {
+            s[FORMATION_X] = x;
+        }
+        int bottom = s[FORMATION_Y] + maxRow * ENEMY_STEP_Y + ENEMY_SIZE;
+        if (bottom >= PLAYER_Y) {
+            // Formation hat die Spieler erreicht: jeder lebende Spieler verliert ein Leben, Welle beginnt neu
+            for (int p = 0; p < PLAYERS; p++) loseLife(p);
+            startWave();
+        }
+    }
+
+    private void updateEnemyShots() {
+        for (int i = 0; i < MAX_ENEMY_SHOTS; i++) {
+            int slot = ENEMY_SHOT_BASE + i * SHOT_FIELDS;
+            if (s[slot + SHOT_OWNER] == 0) continue;
+            int y = s[slot + SHOT_Y] + ENEMY_SHOT_SPEED;
+            s[slot + SHOT_Y] = y;
+            if (y > HEIGHT) {
+                s[slot + SHOT_OWNER] = 0;
+                continue;
+            }
+            for (int p = 0; p < PLAYERS; p++) {
+                if (hitPlayer(p, s[slot + SHOT_X], y)) {
+                    s[slot + SHOT_OWNER] = 0;
+                    break;
+                }
+            }
+        }
+
+        if (--s[ENEMY_SHOT_TIMER] > 0) return;
+        if (s[BOSS_HEALTH] > 0) {
+            // Boss schießt schneller, je weniger Leben er hat, und zielt zufällig über seine Breite
+            s[ENEMY_SHOT_TIMER] = Math.max(8, 12 + s[BOSS_HEALTH] * 2);
+            int slot = freeSlot(ENEMY_SHOT_BASE, MAX_ENEMY_SHOTS);
+            if (slot < 0) return;
+            s[slot + SHOT_OWNER] = 1;
+            s[slot + SHOT_X] = s[BOSS_X] + nextRandom(BOSS_WIDTH - SHOT_SIZE);
+            s[slot + SHOT_Y] = BOSS_Y + BOSS_HEIGHT;
+            return;
+        }
+        s[ENEMY_SHOT_TIMER] = Math.max(15, 60 - s[WAVE] * 5);
+        // Zufällige Spalte, die unterste lebende Einheit schießt
+        int startColumn = nextRandom(COLUMNS);
+        for (int c = 0; c < COLUMNS; c++) {
+            int column = (startColumn + c) % COLUMNS;
+            for (int row = ROWS - 1; row >= 0; row--) {
+                if (!isAlive(row * COLUMNS + column)) continue;
+                int slot = freeSlot(ENEMY_SHOT_BASE, MAX_ENEMY_SHOTS);
+                if (slot < 0) return;
+                s[slot + SHOT_OWNER] = 1;
+                s[slot + SHOT_X] = s[FORMATION_X] + column * ENEMY_STEP_X + (ENEMY_SIZE - SHOT_SIZE) / 2;
+                s[slot + SHOT_Y] = s[FORMATION_Y] + row * ENEMY_STEP_Y + ENEMY_SIZE;
+                return;
+            }
+        }
+    }
+
+    private boolean hitPlayer(int p, int shotX, int shotY) {
+        int base = PLAYER_BASE + p * PLAYER_FIELDS;
+        if (s[base + PLAYER_LIVES] <= 0 || s[base + PLAYER_RESPAWN] > 0) return false;
+        int px = s[base + PLAYER_X];
+        if (shotX + SHOT_SIZE <= px || shotX >= px + PLAYER_WIDTH) return false;
+        if (shotY + SHOT_SIZE <= PLAYER_Y || shotY >= PLAYER_Y + PLAYER_HEIGHT) return false;
+        loseLife(p);
+        return true;
+    }
+
+    private void loseLife(int p) {
+        int base = PLAYER_BASE + p * PLAYER_FIELDS;
+        if (s[base + PLAYER_LIVES] <= 0) return;
+        s[base + PLAYER_LIVES]--;
+        s[base + PLAYER_RESPAWN] = RESPAWN_FRAMES;
+        if (mode == Mode.VERSUS) {
+            // Im Versus-Modus punktet der Gegner, wenn man ein Leben verliert
+            s[PLAYER_BASE + (PLAYERS - 1 - p) * PLAYER_FIELDS + PLAYER_SCORE] += VERSUS_LIFE_POINTS;
+        }
+    }
+
+    private boolean hitsBoss(int shotX, int shotY) {
+        return shotX + SHOT_SIZE > s[BOSS_X] && shotX < s[BOSS_X] + BOSS_WIDTH
+                && shotY < BOSS_Y + BOSS_HEIGHT && shotY + SHOT_SIZE > BOSS_Y;
+    }
+
+    // Gegnerindex unter dem Schuss oder -1 (Formation ist ein Raster, daher direkt über die Zelle)
+    private int enemyAt(int shotX, int shotY) {
+        int relX = shotX + SHOT_SIZE / 2 - s[FORMATION_X];
+        int relY = shotY - s[FORMATION_Y];
+        if (relX < 0 || relY < 0) return -1;
+        int column = relX / ENEMY_STEP_X;
+        int row = relY / ENEMY_STEP_Y;
+        if (column >= COLUMNS || row >= ROWS) return -1;
+        if (relX - column * ENEMY_STEP_X >= ENEMY_SIZE || relY - row * ENEMY_STEP_Y >= ENEMY_SIZE) return -1;
+        int index = row * COLUMNS + column;
+        return isAlive(index) ? index : -1;
+    }
+
+    private void startWave() {
+        // Wie im Spiel: jede WAVE_NUMBER_TO_SPAWN_BOSS-te Welle ist eine Bosswelle ohne Formation
+        boolean bossWave = s[WAVE] % GameDimensions.WAVE_NUMBER_TO_SPAWN_BOSS == 0;
+        s[BOSS_HEALTH] = bossWave ? GameDimensions.BOSS_HEALTH : 0;
+        s[BOSS_X] = (WIDTH - BOSS_WIDTH) / 2;
+        s[BOSS_DIR] = 1;
+        s[FORMATION_X] = FORMATION_START_X;
+        s[FORMATION_Y] = FORMATION_START_Y;
+        s[FORMATION_DIR] = 1;
+        int count = ROWS * COLUMNS;
+        long alive = bossWave ? 0 : count == 64 ? -1L : (1L << count) - 1;
+        s[ALIVE_LOW] = (int) alive;
+        s[ALIVE_HIGH] = (int) (alive >>> 32);
+        s[ENEMY_SHOT_TIMER] = 60;
+        for (int i = 0; i < MAX_SHOTS; i++) s[SHOT_BASE + i * SHOT_FIELDS + SHOT_OWNER] = 0;
+        for (int i = 0; i < MAX_ENEMY_SHOTS; i++) s[ENEMY_SHOT_BASE + i * SHOT_FIELDS + SHOT_OWNER] = 0;
+    }
+
+    private int freeSlot(int base, int count) {
+        for (int i = 0; i < count; i++) {
+            int slot = base + i * SHOT_FIELDS;
+            if (s[slot + SHOT_OWNER] == 0) return slot;
+        }
+        return -1;
+    }
+
+    private boolean isAlive(int index) {
+        return index < 32 ? (s[ALIVE_LOW] & (1 << index)) != 0 : (s[ALIVE_HIGH] & (1 << (index - 32))) != 0;
+    }
+
+    private void setAlive(int index, boolean alive) {
+        int field = index < 32 ? ALIVE_LOW : ALIVE_HIGH;
+        int bit = 1 << (index & 31);
+        s[field] = alive ? s[field] | bit : s[field] & ~bit;
+    }
+
+    // xorshift32, Zustand liegt im Array und wird beim Rollback mit zurückgesetzt
+    private int nextRandom(int bound) {
+        int x = s[RNG];
+        x ^= x << 13;
+        x ^= x >>> 17;
+        x ^= x << 5;
+        s[RNG] = x;
+        return (x >>> 1) % bound;
+    }
+
+    // --- Lesezugriffe für Anzeige und Auswertung ---
+
+    public Mode getMode() { return mode; }
+    public int getFrame() { return s[FRAME]; }
+    public int getWave() { return s[WAVE]; }
+    public int getFormationX() { return s[FORMATION_X]; }
+    public int getFormationY() { return s[FORMATION_Y]; }
+    public boolean isEnemyAlive(int row, int column) { return isAlive(row * COLUMNS + column); }
+    public int getEnemiesAlive() { return Integer.bitCount(s[ALIVE_LOW]) + Integer.bitCount(s[ALIVE_HIGH]); }
+    public boolean isBossActive() { return s[BOSS_HEALTH] > 0; }
+    public int getBossHealth() { return s[BOSS_HEALTH]; }
+    public int getBossX() { return s[BOSS_X]; }
+    public int getPlayerX(int p) { return s[PLAYER_BASE + p * PLAYER_FIELDS + PLAYER_X]; }
+    public int getScore(int p) { return s[PLAYER_BASE + p * PLAYER_FIELDS + PLAYER_SCORE]; }
+    public int getLives(int p) { return s[PLAYER_BASE + p * PLAYER_FIELDS + PLAYER_LIVES]; }
+    public boolean isRespawning(int p) { return s[PLAYER_BASE + p * PLAYER_FIELDS + PLAYER_RESPAWN] > 0; }
+
+    /** Besitzer des Spielerschusses (Spieler + 1) oder 0, wenn der Slot frei ist. */
+    public int getShotOwner(int i) { return s[SHOT_BASE + i * SHOT_FIELDS + SHOT_OWNER]; }
+    public int getShotX(int i) { return s[SHOT_BASE + i * SHOT_FIELDS + SHOT_X]; }
+    public int getShotY(int i) { return s[SHOT_BASE + i * SHOT_FIELDS + SHOT_Y]; }
+    public boolean isEnemyShotActive(int i) { return s[ENEMY_SHOT_BASE + i * SHOT_FIELDS + SHOT_OWNER] != 0; }
+    public int getEnemyShotX(int i) { return s[ENEMY_SHOT_BASE + i * SHOT_FIELDS + SHOT_X]; }
+    public int getEnemyShotY(int i) { return s[ENEMY_SHOT_BASE + i * SHOT_FIELDS + SHOT_Y]; }
+
+    public boolean isGameOver() {
+        for (int p = 0; p < PLAYERS; p++) {
+            if (getLives(p) > 0) return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,69 @@
+package org.example.spaceinvaders;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Eingabepaket des Netzwerkspiels. Jedes Paket enthält alle lokalen Eingaben ab dem ersten Frame, den der Gegenüber
+ * noch nicht bestätigt hat; verlorene Pakete werden so vom nächsten Paket automatisch nachgeliefert.
+ * <pre>
+ * byte  magic        0x52
+ * byte  absender     Spielerindex
+ * int   ack          letzter lückenlos empfangener Frame des Gegenübers (-1 = keiner)
+ * int   prüfFrame    Frame, zu dem die Prüfsumme gehört (-1 = keine)
+ * int   prüfsumme    HeadlessSimulation.checksum() am Anfang von prüfFrame
+ * int   startFrame   Frame der ersten Eingabe
+ * byte  anzahl       Anzahl Eingaben (höchstens MAX_INPUTS)
+ * byte[] eingaben    zwei Eingaben pro Byte (unteres Nibble zuerst)
+ * </pre>
+ * Die Instanz wird wiederverwendet, Lesen und Schreiben allokieren nichts.
+ */
+public class InputPacket {
+    public static final int MAX_INPUTS = 64;
+    public static final int HEADER_BYTES = 19;
+    public static final int MAX_BYTES = HEADER_BYTES + MAX_INPUTS / 2;
+    private static final byte MAGIC = 0x52;
+
+    public int sender;
+    public int ackFrame = -1;
+    public int checksumFrame = -1;
+    public int checksum;
+    public int startFrame;
+    public int count;
+    public final byte[] inputs = new byte[MAX_INPUTS];
+
+    public void write(ByteBuffer out) {
+        out.put(MAGIC);
+        out.put((byte) sender);
+        out.putInt(ackFrame);
+        out.putInt(checksumFrame);
+        out.putInt(checksum);
+        out.putInt(startFrame);
+        out.put((byte) count);
+        for (int i = 0; i < count; i += 2) {
+            int low = inputs[i] & HeadlessSimulation.INPUT_MASK;
+            int high = i + 1 < count ? inputs[i + 1] & HeadlessSimulation.INPUT_MASK : 0;
+            out.put((byte) (low | (high << 4)));
+        }
+    }
+
+    /** Liest ein Paket; false bei fremden oder kaputten Datagrammen. */
+    public boolean read(ByteBuffer in) {
+        if (in.remaining() < HEADER_BYTES || in.get() != MAGIC) return false;
+        sender = in.get();
+        ackFrame = in.getInt();
+        checksumFrame = in.getInt();
+        checksum = in.getInt();
+        startFrame = in.getInt();
+        count = in.get() & 0xFF;
+        if (sender < 0 || sender >= HeadlessSimulation.PLAYERS || count > MAX_INPUTS
+                || in.remaining() < (count + 1) / 2) {
+            return false;
+        }
+        for (int i = 0; i < count; i += 2) {
+            int packed = in.get();
+            inputs[i] = (byte) (packed & 0x0F);
+            if (i + 1 < count) inputs[i + 1] = (byte) ((packed >> 4) & 0x0F);
+        }
+        return true;
+    }
+}
@@ -0,0 +1,181 @@
+package org.example.spaceinvaders;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.Locale;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Testlauf für den Rollback-Netcode: zwei Peers mit Bot-Eingaben laufen in Echtzeit über echte UDP-Sockets auf
+ * Loopback, der ausgehende Verkehr wird mit Latenz, Jitter und Paketverlust verschlechtert. Am Ende müssen beide
+ * Peers und eine Referenzsimulation (ohne Netz, mit den tatsächlichen Eingaben) denselben Zustand haben.
+ * <pre>
+ * java ... org.example.spaceinvaders.NetplayLoopbackHarness frames=600 latency=60 jitter=20 loss=0.05 delay=2 mode=COOP
+ * </pre>
+ * Exit-Code 0 bei Übereinstimmung, 1 bei Desync. Gehört zum Prototyp Netzwerkspiel, nur mit {@code mvn -Pprototype}.
+ */
+public final class NetplayLoopbackHarness {
+    private static final long FRAME_NANOS = 1_000_000_000L / 60;
+
+    private NetplayLoopbackHarness() {
+    }
+
+    private static final class Peer {
+        final RollbackSession session;
+        final UdpInputTransport transport;
+        final InputPacket packet = new InputPacket();
+        final byte[] botInputs; // Eingabe k gilt für Frame k + inputDelay
+        int advances = 0;
+        int botState;
+
+        Peer(RollbackSession session, UdpInputTransport transport, int frames, int seed) {
+            this.session = session;
+            this.transport = transport;
+            this.botInputs = new byte[frames];
+            this.botState = seed;
+        }
+
+        // Zufallsbot: wechselt alle paar Frames die Richtung, schießt meistens
+        int nextBotInput() {
+            if (advances % 12 == 0) {
+                botState ^= botState << 13;
+                botState ^= botState >>> 17;
+                botState ^= botState << 5;
+            }
+            int input = switch ((botState >>> 8) % 3) {
+                case 0 -> HeadlessSimulation.INPUT_LEFT;
+                case 1 -> HeadlessSimulation.INPUT_RIGHT;
+                default -> 0;
+            };
+            if ((botState & 3) != 0) input |= HeadlessSimulation.INPUT_SHOOT;
+            return input;
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        int frames = 600, latency = 60, jitter = 20, delay = 2;
+        double loss = 0.05;
+        HeadlessSimulation.Mode mode = HeadlessSimulation.Mode.COOP;
+        for (String arg : args) {
+            String[] pair = arg.split("=", 2);
+            if (pair.length != 2) continue;
+            switch (pair[0]) {
+                case "frames" -> frames = Integer.parseInt(pair[1]);
+                case "latency" -> latency = Integer.parseInt(pair[1]);
+                case "jitter" -> jitter = Integer.parseInt(pair[1]);
+                case "loss" -> loss = Double.parseDouble(pair[1]);
+                case "delay" -> delay = Integer.parseInt(pair[1]);
+                case "mode" -> mode = HeadlessSimulation.Mode.valueOf(pair[1].toUpperCase(Locale.ROOT));
+                default -> System.err.println("Unbekanntes Argument: " + arg);
+            }
+        }
+        System.out.printf(Locale.ROOT, "Netplay-Loopback: %d Frames, Latenz %d ms, Jitter %d ms, Verlust %.1f %%, Eingabeverzögerung %d, %s%n",
+                frames, latency, jitter, loss * 100, delay, mode);
+
+        long seed = 0x5EED_1234L;
+        InetAddress loopback = InetAddress.getLoopbackAddress();
+        try (UdpInputTransport transport0 = new UdpInputTransport(new InetSocketAddress(loopback, 0));
+             UdpInputTransport transport1 = new UdpInputTransport(new InetSocketAddress(loopback, 0))) {
+            transport0.connect(transport1.getLocalAddress());
+            transport1.connect(transport0.getLocalAddress());
+            transport0.simulateConditions(latency, jitter, loss, 1);
+            transport1.simulateConditions(latency, jitter, loss, 2);
+
+            Peer[] peers = {
+                    new Peer(new RollbackSession(new HeadlessSimulation(mode, seed), 0, delay), transport0, frames, 0x1234567),
+                    new Peer(new RollbackSession(new HeadlessSimulation(mode, seed), 1, delay), transport1, frames, 0x7654321),
+            };
+
+            long nextTick = System.nanoTime();
+            long deadline = nextTick + (frames * FRAME_NANOS) * 4 + 5_000_000_000L;
+            while (!finished(peers, frames)) {
+                long now = System.nanoTime();
+                if (now > deadline) {
+                    System.err.println("Abbruch: Peers haben sich nicht rechtzeitig geeinigt.");
+                    break;
+                }
+                for (Peer peer : peers) tick(peer, frames, now);
+                nextTick += FRAME_NANOS;
+                LockSupport.parkNanos(Math.max(0, nextTick - System.nanoTime()));
+            }
+            for (Peer peer : peers) peer.session.settle();
+
+            // Referenz: dieselben Eingaben ohne Netz und ohne Vorhersage
+            HeadlessSimulation reference = new HeadlessSimulation(mode, seed);
+            for (int frame = 0; frame < frames; frame++) {
+                int input0 = frame < delay ? 0 : peers[0].botInputs[frame - delay];
+                int input1 = frame < delay ? 0 : peers[1].botInputs[frame - delay];
+                reference.step(input0, input1);
+            }
+
+            boolean ok = report(peers, reference);
+            benchmarkResimulation(mode, seed);
+            System.exit(ok ? 0 : 1);
+        }
+    }
+
+    private static void tick(Peer peer, int frames, long now) throws IOException {
+        while (peer.transport.poll(peer.packet)) peer.session.receive(peer.packet);
+        if (peer.session.getCurrentFrame() < frames) {
+            int input = peer.nextBotInput();
+            if (peer.session.advanceFrame(input)) {
+                if (peer.advances < frames) peer.botInputs[peer.advances] = (byte) input;
+                peer.advances++;
+            }
+        }
+        peer.session.writePacket(peer.packet);
+        peer.transport.send(peer.packet, now);
+        peer.transport.flush(now);
+    }
+
+    private static boolean finished(Peer[] peers, int frames) {
+        for (Peer peer : peers) {
+            if (peer.session.getCurrentFrame() < frames || peer.session.getRemoteConfirmedFrame() < frames - 1) return false;
+        }
+        return true;
+    }
+
+    private static boolean report(Peer[] peers, HeadlessSimulation reference) {
+        int expected = reference.checksum();
+        boolean ok = true;
+        for (Peer peer : peers) {
+            RollbackSession session = peer.session;
+            int actual = session.getSimulation().checksum();
+            ok &= actual == expected && session.getDesyncs() == 0;
+            System.out.printf(Locale.ROOT,
+                    "Spieler %d: Frame %d, Prüfsumme %08x (%s), Rollbacks %d, neu simuliert %d Frames (max %d am Stück, max %.3f ms), "
+                            + "Wartende Frames %d, Desyncs %d, Pakete gesendet %d / verworfen %d / empfangen %d%n",
+                    session.getLocalPlayer(), session.getCurrentFrame(), actual, actual == expected ? "ok" : "ABWEICHUNG",
+                    session.getRollbacks(), session.getResimulatedFrames(), session.getMaxResimulatedFrames(),
+                    session.getMaxRollbackNanos() / 1_000_000.0, session.getStalls(), session.getDesyncs(),
+                    peer.transport.getPacketsSent(), peer.transport.getPacketsDropped(), peer.transport.getPacketsReceived());
+        }
+        System.out.printf(Locale.ROOT, "Referenz: Prüfsumme %08x, Welle %d, Punkte %d/%d%n",
+                expected, reference.getWave(), reference.getScore(0), reference.getScore(1));
+        System.out.println(ok ? "Ergebnis: beide Peers synchron." : "Ergebnis: DESYNC.");
+        return ok;
+    }
+
+    // Worst Case pro Frame: Zustand laden und MAX_PREDICTION Frames neu simulieren
+    private static void benchmarkResimulation(HeadlessSimulation.Mode mode, long seed) {
+        HeadlessSimulation simulation = new HeadlessSimulation(mode, seed);
+        int[] snapshot = new int[HeadlessSimulation.STATE_SIZE];
+        for (int i = 0; i < 120; i++) simulation.step(HeadlessSimulation.INPUT_SHOOT, HeadlessSimulation.INPUT_SHOOT | HeadlessSimulation.INPUT_LEFT);
+        simulation.saveState(snapshot);
+        int rounds = 20_000;
+        long best = Long.MAX_VALUE;
+        for (int pass = 0; pass < 5; pass++) {
+            long start = System.nanoTime();
+            for (int r = 0; r < rounds; r++) {
+                simulation.loadState(snapshot);
+                for (int f = 0; f < RollbackSession.MAX_PREDICTION; f++) {
+                    simulation.step(f & HeadlessSimulation.INPUT_MASK, HeadlessSimulation.INPUT_SHOOT);
+                }
+            }
+            best = Math.min(best, (System.nanoTime() - start) / rounds);
+        }
+        System.out.printf(Locale.ROOT, "Rollback über %d Frames (Laden + Neusimulation): %.2f µs, Budget pro Frame 16.67 ms%n",
+                RollbackSession.MAX_PREDICTION, best / 1000.0);
+    }
+}
@@ -0,0 +1,158 @@
+package org.example.spaceinvaders;
+
+import javafx.animation.AnimationTimer;
+import javafx.application.Application;
+import javafx.application.Platform;
+import javafx.scene.Scene;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.layout.StackPane;
+import javafx.stage.Stage;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.Locale;
+
+/**
+ * Prototyp Zwei-Spieler-Modus über das Netz: {@link HeadlessSimulation} mit {@link RollbackSession}, gezeichnet auf
+ * ein Canvas. Spielt die vereinfachten Regeln der Simulation, nicht das Spiel aus dem Menü; deshalb eine eigene
+ * Anwendung, gebaut nur mit {@code mvn -Pprototype package}. Start mit
+ * {@code java -cp <jar> -Dspaceinvaders.netplay=<lokalerPort>:<host>:<port>:<spieler 0|1> org.example.spaceinvaders.NetplayView},
+ * optional {@code -Dspaceinvaders.netplay.mode=coop|versus} und {@code -Dspaceinvaders.netplay.delay=<frames>}.
+ * Beide Seiten müssen denselben Modus verwenden.
+ */
+public class NetplayView {
+    private static final GameLog LOG = GameLog.get(NetplayView.class);
+    private static final long FRAME_NANOS = 1_000_000_000L / 60;
+    private static final int MAX_FRAMES_PER_PULSE = 4;
+    private static final long SEED = 0x5EED_1234L;
+    private static final double VIEW_WIDTH = SimulationRenderer.VIEW_WIDTH;
+    private static final double VIEW_HEIGHT = SimulationRenderer.VIEW_HEIGHT;
+
+    private final RollbackSession session;
+    private final UdpInputTransport transport;
+    private final InputPacket packet = new InputPacket();
+    private final InputHandler inputHandler;
+    private final SimulationRenderer renderer;
+    private AnimationTimer loop;
+
+    private NetplayView(Stage stage, RollbackSession session, UdpInputTransport transport) {
+        this.session = session;
+        this.transport = transport;
+        Canvas canvas = new Canvas(VIEW_WIDTH, VIEW_HEIGHT);
+        this.renderer = new SimulationRenderer(canvas.getGraphicsContext2D());
+        StackPane root = new StackPane(canvas);
+        root.setStyle("-fx-background-color: #1a1a1a;");
+        Scene scene = new Scene(root, VIEW_WIDTH, VIEW_HEIGHT);
+        this.inputHandler = new InputHandler(scene);
+        stage.setScene(scene);
+        stage.setTitle("Musical Invaders - Netzwerkspiel (Spieler " + (session.getLocalPlayer() + 1) + ")");
+    }
+
+    public static void main(String[] args) {
+        Application.launch(App.class, args);
+    }
+
+    /** Eigene Anwendung ohne Menü und ohne Sound, nur das Netzwerkspiel. */
+    public static final class App extends Application {
+        private NetplayView view;
+
+        @Override
+        public void start(Stage stage) {
+            view = startIfRequested(stage);
+            if (view == null) {
+                LOG.warn("Kein Netzwerkspiel: -Dspaceinvaders.netplay fehlt oder ist ungültig.");
+                Platform.exit();
+                return;
+            }
+            stage.setResizable(false);
+            stage.show();
+        }
+
+        @Override
+        public void stop() {
+            if (view != null) view.stop();
+            GameLog.flush();
+        }
+    }
+
+    /** Baut Verbindung und Szene auf und startet die Schleife; null, wenn nicht angefordert oder fehlerhaft. */
+    public static NetplayView startIfRequested(Stage stage) {
+        String spec = System.getProperty("spaceinvaders.netplay");
+        if (spec == null) return null;
+        String[] parts = spec.split(":");
+        if (parts.length != 4) {
+            LOG.warn("Erwartet <lokalerPort>:<host>:<port>:<spieler>, war: {}", spec);
+            return null;
+        }
+        try {
+            int localPort = Integer.parseInt(parts[0]);
+            InetSocketAddress remote = new InetSocketAddress(parts[1], Integer.parseInt(parts[2]));
+            int player = Integer.parseInt(parts[3]);
+            HeadlessSimulation.Mode mode = HeadlessSimulation.Mode.valueOf(
+                    System.getProperty("spaceinvaders.netplay.mode", "coop").toUpperCase(Locale.ROOT));
+            int delay = Integer.getInteger("spaceinvaders.netplay.delay", 2);
+
+            UdpInputTransport transport = new UdpInputTransport(new InetSocketAddress(localPort));
+            transport.connect(remote);
+            RollbackSession session = new RollbackSession(new HeadlessSimulation(mode, SEED), player, delay);
+            NetplayView view = new NetplayView(stage, session, transport);
+            view.start();
+            LOG.info("Netzwerkspiel: Spieler {}, {}", player, mode);
+            LOG.info("Port {} -> {}", localPort, remote);
+            return view;
+        } catch (IOException | IllegalArgumentException e) {
+            LOG.warn("Start fehlgeschlagen: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void start() {
+        loop = new AnimationTimer() {
+            private long lastUpdate = 0;
+            private long accumulator = 0;
+
+            @Override
+            public void handle(long now) {
+                if (lastUpdate == 0) lastUpdate = now;
+                accumulator = Math.min(accumulator + now - lastUpdate, FRAME_NANOS * MAX_FRAMES_PER_PULSE);
+                lastUpdate = now;
+                try {
+                    while (transport.poll(packet)) session.receive(packet);
+                    while (accumulator >= FRAME_NANOS) {
+                        accumulator -= FRAME_NANOS;
+                        inputHandler.pollEvents();
+                        session.advanceFrame(currentInput()); // false = wartet auf den Gegenüber
+                    }
+                    session.writePacket(packet);
+                    transport.send(packet, now);
+                } catch (IOException e) {
+                    LOG.warn("Netzwerkfehler: {}", e.getMessage());
+                }
+                session.settle();
+                render();
+            }
+        };
+        loop.start();
+    }
+
+    public void stop() {
+        if (loop != null) loop.stop();
+        try {
+            transport.close();
+        } catch (IOException e) {
+            LOG.warn("Fehler beim Schließen: {}", e.getMessage());
+        }
+    }
+
+    private int currentInput() {
+        int input = 0;
+        if (inputHandler.isMoveLeftPressed()) input |= HeadlessSimulation.INPUT_LEFT;
+        if (inputHandler.isMoveRightPressed()) input |= HeadlessSimulation.INPUT_RIGHT;
+        if (inputHandler.isShootingPressed()) input |= HeadlessSimulation.INPUT_SHOOT;
+        return input;
+    }
+
+    private void render() {
+        renderer.render(session.getSimulation(), session.canAdvance() ? null : "Warte auf Gegenüber...");
+    }
+}
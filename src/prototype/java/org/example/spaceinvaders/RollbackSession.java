@@ -0,0 +1,190 @@
+package org.example.spaceinvaders;
+
+/**
+ * Rollback-Netcode (nach dem GGPO-Prinzip) für eine {@link HeadlessSimulation} mit zwei Spielern.
+ * <p>
+ * Die lokale Eingabe wird mit {@code inputDelay} Frames Verzögerung eingeplant, die Eingabe des Gegenübers wird bis
+ * zu ihrem Eintreffen vorhergesagt (letzte bestätigte Eingabe wiederholen). Kommt eine Eingabe, die nicht zur
+ * Vorhersage passt, wird vor dem nächsten Frame der Zustand vom Anfang dieses Frames geladen und bis zum aktuellen
+ * Frame neu simuliert. Höchstens {@link #MAX_PREDICTION} Frames werden vorhergesagt, danach wartet die Session.
+ * <p>
+ * Zustände und Eingaben liegen in Ringpuffern mit {@link #HISTORY} Einträgen; pro Frame wird nichts allokiert.
+ * Nicht threadsicher, alle Aufrufe aus demselben Thread.
+ */
+public class RollbackSession {
+    private static final GameLog LOG = GameLog.get(RollbackSession.class);
+    public static final int HISTORY = 128;
+    public static final int MAX_PREDICTION = 8;
+    private static final int MASK = HISTORY - 1;
+    private static final int NONE = Integer.MAX_VALUE;
+
+    private final HeadlessSimulation simulation;
+    private final int localPlayer;
+    private final int remotePlayer;
+    private final int inputDelay;
+
+    private final int[][] snapshots = new int[HISTORY][HeadlessSimulation.STATE_SIZE]; // Zustand am Anfang des Frames
+    private final byte[] localInputs = new byte[HISTORY];
+    private final byte[] remoteInputs = new byte[HISTORY];     // bestätigt
+    private final byte[] usedRemoteInputs = new byte[HISTORY]; // mit diesem Wert wurde simuliert
+
+    private int currentFrame = 0;      // nächster zu simulierender Frame
+    private int localInputFrame;       // letzter Frame mit lokaler Eingabe
+    private int remoteConfirmed = -1;  // letzter lückenlos empfangener Frame des Gegenübers
+    private int remoteAckedLocal = -1; // letzter lokaler Frame, den der Gegenüber bestätigt hat
+    private int lastRemoteInput = 0;
+    private int rollbackTo = NONE;
+    private int pendingChecksumFrame = -1;
+    private int pendingChecksum;
+
+    // Statistik
+    private long rollbacks;
+    private long resimulatedFrames;
+    private int maxResimulatedFrames;
+    private long maxRollbackNanos;
+    private long stalls;
+    private long desyncs;
+    private int lastDesyncFrame = -1;
+
+    public RollbackSession(HeadlessSimulation simulation, int localPlayer, int inputDelay) {
+        if (inputDelay < 0 || inputDelay >= MAX_PREDICTION) {
+            throw new IllegalArgumentException("inputDelay muss zwischen 0 und " + (MAX_PREDICTION - 1) + " liegen: " + inputDelay);
+        }
+        this.simulation = simulation;
+        this.localPlayer = localPlayer;
+        this.remotePlayer = HeadlessSimulation.PLAYERS - 1 - localPlayer;
+        this.inputDelay = inputDelay;
+        this.localInputFrame = inputDelay - 1; // die ersten Frames laufen ohne lokale Eingabe
+    }
+
+    /** Prüft, ob ein weiterer Frame simuliert werden darf (Vorhersagefenster und Sendefenster nicht erschöpft). */
+    public boolean canAdvance() {
+        return currentFrame - (remoteConfirmed + 1) < MAX_PREDICTION
+                && localInputFrame + 1 - remoteAckedLocal <= InputPacket.MAX_INPUTS;
+    }
+
+    /**
+     * Plant die lokale Eingabe ein, holt ausstehende Rollbacks nach und simuliert einen Frame.
+     * Liefert false (und verwirft die Eingabe), wenn auf den Gegenüber gewartet werden muss.
+     */
+    public boolean advanceFrame(int localInput) {
+        if (!canAdvance()) {
+            stalls++;
+            return false;
+        }
+        localInputFrame++;
+        localInputs[localInputFrame & MASK] = (byte) (localInput & HeadlessSimulation.INPUT_MASK);
+        applyRollback();
+        simulateFrame();
+        checkPendingChecksum();
+        return true;
+    }
+
+    /** Verarbeitet ein empfangenes Paket des Gegenübers. */
+    public void receive(InputPacket packet) {
+        if (packet.sender != remotePlayer) return;
+        if (packet.ackFrame > remoteAckedLocal) remoteAckedLocal = Math.min(packet.ackFrame, localInputFrame);
+
+        for (int i = 0; i < packet.count; i++) {
+            int frame = packet.startFrame + i;
+            if (frame <= remoteConfirmed) continue;
+            if (frame != remoteConfirmed + 1 || frame >= currentFrame + HISTORY - MAX_PREDICTION) break; // Lücke: kommt erneut
+            int input = packet.inputs[i];
+            remoteInputs[frame & MASK] = (byte) input;
+            remoteConfirmed = frame;
+            lastRemoteInput = input;
+            if (frame < currentFrame && usedRemoteInputs[frame & MASK] != input) {
+                rollbackTo = Math.min(rollbackTo, frame);
+            }
+        }
+
+        if (packet.checksumFrame > pendingChecksumFrame) {
+            pendingChecksumFrame = packet.checksumFrame;
+            pendingChecksum = packet.checksum;
+            checkPendingChecksum();
+        }
+    }
+
+    /** Füllt das nächste Paket: alle lokalen Eingaben, die der Gegenüber noch nicht bestätigt hat. */
+    public void writePacket(InputPacket packet) {
+        packet.sender = localPlayer;
+        packet.ackFrame = remoteConfirmed;
+        packet.startFrame = remoteAckedLocal + 1;
+        packet.count = Math.min(localInputFrame - remoteAckedLocal, InputPacket.MAX_INPUTS);
+        for (int i = 0; i < packet.count; i++) {
+            packet.inputs[i] = localInputs[(packet.startFrame + i) & MASK];
+        }
+        int frame = latestFinalFrame();
+        packet.checksumFrame = frame;
+        packet.checksum = frame >= 0 ? HeadlessSimulation.checksum(snapshots[frame & MASK]) : 0;
+    }
+
+    /** Holt einen ausstehenden Rollback sofort nach (z.B. vor dem Zeichnen oder am Ende eines Laufs). */
+    public void settle() {
+        applyRollback();
+        checkPendingChecksum();
+    }
+
+    private void simulateFrame() {
+        int frame = currentFrame;
+        simulation.saveState(snapshots[frame & MASK]);
+        int remoteInput = frame <= remoteConfirmed ? remoteInputs[frame & MASK] : lastRemoteInput;
+        usedRemoteInputs[frame & MASK] = (byte) remoteInput;
+        int localInput = frame <= localInputFrame ? localInputs[frame & MASK] : 0;
+        if (localPlayer == 0) {
+            simulation.step(localInput, remoteInput);
+        } else {
+            simulation.step(remoteInput, localInput);
+        }
+        currentFrame++;
+    }
+
+    private void applyRollback() {
+        if (rollbackTo == NONE) return;
+        long start = System.nanoTime();
+        int targetFrame = currentFrame;
+        int frames = targetFrame - rollbackTo;
+        simulation.loadState(snapshots[rollbackTo & MASK]);
+        currentFrame = rollbackTo;
+        rollbackTo = NONE;
+        while (currentFrame < targetFrame) simulateFrame();
+
+        long nanos = System.nanoTime() - start;
+        rollbacks++;
+        resimulatedFrames += frames;
+        maxResimulatedFrames = Math.max(maxResimulatedFrames, frames);
+        maxRollbackNanos = Math.max(maxRollbackNanos, nanos);
+    }
+
+    // Letzter Frame, dessen Anfangszustand nur von bestätigten Eingaben abhängt (und noch im Ringpuffer liegt)
+    private int latestFinalFrame() {
+        int frame = Math.min(remoteConfirmed + 1, currentFrame - 1);
+        if (frame < 0 || frame <= currentFrame - HISTORY || rollbackTo < frame) return -1;
+        return frame;
+    }
+
+    private void checkPendingChecksum() {
+        int frame = pendingChecksumFrame;
+        if (frame < 0 || frame > latestFinalFrame()) return; // noch nicht vergleichbar
+        pendingChecksumFrame = -1;
+        if (frame <= currentFrame - HISTORY) return;
+        if (HeadlessSimulation.checksum(snapshots[frame & MASK]) != pendingChecksum) {
+            desyncs++;
+            lastDesyncFrame = frame;
+            LOG.warn("Desync bei Frame {} (Spieler {})", frame, localPlayer);
+        }
+    }
+
+    public HeadlessSimulation getSimulation() { return simulation; }
+    public int getLocalPlayer() { return localPlayer; }
+    public int getCurrentFrame() { return currentFrame; }
+    public int getRemoteConfirmedFrame() { return remoteConfirmed; }
+    public int getInputDelay() { return inputDelay; }
+    public long getRollbacks() { return rollbacks; }
+    public long getResimulatedFrames() { return resimulatedFrames; }
+    public int getMaxResimulatedFrames() { return maxResimulatedFrames; }
+    public long getMaxRollbackNanos() { return maxRollbackNanos; }
+    public long getStalls() { return stalls; }
+    public long getDesyncs() { return desyncs; }
+    public int getLastDesyncFrame() { return lastDesyncFrame; }
+}
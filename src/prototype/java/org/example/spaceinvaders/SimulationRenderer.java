@@ -0,0 +1,101 @@
+package org.example.spaceinvaders;
+
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Zeichnet einen Zustand der {@link HeadlessSimulation} auf ein Canvas (Prototyp Netzwerkspiel). Nur FX-Thread.
+ */
+public class SimulationRenderer {
+    private static final GameLog LOG = GameLog.get(SimulationRenderer.class);
+    public static final double VIEW_WIDTH = HeadlessSimulation.WIDTH / (double) HeadlessSimulation.SUB;
+    public static final double VIEW_HEIGHT = HeadlessSimulation.HEIGHT / (double) HeadlessSimulation.SUB;
+
+    private final GraphicsContext graphics;
+    private final Image playerImage = loadImage("/images/xwing.png");
+    private final Image enemyImage = loadImage("/images/enemy_eye_green.png");
+    private final Image bossImage = loadImage("/images/boss_eyes.png");
+    private final Image shotImage = loadImage("/images/comet_shot.png");
+    private final Image enemyShotImage = loadImage("/images/pistol_bullet1.png");
+
+    public SimulationRenderer(GraphicsContext graphics) {
+        this.graphics = graphics;
+    }
+
+    /** @param statusMessage Hinweis in der Mitte (z.B. Warten auf den Gegenüber), null für keinen */
+    public void render(HeadlessSimulation sim, String statusMessage) {
+        double unit = HeadlessSimulation.SUB;
+        graphics.setFill(Color.web("#1a1a1a"));
+        graphics.fillRect(0, 0, VIEW_WIDTH, VIEW_HEIGHT);
+
+        double enemySize = HeadlessSimulation.ENEMY_SIZE / unit;
+        for (int row = 0; row < HeadlessSimulation.ROWS; row++) {
+            for (int column = 0; column < HeadlessSimulation.COLUMNS; column++) {
+                if (!sim.isEnemyAlive(row, column)) continue;
+                double x = (sim.getFormationX() + column * HeadlessSimulation.ENEMY_STEP_X) / unit;
+                double y = (sim.getFormationY() + row * HeadlessSimulation.ENEMY_STEP_Y) / unit;
+                drawSprite(enemyImage, Color.LIME, x, y, enemySize, enemySize);
+            }
+        }
+
+        if (sim.isBossActive()) {
+            drawSprite(bossImage, Color.MAGENTA, sim.getBossX() / unit, HeadlessSimulation.BOSS_Y / unit,
+                    HeadlessSimulation.BOSS_WIDTH / unit, HeadlessSimulation.BOSS_HEIGHT / unit);
+        }
+
+        double shotSize = HeadlessSimulation.SHOT_SIZE / unit;
+        for (int i = 0; i < HeadlessSimulation.MAX_SHOTS; i++) {
+            if (sim.getShotOwner(i) == 0) continue;
+            drawSprite(shotImage, Color.YELLOW, sim.getShotX(i) / unit, sim.getShotY(i) / unit, shotSize, shotSize);
+        }
+        for (int i = 0; i < HeadlessSimulation.MAX_ENEMY_SHOTS; i++) {
+            if (!sim.isEnemyShotActive(i)) continue;
+            drawSprite(enemyShotImage, Color.RED, sim.getEnemyShotX(i) / unit, sim.getEnemyShotY(i) / unit, shotSize, shotSize);
+        }
+
+        for (int p = 0; p < HeadlessSimulation.PLAYERS; p++) {
+            if (sim.getLives(p) <= 0) continue;
+            graphics.setGlobalAlpha(sim.isRespawning(p) ? 0.35 : 1.0);
+            drawSprite(playerImage, p == 0 ? Color.CYAN : Color.ORANGE, sim.getPlayerX(p) / unit,
+                    HeadlessSimulation.PLAYER_Y / unit, HeadlessSimulation.PLAYER_WIDTH / unit, HeadlessSimulation.PLAYER_HEIGHT / unit);
+        }
+        graphics.setGlobalAlpha(1.0);
+
+        graphics.setFont(Font.font("Press Start 2P", 12));
+        graphics.setFill(Color.WHITE);
+        graphics.fillText("P1 " + sim.getScore(0) + "  Leben " + sim.getLives(0), 10, 20);
+        if (sim.getMode() != HeadlessSimulation.Mode.SOLO) {
+            graphics.fillText("P2 " + sim.getScore(1) + "  Leben " + sim.getLives(1), VIEW_WIDTH - 260, 20);
+        }
+        graphics.fillText("Welle " + sim.getWave() + "  " + sim.getMode(), VIEW_WIDTH / 2 - 80, 20);
+        if (statusMessage != null) graphics.fillText(statusMessage, VIEW_WIDTH / 2 - 130, VIEW_HEIGHT / 2);
+        if (sim.isGameOver()) graphics.fillText("GAME OVER", VIEW_WIDTH / 2 - 55, VIEW_HEIGHT / 2 + 30);
+    }
+
+    private void drawSprite(Image image, Color fallback, double x, double y, double width, double height) {
+        if (image != null) {
+            graphics.drawImage(image, x, y, width, height);
+        } else {
+            graphics.setFill(fallback);
+            graphics.fillRect(x, y, width, height);
+        }
+    }
+
+    private Image loadImage(String path) {
+        AssetLoadEvent loadEvent = AssetLoadEvent.start("image", path);
+        try (InputStream in = getClass().getResourceAsStream(path)) {
+            Image image = in != null ? new Image(in) : null;
+            loadEvent.finish(image != null && !image.isError());
+            return image != null && !image.isError() ? image : null;
+        } catch (IOException e) {
+            loadEvent.finish(false);
+            LOG.warn("Bild nicht geladen: {}", path);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package org.example.spaceinvaders;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.PortUnreachableException;
+import java.net.SocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.DatagramChannel;
+import java.util.PriorityQueue;
+import java.util.Random;
+
+/**
+ * Nicht blockierender UDP-Transport für {@link InputPacket}s zwischen genau zwei Peers.
+ * <p>
+ * Für Tests kann ausgehender Verkehr künstlich verschlechtert werden ({@link #simulateConditions}): Pakete werden
+ * mit Latenz und Jitter zurückgehalten oder mit einer Wahrscheinlichkeit verworfen. Zurückgehaltene Pakete gehen
+ * erst bei {@link #flush(long)} raus.
+ */
+public class UdpInputTransport implements AutoCloseable {
+    private final DatagramChannel channel;
+    private final ByteBuffer sendBuffer = ByteBuffer.allocateDirect(InputPacket.MAX_BYTES);
+    private final ByteBuffer receiveBuffer = ByteBuffer.allocateDirect(512);
+
+    private long latencyNanos = 0;
+    private long jitterNanos = 0;
+    private double lossRate = 0;
+    private Random conditionRandom;
+    private final PriorityQueue<DelayedDatagram> delayed = new PriorityQueue<>();
+    private long sequence = 0;
+
+    private long packetsSent;
+    private long packetsDropped;
+    private long packetsReceived;
+
+    private record DelayedDatagram(long dueNanos, long sequence, byte[] data) implements Comparable<DelayedDatagram> {
+        @Override
+        public int compareTo(DelayedDatagram other) {
+            int byTime = Long.compare(dueNanos, other.dueNanos);
+            return byTime != 0 ? byTime : Long.compare(sequence, other.sequence);
+        }
+    }
+
+    public UdpInputTransport(InetSocketAddress localAddress) throws IOException {
+        channel = DatagramChannel.open();
+        channel.bind(localAddress);
+        channel.configureBlocking(false);
+    }
+
+    public void connect(SocketAddress remoteAddress) throws IOException {
+        channel.connect(remoteAddress);
+    }
+
+    public InetSocketAddress getLocalAddress() throws IOException {
+        return (InetSocketAddress) channel.getLocalAddress();
+    }
+
+    /** Künstliche Latenz (Millisekunden, einfache Richtung), Jitter und Verlustrate für ausgehende Pakete. */
+    public void simulateConditions(int latencyMillis, int jitterMillis, double loss, long seed) {
+        this.latencyNanos = latencyMillis * 1_000_000L;
+        this.jitterNanos = jitterMillis * 1_000_000L;
+        this.lossRate = loss;
+        this.conditionRandom = new Random(seed);
+    }
+
+    public void send(InputPacket packet, long nowNanos) throws IOException {
+        sendBuffer.clear();
+        packet.write(sendBuffer);
+        sendBuffer.flip();
+        if (conditionRandom == null) {
+            write(sendBuffer);
+            return;
+        }
+        if (conditionRandom.nextDouble() < lossRate) {
+            packetsDropped++;
+            return;
+        }
+        byte[] data = new byte[sendBuffer.remaining()];
+        sendBuffer.get(data);
+        long jitter = jitterNanos > 0 ? (long) (conditionRandom.nextDouble() * jitterNanos) : 0;
+        delayed.add(new DelayedDatagram(nowNanos + latencyNanos + jitter, sequence++, data));
+        flush(nowNanos);
+    }
+
+    /** Schickt zurückgehaltene Pakete ab, deren Zeit gekommen ist. */
+    public void flush(long nowNanos) throws IOException {
+        while (!delayed.isEmpty() && delayed.peek().dueNanos() <= nowNanos) {
+            write(ByteBuffer.wrap(delayed.poll().data()));
+        }
+    }
+
+    private void write(ByteBuffer data) throws IOException {
+        try {
+            channel.write(data);
+            packetsSent++;
+        } catch (PortUnreachableException e) {
+            packetsDropped++; // Gegenüber (noch) nicht da
+        }
+    }
+
+    /** Liest ein Paket in {@code packet}; false, wenn nichts (Gültiges) ansteht. */
+    public boolean poll(InputPacket packet) throws IOException {
+        while (true) {
+            receiveBuffer.clear();
+            int read;
+            try {
+                read = channel.read(receiveBuffer);
+            } catch (PortUnreachableException e) {
+                continue;
+            }
+            if (read <= 0) return false;
+            receiveBuffer.flip();
+            if (packet.read(receiveBuffer)) {
+                packetsReceived++;
+                return true;
+            }
+        }
+    }
+
+    public long getPacketsSent() { return packetsSent; }
+    public long getPacketsDropped() { return packetsDropped; }
+    public long getPacketsReceived() { return packetsReceived; }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
@@ -0,0 +1,129 @@
+package org.example.spaceinvaders;
+
+import javafx.application.Platform;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Allokationen pro Frame im laufenden Spiel: ein {@link DetachedGame} läuft mit dem {@link StressBot} auf dem
+ * FX-Thread, gezählt wird mit dem Allokationszähler dieses Threads. Frames mit Übergängen (neue Welle, Boss
+ * erscheint, neues Spiel) zählen nicht, dort werden Nodes aufgebaut. Vor dem Messen läuft eine Aufwärmphase, damit
+ * Pools, Masken und JIT eingeschwungen sind.
+ * <p>
+ * Budget in Bytes pro Frame mit {@code -Dspaceinvaders.allocationBudget} änderbar. JavaFX läuft headless über Monocle
+ * (Surefire-Konfiguration in der pom.xml); startet es nicht, schlägt der Test fehl statt übersprungen zu werden.
+ */
+class AllocationRegressionTest {
+    private static final long BUDGET_BYTES_PER_FRAME = Long.getLong("spaceinvaders.allocationBudget", 8);
+    private static final int WARMUP_FRAMES = 1500;
+    private static final int MEASURED_FRAMES = 10_000;
+
+    private static Throwable fxStartupError;
+    private static com.sun.management.ThreadMXBean threadBean;
+
+    @BeforeAll
+    static void startFx() throws InterruptedException {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+                && bean.isThreadAllocatedMemorySupported()) {
+            if (!bean.isThreadAllocatedMemoryEnabled()) bean.setThreadAllocatedMemoryEnabled(true);
+            threadBean = bean;
+        }
+        CountDownLatch started = new CountDownLatch(1);
+        try {
+            Platform.startup(started::countDown);
+            if (!started.await(10, TimeUnit.SECONDS)) fxStartupError = new IllegalStateException("Timeout beim Start");
+        } catch (IllegalStateException alreadyStarted) {
+            // schon gestartet
+        } catch (RuntimeException | LinkageError noToolkit) {
+            fxStartupError = noToolkit; // kein Display bzw. Monocle fehlt
+        }
+    }
+
+    @Test
+    void waveFramesStayWithinBudget() throws Exception {
+        assumeReady();
+        long[] result = onFxThread(() -> {
+            DetachedGame game = new DetachedGame(800, 600);
+            runFrames(game, WARMUP_FRAMES, false);
+            return runFrames(game, MEASURED_FRAMES, false);
+        });
+        assertWithinBudget("Welle", result);
+    }
+
+    @Test
+    void bossFramesStayWithinBudget() throws Exception {
+        assumeReady();
+        long[] result = onFxThread(() -> {
+            DetachedGame game = new DetachedGame(800, 600);
+            runFrames(game, WARMUP_FRAMES, true);
+            return runFrames(game, MEASURED_FRAMES, true);
+        });
+        assertWithinBudget("Boss", result);
+    }
+
+    private static void assumeReady() {
+        assumeTrue(threadBean != null, "JVM ohne Allokationszähler pro Thread");
+        assertNull(fxStartupError, () -> "JavaFX startet nicht (glass.platform=" + System.getProperty("glass.platform")
+                + "): " + fxStartupError);
+    }
+
+    private static void assertWithinBudget(String phase, long[] result) {
+        long frames = result[0];
+        long bytes = result[1];
+        assertTrue(frames >= MEASURED_FRAMES / 2, phase + ": zu wenige Frames ohne Übergang (" + frames + ")");
+        long perFrame = bytes / frames;
+        assertTrue(perFrame <= BUDGET_BYTES_PER_FRAME, phase + ": " + perFrame + " B/Frame im Schnitt über "
+                + frames + " Frames, Budget " + BUDGET_BYTES_PER_FRAME + " B (max. Frame " + result[2] + " B)");
+    }
+
+    /**
+     * Spielt Frames und liefert {gezählte Frames, Bytes, größter Frame}. Mit {@code boss} wird der Boss gerufen,
+     * sobald keiner da ist (auch nach Game Over); Frames mit Rückzug und Minion-Wellen gehören dazu.
+     */
+    private static long[] runFrames(DetachedGame game, int frames, boolean boss) {
+        GameEntityManager entityManager = game.getEntityManager();
+        long countedFrames = 0;
+        long bytes = 0;
+        long maxFrameBytes = 0;
+        for (int i = 0; i < frames; i++) {
+            if (boss && !entityManager.isBossActive() && !entityManager.wasBossJustDefeated()) {
+                game.startBoss();
+                continue;
+            }
+            int games = game.getGamesStarted();
+            int wave = entityManager.getCurrentWaveNumber();
+            boolean bossActive = entityManager.isBossActive();
+            boolean loading = entityManager.isLoadingNextWave();
+
+            long before = threadBean.getCurrentThreadAllocatedBytes();
+            game.tick();
+            long frameBytes = threadBean.getCurrentThreadAllocatedBytes() - before;
+
+            boolean transition = loading || entityManager.isLoadingNextWave()
+                    || games != game.getGamesStarted()
+                    || wave != entityManager.getCurrentWaveNumber()
+                    || bossActive != entityManager.isBossActive();
+            if (transition || bossActive != boss) continue;
+            countedFrames++;
+            bytes += frameBytes;
+            maxFrameBytes = Math.max(maxFrameBytes, frameBytes);
+        }
+        return new long[]{countedFrames, bytes, maxFrameBytes};
+    }
+
+    private static <T> T onFxThread(Callable<T> task) throws Exception {
+        FutureTask<T> future = new FutureTask<>(task);
+        Platform.runLater(future);
+        return future.get(120, TimeUnit.SECONDS);
+    }
+}
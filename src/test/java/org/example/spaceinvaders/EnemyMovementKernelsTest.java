@@ -0,0 +1,118 @@
+package org.example.spaceinvaders;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Vector- und Skalar-Kernel müssen bitgleich rechnen (gleiche Operationen in gleicher Reihenfolge, kein FMA), sonst
+ * würde sich die Formation je nach JVM-Option anders bewegen. Der Vergleich braucht {@code --add-modules
+ * jdk.incubator.vector} (siehe Surefire-Konfiguration in der pom.xml), ohne das Modul wird er übersprungen. Die
+ * Laufzeiten vergleicht {@code EnemyMovementKernelsBenchmark} (JMH, {@code mvn -Pjmh verify}).
+ */
+class EnemyMovementKernelsTest {
+    private static final double FREQUENCY = 2.5;
+    private static final double AMPLITUDE = 200;
+    private static final double DY = 0.05;
+    private static final double LEFT = 10;
+    private static final double RIGHT = 790;
+
+    @Test
+    void fastSinMatchesMathSin() {
+        for (double x = -50; x <= 50; x += 0.001) {
+            assertEquals(Math.sin(x), EnemyMovementKernels.fastSin(x), 4e-6, "sin(" + x + ")");
+        }
+    }
+
+    @Test
+    void vectorFormationWaveEqualsScalar() {
+        assumeVectorModule();
+        // Alle Reste hinter der letzten vollen Lane-Breite mitnehmen, dazu Welle 1 (40) und eine Stresstest-Formation
+        for (int count : new int[]{0, 1, 2, 3, 5, 7, 8, 9, 15, 16, 17, 40, 63, 400}) {
+            Geometry scalar = Geometry.random(count, 42 + count);
+            Geometry vector = scalar.copy();
+            for (int frame = 0; frame < 120; frame++) {
+                double waveTime = frame * 2.5 / 60.0;
+                double scalarBottom = scalar.scalarStep(waveTime);
+                double vectorBottom = vector.vectorStep(waveTime);
+                assertEquals(scalarBottom, vectorBottom, "Unterkante bei " + count + " Gegnern, Frame " + frame);
+            }
+            assertArrayEquals(scalar.xs, vector.xs, "x bei " + count + " Gegnern");
+            assertArrayEquals(scalar.ys, vector.ys, "y bei " + count + " Gegnern");
+        }
+    }
+
+    @Test
+    void formationWaveClampsToLimits() {
+        Geometry geometry = Geometry.random(40, 7);
+        for (int frame = 0; frame < 600; frame++) {
+            EnemyMovementKernels.formationWave(geometry.xs, geometry.ys, geometry.widths, geometry.heights,
+                    geometry.baseXs, geometry.phases, geometry.count, frame / 24.0, FREQUENCY, AMPLITUDE * 3, DY, LEFT, RIGHT);
+            for (int i = 0; i < geometry.count; i++) {
+                assertTrue(geometry.xs[i] >= LEFT && geometry.xs[i] + geometry.widths[i] <= RIGHT, "Gegner " + i + " außerhalb");
+            }
+        }
+    }
+
+    private static void assumeVectorModule() {
+        assumeTrue(ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent(),
+                "jdk.incubator.vector nicht geladen");
+        assumeTrue(VectorEnemyMovementKernels.laneCount() > 1, "keine Vektor-Lanes auf dieser CPU");
+    }
+
+    // Formation als primitive Arrays wie in GameUpdater
+    private static final class Geometry {
+        final int count;
+        final double[] xs, ys, widths, heights, baseXs, phases;
+
+        private Geometry(int count) {
+            this.count = count;
+            xs = new double[count];
+            ys = new double[count];
+            widths = new double[count];
+            heights = new double[count];
+            baseXs = new double[count];
+            phases = new double[count];
+        }
+
+        static Geometry random(int count, long seed) {
+            Random random = new Random(seed);
+            Geometry geometry = new Geometry(count);
+            for (int i = 0; i < count; i++) {
+                geometry.widths[i] = 20 + random.nextDouble() * 30;
+                geometry.heights[i] = 20 + random.nextDouble() * 30;
+                geometry.baseXs[i] = random.nextDouble() * 800;
+                geometry.phases[i] = (i / 10) * 0.8 + (i % 10) * 0.3 + random.nextDouble();
+                geometry.xs[i] = geometry.baseXs[i];
+                geometry.ys[i] = random.nextDouble() * 300;
+            }
+            return geometry;
+        }
+
+        Geometry copy() {
+            Geometry copy = new Geometry(count);
+            System.arraycopy(xs, 0, copy.xs, 0, count);
+            System.arraycopy(ys, 0, copy.ys, 0, count);
+            System.arraycopy(widths, 0, copy.widths, 0, count);
+            System.arraycopy(heights, 0, copy.heights, 0, count);
+            System.arraycopy(baseXs, 0, copy.baseXs, 0, count);
+            System.arraycopy(phases, 0, copy.phases, 0, count);
+            return copy;
+        }
+
+        double scalarStep(double waveTime) {
+            return EnemyMovementKernels.scalarFormationWave(xs, ys, widths, heights, baseXs, phases, count,
+                    waveTime, FREQUENCY, AMPLITUDE, DY, LEFT, RIGHT);
+        }
+
+        double vectorStep(double waveTime) {
+            return VectorEnemyMovementKernels.formationWave(xs, ys, widths, heights, baseXs, phases, count,
+                    waveTime, FREQUENCY, AMPLITUDE, DY, LEFT, RIGHT);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package org.example.spaceinvaders;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Übergaben zwischen FX-Thread und Simulation: Eingabe-Queue des {@link InputHandler} und der
+ * {@link SimulationThread.SnapshotExchange}.
+ */
+class InputHandoffTest {
+
+    @Test
+    void heldKeyRepeatsDoNotFillTheQueue() {
+        InputHandler input = new InputHandler();
+        // Gehaltene Taste während der Pause: das Betriebssystem wiederholt KEY_PRESSED, niemand liest die Queue
+        for (int i = 0; i < 10_000; i++) input.offerAction(InputHandler.ACTION_LEFT, true);
+        input.offerAction(InputHandler.ACTION_LEFT, false);
+        input.pollEvents();
+        assertFalse(input.isMoveLeftPressed(), "Loslassen nach der Pause darf nicht verloren gehen");
+    }
+
+    @Test
+    void overflowFallsBackToLatestState() {
+        InputHandler input = new InputHandler();
+        // Mehr echte Wechsel, als die Queue fasst; der letzte ist "rechts gedrückt, links losgelassen"
+        for (int i = 0; i < 1000; i++) {
+            input.offerAction(InputHandler.ACTION_LEFT, (i & 1) == 0);
+            input.offerAction(InputHandler.ACTION_RIGHT, (i & 1) == 0);
+        }
+        input.offerAction(InputHandler.ACTION_RIGHT, true);
+        input.offerAction(InputHandler.ACTION_SHOOT, true);
+        input.pollEvents();
+        assertFalse(input.isMoveLeftPressed(), "links");
+        assertTrue(input.isMoveRightPressed(), "rechts");
+        assertTrue(input.isShootingPressed(), "schießen");
+
+        input.offerAction(InputHandler.ACTION_SHOOT, false);
+        input.pollEvents();
+        assertFalse(input.isShootingPressed(), "nach dem Überlauf läuft die Queue normal weiter");
+    }
+
+    @Test
+    void snapshotExchangeReturnsNewestPublishedState() {
+        SimulationThread.SnapshotExchange<int[]> exchange = new SimulationThread.SnapshotExchange<>(() -> new int[4]);
+        for (int frame = 1; frame <= 3; frame++) {
+            java.util.Arrays.fill(exchange.writeBuffer(), frame);
+            exchange.publish();
+        }
+        assertEquals(3, exchange.latest()[0], "neuester Stand");
+        assertEquals(3, exchange.latest()[0], "ohne neuen Stand bleibt der alte");
+        java.util.Arrays.fill(exchange.writeBuffer(), 4);
+        assertEquals(3, exchange.latest()[0], "nicht veröffentlichte Schreibvorgänge sind unsichtbar");
+        exchange.publish();
+        assertEquals(4, exchange.latest()[0], "nach publish");
+    }
+
+    @Test
+    void snapshotExchangeNeverTearsAcrossThreads() throws InterruptedException {
+        int size = 256;
+        SimulationThread.SnapshotExchange<int[]> exchange = new SimulationThread.SnapshotExchange<>(() -> new int[size]);
+        int frames = 200_000;
+        Thread writer = new Thread(() -> {
+            for (int frame = 1; frame <= frames; frame++) {
+                java.util.Arrays.fill(exchange.writeBuffer(), frame);
+                exchange.publish();
+            }
+        });
+        AtomicReference<String> failure = new AtomicReference<>();
+        Thread reader = new Thread(() -> {
+            int last = 0;
+            while (last < frames && failure.get() == null) {
+                int[] snapshot = exchange.latest();
+                int frame = snapshot[0];
+                for (int i = 1; i < size; i++) {
+                    if (snapshot[i] != frame) {
+                        failure.set("Stand " + frame + " gemischt mit " + snapshot[i]);
+                        return;
+                    }
+                }
+                if (frame < last) failure.set("Stand " + frame + " nach " + last);
+                last = frame;
+            }
+        });
+        writer.start();
+        reader.start();
+        writer.join();
+        reader.join(10_000);
+        assertEquals(null, failure.get(), "Lesen während des Schreibens");
+    }
+}